@@ -0,0 +1,97 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.fast.FastMdxParser;
+import org.eclipse.daanse.mdx.parser.fast.FastMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.fast.PooledFastMdxParserProvider;
+import org.junit.jupiter.api.Test;
+
+class FastParserTest {
+
+    private static final String[] STATEMENTS = { UnparseParsedTest.MDX,
+            "WITH CALCULATED MEMBER [Measures].[m] AS 'IIf([a] IS NULL, 0, [a] / [b])', SOLVE_ORDER = 1\n"
+                    + "SET [s] AS {[x].&[1]&k, [y]}\n"
+                    + "SELECT NON EMPTY [s] DIMENSION PROPERTIES [x].KEY, MEMBER_CAPTION ON AXIS(0), {} ON ROWS\n"
+                    + "FROM (SELECT * FROM [Sales] WHERE [Time].[1997]) WHERE ([Store].[USA]) CELL PROPERTIES VALUE",
+            "SELECT FROM [c] PROPERTIES VALUE, FORMAT_STRING",
+            "SELECT [a], [b].[c] FROM $system.mdschema_cubes WHERE cube_name = 'Sales'",
+            "SELECT FROM $SYSTEM.DISCOVER_SCHEMA_ROWSETS",
+            "DRILLTHROUGH MAXROWS 10 FIRSTROWSET 2 SELECT FROM [c] RETURN [a].[b], [c]",
+            "EXPLAIN PLAN FOR DRILLTHROUGH SELECT [a] ON 0 FROM [c]", "REFRESH CUBE [Sales]",
+            "UPDATE CUBE [Sales] SET ([a], [b]) = 5 USE_WEIGHTED_ALLOCATION BY [w] / 2, [c] = 1 USE_EQUAL_INCREMENT" };
+
+    private static final String[] INVALID = { "SELECT ON 0 FROM [c]", "SELECT [a] ON 0 FROM [c] [d]",
+            "SELECT [a] ON FOO FROM [c]", "UPDATE CUBE [c] SET [a] 5", "WITH MEMBER [m] AS '1 +' SELECT FROM [c]",
+            "SELECT [] ON 0 FROM [c]", "REFRESH [c]" };
+
+    private final MdxParserProvider grammar = new CCCMdxParserProvider();
+    private final MdxParserProvider fast = new FastMdxParserProvider();
+
+    private MdxStatement parse(MdxParserProvider provider, String mdx) throws MdxParserException {
+        return provider.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+    }
+
+    @Test
+    void sameStatementAsGrammar() throws MdxParserException {
+        for (String mdx : STATEMENTS) {
+            assertThat(parse(fast, mdx)).as(mdx).isEqualTo(parse(grammar, mdx));
+        }
+    }
+
+    @Test
+    void rejectsWhatTheGrammarRejects() {
+        for (String mdx : INVALID) {
+            assertThatThrownBy(() -> parse(grammar, mdx)).as(mdx).isInstanceOf(MdxParserException.class);
+            assertThatThrownBy(() -> parse(fast, mdx)).as(mdx).isInstanceOf(MdxParserException.class);
+        }
+    }
+
+    @Test
+    void reset() throws MdxParserException {
+        FastMdxParser parser = new FastMdxParser(STATEMENTS[0], UnparseParsedTest.reservedWords);
+        MdxStatement first = parser.parseMdxStatement();
+
+        for (String mdx : STATEMENTS) {
+            parser.reset(mdx, UnparseParsedTest.reservedWords);
+            assertThat(parser.parseMdxStatement()).as(mdx).isEqualTo(parse(fast, mdx));
+        }
+        parser.reset(STATEMENTS[0], UnparseParsedTest.reservedWords);
+        assertThat(parser.parseMdxStatement()).isEqualTo(first);
+    }
+
+    @Test
+    void pooled() throws MdxParserException {
+        MdxParserProvider pooled = new PooledFastMdxParserProvider(1);
+        for (String mdx : STATEMENTS) {
+            assertThat(parse(pooled, mdx)).as(mdx).isEqualTo(parse(fast, mdx));
+        }
+        for (String mdx : INVALID) {
+            assertThatThrownBy(() -> parse(pooled, mdx)).as(mdx).isInstanceOf(MdxParserException.class);
+        }
+
+        MdxParser kept = pooled.newParser(STATEMENTS[0], UnparseParsedTest.reservedWords);
+        MdxStatement first = kept.parseMdxStatement();
+        assertThat(parse(pooled, STATEMENTS[1])).isEqualTo(parse(fast, STATEMENTS[1]));
+        assertThat(kept.parseMdxStatement()).isEqualTo(first);
+    }
+}
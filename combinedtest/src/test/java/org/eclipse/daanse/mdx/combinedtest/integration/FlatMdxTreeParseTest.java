@@ -0,0 +1,55 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.record.flat.FlatMdxTree;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.eclipse.daanse.mdx.unparser.api.UnParser;
+import org.junit.jupiter.api.Test;
+import org.osgi.service.component.annotations.RequireServiceComponentRuntime;
+import org.osgi.test.common.annotation.InjectService;
+
+@RequireServiceComponentRuntime
+class FlatMdxTreeParseTest {
+
+    private static final String DEEP_PATHS = "SELECT {[a].[b].[c].[d].[e].[f].&[1]&[2].[g], "
+            + "[a].[b].[c].[d].[e].[f].Children} ON 0 FROM [c] WHERE [x].[y].[z].&[k]";
+
+    private final MdxParserProvider records = new CCCMdxParserProvider();
+    private final MdxParserProvider flat = new CCCMdxParserProvider(
+            ParserOptions.DEFAULT.withExpressionFactories(FlatMdxTree::new));
+
+    @Test
+    void sameTextAsRecordParse(@InjectService UnParser unParser) throws MdxParserException {
+        for (String mdx : new String[] { UnparseParsedTest.MDX, DEEP_PATHS }) {
+            MdxStatement expected = records.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+            MdxStatement actual = flat.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+
+            assertThat(unParser.unparseMdxStatement(actual).toString()).as(mdx)
+                    .isEqualTo(unParser.unparseMdxStatement(expected).toString());
+        }
+    }
+
+    @Test
+    void sameTreeForEachParse() throws MdxParserException {
+        assertThat(flat.newParser(DEEP_PATHS, UnparseParsedTest.reservedWords).parseMdxStatement())
+                .isEqualTo(flat.newParser(DEEP_PATHS, UnparseParsedTest.reservedWords).parseMdxStatement());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.parser.api.IncrementalParse;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.TextEdit;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.junit.jupiter.api.Test;
+
+class IncrementalParseTest {
+
+    private static final String MDX = """
+            WITH MEMBER [Measures].[Margin] AS [Measures].[Sales] - [Measures].[Cost], FORMAT_STRING = 'Currency'
+              SET [Top] AS TopCount([Product].Members, 10, [Measures].[Sales])
+            SELECT [Measures].[Margin] ON COLUMNS, [Top] ON ROWS
+            FROM [Sales]
+            WHERE [Time].[2024]""";
+
+    private final MdxParserProvider provider = new CCCMdxParserProvider();
+
+    private static TextEdit replace(String text, String removed, String inserted) {
+        return new TextEdit(text.indexOf(removed), removed.length(), inserted);
+    }
+
+    @Test
+    void editInAxisSharesOtherClauses() throws MdxParserException {
+        IncrementalParse first = provider.parseIncrementally(MDX, Set.of());
+        IncrementalParse second = first.edit(replace(MDX, "[Top] ON ROWS", "[Top].Children ON ROWS"));
+
+        SelectStatement before = (SelectStatement) first.statement();
+        SelectStatement after = (SelectStatement) second.statement();
+        assertThat(after).isEqualTo(provider.newParser(second.text(), Set.of()).parseMdxStatement());
+        assertThat(after.selectWithClauses()).isSameAs(before.selectWithClauses());
+        assertThat(after.selectSlicerAxisClause()).isSameAs(before.selectSlicerAxisClause());
+    }
+
+    @Test
+    void editInMemberBody() throws MdxParserException {
+        IncrementalParse parse = provider.parseIncrementally(MDX, Set.of())
+                .edit(replace(MDX, "'Currency'", "'Percent', SOLVE_ORDER = 2"));
+
+        assertThat(parse.statement()).isEqualTo(provider.newParser(parse.text(), Set.of()).parseMdxStatement());
+    }
+
+    @Test
+    void editOfClauseStructure() throws MdxParserException {
+        IncrementalParse parse = provider.parseIncrementally(MDX, Set.of())
+                .edit(replace(MDX, "[Top] ON ROWS", "[Top] ON ROWS, [Store].Members ON PAGES"));
+
+        assertThat(parse.statement()).isEqualTo(provider.newParser(parse.text(), Set.of()).parseMdxStatement());
+    }
+
+    @Test
+    void syntaxErrorInEditedClause() throws MdxParserException {
+        IncrementalParse parse = provider.parseIncrementally(MDX, Set.of());
+
+        assertThatThrownBy(() -> parse.edit(replace(MDX, "[Time].[2024]", "[Time].[2024] +")))
+                .isInstanceOf(MdxParserException.class);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.UncheckedMdxParserException;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.eclipse.daanse.mdx.unparser.api.UnParser;
+import org.junit.jupiter.api.Test;
+import org.osgi.service.component.annotations.RequireServiceComponentRuntime;
+import org.osgi.test.common.annotation.InjectService;
+
+@RequireServiceComponentRuntime
+class LazyWithClausesTest {
+
+    private final MdxParserProvider eager = new CCCMdxParserProvider();
+    private final MdxParserProvider lazy = new CCCMdxParserProvider(
+            ParserOptions.DEFAULT.withLazyWithClauses(true));
+
+    @Test
+    void sameStatementAsEagerParse(@InjectService UnParser unParser) throws MdxParserException {
+        MdxStatement expected = eager.newParser(UnparseParsedTest.MDX, UnparseParsedTest.reservedWords)
+                .parseMdxStatement();
+        MdxStatement actual = lazy.newParser(UnparseParsedTest.MDX, UnparseParsedTest.reservedWords)
+                .parseMdxStatement();
+
+        assertThat(unParser.unparseMdxStatement(actual).toString())
+                .isEqualTo(unParser.unparseMdxStatement(expected).toString());
+    }
+
+    @Test
+    void bodyErrorReportedOnAccess() throws MdxParserException {
+        SelectStatement statement = lazy
+                .newParser("WITH MEMBER [Measures].[a] AS 1 + * 2 SELECT FROM [c]", UnparseParsedTest.reservedWords)
+                .parseSelectStatement();
+
+        CreateMemberBodyClause clause = (CreateMemberBodyClause) statement.selectWithClauses().get(0);
+        assertThat(clause.compoundId().objectIdentifiers()).hasSize(2);
+        assertThatThrownBy(clause::expression).isInstanceOf(UncheckedMdxParserException.class);
+    }
+
+    @Test
+    void equalIfBodiesParseEqual() throws MdxParserException {
+        SelectStatement compact = lazy.newParser(
+                "WITH MEMBER [Measures].[a] AS 1+[b], SOLVE_ORDER=1 SET [s] AS {[c]} SELECT FROM [c]",
+                UnparseParsedTest.reservedWords).parseSelectStatement();
+        SelectStatement spaced = lazy.newParser(
+                "WITH MEMBER [Measures].[a] AS 1 + [b] , SOLVE_ORDER = 1 SET [s] AS { [c] } SELECT FROM [c]",
+                UnparseParsedTest.reservedWords).parseSelectStatement();
+        SelectStatement other = lazy.newParser(
+                "WITH MEMBER [Measures].[a] AS 1 - [b], SOLVE_ORDER = 1 SET [s] AS {[c]} SELECT FROM [c]",
+                UnparseParsedTest.reservedWords).parseSelectStatement();
+
+        assertThat(compact.selectWithClauses()).isEqualTo(spaced.selectWithClauses());
+        assertThat(compact.selectWithClauses().hashCode()).isEqualTo(spaced.selectWithClauses().hashCode());
+        assertThat(compact.selectWithClauses().get(0)).isNotEqualTo(other.selectWithClauses().get(0));
+        assertThat(compact.selectWithClauses().get(1)).isEqualTo(other.selectWithClauses().get(1));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.eclipse.daanse.mdx.parser.ccc.MdxParserWrapper;
+import org.junit.jupiter.api.Test;
+
+class ParallelParseTest {
+
+    private final MdxParserProvider sequential = new CCCMdxParserProvider();
+    private final MdxParserProvider parallel = new CCCMdxParserProvider(
+            ParserOptions.DEFAULT.withParallelExecutor(ForkJoinPool.commonPool()));
+
+    private static String largeStatement(String slicer) {
+        StringBuilder sb = new StringBuilder("WITH\n");
+        for (int i = 0; sb.length() < 2 * MdxParserWrapper.PARALLEL_THRESHOLD; i++) {
+            sb.append("  MEMBER [Measures].[m").append(i).append("] AS ([Measures].[Sales] - [Measures].[Cost]) / ")
+                    .append(i + 1).append(", FORMAT_STRING = 'Percent', SOLVE_ORDER = ").append(i).append('\n');
+            sb.append("  SET [s").append(i).append("] AS 'Filter([Product].Members, [Measures].[m").append(i)
+                    .append("] > 0)'\n");
+        }
+        sb.append("SELECT NON EMPTY {[Measures].[m0], [Measures].[m1]} ON COLUMNS,\n");
+        sb.append("  [s0] DIMENSION PROPERTIES MEMBER_CAPTION ON ROWS\n");
+        sb.append("FROM (SELECT [Time].[2024] ON 0 FROM [Sales])\n");
+        sb.append("WHERE ").append(slicer).append('\n');
+        sb.append("CELL PROPERTIES VALUE");
+        return sb.toString();
+    }
+
+    @Test
+    void sameStatementAsSequentialParse() throws MdxParserException {
+        String mdx = largeStatement("([Store].[USA], [Customer].[All])");
+        MdxStatement expected = sequential.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+        MdxStatement actual = parallel.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void syntaxErrorInPart() {
+        String mdx = largeStatement("([Store].[USA], )");
+
+        assertThatThrownBy(() -> parallel.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement())
+                .isInstanceOf(MdxParserException.class);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException.Limit;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.MdxParserWrapper;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.eclipse.daanse.mdx.parser.fast.FastMdxParserProvider;
+import org.junit.jupiter.api.Test;
+
+class ParseLimitsTest {
+
+    private static final String MDX = "WITH SET [s] AS 'Filter([Product].Members, [Measures].[Sales] > 0)' "
+            + "SELECT {([s])} ON 0 FROM [Sales] WHERE ([Time].[2024], [Store].[USA])";
+
+    private final MdxParserProvider provider = new CCCMdxParserProvider();
+    private final MdxParserProvider fast = new FastMdxParserProvider();
+
+    private Limit failure(MdxParserProvider provider, String mdx, ParseLimits limits) throws MdxParserException {
+        try {
+            provider.newParser(mdx, UnparseParsedTest.reservedWords, limits).parseMdxStatement();
+            return null;
+        } catch (ParseLimitExceededException e) {
+            return e.limit();
+        }
+    }
+
+    @Test
+    void withinLimits() throws MdxParserException {
+        ParseLimits limits = new ParseLimits(1000, 100, 10, 100, Duration.ofMinutes(1));
+        MdxStatement limited = provider.newParser(MDX, UnparseParsedTest.reservedWords, limits).parseMdxStatement();
+
+        assertThat(limited).isEqualTo(provider.newParser(MDX, UnparseParsedTest.reservedWords).parseMdxStatement());
+    }
+
+    @Test
+    void textLimits() throws MdxParserException {
+        assertThat(failure(provider, MDX, ParseLimits.UNLIMITED.withMaxInputLength(50))).isEqualTo(Limit.INPUT_LENGTH);
+        assertThat(failure(provider, MDX, ParseLimits.UNLIMITED.withMaxTokens(10))).isEqualTo(Limit.TOKENS);
+        assertThat(failure(provider, MDX, ParseLimits.UNLIMITED.withMaxDepth(1))).isEqualTo(Limit.DEPTH);
+    }
+
+    @Test
+    void nodesOfQuotedSetExpression() throws MdxParserException {
+        assertThat(failure(provider, MDX, ParseLimits.UNLIMITED.withMaxNodes(5))).isEqualTo(Limit.NODES);
+    }
+
+    @Test
+    void interrupted() throws MdxParserException {
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(failure(provider, MDX, ParseLimits.UNLIMITED.withMaxNodes(1000))).isEqualTo(Limit.INTERRUPTED);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void fastParserAccountsNodesAndInterrupts() throws MdxParserException {
+        assertThat(failure(fast, MDX, ParseLimits.UNLIMITED.withMaxNodes(5))).isEqualTo(Limit.NODES);
+        assertThat(failure(fast, MDX, ParseLimits.UNLIMITED.withMaxNodes(1000))).isNull();
+
+        MdxParser parser = fast.newParser(MDX, UnparseParsedTest.reservedWords,
+                ParseLimits.UNLIMITED.withMaxNodes(1000));
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(parser::parseMdxStatement).isInstanceOfSatisfying(ParseLimitExceededException.class,
+                    e -> assertThat(e.limit()).isEqualTo(Limit.INTERRUPTED));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void quotedFormulas() throws MdxParserException {
+        String nested = "(".repeat(5000) + "1" + ")".repeat(5000);
+        String sum = "1" + "+1".repeat(5000);
+        ParseLimits limits = ParseLimits.UNLIMITED.withMaxDepth(50).withMaxNodes(1000);
+        for (MdxParserProvider parsers : List.of(provider, fast)) {
+            assertThat(failure(parsers, quotedMember(nested), limits)).isEqualTo(Limit.DEPTH);
+            assertThat(failure(parsers, quotedMember(sum), limits)).isEqualTo(Limit.NODES);
+            assertThat(failure(parsers, quotedMember("1 + (2 * 3)"), limits)).isNull();
+        }
+    }
+
+    private static String quotedMember(String formula) {
+        return "WITH MEMBER [Measures].[x] AS '" + formula + "' SELECT [Measures].[x] ON 0 FROM [Sales]";
+    }
+
+    @Test
+    void timeoutCountsFromTheParse() throws Exception {
+        String mdx = largeStatement();
+        MdxStatement expected = provider.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+        ParseLimits limits = ParseLimits.UNLIMITED.withTimeout(Duration.ofMillis(500));
+        MdxParser ccc = provider.newParser(mdx, UnparseParsedTest.reservedWords, limits);
+        MdxParser fastParser = fast.newParser(mdx, UnparseParsedTest.reservedWords, limits);
+        Thread.sleep(1000);
+
+        assertThat(ccc.parseMdxStatement()).isEqualTo(expected);
+        assertThat(fastParser.parseMdxStatement()).isEqualTo(expected);
+    }
+
+    private static String largeStatement() {
+        StringBuilder sb = new StringBuilder("WITH\n");
+        for (int i = 0; sb.length() < 2 * MdxParserWrapper.PARALLEL_THRESHOLD; i++) {
+            sb.append("  MEMBER [Measures].[m").append(i).append("] AS [Measures].[Sales] / ").append(i + 1)
+                    .append('\n');
+        }
+        return sb.append("SELECT [Measures].[m0] ON 0 FROM [Sales]").toString();
+    }
+
+    @Test
+    void nodesOfParallelParts() throws MdxParserException {
+        MdxParserProvider parallel = new CCCMdxParserProvider(
+                ParserOptions.DEFAULT.withParallelExecutor(ForkJoinPool.commonPool()));
+
+        assertThat(failure(parallel, largeStatement(), ParseLimits.UNLIMITED.withMaxNodes(100)))
+                .isEqualTo(Limit.NODES);
+        assertThat(failure(parallel, largeStatement(), ParseLimits.UNLIMITED.withMaxNodes(100_000))).isNull();
+    }
+
+    @Test
+    void interruptedWhileWaitingForParts() throws MdxParserException {
+        List<Runnable> parts = new ArrayList<>();
+        MdxParserProvider parallel = new CCCMdxParserProvider(ParserOptions.DEFAULT.withParallelExecutor(parts::add));
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(failure(parallel, largeStatement(), ParseLimits.UNLIMITED)).isEqualTo(Limit.INTERRUPTED);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(parts).isNotEmpty().allMatch(part -> ((Future<?>) part).isCancelled());
+    }
+}
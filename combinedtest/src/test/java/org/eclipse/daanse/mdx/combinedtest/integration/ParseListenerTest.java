@@ -0,0 +1,77 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseEvent;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.junit.jupiter.api.Test;
+
+class ParseListenerTest {
+
+    private final List<ParseEvent> events = new ArrayList<>();
+    private final MdxParserProvider provider = new CCCMdxParserProvider(
+            ParserOptions.DEFAULT.withListener(events::add));
+
+    @Test
+    void successfulParse() throws MdxParserException {
+        String mdx = "SELECT [Measures].[Sales] ON 0 FROM [Sales]";
+        provider.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement();
+
+        assertThat(events).hasSize(1);
+        ParseEvent event = events.get(0);
+        assertThat(event.kind()).isEqualTo("SelectStatement");
+        assertThat(event.inputLength()).isEqualTo(mdx.length());
+        assertThat(event.tokenCount()).isPositive();
+        assertThat(event.nodeCount()).isPositive();
+        assertThat(event.nanos()).isPositive();
+        assertThat(event.failed()).isFalse();
+        assertThat(event.failureOffset()).isEqualTo(-1);
+    }
+
+    @Test
+    void failedParse() {
+        String mdx = "SELECT [Measures].[Sales] ON 0 FROM [Sales] WHERE )";
+
+        assertThatThrownBy(() -> provider.newParser(mdx, UnparseParsedTest.reservedWords).parseMdxStatement())
+                .isInstanceOf(MdxParserException.class);
+        assertThat(events).hasSize(1);
+        ParseEvent event = events.get(0);
+        assertThat(event.kind()).isEqualTo(ParseEvent.MDX_STATEMENT);
+        assertThat(event.failed()).isTrue();
+        assertThat(event.failureOffset()).isBetween(mdx.indexOf("WHERE"), mdx.length());
+    }
+
+    @Test
+    void expressionOfOperatorPrecedenceParser() throws MdxParserException {
+        MdxParserProvider pratt = new CCCMdxParserProvider(
+                ParserOptions.DEFAULT.withListener(events::add).withPrattExpressions(true));
+        pratt.newParser("[a].[b] + 2 * f(c)", UnparseParsedTest.reservedWords).parseExpression();
+
+        assertThat(events).hasSize(1);
+        ParseEvent event = events.get(0);
+        assertThat(event.kind()).isEqualTo(ParseEvent.EXPRESSION);
+        // [a] . [b] + 2 * f ( c )
+        assertThat(event.tokenCount()).isEqualTo(10);
+        assertThat(event.nodeCount()).isEqualTo(-1);
+    }
+}
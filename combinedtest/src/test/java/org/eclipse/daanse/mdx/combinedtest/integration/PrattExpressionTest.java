@@ -0,0 +1,91 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.combinedtest.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.junit.jupiter.api.Test;
+
+class PrattExpressionTest {
+
+    private static final String[] ACCEPTED = { "1 + 2 * 3 - 4 / 5 || 'x'", "a OR b XOR c AND NOT d AND e",
+            "NOT NOT a = b AND c <> d OR e <= f : g >= h", "a IS NULL = b IS EMPTY", "a IS b IN c NOT IN d",
+            "a MATCHES 'x' AND b NOT MATCHES \"y\"", "-[a].[b] * +c - EXISTING d.Children",
+            "[Time].[1997].&[Q1]&k.Lag(1).Name", "Fn(, a, ) + m.f() + g()", "whiz!bang!foo(1, 2.5, 1e3)",
+            "CAST([a] AS Integer) AS [x] AS &[k]", "{} + {([a], [b]), [c]} + (1)",
+            "CASE a WHEN 1 THEN 2 ELSE 3 END + CASE WHEN b THEN c END", "@param.Member_Caption",
+            "Dimension.Properties" };
+
+    private static final String[] LEFT_TO_GRAMMAR = { "a IS NULL * 2", "1.5f", "a b", "- - a", "a = NOT b",
+            "([a]" };
+
+    private final MdxParserProvider grammar = new CCCMdxParserProvider();
+    private final MdxParserProvider pratt = new CCCMdxParserProvider(
+            ParserOptions.DEFAULT.withLazyWithClauses(true).withPrattExpressions(true));
+
+    private MdxExpression parse(MdxParserProvider provider, String mdx) throws MdxParserException {
+        return provider.newParser(mdx, UnparseParsedTest.reservedWords).parseExpression();
+    }
+
+    private MdxExpression parseOrNull(MdxParserProvider provider, String mdx) {
+        try {
+            return parse(provider, mdx);
+        } catch (MdxParserException e) {
+            return null;
+        }
+    }
+
+    @Test
+    void sameTreeAsGrammar() throws MdxParserException {
+        for (String mdx : ACCEPTED) {
+            assertThat(parse(pratt, mdx)).as(mdx).isEqualTo(parse(grammar, mdx));
+        }
+    }
+
+    @Test
+    void grammarDecidesWhatItDoesNotAccept() {
+        for (String mdx : LEFT_TO_GRAMMAR) {
+            assertThat(parseOrNull(pratt, mdx)).as(mdx).isEqualTo(parseOrNull(grammar, mdx));
+        }
+    }
+
+    @Test
+    void longOperatorChains() throws MdxParserException {
+        StringBuilder sb = new StringBuilder("[m0]");
+        for (int i = 1; i < 2000; i++) {
+            sb.append(i % 2 == 0 ? " + " : " AND NOT ").append("[m").append(i).append(']');
+        }
+        assertThat(parse(pratt, sb.toString())).isEqualTo(parse(grammar, sb.toString()));
+
+        String nots = "NOT ".repeat(100_000) + "x";
+        assertThat(parse(pratt, nots)).isNotNull();
+    }
+
+    @Test
+    void bodiesOfLazyStatement() throws MdxParserException {
+        String mdx = "WITH MEMBER [Measures].[m] AS [Measures].[a] + [Measures].[b] * 2 SELECT [m] ON 0 FROM [c]";
+        SelectStatement expected = grammar.newParser(mdx, UnparseParsedTest.reservedWords).parseSelectStatement();
+        SelectStatement actual = pratt.newParser(mdx, UnparseParsedTest.reservedWords).parseSelectStatement();
+
+        assertThat(((CreateMemberBodyClause) actual.selectWithClauses().get(0)).expression())
+                .isEqualTo(((CreateMemberBodyClause) expected.selectWithClauses().get(0)).expression());
+    }
+}
@@ -16,4 +16,15 @@ package org.eclipse.daanse.mdx.model.api;
 public sealed interface MdxStatement permits SelectStatement, DrillthroughStatement, ExplainStatement, DMVStatement,
         RefreshStatement, UpdateStatement {
 
+    /** The name of the statement interface {@code statement} implements, like {@code SelectStatement}. */
+    static String kind(MdxStatement statement) {
+        return switch (statement) {
+        case SelectStatement s -> "SelectStatement";
+        case DrillthroughStatement s -> "DrillthroughStatement";
+        case ExplainStatement s -> "ExplainStatement";
+        case DMVStatement s -> "DMVStatement";
+        case RefreshStatement s -> "RefreshStatement";
+        case UpdateStatement s -> "UpdateStatement";
+        };
+    }
 }
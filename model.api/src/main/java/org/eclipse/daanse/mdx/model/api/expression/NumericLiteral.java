@@ -16,6 +16,39 @@ package org.eclipse.daanse.mdx.model.api.expression;
 import java.math.BigDecimal;
 
 public non-sealed interface NumericLiteral extends Literal {
+
     BigDecimal value();
 
+    /**
+     * The value with any fraction discarded. Only meaningful when
+     * {@link #isIntegral()} or the value is otherwise known to fit a
+     * {@code long}. Implementations backed by a primitive answer without
+     * creating a {@link BigDecimal}.
+     */
+    default long longValue() {
+        return value().longValue();
+    }
+
+    /**
+     * The value converted like {@link BigDecimal#doubleValue()}.
+     */
+    default double doubleValue() {
+        return value().doubleValue();
+    }
+
+    /**
+     * Whether the value is a whole number in the range of {@code long}, i.e.
+     * {@link #longValue()} is exact.
+     */
+    default boolean isIntegral() {
+        BigDecimal value = value();
+        if (value.signum() == 0) {
+            return true;
+        }
+        if (value.scale() > 0 && value.stripTrailingZeros().scale() > 0) {
+            return false;
+        }
+        return value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0
+                && value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+    }
 }
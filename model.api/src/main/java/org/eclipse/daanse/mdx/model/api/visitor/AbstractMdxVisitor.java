@@ -0,0 +1,264 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.api.visitor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.select.CreateCellCalculationBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MeasureBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseName;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryEmptyClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+
+/**
+ * {@link MdxVisitor} that walks the whole tree. Every node visits its children
+ * in source order and folds their results with
+ * {@link #aggregateResult(Object, Object)}, starting from
+ * {@link #defaultResult()}. Subclasses override the nodes they care about and
+ * call {@code super} to keep descending.
+ *
+ * @param <R> result of a visit
+ */
+public abstract class AbstractMdxVisitor<R> implements MdxVisitor<R> {
+
+    protected R defaultResult() {
+        return null;
+    }
+
+    protected R aggregateResult(R aggregate, R nextResult) {
+        return nextResult;
+    }
+
+    private <T> R child(R result, T node, Function<T, R> visit) {
+        return node == null ? result : aggregateResult(result, visit.apply(node));
+    }
+
+    private <T> R children(R result, List<? extends T> nodes, Function<T, R> visit) {
+        if (nodes != null) {
+            for (T node : nodes) {
+                result = child(result, node, visit);
+            }
+        }
+        return result;
+    }
+
+    private <T> R optional(R result, Optional<T> node, Function<T, R> visit) {
+        return node == null || node.isEmpty() ? result : child(result, node.get(), visit);
+    }
+
+    @Override
+    public R visitSelectStatement(SelectStatement statement) {
+        R result = defaultResult();
+        result = children(result, statement.selectWithClauses(), this::visit);
+        result = child(result, statement.selectQueryClause(), this::visit);
+        result = child(result, statement.selectCubeClause(), this::visit);
+        result = optional(result, statement.selectSlicerAxisClause(), this::visitSelectSlicerAxisClause);
+        return optional(result, statement.selectCellPropertyListClause(), this::visitSelectCellPropertyListClause);
+    }
+
+    @Override
+    public R visitDrillthroughStatement(DrillthroughStatement statement) {
+        R result = defaultResult();
+        result = child(result, statement.selectStatement(), this::visitSelectStatement);
+        return children(result, statement.returnItems(), this::visitReturnItem);
+    }
+
+    @Override
+    public R visitExplainStatement(ExplainStatement statement) {
+        return child(defaultResult(), statement.mdxStatement(), this::visit);
+    }
+
+    @Override
+    public R visitDMVStatement(DMVStatement statement) {
+        R result = defaultResult();
+        result = children(result, statement.columns(), this::visitCompoundId);
+        result = child(result, statement.table(), this::visitNameObjectIdentifier);
+        return child(result, statement.where(), this::visit);
+    }
+
+    @Override
+    public R visitRefreshStatement(RefreshStatement statement) {
+        return child(defaultResult(), statement.cubeName(), this::visitNameObjectIdentifier);
+    }
+
+    @Override
+    public R visitUpdateStatement(UpdateStatement statement) {
+        R result = defaultResult();
+        result = child(result, statement.cubeName(), this::visitNameObjectIdentifier);
+        return children(result, statement.updateClauses(), this::visitUpdateClause);
+    }
+
+    @Override
+    public R visitCallExpression(CallExpression expression) {
+        return children(defaultResult(), expression.expressions(), this::visit);
+    }
+
+    @Override
+    public R visitNullLiteral(NullLiteral literal) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitNumericLiteral(NumericLiteral literal) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitStringLiteral(StringLiteral literal) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitSymbolLiteral(SymbolLiteral literal) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitCompoundId(CompoundId compoundId) {
+        return children(defaultResult(), compoundId.objectIdentifiers(), this::visit);
+    }
+
+    @Override
+    public R visitKeyObjectIdentifier(KeyObjectIdentifier identifier) {
+        return children(defaultResult(), identifier.nameObjectIdentifiers(), this::visitNameObjectIdentifier);
+    }
+
+    @Override
+    public R visitNameObjectIdentifier(NameObjectIdentifier identifier) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitCreateCellCalculationBodyClause(CreateCellCalculationBodyClause clause) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitCreateMemberBodyClause(CreateMemberBodyClause clause) {
+        R result = defaultResult();
+        result = child(result, clause.compoundId(), this::visitCompoundId);
+        result = child(result, clause.expression(), this::visit);
+        return children(result, clause.memberPropertyDefinitions(), this::visitMemberPropertyDefinition);
+    }
+
+    @Override
+    public R visitCreateSetBodyClause(CreateSetBodyClause clause) {
+        R result = defaultResult();
+        result = child(result, clause.compoundId(), this::visitCompoundId);
+        return child(result, clause.expression(), this::visit);
+    }
+
+    @Override
+    public R visitMeasureBodyClause(MeasureBodyClause clause) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitSelectQueryAsteriskClause(SelectQueryAsteriskClause clause) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitSelectQueryAxesClause(SelectQueryAxesClause clause) {
+        return children(defaultResult(), clause.selectQueryAxisClauses(), this::visitSelectQueryAxisClause);
+    }
+
+    @Override
+    public R visitSelectQueryEmptyClause(SelectQueryEmptyClause clause) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitSelectCubeClauseName(SelectCubeClauseName clause) {
+        return child(defaultResult(), clause.cubeName(), this::visitNameObjectIdentifier);
+    }
+
+    @Override
+    public R visitSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause) {
+        R result = defaultResult();
+        result = child(result, clause.selectQueryClause(), this::visit);
+        result = child(result, clause.selectCubeClause(), this::visit);
+        return optional(result, clause.selectSlicerAxisClause(), this::visitSelectSlicerAxisClause);
+    }
+
+    @Override
+    public R visitSelectQueryAxisClause(SelectQueryAxisClause clause) {
+        R result = defaultResult();
+        result = child(result, clause.expression(), this::visit);
+        return child(result, clause.selectDimensionPropertyListClause(),
+                this::visitSelectDimensionPropertyListClause);
+    }
+
+    @Override
+    public R visitSelectSlicerAxisClause(SelectSlicerAxisClause clause) {
+        return child(defaultResult(), clause.expression(), this::visit);
+    }
+
+    @Override
+    public R visitSelectCellPropertyListClause(SelectCellPropertyListClause clause) {
+        return defaultResult();
+    }
+
+    @Override
+    public R visitSelectDimensionPropertyListClause(SelectDimensionPropertyListClause clause) {
+        return children(defaultResult(), clause.properties(), this::visitCompoundId);
+    }
+
+    @Override
+    public R visitMemberPropertyDefinition(MemberPropertyDefinition definition) {
+        R result = defaultResult();
+        result = child(result, definition.objectIdentifier(), this::visit);
+        return child(result, definition.expression(), this::visit);
+    }
+
+    @Override
+    public R visitReturnItem(ReturnItem returnItem) {
+        return child(defaultResult(), returnItem.compoundId(), this::visitCompoundId);
+    }
+
+    @Override
+    public R visitUpdateClause(UpdateClause clause) {
+        R result = defaultResult();
+        result = child(result, clause.tupleExp(), this::visit);
+        result = child(result, clause.valueExp(), this::visit);
+        return child(result, clause.weight(), this::visit);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.api.visitor;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.select.CreateCellCalculationBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MeasureBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseName;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryEmptyClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+
+/**
+ * Typed visitor over the MDX model.
+ *
+ * The {@code visit} methods dispatch over the sealed hierarchies with a single
+ * pattern switch. A node that implements more than one expression type (as the
+ * identifier tokens of some parsers do) is dispatched in the order call
+ * expression, literal, compound id, object identifier.
+ *
+ * @param <R> result of a visit
+ */
+public interface MdxVisitor<R> {
+
+    default R visit(MdxStatement statement) {
+        return switch (statement) {
+        case SelectStatement s -> visitSelectStatement(s);
+        case DrillthroughStatement s -> visitDrillthroughStatement(s);
+        case ExplainStatement s -> visitExplainStatement(s);
+        case DMVStatement s -> visitDMVStatement(s);
+        case RefreshStatement s -> visitRefreshStatement(s);
+        case UpdateStatement s -> visitUpdateStatement(s);
+        };
+    }
+
+    default R visit(MdxExpression expression) {
+        return switch (expression) {
+        case CallExpression e -> visitCallExpression(e);
+        case NullLiteral e -> visitNullLiteral(e);
+        case NumericLiteral e -> visitNumericLiteral(e);
+        case StringLiteral e -> visitStringLiteral(e);
+        case SymbolLiteral e -> visitSymbolLiteral(e);
+        case CompoundId e -> visitCompoundId(e);
+        case KeyObjectIdentifier e -> visitKeyObjectIdentifier(e);
+        case NameObjectIdentifier e -> visitNameObjectIdentifier(e);
+        };
+    }
+
+    /**
+     * Dispatches on the identifier type only. Used for the parts of a compound
+     * id, which may themselves also implement {@link CompoundId}.
+     */
+    default R visit(ObjectIdentifier identifier) {
+        return switch (identifier) {
+        case KeyObjectIdentifier i -> visitKeyObjectIdentifier(i);
+        case NameObjectIdentifier i -> visitNameObjectIdentifier(i);
+        };
+    }
+
+    default R visit(SelectWithClause clause) {
+        return switch (clause) {
+        case CreateCellCalculationBodyClause c -> visitCreateCellCalculationBodyClause(c);
+        case CreateMemberBodyClause c -> visitCreateMemberBodyClause(c);
+        case CreateSetBodyClause c -> visitCreateSetBodyClause(c);
+        case MeasureBodyClause c -> visitMeasureBodyClause(c);
+        };
+    }
+
+    default R visit(SelectQueryClause clause) {
+        return switch (clause) {
+        case SelectQueryAsteriskClause c -> visitSelectQueryAsteriskClause(c);
+        case SelectQueryAxesClause c -> visitSelectQueryAxesClause(c);
+        case SelectQueryEmptyClause c -> visitSelectQueryEmptyClause(c);
+        };
+    }
+
+    default R visit(SelectCubeClause clause) {
+        return switch (clause) {
+        case SelectCubeClauseName c -> visitSelectCubeClauseName(c);
+        case SelectCubeClauseSubStatement c -> visitSelectCubeClauseSubStatement(c);
+        };
+    }
+
+    R visitSelectStatement(SelectStatement statement);
+
+    R visitDrillthroughStatement(DrillthroughStatement statement);
+
+    R visitExplainStatement(ExplainStatement statement);
+
+    R visitDMVStatement(DMVStatement statement);
+
+    R visitRefreshStatement(RefreshStatement statement);
+
+    R visitUpdateStatement(UpdateStatement statement);
+
+    R visitCallExpression(CallExpression expression);
+
+    R visitNullLiteral(NullLiteral literal);
+
+    R visitNumericLiteral(NumericLiteral literal);
+
+    R visitStringLiteral(StringLiteral literal);
+
+    R visitSymbolLiteral(SymbolLiteral literal);
+
+    R visitCompoundId(CompoundId compoundId);
+
+    R visitKeyObjectIdentifier(KeyObjectIdentifier identifier);
+
+    R visitNameObjectIdentifier(NameObjectIdentifier identifier);
+
+    R visitCreateCellCalculationBodyClause(CreateCellCalculationBodyClause clause);
+
+    R visitCreateMemberBodyClause(CreateMemberBodyClause clause);
+
+    R visitCreateSetBodyClause(CreateSetBodyClause clause);
+
+    R visitMeasureBodyClause(MeasureBodyClause clause);
+
+    R visitSelectQueryAsteriskClause(SelectQueryAsteriskClause clause);
+
+    R visitSelectQueryAxesClause(SelectQueryAxesClause clause);
+
+    R visitSelectQueryEmptyClause(SelectQueryEmptyClause clause);
+
+    R visitSelectCubeClauseName(SelectCubeClauseName clause);
+
+    R visitSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause);
+
+    R visitSelectQueryAxisClause(SelectQueryAxisClause clause);
+
+    R visitSelectSlicerAxisClause(SelectSlicerAxisClause clause);
+
+    R visitSelectCellPropertyListClause(SelectCellPropertyListClause clause);
+
+    R visitSelectDimensionPropertyListClause(SelectDimensionPropertyListClause clause);
+
+    R visitMemberPropertyDefinition(MemberPropertyDefinition definition);
+
+    R visitReturnItem(ReturnItem returnItem);
+
+    R visitUpdateClause(UpdateClause clause);
+}
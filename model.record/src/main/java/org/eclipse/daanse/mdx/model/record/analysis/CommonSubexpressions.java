@@ -0,0 +1,213 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+
+/**
+ * Finds structurally identical call expressions in the WITH clauses, the axes
+ * and the slicer of a select statement.
+ *
+ * Every expression gets a value number from its kind, its operation atom or
+ * value and the numbers of its children, so the analysis works for any
+ * model.api implementation and runs in time linear in the size of the tree.
+ * The numbered expressions form a DAG. Use counts are taken in that DAG: an
+ * expression inside a repeated parent is counted for that parent only once,
+ * not once per textual occurrence of the parent. This is the number of
+ * evaluations that remain when every shared expression is evaluated once.
+ */
+public final class CommonSubexpressions {
+
+    private record Key(String kind, String value, List<Integer> children) {
+    }
+
+    private final Map<Key, Integer> numbers = new HashMap<>();
+    private final List<MdxExpression> representatives = new ArrayList<>();
+    private final List<List<Integer>> children = new ArrayList<>();
+    private final IdentityHashMap<CallExpression, Integer> numbered = new IdentityHashMap<>();
+
+    private final List<Integer> roots = new ArrayList<>();
+    private int[] useCounts;
+
+    private CommonSubexpressions() {
+    }
+
+    /**
+     * Returns the call expressions used more than once, children before their
+     * parents.
+     */
+    public static List<SharedExpression> find(SelectStatement statement) {
+        CommonSubexpressions analysis = new CommonSubexpressions();
+        analysis.addRoots(statement);
+        return analysis.shared();
+    }
+
+    private void addRoots(SelectStatement statement) {
+        for (SelectWithClause clause : statement.selectWithClauses()) {
+            if (clause instanceof CreateMemberBodyClause member) {
+                addRoot(member.expression());
+                if (member.memberPropertyDefinitions() != null) {
+                    for (MemberPropertyDefinition definition : member.memberPropertyDefinitions()) {
+                        addRoot(definition.expression());
+                    }
+                }
+            } else if (clause instanceof CreateSetBodyClause set) {
+                addRoot(set.expression());
+            }
+        }
+        if (statement.selectQueryClause() instanceof SelectQueryAxesClause axes) {
+            for (SelectQueryAxisClause axis : axes.selectQueryAxisClauses()) {
+                addRoot(axis.expression());
+            }
+        }
+        statement.selectSlicerAxisClause().ifPresent(slicer -> addRoot(slicer.expression()));
+    }
+
+    private void addRoot(MdxExpression expression) {
+        if (expression != null) {
+            roots.add(number(expression));
+        }
+    }
+
+    private int number(MdxExpression expression) {
+        return switch (expression) {
+        case CallExpression call -> {
+            Integer known = numbered.get(call);
+            if (known != null) {
+                yield known;
+            }
+            List<Integer> ids = new ArrayList<>(call.expressions().size());
+            for (MdxExpression argument : call.expressions()) {
+                ids.add(number(argument));
+            }
+            int id = number(new Key(call.operationAtom().getClass().getName(), call.operationAtom().name(), ids),
+                    call);
+            numbered.put(call, id);
+            yield id;
+        }
+        case NullLiteral literal -> number(new Key("null", null, List.of()), literal);
+        case NumericLiteral literal -> number(new Key("numeric", String.valueOf(literal.value()), List.of()), literal);
+        case StringLiteral literal -> number(new Key("string", literal.value(), List.of()), literal);
+        case SymbolLiteral literal -> number(new Key("symbol", literal.value(), List.of()), literal);
+        case CompoundId compoundId -> {
+            List<Integer> ids = new ArrayList<>(compoundId.objectIdentifiers().size());
+            for (ObjectIdentifier part : compoundId.objectIdentifiers()) {
+                ids.add(number(part));
+            }
+            yield number(new Key("compound", null, ids), compoundId);
+        }
+        case ObjectIdentifier identifier -> number(identifier);
+        };
+    }
+
+    // parts of a compound id are numbered as identifiers only, as they may implement CompoundId as well
+    private int number(ObjectIdentifier identifier) {
+        return switch (identifier) {
+        case KeyObjectIdentifier key -> {
+            List<Integer> ids = new ArrayList<>(key.nameObjectIdentifiers().size());
+            for (NameObjectIdentifier name : key.nameObjectIdentifiers()) {
+                ids.add(number(name));
+            }
+            yield number(new Key("key", null, ids), key);
+        }
+        case NameObjectIdentifier name -> number(new Key("name:" + name.quoting(), name.name(), List.of()), name);
+        };
+    }
+
+    private int number(Key key, MdxExpression expression) {
+        Integer id = numbers.get(key);
+        if (id == null) {
+            id = representatives.size();
+            numbers.put(key, id);
+            representatives.add(expression);
+            children.add(key.children());
+        }
+        return id;
+    }
+
+    private List<SharedExpression> shared() {
+        useCounts = new int[representatives.size()];
+        BitSet expanded = new BitSet(representatives.size());
+        List<Integer> pending = new ArrayList<>(roots);
+        while (!pending.isEmpty()) {
+            int id = pending.remove(pending.size() - 1);
+            useCounts[id]++;
+            if (!expanded.get(id)) {
+                expanded.set(id);
+                pending.addAll(children.get(id));
+            }
+        }
+
+        // ids are assigned bottom up, so children always come first
+        Map<Integer, SharedExpression> result = new HashMap<>();
+        List<SharedExpression> ordered = new ArrayList<>();
+        for (int id = 0; id < representatives.size(); id++) {
+            if (isShared(id)) {
+                List<SharedExpression> below = new ArrayList<>();
+                for (int child : nearestShared(id, new LinkedHashSet<>(), new BitSet())) {
+                    below.add(result.get(child));
+                }
+                SharedExpression sharedExpression = new SharedExpression((CallExpression) representatives.get(id),
+                        useCounts[id], List.copyOf(below));
+                result.put(id, sharedExpression);
+                ordered.add(sharedExpression);
+            }
+        }
+        return List.copyOf(ordered);
+    }
+
+    private boolean isShared(int id) {
+        return useCounts[id] > 1 && representatives.get(id) instanceof CallExpression;
+    }
+
+    private Set<Integer> nearestShared(int id, Set<Integer> found, BitSet visited) {
+        for (int child : children.get(id)) {
+            if (visited.get(child)) {
+                continue;
+            }
+            visited.set(child);
+            if (isShared(child)) {
+                found.add(child);
+            } else {
+                nearestShared(child, found, visited);
+            }
+        }
+        return found;
+    }
+}
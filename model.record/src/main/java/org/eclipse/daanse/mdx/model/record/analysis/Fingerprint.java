@@ -0,0 +1,388 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.select.CreateCellCalculationBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MeasureBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseName;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryEmptyClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+import org.eclipse.daanse.mdx.model.api.visitor.AbstractMdxVisitor;
+
+/**
+ * 128 bit structural fingerprint of an MDX tree.
+ *
+ * Two trees have the same fingerprint if they are structurally equal: same
+ * node kinds, operation atoms, names, quoting and literal values in the same
+ * order. The value does not depend on the model implementation or on the JVM,
+ * so it can be used as a persistent cache key. It is not a cryptographic hash.
+ */
+public record Fingerprint(long high, long low) {
+
+    public static Fingerprint of(MdxStatement statement) {
+        Hasher hasher = new Hasher();
+        hasher.visit(statement);
+        return hasher.finish();
+    }
+
+    public static Fingerprint of(MdxExpression expression) {
+        Hasher hasher = new Hasher();
+        hasher.visit(expression);
+        return hasher.finish();
+    }
+
+    public String toHexString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+
+    private static final class Hasher extends AbstractMdxVisitor<Void> {
+
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1 = 0x9368e53c2f6af274L;
+        private long h2 = 0x586dcd208f7cd3fdL;
+        private long length;
+
+        private void mix(long value) {
+            h1 = Long.rotateLeft(h1 ^ Long.rotateLeft(value * C1, 31) * C2, 27) * 5 + 0x52dce729;
+            h2 = Long.rotateLeft(h2 ^ Long.rotateLeft(value * C2, 33) * C1, 31) * 5 + 0x38495ab5;
+            length++;
+        }
+
+        private void mix(String value) {
+            if (value == null) {
+                mix(-1);
+                return;
+            }
+            int n = value.length();
+            mix(n);
+            int i = 0;
+            for (; i + 4 <= n; i += 4) {
+                mix((long) value.charAt(i) << 48 | (long) value.charAt(i + 1) << 32 | (long) value.charAt(i + 2) << 16
+                        | value.charAt(i + 3));
+            }
+            long rest = 0;
+            for (; i < n; i++) {
+                rest = rest << 16 | value.charAt(i);
+            }
+            mix(rest);
+        }
+
+        private void mixSize(List<?> list) {
+            mix(list == null ? -1 : list.size());
+        }
+
+        private void mixPresent(Object node) {
+            mix(node == null || node instanceof Optional<?> o && o.isEmpty() ? 0 : 1);
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+
+        Fingerprint finish() {
+            long a = h1 ^ length;
+            long b = h2 ^ length;
+            a += b;
+            b += a;
+            a = fmix(a);
+            b = fmix(b);
+            a += b;
+            b += a;
+            return new Fingerprint(a, b);
+        }
+
+        @Override
+        public Void visitSelectStatement(SelectStatement statement) {
+            mix(1);
+            mixSize(statement.selectWithClauses());
+            mixPresent(statement.selectQueryClause());
+            mixPresent(statement.selectCubeClause());
+            mixPresent(statement.selectSlicerAxisClause());
+            mixPresent(statement.selectCellPropertyListClause());
+            return super.visitSelectStatement(statement);
+        }
+
+        @Override
+        public Void visitDrillthroughStatement(DrillthroughStatement statement) {
+            mix(2);
+            mix(statement.maxRows().map(Integer::longValue).orElse(-1L));
+            mix(statement.firstRowSet().map(Integer::longValue).orElse(-1L));
+            mixPresent(statement.selectStatement());
+            mixSize(statement.returnItems());
+            return super.visitDrillthroughStatement(statement);
+        }
+
+        @Override
+        public Void visitExplainStatement(ExplainStatement statement) {
+            mix(3);
+            mixPresent(statement.mdxStatement());
+            return super.visitExplainStatement(statement);
+        }
+
+        @Override
+        public Void visitDMVStatement(DMVStatement statement) {
+            mix(4);
+            mixSize(statement.columns());
+            mixPresent(statement.table());
+            mixPresent(statement.where());
+            return super.visitDMVStatement(statement);
+        }
+
+        @Override
+        public Void visitRefreshStatement(RefreshStatement statement) {
+            mix(5);
+            mixPresent(statement.cubeName());
+            return super.visitRefreshStatement(statement);
+        }
+
+        @Override
+        public Void visitUpdateStatement(UpdateStatement statement) {
+            mix(6);
+            mixPresent(statement.cubeName());
+            mixSize(statement.updateClauses());
+            return super.visitUpdateStatement(statement);
+        }
+
+        @Override
+        public Void visitCallExpression(CallExpression expression) {
+            mix(10);
+            mix(expression.operationAtom().getClass().getSimpleName());
+            mix(expression.operationAtom().name());
+            mixSize(expression.expressions());
+            return super.visitCallExpression(expression);
+        }
+
+        @Override
+        public Void visitNullLiteral(NullLiteral literal) {
+            mix(11);
+            return null;
+        }
+
+        @Override
+        public Void visitNumericLiteral(NumericLiteral literal) {
+            mix(12);
+            mix(literal.value() == null ? null : literal.value().toString());
+            return null;
+        }
+
+        @Override
+        public Void visitStringLiteral(StringLiteral literal) {
+            mix(13);
+            mix(literal.value());
+            return null;
+        }
+
+        @Override
+        public Void visitSymbolLiteral(SymbolLiteral literal) {
+            mix(14);
+            mix(literal.value());
+            return null;
+        }
+
+        @Override
+        public Void visitCompoundId(CompoundId compoundId) {
+            mix(15);
+            mixSize(compoundId.objectIdentifiers());
+            return super.visitCompoundId(compoundId);
+        }
+
+        @Override
+        public Void visitKeyObjectIdentifier(KeyObjectIdentifier identifier) {
+            mix(16);
+            mixSize(identifier.nameObjectIdentifiers());
+            return super.visitKeyObjectIdentifier(identifier);
+        }
+
+        @Override
+        public Void visitNameObjectIdentifier(NameObjectIdentifier identifier) {
+            mix(17);
+            mix(identifier.quoting() == null ? -1 : identifier.quoting().ordinal());
+            mix(identifier.name());
+            return null;
+        }
+
+        @Override
+        public Void visitCreateCellCalculationBodyClause(CreateCellCalculationBodyClause clause) {
+            mix(20);
+            return null;
+        }
+
+        @Override
+        public Void visitCreateMemberBodyClause(CreateMemberBodyClause clause) {
+            mix(21);
+            mixPresent(clause.compoundId());
+            mixPresent(clause.expression());
+            mixSize(clause.memberPropertyDefinitions());
+            return super.visitCreateMemberBodyClause(clause);
+        }
+
+        @Override
+        public Void visitCreateSetBodyClause(CreateSetBodyClause clause) {
+            mix(22);
+            mixPresent(clause.compoundId());
+            mixPresent(clause.expression());
+            return super.visitCreateSetBodyClause(clause);
+        }
+
+        @Override
+        public Void visitMeasureBodyClause(MeasureBodyClause clause) {
+            mix(23);
+            return null;
+        }
+
+        @Override
+        public Void visitSelectQueryAsteriskClause(SelectQueryAsteriskClause clause) {
+            mix(30);
+            return null;
+        }
+
+        @Override
+        public Void visitSelectQueryAxesClause(SelectQueryAxesClause clause) {
+            mix(31);
+            mixSize(clause.selectQueryAxisClauses());
+            return super.visitSelectQueryAxesClause(clause);
+        }
+
+        @Override
+        public Void visitSelectQueryEmptyClause(SelectQueryEmptyClause clause) {
+            mix(32);
+            return null;
+        }
+
+        @Override
+        public Void visitSelectCubeClauseName(SelectCubeClauseName clause) {
+            mix(33);
+            mixPresent(clause.cubeName());
+            return super.visitSelectCubeClauseName(clause);
+        }
+
+        @Override
+        public Void visitSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause) {
+            mix(34);
+            mixPresent(clause.selectQueryClause());
+            mixPresent(clause.selectCubeClause());
+            mixPresent(clause.selectSlicerAxisClause());
+            return super.visitSelectCubeClauseSubStatement(clause);
+        }
+
+        @Override
+        public Void visitSelectQueryAxisClause(SelectQueryAxisClause clause) {
+            mix(35);
+            mix(clause.nonEmpty() ? 1 : 0);
+            if (clause.axis() == null) {
+                mix(-1);
+            } else {
+                mix(clause.axis().ordinal());
+                mix(clause.axis().named() ? 1 : 0);
+            }
+            mixPresent(clause.expression());
+            mixPresent(clause.selectDimensionPropertyListClause());
+            return super.visitSelectQueryAxisClause(clause);
+        }
+
+        @Override
+        public Void visitSelectSlicerAxisClause(SelectSlicerAxisClause clause) {
+            mix(36);
+            mixPresent(clause.expression());
+            return super.visitSelectSlicerAxisClause(clause);
+        }
+
+        @Override
+        public Void visitSelectCellPropertyListClause(SelectCellPropertyListClause clause) {
+            mix(37);
+            mix(clause.cell() ? 1 : 0);
+            mixSize(clause.properties());
+            if (clause.properties() != null) {
+                for (String property : clause.properties()) {
+                    mix(property);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitSelectDimensionPropertyListClause(SelectDimensionPropertyListClause clause) {
+            mix(38);
+            mixSize(clause.properties());
+            return super.visitSelectDimensionPropertyListClause(clause);
+        }
+
+        @Override
+        public Void visitMemberPropertyDefinition(MemberPropertyDefinition definition) {
+            mix(39);
+            mixPresent(definition.objectIdentifier());
+            mixPresent(definition.expression());
+            return super.visitMemberPropertyDefinition(definition);
+        }
+
+        @Override
+        public Void visitReturnItem(ReturnItem returnItem) {
+            mix(40);
+            mixPresent(returnItem.compoundId());
+            return super.visitReturnItem(returnItem);
+        }
+
+        @Override
+        public Void visitUpdateClause(UpdateClause clause) {
+            mix(41);
+            mix(clause.allocation() == null ? -1 : clause.allocation().ordinal());
+            mixPresent(clause.tupleExp());
+            mixPresent(clause.valueExp());
+            mixPresent(clause.weight());
+            return super.visitUpdateClause(clause);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+
+/**
+ * A call expression that occurs more than once in a statement.
+ *
+ * @param expression the first occurrence
+ * @param useCount   number of references in the expression DAG: from root
+ *                   expressions and from distinct parent expressions
+ * @param children   the nearest shared expressions below this one
+ */
+public record SharedExpression(CallExpression expression, int useCount, List<SharedExpression> children) {
+}
@@ -0,0 +1,156 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+
+/**
+ * Structural hash of an expression, cached per node.
+ *
+ * The hashes of call expressions, compound ids and key identifiers are kept in
+ * a cache keyed on the identity of the node that holds its keys weakly, so a
+ * subtree is hashed once and the model records keep their shape. Equal trees
+ * have equal hashes, whatever model implementation they are built of.
+ *
+ * {@link #key(MdxExpression)} wraps an expression for use as key of a cache of
+ * downstream work: its hash is the cached one and unequal expressions are told
+ * apart by the hash before their children are compared.
+ */
+public final class StructuralHash {
+
+    private static final Map<NodeReference, Integer> CACHE = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<MdxExpression> COLLECTED = new ReferenceQueue<>();
+
+    private StructuralHash() {
+        // static helpers only
+    }
+
+    /**
+     * @param expression expression key
+     * @param hash       its structural hash
+     */
+    public record Key(MdxExpression expression, int hash) {
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof Key other && hash == other.hash
+                    && Objects.equals(expression, other.expression);
+        }
+    }
+
+    public static Key key(MdxExpression expression) {
+        return new Key(expression, of(expression));
+    }
+
+    public static int of(MdxExpression expression) {
+        return switch (expression) {
+        case null -> 0;
+        case CallExpression e -> cached(e);
+        case CompoundId e -> cached(e);
+        case KeyObjectIdentifier e -> cached(e);
+        case NameObjectIdentifier e -> 31 * Objects.hashCode(e.name()) + Objects.hashCode(e.quoting());
+        case NumericLiteral e -> numeric(e.value());
+        case StringLiteral e -> 3 * Objects.hashCode(e.value()) + 1;
+        case SymbolLiteral e -> 5 * Objects.hashCode(e.value()) + 2;
+        case NullLiteral e -> 7;
+        default -> expression.hashCode();
+        };
+    }
+
+    private static int cached(MdxExpression expression) {
+        Integer hash = CACHE.get(new NodeReference(expression, null));
+        if (hash != null) {
+            return hash;
+        }
+        int computed = switch (expression) {
+        case CallExpression e -> 31 * Objects.hashCode(e.operationAtom()) + hash(e.expressions());
+        case CompoundId e -> 37 * hash(e.objectIdentifiers()) + 3;
+        case KeyObjectIdentifier e -> 41 * hash(e.nameObjectIdentifiers()) + 5;
+        default -> throw new IllegalArgumentException(expression.getClass().getName());
+        };
+        expunge();
+        CACHE.put(new NodeReference(expression, COLLECTED), computed);
+        return computed;
+    }
+
+    private static int hash(List<? extends MdxExpression> expressions) {
+        if (expressions == null) {
+            return 0;
+        }
+        int hash = 1;
+        for (MdxExpression expression : expressions) {
+            hash = 31 * hash + of(expression);
+        }
+        return hash;
+    }
+
+    /** Scale independent, so that {@code 1} and {@code 1.0} hash alike. */
+    private static int numeric(BigDecimal value) {
+        return value == null ? 0 : Double.hashCode(value.doubleValue());
+    }
+
+    private static void expunge() {
+        for (Object collected; (collected = COLLECTED.poll()) != null;) {
+            CACHE.remove(collected);
+        }
+    }
+
+    private static final class NodeReference extends WeakReference<MdxExpression> {
+
+        private final int identity;
+
+        NodeReference(MdxExpression node, ReferenceQueue<MdxExpression> queue) {
+            super(node, queue);
+            this.identity = System.identityHashCode(node);
+        }
+
+        @Override
+        public int hashCode() {
+            return identity;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NodeReference other)) {
+                return false;
+            }
+            MdxExpression node = get();
+            return node != null && node == other.get();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.codec;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+
+/**
+ * Compact binary form of MDX trees, for shipping parsed statements between
+ * nodes without unparsing and parsing them again.
+ *
+ * The encoding starts with a magic number and a format version, followed by a
+ * table of all distinct strings (identifiers, literals, operator names) and
+ * the tree in prefix order. Every node starts with a varint kind tag, where
+ * {@code 0} stands for {@code null}; lists are prefixed with their size and
+ * strings are referenced by their varint index into the table.
+ *
+ * Decoding reads straight from the {@link ByteBuffer} (heap or direct)
+ * without copying it and always yields record instances, so encoding a record
+ * tree and decoding it again gives an equal tree. Other implementations of the
+ * model api decode to the equivalent records.
+ *
+ * Malformed input is reported as {@link IllegalArgumentException}, and so
+ * are trees whose expressions, statements or sub cubes nest deeper than
+ * {@link #MAX_DEPTH}, when encoded as well as when decoded, so that input
+ * cannot exhaust the stack of the decoder.
+ */
+public final class MdxCodec {
+
+    public static final int MAX_DEPTH = 500;
+
+    static final int MAGIC = 0x4D445842; // "MDXB"
+    static final int VERSION = 1;
+
+    // statements
+    static final int SELECT = 1;
+    static final int DRILLTHROUGH = 2;
+    static final int EXPLAIN = 3;
+    static final int DMV = 4;
+    static final int REFRESH = 5;
+    static final int UPDATE = 6;
+
+    // expressions and identifiers
+    static final int CALL = 10;
+    static final int NULL_LITERAL = 11;
+    static final int LONG_LITERAL = 12;
+    static final int DOUBLE_LITERAL = 13;
+    static final int DECIMAL_LITERAL = 14;
+    static final int BIG_DECIMAL_LITERAL = 15;
+    static final int STRING_LITERAL = 16;
+    static final int SYMBOL_LITERAL = 17;
+    static final int COMPOUND_ID = 18;
+    static final int KEY_ID = 19;
+    static final int NAME_ID = 20;
+
+    // with clauses
+    static final int CREATE_CELL_CALCULATION = 30;
+    static final int CREATE_MEMBER = 31;
+    static final int CREATE_SET = 32;
+    static final int MEASURE = 33;
+
+    // query clauses
+    static final int QUERY_ASTERISK = 40;
+    static final int QUERY_AXES = 41;
+    static final int QUERY_EMPTY = 42;
+
+    // cube clauses
+    static final int CUBE_NAME = 50;
+    static final int CUBE_SUB_STATEMENT = 51;
+
+    // marker of the non polymorphic nodes (axis clauses, update clauses, ...)
+    static final int PRESENT = 1;
+
+    // operation atoms, written after CALL
+    static final int ATOM_AMPERSAND_QUOTED_PROPERTY = 1;
+    static final int ATOM_BRACES = 2;
+    static final int ATOM_CASE = 3;
+    static final int ATOM_CAST = 4;
+    static final int ATOM_EMPTY = 5;
+    static final int ATOM_FUNCTION = 6;
+    static final int ATOM_INFIX = 7;
+    static final int ATOM_INTERNAL = 8;
+    static final int ATOM_METHOD = 9;
+    static final int ATOM_PARENTHESES = 10;
+    static final int ATOM_PLAIN_PROPERTY = 11;
+    static final int ATOM_POSTFIX = 12;
+    static final int ATOM_PREFIX = 13;
+    static final int ATOM_QUOTED_PROPERTY = 14;
+
+    private MdxCodec() {
+    }
+
+    public static byte[] encode(MdxStatement statement) {
+        MdxEncoder encoder = new MdxEncoder();
+        encoder.writeStatement(statement);
+        return encoder.toByteArray();
+    }
+
+    public static byte[] encode(MdxExpression expression) {
+        MdxEncoder encoder = new MdxEncoder();
+        encoder.writeExpression(expression);
+        return encoder.toByteArray();
+    }
+
+    public static MdxStatement decodeStatement(byte[] bytes) {
+        return decodeStatement(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a statement starting at the position of the buffer and advances
+     * the position past it.
+     */
+    public static MdxStatement decodeStatement(ByteBuffer buffer) {
+        MdxDecoder decoder = new MdxDecoder(buffer);
+        MdxStatement statement = decoder.readStatement();
+        decoder.finish();
+        return statement;
+    }
+
+    public static MdxExpression decodeExpression(byte[] bytes) {
+        return decodeExpression(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes an expression starting at the position of the buffer and
+     * advances the position past it.
+     */
+    public static MdxExpression decodeExpression(ByteBuffer buffer) {
+        MdxDecoder decoder = new MdxDecoder(buffer);
+        MdxExpression expression = decoder.readExpression();
+        decoder.finish();
+        return expression;
+    }
+}
@@ -0,0 +1,617 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.codec;
+
+import static org.eclipse.daanse.mdx.model.record.codec.MdxCodec.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.AmpersandQuotedPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CaseOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CastOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.EmptyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InternalOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.MethodOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PostfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PrefixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.QuotedPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.select.Allocation;
+import org.eclipse.daanse.mdx.model.api.select.Axis;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+import org.eclipse.daanse.mdx.model.record.DMVStatementR;
+import org.eclipse.daanse.mdx.model.record.DrillthroughStatementR;
+import org.eclipse.daanse.mdx.model.record.ExplainStatementR;
+import org.eclipse.daanse.mdx.model.record.RefreshStatementR;
+import org.eclipse.daanse.mdx.model.record.ReturnItemR;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.UpdateStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.DoubleNumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.KeyObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.LongNumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NullLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.StringLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.SymbolLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.CreateCellCalculationBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateSetBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MeasureBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MemberPropertyDefinitionR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCellPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseSubStatementR;
+import org.eclipse.daanse.mdx.model.record.select.SelectDimensionPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAsteriskClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryEmptyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.UpdateClauseR;
+
+/**
+ * Reads one tree in the format described at {@link MdxCodec} directly from a
+ * {@link ByteBuffer}. Strings of the table are only materialized when first
+ * referenced, and identical identifiers share one record instance.
+ */
+final class MdxDecoder {
+
+    private static final Quoting[] QUOTINGS = Quoting.values();
+    private static final Allocation[] ALLOCATIONS = Allocation.values();
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+
+    private final int[] stringOffsets;
+    private final int[] stringLengths;
+    private final String[] strings;
+    private final NameObjectIdentifier[] names;
+    private int depth;
+
+    MdxDecoder(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.position = buffer.position();
+        if (readInt() != MAGIC) {
+            throw new IllegalArgumentException("not an encoded mdx tree");
+        }
+        int version = readVarInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported encoding version " + version);
+        }
+        int count = readVarInt();
+        if (count < 0 || count > limit - position) {
+            throw new IllegalArgumentException("corrupt string table");
+        }
+        stringOffsets = new int[count];
+        stringLengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            int length = readVarInt();
+            if (length < 0 || length > limit - position) {
+                throw new IllegalArgumentException("corrupt string table");
+            }
+            stringOffsets[i] = position;
+            stringLengths[i] = length;
+            position += length;
+        }
+        strings = new String[count];
+        names = new NameObjectIdentifier[count * 2];
+    }
+
+    void finish() {
+        buffer.position(position);
+    }
+
+    MdxStatement readStatement() {
+        enter();
+        try {
+            return readStatementNode();
+        } finally {
+            depth--;
+        }
+    }
+
+    private MdxStatement readStatementNode() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case SELECT -> readSelectStatementBody();
+        case DRILLTHROUGH -> {
+            Optional<Integer> maxRows = readOptionalInt();
+            Optional<Integer> firstRowSet = readOptionalInt();
+            SelectStatement selectStatement = readSelectStatement();
+            List<ReturnItem> returnItems = readList(this::readReturnItem);
+            yield new DrillthroughStatementR(maxRows, firstRowSet, selectStatement, returnItems);
+        }
+        case EXPLAIN -> new ExplainStatementR(readStatement());
+        case DMV -> {
+            List<CompoundId> columns = readList(this::readCompoundId);
+            NameObjectIdentifier table = readNameObjectIdentifier();
+            yield new DMVStatementR(columns, table, readExpression());
+        }
+        case REFRESH -> new RefreshStatementR(readNameObjectIdentifier());
+        case UPDATE -> {
+            NameObjectIdentifier cubeName = readNameObjectIdentifier();
+            yield new UpdateStatementR(cubeName, readList(this::readUpdateClause));
+        }
+        default -> throw unexpected("statement", tag);
+        };
+    }
+
+    private SelectStatement readSelectStatement() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case SELECT -> readSelectStatementBody();
+        default -> throw unexpected("select statement", tag);
+        };
+    }
+
+    private SelectStatement readSelectStatementBody() {
+        List<SelectWithClause> withClauses = readList(this::readSelectWithClause);
+        SelectQueryClause queryClause = readSelectQueryClause();
+        SelectCubeClause cubeClause = readSelectCubeClause();
+        Optional<SelectSlicerAxisClause> slicer = readOptional(this::readSelectSlicerAxisClause);
+        Optional<SelectCellPropertyListClause> cellProperties = readOptional(
+                this::readSelectCellPropertyListClause);
+        return new SelectStatementR(withClauses, queryClause, cubeClause, slicer, cellProperties);
+    }
+
+    MdxExpression readExpression() {
+        enter();
+        try {
+            return readExpressionNode();
+        } finally {
+            depth--;
+        }
+    }
+
+    private MdxExpression readExpressionNode() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case CALL -> {
+            OperationAtom atom = readOperationAtom();
+            yield new CallExpressionR(atom, readList(this::readExpression));
+        }
+        case NULL_LITERAL -> NullLiteralR.SINGLETON;
+        case LONG_LITERAL -> new LongNumericLiteralR(unZigZag(readVarLong()));
+        case DOUBLE_LITERAL -> new DoubleNumericLiteralR(Double.longBitsToDouble(readLong()));
+        case DECIMAL_LITERAL -> {
+            int scale = (int) unZigZag(readVarLong());
+            yield new NumericLiteralR(BigDecimal.valueOf(unZigZag(readVarLong()), scale));
+        }
+        case BIG_DECIMAL_LITERAL -> {
+            int scale = (int) unZigZag(readVarLong());
+            yield new NumericLiteralR(new BigDecimal(new BigInteger(readBytes(readVarInt())), scale));
+        }
+        case STRING_LITERAL -> new StringLiteralR(readString());
+        case SYMBOL_LITERAL -> new SymbolLiteralR(readString());
+        case COMPOUND_ID -> readCompoundIdBody();
+        case KEY_ID -> readKeyObjectIdentifierBody();
+        case NAME_ID -> readNameObjectIdentifierBody();
+        default -> throw unexpected("expression", tag);
+        };
+    }
+
+    private OperationAtom readOperationAtom() {
+        int kind = readVarInt();
+        return switch (kind) {
+        case 0 -> null;
+        case ATOM_AMPERSAND_QUOTED_PROPERTY -> new AmpersandQuotedPropertyOperationAtom(readString());
+        case ATOM_BRACES -> new BracesOperationAtom();
+        case ATOM_CASE -> new CaseOperationAtom(readString());
+        case ATOM_CAST -> new CastOperationAtom();
+        case ATOM_EMPTY -> new EmptyOperationAtom();
+        case ATOM_FUNCTION -> new FunctionOperationAtom(readString());
+        case ATOM_INFIX -> new InfixOperationAtom(readString());
+        case ATOM_INTERNAL -> new InternalOperationAtom(readRequiredString("internal operation"));
+        case ATOM_METHOD -> new MethodOperationAtom(readString());
+        case ATOM_PARENTHESES -> new ParenthesesOperationAtom();
+        case ATOM_PLAIN_PROPERTY -> new PlainPropertyOperationAtom(readString());
+        case ATOM_POSTFIX -> new PostfixOperationAtom(readString());
+        case ATOM_PREFIX -> new PrefixOperationAtom(readString());
+        case ATOM_QUOTED_PROPERTY -> new QuotedPropertyOperationAtom(readString());
+        default -> throw unexpected("operation atom", kind);
+        };
+    }
+
+    private CompoundId readCompoundId() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case COMPOUND_ID -> readCompoundIdBody();
+        default -> throw unexpected("compound id", tag);
+        };
+    }
+
+    private CompoundId readCompoundIdBody() {
+        return new CompoundIdR(readList(this::readObjectIdentifier));
+    }
+
+    private ObjectIdentifier readObjectIdentifier() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case KEY_ID -> readKeyObjectIdentifierBody();
+        case NAME_ID -> readNameObjectIdentifierBody();
+        default -> throw unexpected("object identifier", tag);
+        };
+    }
+
+    private ObjectIdentifier readKeyObjectIdentifierBody() {
+        return new KeyObjectIdentifierR(readRequiredList("key", this::readNameObjectIdentifier));
+    }
+
+    private NameObjectIdentifier readNameObjectIdentifier() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case NAME_ID -> readNameObjectIdentifierBody();
+        default -> throw unexpected("name", tag);
+        };
+    }
+
+    private NameObjectIdentifier readNameObjectIdentifierBody() {
+        int reference = readVarInt();
+        int index = reference >>> 2;
+        int quoting = reference & 3;
+        checkString(index);
+        if (quoting >= QUOTINGS.length) {
+            throw new IllegalArgumentException("name without quoting");
+        }
+        // only QUOTED and UNQUOTED are valid names, anything else is rejected by the record
+        int slot = index * 2 + (quoting == Quoting.QUOTED.ordinal() ? 1 : 0);
+        if (quoting == Quoting.KEY.ordinal()) {
+            return new NameObjectIdentifierR(string(index), QUOTINGS[quoting]);
+        }
+        NameObjectIdentifier name = names[slot];
+        if (name == null) {
+            name = new NameObjectIdentifierR(string(index), QUOTINGS[quoting]);
+            names[slot] = name;
+        }
+        return name;
+    }
+
+    private SelectWithClause readSelectWithClause() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case CREATE_CELL_CALCULATION -> new CreateCellCalculationBodyClauseR();
+        case CREATE_MEMBER -> {
+            CompoundId compoundId = readCompoundId();
+            MdxExpression expression = readExpression();
+            yield new CreateMemberBodyClauseR(compoundId, expression, readList(this::readMemberPropertyDefinition));
+        }
+        case CREATE_SET -> {
+            CompoundId compoundId = readCompoundId();
+            yield new CreateSetBodyClauseR(compoundId, readExpression());
+        }
+        case MEASURE -> new MeasureBodyClauseR();
+        default -> throw unexpected("with clause", tag);
+        };
+    }
+
+    private SelectQueryClause readSelectQueryClause() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case QUERY_ASTERISK -> new SelectQueryAsteriskClauseR();
+        case QUERY_AXES -> new SelectQueryAxesClauseR(readList(this::readSelectQueryAxisClause));
+        case QUERY_EMPTY -> new SelectQueryEmptyClauseR();
+        default -> throw unexpected("query clause", tag);
+        };
+    }
+
+    private SelectCubeClause readSelectCubeClause() {
+        enter();
+        try {
+            return readSelectCubeClauseNode();
+        } finally {
+            depth--;
+        }
+    }
+
+    private SelectCubeClause readSelectCubeClauseNode() {
+        int tag = readVarInt();
+        return switch (tag) {
+        case 0 -> null;
+        case CUBE_NAME -> new SelectCubeClauseNameR(readNameObjectIdentifier());
+        case CUBE_SUB_STATEMENT -> {
+            SelectQueryClause queryClause = readSelectQueryClause();
+            SelectCubeClause cubeClause = readSelectCubeClause();
+            yield new SelectCubeClauseSubStatementR(queryClause, cubeClause,
+                    readOptional(this::readSelectSlicerAxisClause));
+        }
+        default -> throw unexpected("cube clause", tag);
+        };
+    }
+
+    private SelectQueryAxisClause readSelectQueryAxisClause() {
+        if (!present()) {
+            return null;
+        }
+        boolean nonEmpty = readBoolean();
+        MdxExpression expression = readExpression();
+        Axis axis = readAxis();
+        return new SelectQueryAxisClauseR(nonEmpty, expression, axis, readSelectDimensionPropertyListClause());
+    }
+
+    private Axis readAxis() {
+        if (!present()) {
+            return null;
+        }
+        int ordinal = (int) unZigZag(readVarLong());
+        return new AxisR(ordinal, readBoolean());
+    }
+
+    private SelectSlicerAxisClause readSelectSlicerAxisClause() {
+        return present() ? new SelectSlicerAxisClauseR(readExpression()) : null;
+    }
+
+    private SelectCellPropertyListClause readSelectCellPropertyListClause() {
+        if (!present()) {
+            return null;
+        }
+        List<String> properties = readList(this::readString);
+        return new SelectCellPropertyListClauseR(properties, readBoolean());
+    }
+
+    private SelectDimensionPropertyListClause readSelectDimensionPropertyListClause() {
+        return present() ? new SelectDimensionPropertyListClauseR(readList(this::readCompoundId)) : null;
+    }
+
+    private MemberPropertyDefinition readMemberPropertyDefinition() {
+        if (!present()) {
+            return null;
+        }
+        ObjectIdentifier objectIdentifier = readObjectIdentifier();
+        return new MemberPropertyDefinitionR(objectIdentifier, readExpression());
+    }
+
+    private ReturnItem readReturnItem() {
+        return present() ? new ReturnItemR(readCompoundId()) : null;
+    }
+
+    private UpdateClause readUpdateClause() {
+        if (!present()) {
+            return null;
+        }
+        MdxExpression tuple = readExpression();
+        MdxExpression value = readExpression();
+        int allocation = readVarInt();
+        if (allocation < 0 || allocation > ALLOCATIONS.length) {
+            throw unexpected("allocation", allocation);
+        }
+        return new UpdateClauseR(tuple, value, allocation == 0 ? null : ALLOCATIONS[allocation - 1],
+                readExpression());
+    }
+
+    private boolean present() {
+        int marker = readVarInt();
+        if (marker != 0 && marker != PRESENT) {
+            throw unexpected("presence marker", marker);
+        }
+        return marker == PRESENT;
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("tree nested deeper than " + MAX_DEPTH);
+        }
+    }
+
+    /** A list the record cannot do without, so {@code null} is malformed. */
+    private <T> List<T> readRequiredList(String what, Supplier<T> reader) {
+        List<T> list = readList(reader);
+        if (list == null) {
+            throw new IllegalArgumentException(what + " without list");
+        }
+        return list;
+    }
+
+    private <T> List<T> readList(Supplier<T> reader) {
+        int encoded = readVarInt();
+        if (encoded == 0) {
+            return null;
+        }
+        int size = encoded - 1;
+        // every element takes at least one byte
+        if (size < 0 || size > limit - position) {
+            throw new IllegalArgumentException("corrupt list size " + size);
+        }
+        Object[] elements = new Object[size];
+        boolean hasNull = false;
+        for (int i = 0; i < size; i++) {
+            Object element = reader.get();
+            elements[i] = element;
+            hasNull |= element == null;
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) (hasNull ? Collections.unmodifiableList(Arrays.asList(elements))
+                : List.of(elements));
+        return list;
+    }
+
+    private <T> Optional<T> readOptional(Supplier<T> reader) {
+        int marker = readVarInt();
+        return switch (marker) {
+        case 0 -> null;
+        case 1 -> Optional.empty();
+        case 2 -> Optional.ofNullable(reader.get());
+        default -> throw unexpected("optional marker", marker);
+        };
+    }
+
+    private Optional<Integer> readOptionalInt() {
+        int marker = readVarInt();
+        return switch (marker) {
+        case 0 -> null;
+        case 1 -> Optional.empty();
+        case 2 -> Optional.of((int) unZigZag(readVarLong()));
+        default -> throw unexpected("optional marker", marker);
+        };
+    }
+
+    private String readString() {
+        int reference = readVarInt();
+        if (reference == 0) {
+            return null;
+        }
+        checkString(reference - 1);
+        return string(reference - 1);
+    }
+
+    private String readRequiredString(String what) {
+        String s = readString();
+        if (s == null) {
+            throw new IllegalArgumentException(what + " without name");
+        }
+        return s;
+    }
+
+    private void checkString(int index) {
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalArgumentException("string reference out of range: " + index);
+        }
+    }
+
+    private String string(int index) {
+        String s = strings[index];
+        if (s == null) {
+            s = decodeString(stringOffsets[index], stringLengths[index]);
+            strings[index] = s;
+        }
+        return s;
+    }
+
+    private String decodeString(int offset, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get(offset + i);
+            if (b < 0) {
+                // not plain ascii, let the charset do the work
+                return StandardCharsets.UTF_8.decode(buffer.slice(offset, length)).toString();
+            }
+            chars[i] = (char) b;
+        }
+        return new String(chars);
+    }
+
+    private boolean readBoolean() {
+        int b = readByte();
+        if (b > 1) {
+            throw unexpected("boolean", b);
+        }
+        return b == 1;
+    }
+
+    private int readByte() {
+        if (position >= limit) {
+            throw new IllegalArgumentException("unexpected end of input");
+        }
+        return buffer.get(position++) & 0xFF;
+    }
+
+    private byte[] readBytes(int length) {
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException("unexpected end of input");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        position += length;
+        return bytes;
+    }
+
+    private int readInt() {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = value << 8 | readByte();
+        }
+        return value;
+    }
+
+    private long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = value << 8 | readByte();
+        }
+        return value;
+    }
+
+    private int readVarInt() {
+        long value = readVarLong();
+        if (value > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("varint out of range");
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static IllegalArgumentException unexpected(String what, int tag) {
+        return new IllegalArgumentException("unexpected " + what + " tag " + tag);
+    }
+}
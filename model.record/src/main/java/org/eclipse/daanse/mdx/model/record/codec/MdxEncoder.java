@@ -0,0 +1,517 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.codec;
+
+import static org.eclipse.daanse.mdx.model.record.codec.MdxCodec.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.operation.AmpersandQuotedPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CaseOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CastOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.EmptyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InternalOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.MethodOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PostfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PrefixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.QuotedPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.select.Axis;
+import org.eclipse.daanse.mdx.model.api.select.CreateCellCalculationBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MeasureBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseName;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryEmptyClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+import org.eclipse.daanse.mdx.model.record.expression.DoubleNumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.LongNumericLiteralR;
+
+/**
+ * Writes one tree in the format described at {@link MdxCodec}. The tree is
+ * written into a body buffer first while the string table is collected, both
+ * are joined by {@link #toByteArray()}.
+ */
+final class MdxEncoder {
+
+    private final Sink body = new Sink(256);
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private int depth;
+
+    byte[] toByteArray() {
+        Sink out = new Sink(body.size + 16 + strings.size() * 8);
+        out.writeInt(MAGIC);
+        out.writeVarInt(VERSION);
+        out.writeVarInt(strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, bytes.length);
+        }
+        out.writeBytes(body.bytes, body.size);
+        return Arrays.copyOf(out.bytes, out.size);
+    }
+
+    void writeStatement(MdxStatement statement) {
+        enter();
+        try {
+            writeStatementNode(statement);
+        } finally {
+            depth--;
+        }
+    }
+
+    private void writeStatementNode(MdxStatement statement) {
+        switch (statement) {
+        case null -> body.writeVarInt(0);
+        case SelectStatement s -> writeSelectStatement(s);
+        case DrillthroughStatement s -> {
+            body.writeVarInt(DRILLTHROUGH);
+            writeOptionalInt(s.maxRows());
+            writeOptionalInt(s.firstRowSet());
+            writeSelectStatement(s.selectStatement());
+            writeList(s.returnItems(), this::writeReturnItem);
+        }
+        case ExplainStatement s -> {
+            body.writeVarInt(EXPLAIN);
+            writeStatement(s.mdxStatement());
+        }
+        case DMVStatement s -> {
+            body.writeVarInt(DMV);
+            writeList(s.columns(), this::writeCompoundId);
+            writeNameObjectIdentifier(s.table());
+            writeExpression(s.where());
+        }
+        case RefreshStatement s -> {
+            body.writeVarInt(REFRESH);
+            writeNameObjectIdentifier(s.cubeName());
+        }
+        case UpdateStatement s -> {
+            body.writeVarInt(UPDATE);
+            writeNameObjectIdentifier(s.cubeName());
+            writeList(s.updateClauses(), this::writeUpdateClause);
+        }
+        }
+    }
+
+    private void writeSelectStatement(SelectStatement statement) {
+        if (statement == null) {
+            body.writeVarInt(0);
+            return;
+        }
+        body.writeVarInt(SELECT);
+        writeList(statement.selectWithClauses(), this::writeSelectWithClause);
+        writeSelectQueryClause(statement.selectQueryClause());
+        writeSelectCubeClause(statement.selectCubeClause());
+        writeOptional(statement.selectSlicerAxisClause(), this::writeSelectSlicerAxisClause);
+        writeOptional(statement.selectCellPropertyListClause(), this::writeSelectCellPropertyListClause);
+    }
+
+    void writeExpression(MdxExpression expression) {
+        enter();
+        try {
+            writeExpressionNode(expression);
+        } finally {
+            depth--;
+        }
+    }
+
+    private void writeExpressionNode(MdxExpression expression) {
+        switch (expression) {
+        case null -> body.writeVarInt(0);
+        case CallExpression e -> {
+            body.writeVarInt(CALL);
+            writeOperationAtom(e.operationAtom());
+            writeList(e.expressions(), this::writeExpression);
+        }
+        case NullLiteral e -> body.writeVarInt(NULL_LITERAL);
+        case NumericLiteral e -> writeNumericLiteral(e);
+        case StringLiteral e -> {
+            body.writeVarInt(STRING_LITERAL);
+            writeString(e.value());
+        }
+        case SymbolLiteral e -> {
+            body.writeVarInt(SYMBOL_LITERAL);
+            writeString(e.value());
+        }
+        // cccx identifier tokens are compound ids of themselves, so parts go through writeObjectIdentifier
+        case CompoundId e -> writeCompoundId(e);
+        case KeyObjectIdentifier e -> writeObjectIdentifier(e);
+        case NameObjectIdentifier e -> writeObjectIdentifier(e);
+        }
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("tree nested deeper than " + MAX_DEPTH);
+        }
+    }
+
+    private void writeNumericLiteral(NumericLiteral literal) {
+        switch (literal) {
+        case LongNumericLiteralR l -> {
+            body.writeVarInt(LONG_LITERAL);
+            body.writeVarLong(zigZag(l.longValue()));
+        }
+        case DoubleNumericLiteralR d -> {
+            body.writeVarInt(DOUBLE_LITERAL);
+            body.writeLong(Double.doubleToRawLongBits(d.doubleValue()));
+        }
+        default -> {
+            BigDecimal value = literal.value();
+            if (value == null) {
+                throw new IllegalArgumentException("numeric literal without value");
+            }
+            if (value.unscaledValue().bitLength() < 64) {
+                body.writeVarInt(DECIMAL_LITERAL);
+                body.writeVarLong(zigZag(value.scale()));
+                body.writeVarLong(zigZag(value.unscaledValue().longValue()));
+            } else {
+                byte[] unscaled = value.unscaledValue().toByteArray();
+                body.writeVarInt(BIG_DECIMAL_LITERAL);
+                body.writeVarLong(zigZag(value.scale()));
+                body.writeVarInt(unscaled.length);
+                body.writeBytes(unscaled, unscaled.length);
+            }
+        }
+        }
+    }
+
+    private void writeOperationAtom(OperationAtom atom) {
+        switch (atom) {
+        case null -> body.writeVarInt(0);
+        case AmpersandQuotedPropertyOperationAtom a -> writeNamedAtom(ATOM_AMPERSAND_QUOTED_PROPERTY, a.name());
+        case BracesOperationAtom a -> body.writeVarInt(ATOM_BRACES);
+        case CaseOperationAtom a -> writeNamedAtom(ATOM_CASE, a.name());
+        case CastOperationAtom a -> body.writeVarInt(ATOM_CAST);
+        case EmptyOperationAtom a -> body.writeVarInt(ATOM_EMPTY);
+        case FunctionOperationAtom a -> writeNamedAtom(ATOM_FUNCTION, a.name());
+        case InfixOperationAtom a -> writeNamedAtom(ATOM_INFIX, a.name());
+        case InternalOperationAtom a -> writeNamedAtom(ATOM_INTERNAL, a.name());
+        case MethodOperationAtom a -> writeNamedAtom(ATOM_METHOD, a.name());
+        case ParenthesesOperationAtom a -> body.writeVarInt(ATOM_PARENTHESES);
+        case PlainPropertyOperationAtom a -> writeNamedAtom(ATOM_PLAIN_PROPERTY, a.name());
+        case PostfixOperationAtom a -> writeNamedAtom(ATOM_POSTFIX, a.name());
+        case PrefixOperationAtom a -> writeNamedAtom(ATOM_PREFIX, a.name());
+        case QuotedPropertyOperationAtom a -> writeNamedAtom(ATOM_QUOTED_PROPERTY, a.name());
+        }
+    }
+
+    private void writeNamedAtom(int kind, String name) {
+        body.writeVarInt(kind);
+        writeString(name);
+    }
+
+    private void writeCompoundId(CompoundId compoundId) {
+        if (compoundId == null) {
+            body.writeVarInt(0);
+            return;
+        }
+        body.writeVarInt(COMPOUND_ID);
+        writeList(compoundId.objectIdentifiers(), this::writeObjectIdentifier);
+    }
+
+    private void writeObjectIdentifier(ObjectIdentifier identifier) {
+        switch (identifier) {
+        case null -> body.writeVarInt(0);
+        case KeyObjectIdentifier k -> {
+            body.writeVarInt(KEY_ID);
+            writeList(k.nameObjectIdentifiers(), this::writeNameObjectIdentifier);
+        }
+        case NameObjectIdentifier n -> writeNameObjectIdentifier(n);
+        }
+    }
+
+    private void writeNameObjectIdentifier(NameObjectIdentifier identifier) {
+        if (identifier == null) {
+            body.writeVarInt(0);
+            return;
+        }
+        body.writeVarInt(NAME_ID);
+        // quoting (or 3 for null) shares the varint with the string index
+        int quoting = identifier.quoting() == null ? 3 : identifier.quoting().ordinal();
+        body.writeVarInt(stringRef(identifier.name()) << 2 | quoting);
+    }
+
+    private void writeSelectWithClause(SelectWithClause clause) {
+        switch (clause) {
+        case null -> body.writeVarInt(0);
+        case CreateCellCalculationBodyClause c -> body.writeVarInt(CREATE_CELL_CALCULATION);
+        case CreateMemberBodyClause c -> {
+            body.writeVarInt(CREATE_MEMBER);
+            writeCompoundId(c.compoundId());
+            writeExpression(c.expression());
+            writeList(c.memberPropertyDefinitions(), this::writeMemberPropertyDefinition);
+        }
+        case CreateSetBodyClause c -> {
+            body.writeVarInt(CREATE_SET);
+            writeCompoundId(c.compoundId());
+            writeExpression(c.expression());
+        }
+        case MeasureBodyClause c -> body.writeVarInt(MEASURE);
+        }
+    }
+
+    private void writeSelectQueryClause(SelectQueryClause clause) {
+        switch (clause) {
+        case null -> body.writeVarInt(0);
+        case SelectQueryAsteriskClause c -> body.writeVarInt(QUERY_ASTERISK);
+        case SelectQueryAxesClause c -> {
+            body.writeVarInt(QUERY_AXES);
+            writeList(c.selectQueryAxisClauses(), this::writeSelectQueryAxisClause);
+        }
+        case SelectQueryEmptyClause c -> body.writeVarInt(QUERY_EMPTY);
+        }
+    }
+
+    private void writeSelectCubeClause(SelectCubeClause clause) {
+        enter();
+        try {
+            writeSelectCubeClauseNode(clause);
+        } finally {
+            depth--;
+        }
+    }
+
+    private void writeSelectCubeClauseNode(SelectCubeClause clause) {
+        switch (clause) {
+        case null -> body.writeVarInt(0);
+        case SelectCubeClauseName c -> {
+            body.writeVarInt(CUBE_NAME);
+            writeNameObjectIdentifier(c.cubeName());
+        }
+        case SelectCubeClauseSubStatement c -> {
+            body.writeVarInt(CUBE_SUB_STATEMENT);
+            writeSelectQueryClause(c.selectQueryClause());
+            writeSelectCubeClause(c.selectCubeClause());
+            writeOptional(c.selectSlicerAxisClause(), this::writeSelectSlicerAxisClause);
+        }
+        }
+    }
+
+    private void writeSelectQueryAxisClause(SelectQueryAxisClause clause) {
+        if (present(clause)) {
+            body.writeBoolean(clause.nonEmpty());
+            writeExpression(clause.expression());
+            writeAxis(clause.axis());
+            writeSelectDimensionPropertyListClause(clause.selectDimensionPropertyListClause());
+        }
+    }
+
+    private void writeAxis(Axis axis) {
+        if (present(axis)) {
+            body.writeVarLong(zigZag(axis.ordinal()));
+            body.writeBoolean(axis.named());
+        }
+    }
+
+    private void writeSelectSlicerAxisClause(SelectSlicerAxisClause clause) {
+        if (present(clause)) {
+            writeExpression(clause.expression());
+        }
+    }
+
+    private void writeSelectCellPropertyListClause(SelectCellPropertyListClause clause) {
+        if (present(clause)) {
+            writeList(clause.properties(), this::writeString);
+            body.writeBoolean(clause.cell());
+        }
+    }
+
+    private void writeSelectDimensionPropertyListClause(SelectDimensionPropertyListClause clause) {
+        if (present(clause)) {
+            writeList(clause.properties(), this::writeCompoundId);
+        }
+    }
+
+    private void writeMemberPropertyDefinition(MemberPropertyDefinition definition) {
+        if (present(definition)) {
+            writeObjectIdentifier(definition.objectIdentifier());
+            writeExpression(definition.expression());
+        }
+    }
+
+    private void writeReturnItem(ReturnItem returnItem) {
+        if (present(returnItem)) {
+            writeCompoundId(returnItem.compoundId());
+        }
+    }
+
+    private void writeUpdateClause(UpdateClause clause) {
+        if (present(clause)) {
+            writeExpression(clause.tupleExp());
+            writeExpression(clause.valueExp());
+            body.writeVarInt(clause.allocation() == null ? 0 : clause.allocation().ordinal() + 1);
+            writeExpression(clause.weight());
+        }
+    }
+
+    private boolean present(Object node) {
+        body.writeVarInt(node == null ? 0 : PRESENT);
+        return node != null;
+    }
+
+    private <T> void writeList(List<? extends T> list, Consumer<T> writer) {
+        if (list == null) {
+            body.writeVarInt(0);
+            return;
+        }
+        body.writeVarInt(list.size() + 1);
+        for (T element : list) {
+            writer.accept(element);
+        }
+    }
+
+    // 0 = null, 1 = empty, 2 = value follows
+    private <T> void writeOptional(Optional<? extends T> optional, Consumer<T> writer) {
+        if (optional == null) {
+            body.writeVarInt(0);
+        } else if (optional.isEmpty()) {
+            body.writeVarInt(1);
+        } else {
+            body.writeVarInt(2);
+            writer.accept(optional.get());
+        }
+    }
+
+    private void writeOptionalInt(Optional<Integer> optional) {
+        if (optional == null) {
+            body.writeVarInt(0);
+        } else if (optional.isEmpty() || optional.get() == null) {
+            body.writeVarInt(1);
+        } else {
+            body.writeVarInt(2);
+            body.writeVarLong(zigZag(optional.get()));
+        }
+    }
+
+    // strings are written as index + 1, 0 = null
+    private void writeString(String s) {
+        body.writeVarInt(s == null ? 0 : stringRef(s) + 1);
+    }
+
+    private int stringRef(String s) {
+        if (s == null) {
+            throw new IllegalArgumentException("identifier without name");
+        }
+        Integer index = stringIndex.get(s);
+        if (index == null) {
+            index = strings.size();
+            stringIndex.put(s, index);
+            strings.add(s);
+        }
+        return index;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static final class Sink {
+
+        private byte[] bytes;
+        private int size;
+
+        Sink(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        void writeBoolean(boolean value) {
+            ensure(1);
+            bytes[size++] = (byte) (value ? 1 : 0);
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeBytes(byte[] source, int length) {
+            ensure(length);
+            System.arraycopy(source, 0, bytes, size, length);
+            size += length;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.expression;
+
+import java.math.BigDecimal;
+
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+
+/**
+ * Numeric literal backed by a {@code double}. Only used for values whose
+ * decimal text is exactly {@link Double#toString(double)}, so {@link #value()}
+ * yields the same {@link BigDecimal} (scale included) as the source text.
+ */
+public record DoubleNumericLiteralR(double doubleValue) implements NumericLiteral {
+
+    public DoubleNumericLiteralR {
+        if (!Double.isFinite(doubleValue)) {
+            throw new IllegalArgumentException("numeric literal must be finite: " + doubleValue);
+        }
+    }
+
+    @Override
+    public BigDecimal value() {
+        return BigDecimal.valueOf(doubleValue);
+    }
+
+    @Override
+    public long longValue() {
+        return (long) doubleValue;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return doubleValue == Math.rint(doubleValue) && doubleValue >= Long.MIN_VALUE
+                && doubleValue < 0x1p63;
+    }
+
+    /** Value based like {@link NumericLiteralR#equals(Object)}. */
+    @Override
+    public boolean equals(Object obj) {
+        return NumericLiteralR.equal(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return NumericLiteralR.hash(doubleValue);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+
+/**
+ * Bounded, thread safe pool of canonical identifier records.
+ *
+ * Parsers that are handed a pool return the same {@link NameObjectIdentifierR}
+ * and {@link CompoundIdR} instance for every occurrence of an identifier, so
+ * cached trees share them and equal identifiers from one pool may be compared
+ * by identity. Each kind of entry is capped at {@code maxSize}; when a table
+ * is full it is cleared and filled again from the current workload. All
+ * other nodes are created as plain records.
+ *
+ * Parsers build {@code [a].[b].[c]} one part at a time. The ids of one part
+ * and those made by {@link #compoundId(CompoundId, ObjectIdentifier)} are
+ * pending until they are extended, which drops them, or asked for again,
+ * which pools them; so the prefixes {@code [a]} and {@code [a].[b]} do not
+ * fill the pool.
+ */
+public final class IdentifierPool implements MdxExpressionFactory {
+
+    public static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    private final int maxSize;
+
+    private final ConcurrentHashMap<String, NameObjectIdentifier> quotedNames = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, NameObjectIdentifier> unquotedNames = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<List<? extends ObjectIdentifier>, CompoundId> compoundIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<List<? extends ObjectIdentifier>, CompoundId> pending = new ConcurrentHashMap<>();
+
+    public IdentifierPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public IdentifierPool(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public NameObjectIdentifier nameObjectIdentifier(String name, Quoting quoting) {
+        ConcurrentHashMap<String, NameObjectIdentifier> names = switch (quoting) {
+        case QUOTED -> quotedNames;
+        case UNQUOTED -> unquotedNames;
+        // rejected by the record, keep its exception
+        case KEY -> null;
+        };
+        if (names == null || name == null) {
+            return new NameObjectIdentifierR(name, quoting);
+        }
+        NameObjectIdentifier pooled = names.get(name);
+        if (pooled == null) {
+            NameObjectIdentifier created = new NameObjectIdentifierR(name, quoting);
+            ensureCapacity(names);
+            pooled = names.putIfAbsent(name, created);
+            if (pooled == null) {
+                pooled = created;
+            }
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns the pooled compound id with the given parts. The list is only
+     * copied when a new entry is created.
+     */
+    @Override
+    public CompoundId compoundId(List<? extends ObjectIdentifier> objectIdentifiers) {
+        if (objectIdentifiers.size() == 1) {
+            return pendingCompoundId(objectIdentifiers);
+        }
+        CompoundId pooled = compoundIds.get(objectIdentifiers);
+        if (pooled == null) {
+            List<ObjectIdentifier> parts = List.copyOf(objectIdentifiers);
+            CompoundId created = new CompoundIdR(parts);
+            ensureCapacity(compoundIds);
+            pooled = compoundIds.putIfAbsent(parts, created);
+            if (pooled == null) {
+                pooled = created;
+            }
+        }
+        return pooled;
+    }
+
+    /**
+     * The compound id of the parts of {@code prefix} followed by
+     * {@code objectIdentifier}. The prefix is dropped unless it was pooled.
+     */
+    @Override
+    public CompoundId compoundId(CompoundId prefix, ObjectIdentifier objectIdentifier) {
+        List<? extends ObjectIdentifier> prefixParts = prefix.objectIdentifiers();
+        pending.remove(prefixParts, prefix);
+        List<ObjectIdentifier> parts = new ArrayList<>(prefixParts.size() + 1);
+        parts.addAll(prefixParts);
+        parts.add(objectIdentifier);
+        return pendingCompoundId(parts);
+    }
+
+    private CompoundId pendingCompoundId(List<? extends ObjectIdentifier> objectIdentifiers) {
+        CompoundId pooled = compoundIds.get(objectIdentifiers);
+        if (pooled != null) {
+            return pooled;
+        }
+        pooled = pending.remove(objectIdentifiers);
+        if (pooled != null) {
+            // asked for again without being extended, so it is a complete id
+            ensureCapacity(compoundIds);
+            CompoundId raced = compoundIds.putIfAbsent(pooled.objectIdentifiers(), pooled);
+            return raced == null ? pooled : raced;
+        }
+        List<ObjectIdentifier> parts = List.copyOf(objectIdentifiers);
+        CompoundId created = new CompoundIdR(parts);
+        ensureCapacity(pending);
+        pooled = pending.putIfAbsent(parts, created);
+        return pooled == null ? created : pooled;
+    }
+
+    public int size() {
+        return quotedNames.size() + unquotedNames.size() + compoundIds.size() + pending.size();
+    }
+
+    public void clear() {
+        quotedNames.clear();
+        unquotedNames.clear();
+        compoundIds.clear();
+        pending.clear();
+    }
+
+    private void ensureCapacity(ConcurrentHashMap<?, ?> table) {
+        if (table.size() >= maxSize) {
+            table.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.expression;
+
+import java.math.BigDecimal;
+
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+
+/**
+ * Numeric literal of a whole number that fits into a {@code long}. The
+ * {@link BigDecimal} is only created when {@link #value()} is asked for.
+ */
+public record LongNumericLiteralR(long longValue) implements NumericLiteral {
+
+    @Override
+    public BigDecimal value() {
+        return BigDecimal.valueOf(longValue);
+    }
+
+    @Override
+    public double doubleValue() {
+        return longValue;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return true;
+    }
+
+    /** Value based like {@link NumericLiteralR#equals(Object)}. */
+    @Override
+    public boolean equals(Object obj) {
+        return NumericLiteralR.equal(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return NumericLiteralR.hash(longValue);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+
+/**
+ * Creates the expression nodes of a parse. The defaults build the plain
+ * records; {@link IdentifierPool} shares identifiers and
+ * {@link org.eclipse.daanse.mdx.model.record.flat.FlatMdxTree} stores the
+ * nodes in flat arrays instead.
+ *
+ * Lists handed to the factory are owned by it and must not be modified
+ * afterwards.
+ */
+public interface MdxExpressionFactory {
+
+    MdxExpressionFactory RECORDS = new MdxExpressionFactory() {
+    };
+
+    @SuppressWarnings("unchecked")
+    default CallExpression callExpression(OperationAtom operationAtom, List<? extends MdxExpression> expressions) {
+        return new CallExpressionR(operationAtom, (List<MdxExpression>) expressions);
+    }
+
+    default NameObjectIdentifier nameObjectIdentifier(String name, Quoting quoting) {
+        return new NameObjectIdentifierR(name, quoting);
+    }
+
+    @SuppressWarnings("unchecked")
+    default KeyObjectIdentifier keyObjectIdentifier(List<? extends NameObjectIdentifier> nameObjectIdentifiers) {
+        return new KeyObjectIdentifierR((List<NameObjectIdentifier>) nameObjectIdentifiers);
+    }
+
+    @SuppressWarnings("unchecked")
+    default CompoundId compoundId(List<? extends ObjectIdentifier> objectIdentifiers) {
+        return new CompoundIdR((List<ObjectIdentifier>) objectIdentifiers);
+    }
+
+    /**
+     * The compound id of the parts of {@code prefix} followed by
+     * {@code objectIdentifier}. Parsers build {@code [a].[b].[c]} one part at a
+     * time this way and drop the prefix afterwards.
+     */
+    default CompoundId compoundId(CompoundId prefix, ObjectIdentifier objectIdentifier) {
+        List<ObjectIdentifier> objectIdentifiers = new ArrayList<>(prefix.objectIdentifiers().size() + 1);
+        objectIdentifiers.addAll(prefix.objectIdentifiers());
+        objectIdentifiers.add(objectIdentifier);
+        return compoundId(objectIdentifiers);
+    }
+
+    /**
+     * @param image the text of a numeric token
+     */
+    default NumericLiteral numericLiteral(String image) {
+        return NumericLiteralR.of(image);
+    }
+
+    default StringLiteral stringLiteral(String value) {
+        return new StringLiteralR(value);
+    }
+
+    default SymbolLiteral symbolLiteral(String value) {
+        return new SymbolLiteralR(value);
+    }
+
+    default NullLiteral nullLiteral() {
+        return NullLiteralR.SINGLETON;
+    }
+}
@@ -14,6 +14,7 @@
 package org.eclipse.daanse.mdx.model.record.expression;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
 
@@ -23,4 +24,87 @@ public record NumericLiteralR(BigDecimal value) implements NumericLiteral {
     static final NumericLiteralR ZERO = new NumericLiteralR(BigDecimal.ZERO);
     static final NumericLiteralR NEGATIVE_ONE = new NumericLiteralR(BigDecimal.ONE.negate());
 
+    /**
+     * Creates the cheapest literal for the text of a numeric token: a
+     * {@link LongNumericLiteralR} for whole numbers up to 18 digits, a
+     * {@link DoubleNumericLiteralR} for decimals that a {@code double}
+     * represents with the same text, and a {@link NumericLiteralR} otherwise.
+     * All three report the same {@link #value()} for the same text.
+     */
+    public static NumericLiteral of(String image) {
+        int length = image.length();
+        if (length > 0 && length <= 18) {
+            long value = 0;
+            int i = 0;
+            while (i < length) {
+                char c = image.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                i++;
+            }
+            if (i == length) {
+                return new LongNumericLiteralR(value);
+            }
+            if (image.charAt(i) == '.' && i > 0 && i < length - 1 && length <= 16 && isDigits(image, i + 1)) {
+                double d = Double.parseDouble(image);
+                if (Double.toString(d).equals(image)) {
+                    return new DoubleNumericLiteralR(d);
+                }
+            }
+        }
+        return new NumericLiteralR(new BigDecimal(image));
+    }
+
+    /**
+     * Equal to each of the numeric literal records of this package with an
+     * equal {@link #value()}, scale included, so trees compare alike whichever
+     * form {@link #of(String)} chose.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return equal(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return value == null ? 0 : hash(value.doubleValue());
+    }
+
+    /**
+     * The hash code of each numeric literal record of this package: that of
+     * its {@code double} value, which equal values share whatever their form,
+     * so the long and double forms hash without creating a {@link BigDecimal}.
+     */
+    static int hash(double value) {
+        // -0.0 and 0.0 are the same BigDecimal zero
+        return Double.hashCode(value + 0.0);
+    }
+
+    static boolean equal(NumericLiteral literal, Object obj) {
+        if (literal == obj) {
+            return true;
+        }
+        if (literal instanceof LongNumericLiteralR l && obj instanceof LongNumericLiteralR other) {
+            return l.longValue() == other.longValue();
+        }
+        if (literal instanceof DoubleNumericLiteralR d && obj instanceof DoubleNumericLiteralR other) {
+            return d.doubleValue() == other.doubleValue();
+        }
+        return (obj instanceof NumericLiteralR || obj instanceof LongNumericLiteralR
+                || obj instanceof DoubleNumericLiteralR)
+                && Objects.equals(literal.value(), ((NumericLiteral) obj).value());
+    }
+
+    private static boolean isDigits(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
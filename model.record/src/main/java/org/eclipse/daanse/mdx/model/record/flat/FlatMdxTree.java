@@ -0,0 +1,632 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.flat;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.mdx.model.record.expression.MdxExpressionFactory;
+
+/**
+ * Expression nodes stored as parallel int arrays instead of one object graph
+ * per node.
+ *
+ * Every node has a kind (with the quoting of a name or the index of the
+ * operation atom of a call), a start and a length. For calls, compound ids and
+ * keys start and length select a range of child node numbers; for names and
+ * literals they select the characters of the text in a single shared char
+ * buffer, in which equal strings are stored once. An identifier costs 16
+ * bytes plus its characters this way, compared to several hundred for the
+ * record tree.
+ *
+ * Used as {@link MdxExpressionFactory} of a parser, the tree is filled
+ * directly while parsing. The factory methods and {@link #expression(int)}
+ * return small read-only views implementing the model api, created on demand;
+ * names and literal values are materialized on every access. The factory
+ * still returns one view of two fields per node, as the parser needs an object
+ * to hand on; these views are garbage as soon as the parse is done, what stays
+ * reachable is the arrays and the view of the root. A tree is filled by one
+ * thread and may be read by any number of threads afterwards.
+ *
+ * Views have value equality among each other: two views are equal if their
+ * nodes have the same kind, text or operation atom and equal children, no
+ * matter which trees they belong to. They are never equal to the records, use
+ * {@link #of(MdxExpression)} or a structural comparison to compare with those.
+ * Expressions of other implementations passed to the factory methods are copied
+ * into the tree.
+ */
+public final class FlatMdxTree implements MdxExpressionFactory {
+
+    static final int CALL = 1;
+    static final int COMPOUND_ID = 2;
+    static final int KEY_ID = 3;
+    static final int NAME_ID = 4;
+    static final int NUMERIC_LITERAL = 5;
+    static final int STRING_LITERAL = 6;
+    static final int SYMBOL_LITERAL = 7;
+    static final int NULL_LITERAL = 8;
+
+    private static final int KIND_BITS = 4;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+    private static final int NO_NODE = -1;
+    private static final Quoting[] QUOTINGS = Quoting.values();
+
+    private int[] kinds;
+    private int[] starts;
+    private int[] lengths;
+    private int size;
+
+    private int[] children;
+    private int childCount;
+
+    private char[] text;
+    private int textLength;
+    private Map<String, Integer> textOffsets = new HashMap<>();
+
+    private final List<OperationAtom> atoms = new ArrayList<>();
+    private final Map<OperationAtom, Integer> atomIndex = new HashMap<>();
+
+    public FlatMdxTree() {
+        this(64);
+    }
+
+    /**
+     * @param expectedNodes number of nodes to reserve room for
+     */
+    public FlatMdxTree(int expectedNodes) {
+        int capacity = Math.max(expectedNodes, 8);
+        kinds = new int[capacity];
+        starts = new int[capacity];
+        lengths = new int[capacity];
+        children = new int[capacity];
+        text = new char[capacity * 4];
+    }
+
+    /**
+     * Copies an expression of any implementation into a new tree.
+     */
+    public static MdxExpression of(MdxExpression expression) {
+        FlatMdxTree tree = new FlatMdxTree();
+        return tree.expression(tree.add(expression));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The view of node {@code node}, numbered in the order the nodes were
+     * created.
+     */
+    public MdxExpression expression(int node) {
+        if (node == NO_NODE) {
+            return null;
+        }
+        if (node < 0 || node >= size) {
+            throw new IndexOutOfBoundsException(node);
+        }
+        return switch (kinds[node] & KIND_MASK) {
+        case CALL -> new FlatCallExpression(this, node);
+        case COMPOUND_ID -> new FlatCompoundId(this, node);
+        case KEY_ID -> new FlatKeyObjectIdentifier(this, node);
+        case NAME_ID -> new FlatNameObjectIdentifier(this, node);
+        case NUMERIC_LITERAL -> new FlatNumericLiteral(this, node);
+        case STRING_LITERAL -> new FlatStringLiteral(this, node);
+        case SYMBOL_LITERAL -> new FlatSymbolLiteral(this, node);
+        default -> new FlatNullLiteral(this, node);
+        };
+    }
+
+    /**
+     * Releases the spare capacity and the lookup tables only needed while
+     * nodes are added. Adding nodes afterwards is still possible but no longer
+     * shares text.
+     */
+    public void trimToSize() {
+        kinds = Arrays.copyOf(kinds, size);
+        starts = Arrays.copyOf(starts, size);
+        lengths = Arrays.copyOf(lengths, size);
+        children = Arrays.copyOf(children, childCount);
+        text = Arrays.copyOf(text, textLength);
+        textOffsets = new HashMap<>();
+    }
+
+    @Override
+    public CallExpression callExpression(OperationAtom operationAtom, List<? extends MdxExpression> expressions) {
+        return (CallExpression) expression(addCall(operationAtom, expressions));
+    }
+
+    @Override
+    public NameObjectIdentifier nameObjectIdentifier(String name, Quoting quoting) {
+        return (NameObjectIdentifier) expression(addName(name, quoting));
+    }
+
+    @Override
+    public KeyObjectIdentifier keyObjectIdentifier(List<? extends NameObjectIdentifier> nameObjectIdentifiers) {
+        return (KeyObjectIdentifier) expression(addKey(nameObjectIdentifiers));
+    }
+
+    @Override
+    public CompoundId compoundId(List<? extends ObjectIdentifier> objectIdentifiers) {
+        return (CompoundId) expression(addCompoundId(objectIdentifiers));
+    }
+
+    /**
+     * Appends to the child range of {@code prefix} in place if it is the last
+     * one, so a path of n parts costs n child slots instead of n * n / 2.
+     */
+    @Override
+    public CompoundId compoundId(CompoundId prefix, ObjectIdentifier objectIdentifier) {
+        if (!(prefix instanceof FlatNode p && p.tree == this)) {
+            return MdxExpressionFactory.super.compoundId(prefix, objectIdentifier);
+        }
+        int id = addIdentifier(objectIdentifier);
+        int start = starts[p.node];
+        int length = lengths[p.node];
+        if (start + length != childCount) {
+            // a key was added in between, copy the prefix behind it
+            int[] ids = new int[length + 1];
+            System.arraycopy(children, start, ids, 0, length);
+            ids[length] = id;
+            return (CompoundId) expression(addNode(COMPOUND_ID, 0, addChildren(ids), length + 1));
+        }
+        addChildren(new int[] { id });
+        // the prefix keeps its length and still shows its own parts
+        return (CompoundId) expression(addNode(COMPOUND_ID, 0, start, length + 1));
+    }
+
+    @Override
+    public NumericLiteral numericLiteral(String image) {
+        if (image == null || image.isEmpty()) {
+            throw new IllegalArgumentException("numeric literal without text");
+        }
+        return (NumericLiteral) expression(addText(NUMERIC_LITERAL, 0, image));
+    }
+
+    @Override
+    public StringLiteral stringLiteral(String value) {
+        return (StringLiteral) expression(addText(STRING_LITERAL, 0, value));
+    }
+
+    @Override
+    public SymbolLiteral symbolLiteral(String value) {
+        return (SymbolLiteral) expression(addText(SYMBOL_LITERAL, 0, value));
+    }
+
+    @Override
+    public NullLiteral nullLiteral() {
+        return (NullLiteral) expression(addNode(NULL_LITERAL, 0, 0, 0));
+    }
+
+    private int add(MdxExpression expression) {
+        return switch (expression) {
+        case null -> NO_NODE;
+        case FlatNode n when n.tree == this -> n.node;
+        case CallExpression e -> addCall(e.operationAtom(), e.expressions());
+        case NullLiteral e -> addNode(NULL_LITERAL, 0, 0, 0);
+        case NumericLiteral e -> addText(NUMERIC_LITERAL, 0, e.value().toString());
+        case StringLiteral e -> addText(STRING_LITERAL, 0, e.value());
+        case SymbolLiteral e -> addText(SYMBOL_LITERAL, 0, e.value());
+        // cccx identifier tokens are compound ids of themselves, parts go through addIdentifier
+        case CompoundId e -> addCompoundId(e.objectIdentifiers());
+        case ObjectIdentifier e -> addIdentifier(e);
+        };
+    }
+
+    private int addIdentifier(ObjectIdentifier identifier) {
+        return switch (identifier) {
+        case null -> NO_NODE;
+        case FlatNode n when n.tree == this -> n.node;
+        case KeyObjectIdentifier k -> addKey(k.nameObjectIdentifiers());
+        case NameObjectIdentifier n -> addName(n.name(), n.quoting());
+        };
+    }
+
+    private int addCall(OperationAtom operationAtom, List<? extends MdxExpression> expressions) {
+        int atom = NO_NODE;
+        if (operationAtom != null) {
+            Integer index = atomIndex.get(operationAtom);
+            if (index == null) {
+                index = atoms.size();
+                atoms.add(operationAtom);
+                atomIndex.put(operationAtom, index);
+            }
+            atom = index;
+        }
+        int count = expressions == null ? 0 : expressions.size();
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = add(expressions.get(i));
+        }
+        return addNode(CALL, atom + 1, addChildren(ids), count);
+    }
+
+    private int addCompoundId(List<? extends ObjectIdentifier> objectIdentifiers) {
+        int count = objectIdentifiers.size();
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = addIdentifier(objectIdentifiers.get(i));
+        }
+        return addNode(COMPOUND_ID, 0, addChildren(ids), count);
+    }
+
+    private int addKey(List<? extends NameObjectIdentifier> nameObjectIdentifiers) {
+        if (nameObjectIdentifiers.isEmpty()) {
+            throw new IllegalArgumentException("key without names");
+        }
+        int count = nameObjectIdentifiers.size();
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = addIdentifier(nameObjectIdentifiers.get(i));
+        }
+        return addNode(KEY_ID, 0, addChildren(ids), count);
+    }
+
+    private int addName(String name, Quoting quoting) {
+        if (name == null || name.isEmpty() || !(quoting == Quoting.QUOTED || quoting == Quoting.UNQUOTED)) {
+            throw new IllegalArgumentException();
+        }
+        return addText(NAME_ID, quoting.ordinal(), name);
+    }
+
+    private int addText(int kind, int info, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("literal without value");
+        }
+        Integer offset = textOffsets.get(value);
+        if (offset == null) {
+            if (textLength + value.length() > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + value.length()));
+            }
+            value.getChars(0, value.length(), text, textLength);
+            offset = textLength;
+            textLength += value.length();
+            textOffsets.put(value, offset);
+        }
+        return addNode(kind, info, offset, value.length());
+    }
+
+    // children are added before their parent, so their ids are copied into one contiguous range here
+    private int addChildren(int[] ids) {
+        if (childCount + ids.length > children.length) {
+            children = Arrays.copyOf(children, Math.max(children.length * 2, childCount + ids.length));
+        }
+        System.arraycopy(ids, 0, children, childCount, ids.length);
+        int start = childCount;
+        childCount += ids.length;
+        return start;
+    }
+
+    private int addNode(int kind, int info, int start, int length) {
+        if (size == kinds.length) {
+            int capacity = Math.max(size * 2, 8);
+            kinds = Arrays.copyOf(kinds, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        kinds[size] = kind | info << KIND_BITS;
+        starts[size] = start;
+        lengths[size] = length;
+        return size++;
+    }
+
+    private int info(int node) {
+        return kinds[node] >>> KIND_BITS;
+    }
+
+    private String text(int node) {
+        return new String(text, starts[node], lengths[node]);
+    }
+
+    private static boolean equal(FlatMdxTree a, int x, FlatMdxTree b, int y) {
+        if (a == b && x == y) {
+            return true;
+        }
+        int kind = a.kinds[x] & KIND_MASK;
+        if (kind != (b.kinds[y] & KIND_MASK) || a.lengths[x] != b.lengths[y]) {
+            return false;
+        }
+        switch (kind) {
+        case CALL:
+            int atomA = a.info(x) - 1;
+            int atomB = b.info(y) - 1;
+            if ((atomA < 0 || atomB < 0) ? atomA != atomB : !a.atoms.get(atomA).equals(b.atoms.get(atomB))) {
+                return false;
+            }
+            return equalChildren(a, x, b, y);
+        case COMPOUND_ID, KEY_ID:
+            return equalChildren(a, x, b, y);
+        case NULL_LITERAL:
+            return true;
+        default:
+            return a.info(x) == b.info(y) && Arrays.equals(a.text, a.starts[x], a.starts[x] + a.lengths[x], b.text,
+                    b.starts[y], b.starts[y] + b.lengths[y]);
+        }
+    }
+
+    private static boolean equalChildren(FlatMdxTree a, int x, FlatMdxTree b, int y) {
+        for (int i = 0; i < a.lengths[x]; i++) {
+            if (!equal(a, a.children[a.starts[x] + i], b, b.children[b.starts[y] + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(int node) {
+        int kind = kinds[node] & KIND_MASK;
+        int h = kind;
+        switch (kind) {
+        case CALL:
+            h = 31 * h + (info(node) == 0 ? 0 : atoms.get(info(node) - 1).hashCode());
+            return hashChildren(node, h);
+        case COMPOUND_ID, KEY_ID:
+            return hashChildren(node, h);
+        case NULL_LITERAL:
+            return h;
+        default:
+            h = 31 * h + info(node);
+            for (int i = starts[node]; i < starts[node] + lengths[node]; i++) {
+                h = 31 * h + text[i];
+            }
+            return h;
+        }
+    }
+
+    private int hashChildren(int node, int h) {
+        for (int i = 0; i < lengths[node]; i++) {
+            h = 31 * h + hash(children[starts[node] + i]);
+        }
+        return h;
+    }
+
+    private <T> List<T> children(int node) {
+        return new Children<>(this, starts[node], lengths[node]);
+    }
+
+    private static final class Children<T> extends AbstractList<T> {
+
+        private final FlatMdxTree tree;
+        private final int start;
+        private final int length;
+
+        Children(FlatMdxTree tree, int start, int length) {
+            this.tree = tree;
+            this.start = start;
+            this.length = length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (T) tree.expression(tree.children[start + index]);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+
+    private abstract static class FlatNode {
+
+        final FlatMdxTree tree;
+        final int node;
+
+        FlatNode(FlatMdxTree tree, int node) {
+            this.tree = tree;
+            this.node = node;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof FlatNode other && equal(tree, node, other.tree, other.node);
+        }
+
+        @Override
+        public int hashCode() {
+            return tree.hash(node);
+        }
+    }
+
+    private static final class FlatCallExpression extends FlatNode implements CallExpression {
+
+        FlatCallExpression(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public OperationAtom operationAtom() {
+            int atom = tree.info(node) - 1;
+            return atom < 0 ? null : tree.atoms.get(atom);
+        }
+
+        @Override
+        public List<MdxExpression> expressions() {
+            return tree.children(node);
+        }
+
+        @Override
+        public String toString() {
+            return "FlatCallExpression[operationAtom=" + operationAtom() + ", expressions=" + expressions() + "]";
+        }
+    }
+
+    private static final class FlatCompoundId extends FlatNode implements CompoundId {
+
+        FlatCompoundId(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public List<ObjectIdentifier> objectIdentifiers() {
+            return tree.children(node);
+        }
+
+        @Override
+        public String toString() {
+            return "FlatCompoundId[objectIdentifiers=" + objectIdentifiers() + "]";
+        }
+    }
+
+    private static final class FlatKeyObjectIdentifier extends FlatNode implements KeyObjectIdentifier {
+
+        FlatKeyObjectIdentifier(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public List<NameObjectIdentifier> nameObjectIdentifiers() {
+            return tree.children(node);
+        }
+
+        @Override
+        public Quoting quoting() {
+            return Quoting.KEY;
+        }
+
+        @Override
+        public String toString() {
+            return "FlatKeyObjectIdentifier[nameObjectIdentifiers=" + nameObjectIdentifiers() + "]";
+        }
+    }
+
+    private static final class FlatNameObjectIdentifier extends FlatNode implements NameObjectIdentifier {
+
+        FlatNameObjectIdentifier(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public String name() {
+            return tree.text(node);
+        }
+
+        @Override
+        public Quoting quoting() {
+            return QUOTINGS[tree.info(node)];
+        }
+
+        @Override
+        public String toString() {
+            return "FlatNameObjectIdentifier[name=" + name() + ", quoting=" + quoting() + "]";
+        }
+    }
+
+    private static final class FlatNumericLiteral extends FlatNode implements NumericLiteral {
+
+        FlatNumericLiteral(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public BigDecimal value() {
+            return new BigDecimal(tree.text, tree.starts[node], tree.lengths[node]);
+        }
+
+        @Override
+        public long longValue() {
+            int start = tree.starts[node];
+            int length = tree.lengths[node];
+            if (length > 18) {
+                return value().longValue();
+            }
+            long value = 0;
+            for (int i = start; i < start + length; i++) {
+                char c = tree.text[i];
+                if (c < '0' || c > '9') {
+                    return value().longValue();
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return Double.parseDouble(tree.text(node));
+        }
+
+        @Override
+        public String toString() {
+            return "FlatNumericLiteral[value=" + tree.text(node) + "]";
+        }
+    }
+
+    private static final class FlatStringLiteral extends FlatNode implements StringLiteral {
+
+        FlatStringLiteral(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public String value() {
+            return tree.text(node);
+        }
+
+        @Override
+        public String toString() {
+            return "FlatStringLiteral[value=" + value() + "]";
+        }
+    }
+
+    private static final class FlatSymbolLiteral extends FlatNode implements SymbolLiteral {
+
+        FlatSymbolLiteral(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public String value() {
+            return tree.text(node);
+        }
+
+        @Override
+        public String toString() {
+            return "FlatSymbolLiteral[value=" + value() + "]";
+        }
+    }
+
+    private static final class FlatNullLiteral extends FlatNode implements NullLiteral {
+
+        FlatNullLiteral(FlatMdxTree tree, int node) {
+            super(tree, node);
+        }
+
+        @Override
+        public String toString() {
+            return "FlatNullLiteral[]";
+        }
+    }
+}
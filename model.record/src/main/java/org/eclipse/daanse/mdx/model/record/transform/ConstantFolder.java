@@ -0,0 +1,194 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.transform;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PrefixOperationAtom;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.StringLiteralR;
+
+/**
+ * Replaces scalar subexpressions whose operands are all numeric or string
+ * literals by a single literal, e.g. {@code Round(1/2, 4)} becomes
+ * {@code 0.5000} and {@code RGB(144,238,144)} becomes {@code 9498256}.
+ *
+ * Only the arithmetic operators, string concatenation and a small whitelist
+ * of deterministic functions are folded. The folder computes with exact
+ * decimals while the engine evaluates in double precision, so arithmetic and
+ * {@code Round} are only folded where both give the same double: {@code 0.5 +
+ * 0.25} is folded, {@code 0.1 + 0.2} is not, because the engine computes
+ * {@code 0.30000000000000004}. Inexact division, division by zero and values
+ * out of range are left as they are as well.
+ */
+public class ConstantFolder extends MdxTransformer {
+
+    @Override
+    protected MdxExpression transformCallExpression(CallExpression expression) {
+        MdxExpression transformed = super.transformCallExpression(expression);
+        if (!(transformed instanceof CallExpression call)) {
+            return transformed;
+        }
+        MdxExpression folded = fold(call);
+        return folded == null ? transformed : folded;
+    }
+
+    private MdxExpression fold(CallExpression call) {
+        List<? extends MdxExpression> operands = call.expressions();
+        if (operands == null || operands.isEmpty()) {
+            return null;
+        }
+        for (MdxExpression operand : operands) {
+            if (!(operand instanceof NumericLiteral) && !(operand instanceof StringLiteral)) {
+                return null;
+            }
+        }
+        return switch (call.operationAtom()) {
+        case InfixOperationAtom atom when operands.size() == 2 -> foldInfix(atom.name(), operands.get(0),
+                operands.get(1));
+        case PrefixOperationAtom atom when operands.size() == 1 -> foldPrefix(atom.name(), operands.get(0));
+        case FunctionOperationAtom atom -> foldFunction(atom.name().toUpperCase(Locale.ROOT), operands);
+        case ParenthesesOperationAtom atom when operands.size() == 1 -> operands.get(0);
+        default -> null;
+        };
+    }
+
+    private static MdxExpression foldInfix(String operator, MdxExpression left, MdxExpression right) {
+        if (left instanceof NumericLiteral l && right instanceof NumericLiteral r) {
+            BigDecimal a = l.value();
+            BigDecimal b = r.value();
+            double x = a.doubleValue();
+            double y = b.doubleValue();
+            return switch (operator) {
+            case "+" -> agreeing(a.add(b), x + y);
+            case "-" -> agreeing(a.subtract(b), x - y);
+            case "*" -> agreeing(a.multiply(b), x * y);
+            case "/" -> agreeing(divide(a, b), x / y);
+            default -> null;
+            };
+        }
+        if (left instanceof StringLiteral l && right instanceof StringLiteral r && "||".equals(operator)) {
+            return new StringLiteralR(l.value() + r.value());
+        }
+        return null;
+    }
+
+    private static MdxExpression foldPrefix(String operator, MdxExpression operand) {
+        if (!(operand instanceof NumericLiteral literal)) {
+            return null;
+        }
+        return switch (operator) {
+        case "-" -> numeric(literal.value().negate());
+        case "+" -> operand;
+        default -> null;
+        };
+    }
+
+    /**
+     * Folds a call of the function {@code name} (upper case) whose arguments
+     * are all literals, or returns {@code null} to keep the call. Subclasses
+     * may extend the whitelist and delegate to this method for the rest.
+     */
+    protected MdxExpression foldFunction(String name, List<? extends MdxExpression> arguments) {
+        return switch (name) {
+        case "ABS" -> arguments.size() == 1 && arguments.get(0) instanceof NumericLiteral n ? numeric(n.value().abs())
+                : null;
+        case "ROUND" -> round(arguments);
+        case "RGB" -> rgb(arguments);
+        case "LEN" -> arguments.size() == 1 && arguments.get(0) instanceof StringLiteral s
+                ? numeric(BigDecimal.valueOf(s.value().length()))
+                : null;
+        case "UCASE" -> arguments.size() == 1 && arguments.get(0) instanceof StringLiteral s
+                ? new StringLiteralR(s.value().toUpperCase(Locale.ROOT))
+                : null;
+        case "LCASE" -> arguments.size() == 1 && arguments.get(0) instanceof StringLiteral s
+                ? new StringLiteralR(s.value().toLowerCase(Locale.ROOT))
+                : null;
+        default -> null;
+        };
+    }
+
+    private static MdxExpression round(List<? extends MdxExpression> arguments) {
+        if (arguments.isEmpty() || arguments.size() > 2 || !(arguments.get(0) instanceof NumericLiteral value)) {
+            return null;
+        }
+        int digits = 0;
+        if (arguments.size() == 2) {
+            if (!(arguments.get(1) instanceof NumericLiteral n) || !isSmallInt(n.value(), 0, 28)) {
+                return null;
+            }
+            digits = n.value().intValueExact();
+        }
+        // VBA Round rounds half to even; the engine rounds the double, which can
+        // lie on the other side of a half, e.g. 2.675 is 2.67499999...
+        BigDecimal rounded = value.value().setScale(digits, RoundingMode.HALF_EVEN);
+        BigDecimal engine = new BigDecimal(value.value().doubleValue()).setScale(digits, RoundingMode.HALF_EVEN);
+        return rounded.compareTo(engine) == 0 ? numeric(rounded) : null;
+    }
+
+    private static MdxExpression rgb(List<? extends MdxExpression> arguments) {
+        if (arguments.size() != 3) {
+            return null;
+        }
+        int color = 0;
+        for (int i = 2; i >= 0; i--) {
+            if (!(arguments.get(i) instanceof NumericLiteral n) || !isSmallInt(n.value(), 0, 255)) {
+                return null;
+            }
+            color = (color << 8) | n.value().intValueExact();
+        }
+        return numeric(BigDecimal.valueOf(color));
+    }
+
+    private static boolean isSmallInt(BigDecimal value, int min, int max) {
+        if (value.signum() != 0 && value.stripTrailingZeros().scale() > 0) {
+            return false;
+        }
+        return value.compareTo(BigDecimal.valueOf(min)) >= 0 && value.compareTo(BigDecimal.valueOf(max)) <= 0;
+    }
+
+    private static BigDecimal divide(BigDecimal a, BigDecimal b) {
+        if (b.signum() == 0) {
+            return null;
+        }
+        try {
+            return a.divide(b);
+        } catch (ArithmeticException e) {
+            // non terminating expansion, the engine would compute it in double precision
+            return null;
+        }
+    }
+
+    /**
+     * The exact result, if the engine's double computation gives the double
+     * nearest to it.
+     */
+    private static MdxExpression agreeing(BigDecimal exact, double engine) {
+        return exact != null && exact.doubleValue() == engine ? numeric(exact) : null;
+    }
+
+    private static MdxExpression numeric(BigDecimal value) {
+        return value == null ? null : new NumericLiteralR(value);
+    }
+}
@@ -0,0 +1,388 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.select.CreateCellCalculationBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MeasureBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseName;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryEmptyClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+import org.eclipse.daanse.mdx.model.record.DMVStatementR;
+import org.eclipse.daanse.mdx.model.record.DrillthroughStatementR;
+import org.eclipse.daanse.mdx.model.record.ExplainStatementR;
+import org.eclipse.daanse.mdx.model.record.RefreshStatementR;
+import org.eclipse.daanse.mdx.model.record.ReturnItemR;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.UpdateStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.KeyObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateSetBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MemberPropertyDefinitionR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseSubStatementR;
+import org.eclipse.daanse.mdx.model.record.select.SelectDimensionPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.UpdateClauseR;
+
+/**
+ * Rewrites an MDX tree bottom up.
+ *
+ * The base implementation is the identity. Subclasses override the
+ * {@code transformXxx} method of the nodes they want to replace. A node is
+ * only rebuilt (as a record) when one of its children changed; otherwise the
+ * original instance is returned, so untouched subtrees are shared between the
+ * input and the result. Identity of the returned children decides whether
+ * something changed, so overrides must return the argument itself when they
+ * have nothing to do.
+ *
+ * To replace an identifier by an arbitrary expression, override
+ * {@link #transform(MdxExpression)}; the {@code transformXxx} methods of
+ * identifiers return identifiers because they also fill slots such as cube
+ * names and member names.
+ */
+public class MdxTransformer {
+
+    public MdxStatement transform(MdxStatement statement) {
+        return switch (statement) {
+        case SelectStatement s -> transformSelectStatement(s);
+        case DrillthroughStatement s -> transformDrillthroughStatement(s);
+        case ExplainStatement s -> transformExplainStatement(s);
+        case DMVStatement s -> transformDMVStatement(s);
+        case RefreshStatement s -> transformRefreshStatement(s);
+        case UpdateStatement s -> transformUpdateStatement(s);
+        };
+    }
+
+    public MdxExpression transform(MdxExpression expression) {
+        return switch (expression) {
+        case CallExpression e -> transformCallExpression(e);
+        case NullLiteral e -> transformNullLiteral(e);
+        case NumericLiteral e -> transformNumericLiteral(e);
+        case StringLiteral e -> transformStringLiteral(e);
+        case SymbolLiteral e -> transformSymbolLiteral(e);
+        case CompoundId e -> transformCompoundId(e);
+        case KeyObjectIdentifier e -> transformKeyObjectIdentifier(e);
+        case NameObjectIdentifier e -> transformNameObjectIdentifier(e);
+        };
+    }
+
+    public ObjectIdentifier transform(ObjectIdentifier identifier) {
+        return switch (identifier) {
+        case KeyObjectIdentifier i -> transformKeyObjectIdentifier(i);
+        case NameObjectIdentifier i -> transformNameObjectIdentifier(i);
+        };
+    }
+
+    public SelectWithClause transform(SelectWithClause clause) {
+        return switch (clause) {
+        case CreateCellCalculationBodyClause c -> transformCreateCellCalculationBodyClause(c);
+        case CreateMemberBodyClause c -> transformCreateMemberBodyClause(c);
+        case CreateSetBodyClause c -> transformCreateSetBodyClause(c);
+        case MeasureBodyClause c -> transformMeasureBodyClause(c);
+        };
+    }
+
+    public SelectQueryClause transform(SelectQueryClause clause) {
+        return switch (clause) {
+        case SelectQueryAsteriskClause c -> transformSelectQueryAsteriskClause(c);
+        case SelectQueryAxesClause c -> transformSelectQueryAxesClause(c);
+        case SelectQueryEmptyClause c -> transformSelectQueryEmptyClause(c);
+        };
+    }
+
+    public SelectCubeClause transform(SelectCubeClause clause) {
+        return switch (clause) {
+        case SelectCubeClauseName c -> transformSelectCubeClauseName(c);
+        case SelectCubeClauseSubStatement c -> transformSelectCubeClauseSubStatement(c);
+        };
+    }
+
+    protected SelectStatement transformSelectStatement(SelectStatement statement) {
+        List<SelectWithClause> withClauses = each(statement.selectWithClauses(), this::transform);
+        SelectQueryClause queryClause = apply(statement.selectQueryClause(), this::transform);
+        SelectCubeClause cubeClause = apply(statement.selectCubeClause(), this::transform);
+        Optional<SelectSlicerAxisClause> slicer = optional(statement.selectSlicerAxisClause(),
+                this::transformSelectSlicerAxisClause);
+        Optional<SelectCellPropertyListClause> cellProperties = optional(statement.selectCellPropertyListClause(),
+                this::transformSelectCellPropertyListClause);
+        if (withClauses == statement.selectWithClauses() && queryClause == statement.selectQueryClause()
+                && cubeClause == statement.selectCubeClause() && slicer == statement.selectSlicerAxisClause()
+                && cellProperties == statement.selectCellPropertyListClause()) {
+            return statement;
+        }
+        return new SelectStatementR(withClauses, queryClause, cubeClause, slicer, cellProperties);
+    }
+
+    protected MdxStatement transformDrillthroughStatement(DrillthroughStatement statement) {
+        SelectStatement selectStatement = apply(statement.selectStatement(), this::transformSelectStatement);
+        List<ReturnItem> returnItems = each(statement.returnItems(), this::transformReturnItem);
+        if (selectStatement == statement.selectStatement() && returnItems == statement.returnItems()) {
+            return statement;
+        }
+        return new DrillthroughStatementR(statement.maxRows(), statement.firstRowSet(), selectStatement,
+                returnItems);
+    }
+
+    protected MdxStatement transformExplainStatement(ExplainStatement statement) {
+        MdxStatement inner = apply(statement.mdxStatement(), this::transform);
+        return inner == statement.mdxStatement() ? statement : new ExplainStatementR(inner);
+    }
+
+    protected MdxStatement transformDMVStatement(DMVStatement statement) {
+        List<CompoundId> columns = each(statement.columns(), this::transformCompoundId);
+        NameObjectIdentifier table = apply(statement.table(), this::transformNameObjectIdentifier);
+        MdxExpression where = apply(statement.where(), this::transform);
+        if (columns == statement.columns() && table == statement.table() && where == statement.where()) {
+            return statement;
+        }
+        return new DMVStatementR(columns, table, where);
+    }
+
+    protected MdxStatement transformRefreshStatement(RefreshStatement statement) {
+        NameObjectIdentifier cubeName = apply(statement.cubeName(), this::transformNameObjectIdentifier);
+        return cubeName == statement.cubeName() ? statement : new RefreshStatementR(cubeName);
+    }
+
+    protected MdxStatement transformUpdateStatement(UpdateStatement statement) {
+        NameObjectIdentifier cubeName = apply(statement.cubeName(), this::transformNameObjectIdentifier);
+        List<UpdateClause> updateClauses = each(statement.updateClauses(), this::transformUpdateClause);
+        if (cubeName == statement.cubeName() && updateClauses == statement.updateClauses()) {
+            return statement;
+        }
+        return new UpdateStatementR(cubeName, updateClauses);
+    }
+
+    protected MdxExpression transformCallExpression(CallExpression expression) {
+        List<MdxExpression> expressions = each(expression.expressions(), this::transform);
+        return expressions == expression.expressions() ? expression
+                : new CallExpressionR(expression.operationAtom(), expressions);
+    }
+
+    protected MdxExpression transformNullLiteral(NullLiteral literal) {
+        return literal;
+    }
+
+    protected MdxExpression transformNumericLiteral(NumericLiteral literal) {
+        return literal;
+    }
+
+    protected MdxExpression transformStringLiteral(StringLiteral literal) {
+        return literal;
+    }
+
+    protected MdxExpression transformSymbolLiteral(SymbolLiteral literal) {
+        return literal;
+    }
+
+    protected CompoundId transformCompoundId(CompoundId compoundId) {
+        List<ObjectIdentifier> objectIdentifiers = each(compoundId.objectIdentifiers(), this::transform);
+        return objectIdentifiers == compoundId.objectIdentifiers() ? compoundId : new CompoundIdR(objectIdentifiers);
+    }
+
+    protected ObjectIdentifier transformKeyObjectIdentifier(KeyObjectIdentifier identifier) {
+        List<NameObjectIdentifier> names = each(identifier.nameObjectIdentifiers(),
+                this::transformNameObjectIdentifier);
+        return names == identifier.nameObjectIdentifiers() ? identifier : new KeyObjectIdentifierR(names);
+    }
+
+    protected NameObjectIdentifier transformNameObjectIdentifier(NameObjectIdentifier identifier) {
+        return identifier;
+    }
+
+    protected SelectWithClause transformCreateCellCalculationBodyClause(CreateCellCalculationBodyClause clause) {
+        return clause;
+    }
+
+    protected SelectWithClause transformCreateMemberBodyClause(CreateMemberBodyClause clause) {
+        CompoundId compoundId = apply(clause.compoundId(), this::transformCompoundId);
+        MdxExpression expression = apply(clause.expression(), this::transform);
+        List<MemberPropertyDefinition> definitions = each(clause.memberPropertyDefinitions(),
+                this::transformMemberPropertyDefinition);
+        if (compoundId == clause.compoundId() && expression == clause.expression()
+                && definitions == clause.memberPropertyDefinitions()) {
+            return clause;
+        }
+        return new CreateMemberBodyClauseR(compoundId, expression, definitions);
+    }
+
+    protected SelectWithClause transformCreateSetBodyClause(CreateSetBodyClause clause) {
+        CompoundId compoundId = apply(clause.compoundId(), this::transformCompoundId);
+        MdxExpression expression = apply(clause.expression(), this::transform);
+        if (compoundId == clause.compoundId() && expression == clause.expression()) {
+            return clause;
+        }
+        return new CreateSetBodyClauseR(compoundId, expression);
+    }
+
+    protected SelectWithClause transformMeasureBodyClause(MeasureBodyClause clause) {
+        return clause;
+    }
+
+    protected SelectQueryClause transformSelectQueryAsteriskClause(SelectQueryAsteriskClause clause) {
+        return clause;
+    }
+
+    protected SelectQueryClause transformSelectQueryAxesClause(SelectQueryAxesClause clause) {
+        List<SelectQueryAxisClause> axisClauses = each(clause.selectQueryAxisClauses(),
+                this::transformSelectQueryAxisClause);
+        return axisClauses == clause.selectQueryAxisClauses() ? clause : new SelectQueryAxesClauseR(axisClauses);
+    }
+
+    protected SelectQueryClause transformSelectQueryEmptyClause(SelectQueryEmptyClause clause) {
+        return clause;
+    }
+
+    protected SelectCubeClause transformSelectCubeClauseName(SelectCubeClauseName clause) {
+        NameObjectIdentifier cubeName = apply(clause.cubeName(), this::transformNameObjectIdentifier);
+        return cubeName == clause.cubeName() ? clause : new SelectCubeClauseNameR(cubeName);
+    }
+
+    protected SelectCubeClause transformSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause) {
+        SelectQueryClause queryClause = apply(clause.selectQueryClause(), this::transform);
+        SelectCubeClause cubeClause = apply(clause.selectCubeClause(), this::transform);
+        Optional<SelectSlicerAxisClause> slicer = optional(clause.selectSlicerAxisClause(),
+                this::transformSelectSlicerAxisClause);
+        if (queryClause == clause.selectQueryClause() && cubeClause == clause.selectCubeClause()
+                && slicer == clause.selectSlicerAxisClause()) {
+            return clause;
+        }
+        return new SelectCubeClauseSubStatementR(queryClause, cubeClause, slicer);
+    }
+
+    protected SelectQueryAxisClause transformSelectQueryAxisClause(SelectQueryAxisClause clause) {
+        MdxExpression expression = apply(clause.expression(), this::transform);
+        SelectDimensionPropertyListClause properties = apply(clause.selectDimensionPropertyListClause(),
+                this::transformSelectDimensionPropertyListClause);
+        if (expression == clause.expression() && properties == clause.selectDimensionPropertyListClause()) {
+            return clause;
+        }
+        return new SelectQueryAxisClauseR(clause.nonEmpty(), expression, clause.axis(), properties);
+    }
+
+    protected SelectSlicerAxisClause transformSelectSlicerAxisClause(SelectSlicerAxisClause clause) {
+        MdxExpression expression = apply(clause.expression(), this::transform);
+        return expression == clause.expression() ? clause : new SelectSlicerAxisClauseR(expression);
+    }
+
+    protected SelectCellPropertyListClause transformSelectCellPropertyListClause(
+            SelectCellPropertyListClause clause) {
+        return clause;
+    }
+
+    protected SelectDimensionPropertyListClause transformSelectDimensionPropertyListClause(
+            SelectDimensionPropertyListClause clause) {
+        List<CompoundId> properties = each(clause.properties(), this::transformCompoundId);
+        return properties == clause.properties() ? clause : new SelectDimensionPropertyListClauseR(properties);
+    }
+
+    protected MemberPropertyDefinition transformMemberPropertyDefinition(MemberPropertyDefinition definition) {
+        ObjectIdentifier objectIdentifier = apply(definition.objectIdentifier(), this::transform);
+        MdxExpression expression = apply(definition.expression(), this::transform);
+        if (objectIdentifier == definition.objectIdentifier() && expression == definition.expression()) {
+            return definition;
+        }
+        return new MemberPropertyDefinitionR(objectIdentifier, expression);
+    }
+
+    protected ReturnItem transformReturnItem(ReturnItem returnItem) {
+        CompoundId compoundId = apply(returnItem.compoundId(), this::transformCompoundId);
+        return compoundId == returnItem.compoundId() ? returnItem : new ReturnItemR(compoundId);
+    }
+
+    protected UpdateClause transformUpdateClause(UpdateClause clause) {
+        MdxExpression tuple = apply(clause.tupleExp(), this::transform);
+        MdxExpression value = apply(clause.valueExp(), this::transform);
+        MdxExpression weight = apply(clause.weight(), this::transform);
+        if (tuple == clause.tupleExp() && value == clause.valueExp() && weight == clause.weight()) {
+            return clause;
+        }
+        return new UpdateClauseR(tuple, value, clause.allocation(), weight);
+    }
+
+    private static <T> T apply(T node, UnaryOperator<T> transform) {
+        return node == null ? null : transform.apply(node);
+    }
+
+    private static <T> Optional<T> optional(Optional<T> node, UnaryOperator<T> transform) {
+        if (node == null || node.isEmpty()) {
+            return node;
+        }
+        T transformed = transform.apply(node.get());
+        return transformed == node.get() ? node : Optional.ofNullable(transformed);
+    }
+
+    /**
+     * Returns {@code nodes} itself when no element changed, otherwise a new
+     * unmodifiable list. Elements mapped to {@code null} are dropped.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> each(List<? extends T> nodes, UnaryOperator<T> transform) {
+        if (nodes == null) {
+            return null;
+        }
+        List<T> changed = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            T node = nodes.get(i);
+            T transformed = transform.apply(node);
+            if (changed == null && transformed != node) {
+                changed = new ArrayList<>(nodes.size());
+                changed.addAll(nodes.subList(0, i));
+            }
+            if (changed != null && transformed != null) {
+                changed.add(transformed);
+            }
+        }
+        return changed == null ? (List<T>) nodes : List.copyOf(changed);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.SymbolLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.junit.jupiter.api.Test;
+
+class CommonSubexpressionsTest {
+
+    private static CompoundIdR id(String... names) {
+        List<ObjectIdentifier> parts = new ArrayList<>();
+        for (String name : names) {
+            parts.add(new NameObjectIdentifierR(name, Quoting.QUOTED));
+        }
+        return new CompoundIdR(parts);
+    }
+
+    // ([Measures].[Internet Sales Amount], [Customer].[Customer Geography].CurrentMember)
+    private static MdxExpression tuple() {
+        return new CallExpressionR(new ParenthesesOperationAtom(),
+                List.of(id("Measures", "Internet Sales Amount"), new CallExpressionR(
+                        new PlainPropertyOperationAtom("CurrentMember"), List.of(id("Customer", "Customer Geography")))));
+    }
+
+    // Order([City], tuple, BDesc)
+    private static MdxExpression order() {
+        return new CallExpressionR(new FunctionOperationAtom("Order"),
+                List.of(id("City"), tuple(), new SymbolLiteralR("BDesc")));
+    }
+
+    private static SelectStatement statement(List<SelectWithClause> with, MdxExpression columns) {
+        return new SelectStatementR(with,
+                new SelectQueryAxesClauseR(List.of(new SelectQueryAxisClauseR(false, columns, new AxisR(0, true), null))),
+                new SelectCubeClauseNameR(new NameObjectIdentifierR("Adventure Works", Quoting.QUOTED)),
+                Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void testSharedAcrossMembersAndAxes() {
+        List<SelectWithClause> with = List.of(
+                new CreateMemberBodyClauseR(id("Measures", "a"), new CallExpressionR(new FunctionOperationAtom("Rank"),
+                        List.of(id("Customer", "x"), order())), List.of()),
+                new CreateMemberBodyClauseR(id("Measures", "b"), new CallExpressionR(new InfixOperationAtom("/"),
+                        List.of(tuple(), new CallExpressionR(new FunctionOperationAtom("Count"), List.of(order())))),
+                        List.of()));
+
+        List<SharedExpression> shared = CommonSubexpressions.find(statement(with, order()));
+
+        assertThat(shared).hasSize(2);
+        SharedExpression tuple = shared.get(0);
+        SharedExpression order = shared.get(1);
+        assertThat(tuple.expression()).isEqualTo(tuple());
+        // once directly in member b, once for the shared Order
+        assertThat(tuple.useCount()).isEqualTo(2);
+        assertThat(order.expression()).isEqualTo(order());
+        assertThat(order.useCount()).isEqualTo(3);
+        assertThat(order.children()).containsExactly(tuple);
+        assertThat(tuple.children()).isEmpty();
+    }
+
+    @Test
+    void testNothingShared() {
+        assertThat(CommonSubexpressions.find(statement(List.of(), order()))).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.junit.jupiter.api.Test;
+
+class FingerprintTest {
+
+    private static MdxExpression expression(String member, int factor) {
+        return new CallExpressionR(new FunctionOperationAtom("Sum"),
+                List.of(new CompoundIdR(List.of(new NameObjectIdentifierR("Measures", Quoting.QUOTED),
+                        new NameObjectIdentifierR(member, Quoting.QUOTED))),
+                        new CallExpressionR(new InfixOperationAtom("*"),
+                                List.of(new NumericLiteralR(BigDecimal.valueOf(factor)),
+                                        new NumericLiteralR(BigDecimal.ONE)))));
+    }
+
+    private static MdxStatement statement(MdxExpression expression, boolean nonEmpty) {
+        return new SelectStatementR(List.of(),
+                new SelectQueryAxesClauseR(List.of(new SelectQueryAxisClauseR(nonEmpty, expression,
+                        new AxisR(0, true), null))),
+                new SelectCubeClauseNameR(new NameObjectIdentifierR("Sales", Quoting.QUOTED)), Optional.empty(),
+                Optional.empty());
+    }
+
+    @Test
+    void testFingerprintFollowsStructure() {
+        Fingerprint a = Fingerprint.of(statement(expression("Sales", 2), false));
+
+        assertThat(Fingerprint.of(statement(expression("Sales", 2), false))).isEqualTo(a);
+        assertThat(Fingerprint.of(statement(expression("Sales", 3), false))).isNotEqualTo(a);
+        assertThat(Fingerprint.of(statement(expression("Cost", 2), false))).isNotEqualTo(a);
+        assertThat(Fingerprint.of(statement(expression("Sales", 2), true))).isNotEqualTo(a);
+        assertThat(Fingerprint.of(expression("Sales", 2))).isNotEqualTo(a)
+                .isEqualTo(Fingerprint.of(expression("Sales", 2)));
+        assertThat(a.toHexString()).hasSize(32);
+    }
+
+    @Test
+    void testFingerprintSeparatesSiblings() {
+        MdxExpression x = new NameObjectIdentifierR("x", Quoting.QUOTED);
+        MdxExpression y = new NameObjectIdentifierR("y", Quoting.QUOTED);
+        MdxExpression nested = new CallExpressionR(new FunctionOperationAtom("F"),
+                List.of(new CallExpressionR(new FunctionOperationAtom("F"), List.of(x)), y));
+        MdxExpression flat = new CallExpressionR(new FunctionOperationAtom("F"),
+                List.of(new CallExpressionR(new FunctionOperationAtom("F"), List.of(x, y))));
+
+        assertThat(Fingerprint.of(nested)).isNotEqualTo(Fingerprint.of(flat));
+    }
+}
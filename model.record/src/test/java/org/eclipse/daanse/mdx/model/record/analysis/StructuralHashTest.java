@@ -0,0 +1,69 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.model.record.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.junit.jupiter.api.Test;
+
+class StructuralHashTest {
+
+    private static MdxExpression expression(String member, int factor) {
+        return new CallExpressionR(new FunctionOperationAtom("Sum"),
+                List.of(new CompoundIdR(List.of(new NameObjectIdentifierR("Measures", Quoting.QUOTED),
+                        new NameObjectIdentifierR(member, Quoting.QUOTED))),
+                        new CallExpressionR(new InfixOperationAtom("*"),
+                                List.of(new NumericLiteralR(BigDecimal.valueOf(factor)),
+                                        new NumericLiteralR(BigDecimal.ONE)))));
+    }
+
+    @Test
+    void testEqualTreesHashAlike() {
+        MdxExpression a = expression("Sales", 2);
+
+        assertThat(StructuralHash.of(a)).isEqualTo(StructuralHash.of(expression("Sales", 2)))
+                .isEqualTo(StructuralHash.of(a));
+        assertThat(StructuralHash.of(a)).isNotEqualTo(StructuralHash.of(expression("Sales", 3)));
+        assertThat(StructuralHash.of(a)).isNotEqualTo(StructuralHash.of(expression("Cost", 2)));
+    }
+
+    @Test
+    void testKey() {
+        Map<StructuralHash.Key, String> plans = new HashMap<>();
+        plans.put(StructuralHash.key(expression("Sales", 2)), "plan");
+
+        assertThat(plans).containsEntry(StructuralHash.key(expression("Sales", 2)), "plan");
+        assertThat(plans.get(StructuralHash.key(expression("Sales", 3)))).isNull();
+    }
+
+    @Test
+    void testRecordsKeepTheirShape() {
+        assertThat(new CompoundIdR(List.of(new NameObjectIdentifierR("x", Quoting.QUOTED))).toString())
+                .isEqualTo("CompoundIdR[objectIdentifiers=[NameObjectIdentifierR[name=x, quoting=QUOTED]]]");
+        assertThat(CallExpressionR.class.getRecordComponents()).hasSize(2);
+    }
+}
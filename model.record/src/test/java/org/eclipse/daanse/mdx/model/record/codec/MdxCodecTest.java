@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CaseOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.MethodOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.select.Allocation;
+import org.eclipse.daanse.mdx.model.record.DMVStatementR;
+import org.eclipse.daanse.mdx.model.record.DrillthroughStatementR;
+import org.eclipse.daanse.mdx.model.record.ExplainStatementR;
+import org.eclipse.daanse.mdx.model.record.RefreshStatementR;
+import org.eclipse.daanse.mdx.model.record.ReturnItemR;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.UpdateStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.DoubleNumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.KeyObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.LongNumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NullLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.StringLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.SymbolLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.CreateCellCalculationBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateSetBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MeasureBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MemberPropertyDefinitionR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCellPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseSubStatementR;
+import org.eclipse.daanse.mdx.model.record.select.SelectDimensionPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAsteriskClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryEmptyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.UpdateClauseR;
+import org.junit.jupiter.api.Test;
+
+class MdxCodecTest {
+
+    private static NameObjectIdentifier name(String name) {
+        return new NameObjectIdentifierR(name, Quoting.QUOTED);
+    }
+
+    private static CompoundId id(String... names) {
+        return new CompoundIdR(Arrays.stream(names).<ObjectIdentifier>map(MdxCodecTest::name).toList());
+    }
+
+    private static final NameObjectIdentifier CUBE = name("Adventure Works");
+
+    private static SelectStatement select() {
+        MdxExpression key = new CompoundIdR(List.of(name("Customer"), name("Gender"),
+                new KeyObjectIdentifierR(List.of(new NameObjectIdentifierR("F", Quoting.UNQUOTED)))));
+        MdxExpression round = new CallExpressionR(new FunctionOperationAtom("Round"),
+                List.of(new CallExpressionR(new InfixOperationAtom("/"),
+                        List.of(new LongNumericLiteralR(1), new DoubleNumericLiteralR(2.5))),
+                        new NumericLiteralR(new BigDecimal("-4.000")),
+                        new NumericLiteralR(new BigDecimal("123456789012345678901234567890.5"))));
+        MdxExpression members = new CallExpressionR(new PlainPropertyOperationAtom("Members"),
+                List.of(id("Date", "Calendar Year")));
+        MdxExpression caseExpression = new CallExpressionR(new CaseOperationAtom("_CaseTest"),
+                List.of(key, new StringLiteralR("Frau"), NullLiteralR.SINGLETON));
+
+        return new SelectStatementR(
+                List.of(new CreateMemberBodyClauseR(id("Measures", "Rounded"), round,
+                        List.of(new MemberPropertyDefinitionR(name("FORMAT_STRING"), new StringLiteralR("Percent")),
+                                new MemberPropertyDefinitionR(name("SOLVE_ORDER"), new LongNumericLiteralR(5)))),
+                        new CreateSetBodyClauseR(id("Years"), members), new CreateCellCalculationBodyClauseR(),
+                        new MeasureBodyClauseR()),
+                new SelectQueryAxesClauseR(List.of(
+                        new SelectQueryAxisClauseR(true,
+                                new CallExpressionR(new BracesOperationAtom(), List.of(id("Measures", "Rounded"))),
+                                new AxisR(0, true), null),
+                        new SelectQueryAxisClauseR(false,
+                                new CallExpressionR(new MethodOperationAtom("Children"), List.of(id("Years"))),
+                                new AxisR(1, false),
+                                new SelectDimensionPropertyListClauseR(List.of(id("MEMBER_CAPTION")))))),
+                new SelectCubeClauseSubStatementR(new SelectQueryAsteriskClauseR(), new SelectCubeClauseNameR(CUBE),
+                        Optional.of(new SelectSlicerAxisClauseR(caseExpression))),
+                Optional.of(new SelectSlicerAxisClauseR(new CallExpressionR(new ParenthesesOperationAtom(),
+                        List.of(new SymbolLiteralR("TRUE"))))),
+                Optional.of(new SelectCellPropertyListClauseR(List.of("VALUE", "FORMATTED_VALUE"), true)));
+    }
+
+    private static MdxStatement roundTrip(MdxStatement statement) {
+        return MdxCodec.decodeStatement(MdxCodec.encode(statement));
+    }
+
+    @Test
+    void testSelectRoundTrip() {
+        SelectStatement statement = select();
+        assertThat(roundTrip(statement)).isEqualTo(statement);
+    }
+
+    @Test
+    void testOtherStatementsRoundTrip() {
+        List<MdxStatement> statements = List.of(
+                new DrillthroughStatementR(Optional.of(100), Optional.empty(), select(),
+                        List.of(new ReturnItemR(id("Customer", "Name")))),
+                new ExplainStatementR(select()),
+                new DMVStatementR(List.of(id("CUBE_NAME")), name("$System.MDSchema_Cubes"),
+                        new CallExpressionR(new InfixOperationAtom("="),
+                                List.of(id("CUBE_NAME"), new StringLiteralR("Sales")))),
+                new RefreshStatementR(CUBE),
+                new UpdateStatementR(CUBE, List.of(
+                        new UpdateClauseR(id("Measures", "Sales"), new LongNumericLiteralR(10),
+                                Allocation.USE_WEIGHTED_ALLOCATION, new LongNumericLiteralR(2)),
+                        new UpdateClauseR(id("Measures", "Cost"), new LongNumericLiteralR(-3), null, null))),
+                new SelectStatementR(List.of(), new SelectQueryEmptyClauseR(), new SelectCubeClauseNameR(CUBE),
+                        Optional.empty(), Optional.empty()));
+        for (MdxStatement statement : statements) {
+            assertThat(roundTrip(statement)).isEqualTo(statement);
+        }
+    }
+
+    @Test
+    void testExpressionRoundTrip() {
+        MdxExpression expression = new CallExpressionR(new InfixOperationAtom("+"),
+                List.of(id("Measures", "Sales"), new NumericLiteralR(new BigDecimal("0.5000"))));
+        assertThat(MdxCodec.decodeExpression(MdxCodec.encode(expression))).isEqualTo(expression);
+    }
+
+    @Test
+    void testDecodeFromDirectBufferAtOffset() {
+        SelectStatement statement = select();
+        byte[] encoded = MdxCodec.encode(statement);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length + 7);
+        buffer.position(3);
+        buffer.put(encoded);
+        buffer.position(3);
+
+        assertThat(MdxCodec.decodeStatement(buffer)).isEqualTo(statement);
+        assertThat(buffer.position()).isEqualTo(3 + encoded.length);
+    }
+
+    @Test
+    void testStringsAreStoredOnce() {
+        MdxExpression once = id("Customer Geography");
+        MdxExpression twice = new CallExpressionR(new InfixOperationAtom("+"), List.of(once, once));
+        int onceLength = MdxCodec.encode(once).length;
+        int twiceLength = MdxCodec.encode(twice).length;
+        assertThat(twiceLength - onceLength).isLessThan("Customer Geography".length());
+    }
+
+    @Test
+    void testMalformedInputIsRejected() {
+        byte[] encoded = MdxCodec.encode(select());
+        assertThatThrownBy(() -> MdxCodec.decodeStatement(Arrays.copyOf(encoded, encoded.length / 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MdxCodec.decodeStatement(new byte[] { 1, 2, 3, 4, 5 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] header(int... body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] { 'M', 'D', 'X', 'B', MdxCodec.VERSION, 0 });
+        for (int b : body) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testMissingRequiredPartsAreRejected() {
+        // a key without its list of names
+        assertThatThrownBy(() -> MdxCodec.decodeExpression(header(MdxCodec.KEY_ID, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // an internal operation without its name
+        assertThatThrownBy(() -> MdxCodec.decodeExpression(header(MdxCodec.CALL, MdxCodec.ATOM_INTERNAL, 0, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testMutatedInputFailsOnlyWithIllegalArgument() {
+        byte[] encoded = MdxCodec.encode(select());
+        for (int i = 0; i < encoded.length; i++) {
+            for (int value : new int[] { 0, 1, 2, 0x7F, 0x80, 0xFF }) {
+                byte[] mutated = encoded.clone();
+                mutated[i] = (byte) value;
+                try {
+                    MdxCodec.decodeStatement(mutated);
+                } catch (IllegalArgumentException e) {
+                    // rejected as documented
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNestingIsLimited() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(header());
+        for (int i = 0; i < 100_000; i++) {
+            // a parentheses call with a list of one expression
+            out.writeBytes(new byte[] { MdxCodec.CALL, MdxCodec.ATOM_PARENTHESES, 2 });
+        }
+        out.write(MdxCodec.NULL_LITERAL);
+        assertThatThrownBy(() -> MdxCodec.decodeExpression(out.toByteArray()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        MdxExpression deepest = NullLiteralR.SINGLETON;
+        for (int i = 1; i < MdxCodec.MAX_DEPTH; i++) {
+            deepest = new CallExpressionR(new ParenthesesOperationAtom(), List.of(deepest));
+        }
+        // the records compare recursively, so the deepest tree is compared by its encoding
+        byte[] encoded = MdxCodec.encode(deepest);
+        assertThat(MdxCodec.encode(MdxCodec.decodeExpression(encoded))).isEqualTo(encoded);
+        MdxExpression tooDeep = new CallExpressionR(new ParenthesesOperationAtom(), List.of(deepest));
+        assertThatThrownBy(() -> MdxCodec.encode(tooDeep)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.junit.jupiter.api.Test;
+
+class IdentifierPoolTest {
+
+    @Test
+    void testNamesAreShared() {
+        IdentifierPool pool = new IdentifierPool();
+        NameObjectIdentifier first = pool.nameObjectIdentifier(new String("Measures"), Quoting.QUOTED);
+        NameObjectIdentifier second = pool.nameObjectIdentifier(new String("Measures"), Quoting.QUOTED);
+        NameObjectIdentifier unquoted = pool.nameObjectIdentifier("Measures", Quoting.UNQUOTED);
+
+        assertThat(second).isSameAs(first);
+        assertThat(unquoted).isNotSameAs(first);
+        assertThat(unquoted.quoting()).isEqualTo(Quoting.UNQUOTED);
+    }
+
+    @Test
+    void testCompoundIdsAreShared() {
+        IdentifierPool pool = new IdentifierPool();
+        List<ObjectIdentifier> parts = new ArrayList<>();
+        parts.add(pool.nameObjectIdentifier("Measures", Quoting.QUOTED));
+        parts.add(pool.nameObjectIdentifier("Internet Sales Amount", Quoting.QUOTED));
+
+        CompoundId first = pool.compoundId(parts);
+        CompoundId second = pool.compoundId(List.copyOf(parts));
+        parts.clear();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.objectIdentifiers()).hasSize(2);
+    }
+
+    @Test
+    void testPrefixesAreNotPooled() {
+        IdentifierPool pool = new IdentifierPool();
+        CompoundId id = null;
+        for (int i = 0; i < 2; i++) {
+            CompoundId a = pool.compoundId(List.of(pool.nameObjectIdentifier("a", Quoting.QUOTED)));
+            CompoundId ab = pool.compoundId(a, pool.nameObjectIdentifier("b", Quoting.QUOTED));
+            CompoundId abc = pool.compoundId(ab, pool.nameObjectIdentifier("c", Quoting.QUOTED));
+            assertThat(abc.objectIdentifiers()).hasSize(3);
+            if (id != null) {
+                assertThat(abc).isSameAs(id);
+            }
+            id = abc;
+        }
+        // three names and [a].[b].[c]
+        assertThat(pool.size()).isEqualTo(4);
+
+        CompoundId a = pool.compoundId(List.of(pool.nameObjectIdentifier("a", Quoting.QUOTED)));
+        assertThat(pool.compoundId(List.of(pool.nameObjectIdentifier("a", Quoting.QUOTED)))).isSameAs(a);
+        pool.compoundId(a, pool.nameObjectIdentifier("x", Quoting.QUOTED));
+        // [a] was asked for twice, so it stays pooled when extended
+        assertThat(pool.compoundId(List.of(pool.nameObjectIdentifier("a", Quoting.QUOTED)))).isSameAs(a);
+    }
+
+    @Test
+    void testBounded() {
+        IdentifierPool pool = new IdentifierPool(4);
+        for (int i = 0; i < 100; i++) {
+            pool.nameObjectIdentifier("n" + i, Quoting.QUOTED);
+        }
+        assertThat(pool.size()).isLessThanOrEqualTo(4);
+
+        NameObjectIdentifier kept = pool.nameObjectIdentifier("x", Quoting.QUOTED);
+        assertThat(pool.nameObjectIdentifier("x", Quoting.QUOTED)).isSameAs(kept);
+    }
+
+    @Test
+    void testInvalidNamesAreRejectedLikeTheRecord() {
+        IdentifierPool pool = new IdentifierPool();
+        assertThatThrownBy(() -> pool.nameObjectIdentifier("", Quoting.QUOTED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pool.nameObjectIdentifier("k", Quoting.KEY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
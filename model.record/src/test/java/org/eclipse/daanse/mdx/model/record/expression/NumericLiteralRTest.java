@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.junit.jupiter.api.Test;
+
+class NumericLiteralRTest {
+
+    @Test
+    void testWholeNumberIsLongBacked() {
+        NumericLiteral literal = NumericLiteralR.of("10");
+        assertThat(literal).isInstanceOf(LongNumericLiteralR.class);
+        assertThat(literal.longValue()).isEqualTo(10L);
+        assertThat(literal.doubleValue()).isEqualTo(10d);
+        assertThat(literal.isIntegral()).isTrue();
+        assertThat(literal.value()).isEqualTo(new BigDecimal("10"));
+    }
+
+    @Test
+    void testDecimalIsDoubleBacked() {
+        NumericLiteral literal = NumericLiteralR.of("10.25");
+        assertThat(literal).isInstanceOf(DoubleNumericLiteralR.class);
+        assertThat(literal.doubleValue()).isEqualTo(10.25d);
+        assertThat(literal.longValue()).isEqualTo(10L);
+        assertThat(literal.isIntegral()).isFalse();
+        assertThat(literal.value()).isEqualTo(new BigDecimal("10.25"));
+        assertThat(NumericLiteralR.of("100.0").value()).isEqualTo(new BigDecimal("100.0"));
+    }
+
+    @Test
+    void testTextNotReproducibleByPrimitiveFallsBack() {
+        for (String image : new String[] { "0.5000", "10e+5", "10e-5", ".5", "1.", "123456789012345678901",
+                "0.1234567890123456789" }) {
+            NumericLiteral literal = NumericLiteralR.of(image);
+            assertThat(literal).isInstanceOf(NumericLiteralR.class);
+            assertThat(literal.value()).isEqualTo(new BigDecimal(image));
+        }
+    }
+
+    @Test
+    void testIntegralOfBigDecimalBacked() {
+        assertThat(new NumericLiteralR(new BigDecimal("10.00")).isIntegral()).isTrue();
+        assertThat(new NumericLiteralR(new BigDecimal("1E+3")).isIntegral()).isTrue();
+        assertThat(new NumericLiteralR(new BigDecimal("10.5")).isIntegral()).isFalse();
+        assertThat(new NumericLiteralR(new BigDecimal("1E+30")).isIntegral()).isFalse();
+        assertThat(new DoubleNumericLiteralR(3.0).isIntegral()).isTrue();
+    }
+
+    @Test
+    void testEqualityIsValueBasedAcrossForms() {
+        assertThat(NumericLiteralR.of("1")).isEqualTo(new NumericLiteralR(BigDecimal.ONE))
+                .hasSameHashCodeAs(new NumericLiteralR(BigDecimal.ONE));
+        assertThat(new NumericLiteralR(BigDecimal.ONE)).isEqualTo(NumericLiteralR.of("1"));
+        assertThat(NumericLiteralR.of("10.25")).isEqualTo(new NumericLiteralR(new BigDecimal("10.25")))
+                .hasSameHashCodeAs(new NumericLiteralR(new BigDecimal("10.25")));
+        assertThat(NumericLiteralR.of("14.")).isEqualTo(NumericLiteralR.of("14"));
+        assertThat(NumericLiteralR.of("1")).isNotEqualTo(NumericLiteralR.of("1.0"))
+                .isNotEqualTo(NumericLiteralR.of("2"));
+    }
+
+    @Test
+    void testHashCodeIsConsistentAcrossForms() {
+        for (String image : new String[] { "0", "7", "999999999999999999", "0.5", "10.25", "123456.789" }) {
+            NumericLiteral literal = NumericLiteralR.of(image);
+            assertThat(literal).hasSameHashCodeAs(new NumericLiteralR(new BigDecimal(image)));
+        }
+        assertThat(new LongNumericLiteralR(Long.MIN_VALUE))
+                .hasSameHashCodeAs(new NumericLiteralR(BigDecimal.valueOf(Long.MIN_VALUE)));
+        assertThat(new DoubleNumericLiteralR(-0.0)).isEqualTo(new DoubleNumericLiteralR(0.0))
+                .hasSameHashCodeAs(new DoubleNumericLiteralR(0.0))
+                .hasSameHashCodeAs(new NumericLiteralR(new BigDecimal("0.0")));
+    }
+}
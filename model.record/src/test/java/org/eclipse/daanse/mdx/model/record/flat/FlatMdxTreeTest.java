@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.flat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.record.analysis.Fingerprint;
+import org.eclipse.daanse.mdx.model.record.expression.MdxExpressionFactory;
+import org.junit.jupiter.api.Test;
+
+class FlatMdxTreeTest {
+
+    // Iif([Customer].[Gender].&[F] IS [Customer].[Gender].CurrentMember, RGB(144,238,144), 'none')
+    private static MdxExpression build(MdxExpression[] out, MdxExpressionFactory f) {
+        NameObjectIdentifier customer = f.nameObjectIdentifier("Customer", Quoting.QUOTED);
+        NameObjectIdentifier gender = f.nameObjectIdentifier("Gender", Quoting.QUOTED);
+        KeyObjectIdentifier key = f.keyObjectIdentifier(List.of(f.nameObjectIdentifier("F", Quoting.UNQUOTED)));
+        CompoundId female = f.compoundId(List.of(customer, gender, key));
+        CallExpression current = f.callExpression(new PlainPropertyOperationAtom("CurrentMember"),
+                List.of(f.compoundId(List.of(customer, gender))));
+        CallExpression rgb = f.callExpression(new FunctionOperationAtom("RGB"),
+                List.of(f.numericLiteral("144"), f.numericLiteral("238"), f.numericLiteral("144")));
+        MdxExpression iif = f.callExpression(new FunctionOperationAtom("Iif"),
+                List.of(f.callExpression(new InfixOperationAtom("IS"), List.of(female, current)), rgb,
+                        f.stringLiteral("none")));
+        out[0] = rgb;
+        return iif;
+    }
+
+    @Test
+    void testViewsMatchRecords() {
+        MdxExpression records = build(new MdxExpression[1], MdxExpressionFactory.RECORDS);
+        FlatMdxTree tree = new FlatMdxTree();
+        MdxExpression flat = build(new MdxExpression[1], tree);
+
+        assertThat(Fingerprint.of(flat)).isEqualTo(Fingerprint.of(records));
+        assertThat(Fingerprint.of(FlatMdxTree.of(records))).isEqualTo(Fingerprint.of(records));
+    }
+
+    @Test
+    void testNavigation() {
+        MdxExpression[] rgb = new MdxExpression[1];
+        FlatMdxTree tree = new FlatMdxTree();
+        CallExpression iif = (CallExpression) build(rgb, tree);
+
+        assertThat(iif.operationAtom()).isEqualTo(new FunctionOperationAtom("Iif"));
+        assertThat(iif.expressions()).hasSize(3);
+        assertThat(iif.expressions().get(1)).isEqualTo(rgb[0]);
+        assertThat(((StringLiteral) iif.expressions().get(2)).value()).isEqualTo("none");
+
+        CallExpression is = (CallExpression) iif.expressions().get(0);
+        CompoundId female = (CompoundId) is.expressions().get(0);
+        assertThat(female.objectIdentifiers()).hasSize(3);
+        NameObjectIdentifier customer = (NameObjectIdentifier) female.objectIdentifiers().get(0);
+        assertThat(customer.name()).isEqualTo("Customer");
+        assertThat(customer.quoting()).isEqualTo(Quoting.QUOTED);
+        KeyObjectIdentifier key = (KeyObjectIdentifier) female.objectIdentifiers().get(2);
+        assertThat(key.quoting()).isEqualTo(Quoting.KEY);
+        assertThat(key.nameObjectIdentifiers().get(0).name()).isEqualTo("F");
+
+        // the identifier nodes are shared, not copied, when reused
+        CompoundId member = (CompoundId) ((CallExpression) is.expressions().get(1)).expressions().get(0);
+        assertThat(member.objectIdentifiers().get(0)).isEqualTo(customer);
+
+        NumericLiteral red = (NumericLiteral) ((CallExpression) rgb[0]).expressions().get(0);
+        assertThat(red.longValue()).isEqualTo(144L);
+        assertThat(red.doubleValue()).isEqualTo(144d);
+        assertThat(red.value()).isEqualTo(new BigDecimal("144"));
+    }
+
+    @Test
+    void testNodesAndSharedText() {
+        FlatMdxTree tree = new FlatMdxTree(1);
+        build(new MdxExpression[1], tree);
+        // 3 names, 1 key, 2 compound ids, 4 calls, 3 numbers and 1 string
+        assertThat(tree.size()).isEqualTo(14);
+        tree.trimToSize();
+        assertThat(((CallExpression) tree.expression(tree.size() - 1)).operationAtom().name()).isEqualTo("Iif");
+    }
+
+    @Test
+    void testViewsHaveValueEquality() {
+        MdxExpression first = build(new MdxExpression[1], new FlatMdxTree());
+        MdxExpression second = build(new MdxExpression[1], new FlatMdxTree());
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(FlatMdxTree.of(build(new MdxExpression[1], MdxExpressionFactory.RECORDS))).isEqualTo(first);
+        assertThat(((CallExpression) first).expressions().get(1))
+                .isNotEqualTo(((CallExpression) second).expressions().get(0));
+        assertThat(first).isNotEqualTo(build(new MdxExpression[1], MdxExpressionFactory.RECORDS));
+    }
+
+    @Test
+    void testGrowingCompoundIdReusesItsPrefix() {
+        FlatMdxTree tree = new FlatMdxTree();
+        CompoundId path = tree.compoundId(List.of(tree.nameObjectIdentifier("p0", Quoting.QUOTED)));
+        CompoundId first = path;
+        for (int i = 1; i < 100; i++) {
+            path = tree.compoundId(path, tree.nameObjectIdentifier("p" + i, Quoting.QUOTED));
+        }
+        CompoundId withKey = tree.compoundId(path,
+                tree.keyObjectIdentifier(List.of(tree.nameObjectIdentifier("k", Quoting.UNQUOTED))));
+
+        assertThat(first.objectIdentifiers()).hasSize(1);
+        assertThat(path.objectIdentifiers()).hasSize(100);
+        assertThat(((NameObjectIdentifier) path.objectIdentifiers().get(99)).name()).isEqualTo("p99");
+        assertThat(withKey.objectIdentifiers()).hasSize(101);
+        // 100 names, 100 compound ids, 1 name, 1 key and 1 compound id
+        assertThat(tree.size()).isEqualTo(203);
+        tree.trimToSize();
+        assertThat(withKey).isEqualTo(
+                FlatMdxTree.of(MdxExpressionFactory.RECORDS.compoundId(path, withKey.objectIdentifiers().get(100))));
+    }
+}
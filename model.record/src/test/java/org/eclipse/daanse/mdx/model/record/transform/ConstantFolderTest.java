@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PrefixOperationAtom;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.StringLiteralR;
+import org.junit.jupiter.api.Test;
+
+class ConstantFolderTest {
+
+    private final ConstantFolder folder = new ConstantFolder();
+
+    private static MdxExpression number(String value) {
+        return new NumericLiteralR(new BigDecimal(value));
+    }
+
+    private static MdxExpression infix(String operator, MdxExpression left, MdxExpression right) {
+        return new CallExpressionR(new InfixOperationAtom(operator), List.of(left, right));
+    }
+
+    private static MdxExpression function(String name, MdxExpression... arguments) {
+        return new CallExpressionR(new FunctionOperationAtom(name), List.of(arguments));
+    }
+
+    @Test
+    void testRoundOfDivision() {
+        MdxExpression expression = function("Round", infix("/", number("1"), number("2")), number("4"));
+        assertThat(folder.transform(expression)).isEqualTo(number("0.5000"));
+    }
+
+    @Test
+    void testRoundHalfEven() {
+        assertThat(folder.transform(function("round", number("9.12345678"), number("3"))))
+                .isEqualTo(number("9.123"));
+        assertThat(folder.transform(function("Round", number("2.5")))).isEqualTo(number("2"));
+    }
+
+    @Test
+    void testRgb() {
+        assertThat(folder.transform(function("RGB", number("144"), number("238"), number("144"))))
+                .isEqualTo(number("9498256"));
+        MdxExpression outOfRange = function("RGB", number("256"), number("0"), number("0"));
+        assertThat(folder.transform(outOfRange)).isSameAs(outOfRange);
+    }
+
+    @Test
+    void testNestedArithmeticAndParentheses() {
+        MdxExpression sum = new CallExpressionR(new ParenthesesOperationAtom(),
+                List.of(infix("+", number("1"), number("2"))));
+        MdxExpression expression = infix("*", sum,
+                new CallExpressionR(new PrefixOperationAtom("-"), List.of(number("1.5"))));
+        assertThat(folder.transform(expression)).isEqualTo(number("-4.5"));
+    }
+
+    @Test
+    void testStringConcatenation() {
+        MdxExpression expression = infix("||", new StringLiteralR("a"), new StringLiteralR("b"));
+        assertThat(folder.transform(expression)).isEqualTo(new StringLiteralR("ab"));
+    }
+
+    @Test
+    void testNonConstantOperandsAreKept() {
+        MdxExpression member = new NameObjectIdentifierR("Sales", Quoting.QUOTED);
+        MdxExpression expression = infix("+", member, function("Round", number("1.25"), number("1")));
+        MdxExpression result = folder.transform(expression);
+        assertThat(result).isEqualTo(infix("+", member, number("1.2")));
+        assertThat(folder.transform(result)).isSameAs(result);
+    }
+
+    @Test
+    void testInexactOrInvalidDivisionIsKept() {
+        MdxExpression third = infix("/", number("1"), number("3"));
+        assertThat(folder.transform(third)).isSameAs(third);
+        MdxExpression byZero = infix("/", number("1"), number("0"));
+        assertThat(folder.transform(byZero)).isSameAs(byZero);
+    }
+
+    @Test
+    void testOnlyWhatAgreesWithDoublePrecisionIsFolded() {
+        assertThat(folder.transform(infix("+", number("0.5"), number("0.25")))).isEqualTo(number("0.75"));
+        MdxExpression sum = infix("+", number("0.1"), number("0.2"));
+        assertThat(folder.transform(sum)).isSameAs(sum);
+        MdxExpression round = function("Round", number("2.675"), number("2"));
+        assertThat(folder.transform(round)).isSameAs(round);
+    }
+
+    @Test
+    void testUnknownFunctionIsKept() {
+        MdxExpression expression = function("Now");
+        assertThat(folder.transform(expression)).isSameAs(expression);
+        MdxExpression rand = function("Rnd", number("1"));
+        assertThat(folder.transform(rand)).isSameAs(rand);
+    }
+}
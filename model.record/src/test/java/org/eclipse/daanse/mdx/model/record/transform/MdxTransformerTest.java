@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.model.record.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.visitor.AbstractMdxVisitor;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.junit.jupiter.api.Test;
+
+class MdxTransformerTest {
+
+    private static final MdxExpression COLUMNS = new CallExpressionR(new BracesOperationAtom(),
+            List.of(new CompoundIdR(List.of(new NameObjectIdentifierR("Measures", Quoting.QUOTED),
+                    new NameObjectIdentifierR("Sales", Quoting.QUOTED)))));
+
+    private static final MdxExpression ROWS = new CallExpressionR(new InfixOperationAtom("+"),
+            List.of(new NumericLiteralR(BigDecimal.ONE), new NumericLiteralR(BigDecimal.TWO)));
+
+    private static SelectStatement statement() {
+        return new SelectStatementR(List.of(),
+                new SelectQueryAxesClauseR(List.of(new SelectQueryAxisClauseR(false, COLUMNS, new AxisR(0, true), null),
+                        new SelectQueryAxisClauseR(false, ROWS, new AxisR(1, true), null))),
+                new SelectCubeClauseNameR(new NameObjectIdentifierR("Sales", Quoting.QUOTED)),
+                Optional.of(new SelectSlicerAxisClauseR(new NameObjectIdentifierR("Slicer", Quoting.QUOTED))),
+                Optional.empty());
+    }
+
+    @Test
+    void testIdentityReturnsSameTree() {
+        SelectStatement statement = statement();
+        assertThat(new MdxTransformer().transform(statement)).isSameAs(statement);
+    }
+
+    @Test
+    void testOnlyChangedPathIsCopied() {
+        SelectStatement statement = statement();
+        MdxTransformer doubleNumbers = new MdxTransformer() {
+            @Override
+            protected MdxExpression transformNumericLiteral(NumericLiteral literal) {
+                return new NumericLiteralR(literal.value().multiply(BigDecimal.TWO));
+            }
+        };
+
+        SelectStatement result = (SelectStatement) doubleNumbers.transform(statement);
+
+        assertThat(result).isNotSameAs(statement);
+        assertThat(result.selectCubeClause()).isSameAs(statement.selectCubeClause());
+        assertThat(result.selectSlicerAxisClause()).isSameAs(statement.selectSlicerAxisClause());
+        SelectQueryAxesClause axes = (SelectQueryAxesClause) result.selectQueryClause();
+        SelectQueryAxesClause originalAxes = (SelectQueryAxesClause) statement.selectQueryClause();
+        assertThat(axes.selectQueryAxisClauses().get(0)).isSameAs(originalAxes.selectQueryAxisClauses().get(0));
+        CallExpression rows = (CallExpression) axes.selectQueryAxisClauses().get(1).expression();
+        assertThat(rows.operationAtom()).isEqualTo(new InfixOperationAtom("+"));
+        assertThat(rows.expressions()).containsExactly(new NumericLiteralR(BigDecimal.TWO),
+                new NumericLiteralR(BigDecimal.valueOf(4)));
+    }
+
+    @Test
+    void testVisitorSeesRewrittenNames() {
+        MdxTransformer rename = new MdxTransformer() {
+            @Override
+            protected NameObjectIdentifier transformNameObjectIdentifier(NameObjectIdentifier identifier) {
+                return "Sales".equals(identifier.name()) ? new NameObjectIdentifierR("Revenue", Quoting.QUOTED)
+                        : identifier;
+            }
+        };
+        SelectStatement result = (SelectStatement) rename.transform(statement());
+
+        AbstractMdxVisitor<Integer> countRenamed = new AbstractMdxVisitor<>() {
+            @Override
+            protected Integer defaultResult() {
+                return 0;
+            }
+
+            @Override
+            protected Integer aggregateResult(Integer aggregate, Integer nextResult) {
+                return aggregate + nextResult;
+            }
+
+            @Override
+            public Integer visitNameObjectIdentifier(NameObjectIdentifier identifier) {
+                return "Revenue".equals(identifier.name()) ? 1 : 0;
+            }
+        };
+        // cube name and the member on columns
+        assertThat(countRenamed.visit(result)).isEqualTo(2);
+        assertThat(countRenamed.visit(statement())).isZero();
+    }
+}
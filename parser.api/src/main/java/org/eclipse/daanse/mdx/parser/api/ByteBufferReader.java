@@ -0,0 +1,66 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Decodes a {@link ByteBuffer}, e.g. a memory mapped file, chunk by chunk
+ * without copying it to the heap first.
+ */
+final class ByteBufferReader extends Reader {
+
+    private final ByteBuffer in;
+    private final CharsetDecoder decoder;
+    private boolean flushed;
+
+    ByteBufferReader(ByteBuffer buffer, Charset charset) {
+        this.in = buffer.duplicate();
+        this.decoder = charset.newDecoder();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (!flushed && out.position() == off) {
+            CoderResult result = decoder.decode(in, out, true);
+            if (result.isUnderflow()) {
+                result = decoder.flush(out);
+                flushed = result.isUnderflow();
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isOverflow()) {
+                break;
+            }
+        }
+        int n = out.position() - off;
+        return n == 0 ? -1 : n;
+    }
+
+    @Override
+    public void close() {
+        in.position(in.limit());
+    }
+}
@@ -0,0 +1,365 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+
+/**
+ * {@link MdxParserProvider} decorator that remembers the results of whole
+ * statement and expression parses.
+ *
+ * The cache key is the statement text with insignificant whitespace collapsed
+ * plus the property words. Entries are weighted by the length of their key
+ * text and evicted in least recently used order once {@code maxWeight} is
+ * exceeded. Cached results are handed out to every caller, so the delegate
+ * must produce immutable trees (as the record based parsers do).
+ *
+ * Clause level parse methods are not cached and always go to the delegate, as
+ * do incremental parses.
+ */
+public class CachingMdxParserProvider implements MdxParserProvider {
+
+    private final MdxParserProvider delegate;
+    private final long maxWeight;
+
+    private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingMdxParserProvider(MdxParserProvider delegate, long maxWeight) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
+        if (mdx == null || mdx.isEmpty()) {
+            // let the delegate report invalid input the way it always does
+            return delegate.newParser(mdx, propertyWords);
+        }
+        return new CachingMdxParser(mdx, propertyWords, ParseLimits.UNLIMITED);
+    }
+
+    /**
+     * Cached results are returned regardless of {@code limits}, which only bound
+     * the parses done by the delegate on a miss.
+     */
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        if (mdx == null || mdx.isEmpty()) {
+            return delegate.newParser(mdx, propertyWords, limits);
+        }
+        return new CachingMdxParser(mdx, propertyWords, limits);
+    }
+
+    @Override
+    public IncrementalParse parseIncrementally(CharSequence mdx, Set<String> propertyWords)
+            throws MdxParserException {
+        return delegate.parseIncrementally(mdx, propertyWords);
+    }
+
+    public Statistics statistics() {
+        synchronized (entries) {
+            return new Statistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    private Object lookup(Key key) {
+        Object value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    private void store(Key key, Object value) {
+        long keyWeight = key.text().length();
+        if (keyWeight > maxWeight) {
+            return;
+        }
+        synchronized (entries) {
+            if (entries.putIfAbsent(key, value) != null) {
+                return;
+            }
+            weight += keyWeight;
+            Iterator<Key> eldest = entries.keySet().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                weight -= eldest.next().text().length();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Collapses runs of whitespace to a single blank and trims the text.
+     * Quoted strings, bracketed identifiers and comments are copied verbatim.
+     */
+    static String normalize(CharSequence mdx) {
+        int length = mdx.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean pendingBlank = false;
+        int i = 0;
+        while (i < length) {
+            char c = mdx.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingBlank = true;
+                i++;
+                continue;
+            }
+            if (pendingBlank && !sb.isEmpty()) {
+                sb.append(' ');
+            }
+            pendingBlank = false;
+            int end = switch (c) {
+            case '[' -> closing(mdx, i + 1, ']');
+            case '\'', '"' -> closing(mdx, i + 1, c);
+            case '-', '/' -> {
+                char next = i + 1 < length ? mdx.charAt(i + 1) : 0;
+                if (next == c) {
+                    // a line comment keeps its line break, otherwise it would swallow the next line
+                    int eol = i + 2;
+                    while (eol < length && mdx.charAt(eol) != '\n' && mdx.charAt(eol) != '\r') {
+                        eol++;
+                    }
+                    yield eol < length ? eol + 1 : eol;
+                }
+                if (c == '/' && next == '*') {
+                    int close = i + 2;
+                    while (close + 1 < length && !(mdx.charAt(close) == '*' && mdx.charAt(close + 1) == '/')) {
+                        close++;
+                    }
+                    yield Math.min(close + 2, length);
+                }
+                yield i + 1;
+            }
+            default -> i + 1;
+            };
+            sb.append(mdx, i, end);
+            i = end;
+        }
+        return sb.toString();
+    }
+
+    private static int closing(CharSequence mdx, int from, char quote) {
+        int length = mdx.length();
+        int i = from;
+        while (i < length) {
+            if (mdx.charAt(i) == quote) {
+                if (i + 1 < length && mdx.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    public record Statistics(long hitCount, long missCount, long evictionCount, int size, long weight) {
+
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0 : (double) hitCount / requests;
+        }
+    }
+
+    private enum Kind {
+        MDX_STATEMENT, SELECT_STATEMENT, EXPRESSION, DMV_STATEMENT, DRILLTHROUGH_STATEMENT, EXPLAIN_STATEMENT,
+        REFRESH_STATEMENT, UPDATE_STATEMENT
+    }
+
+    private record Key(Kind kind, String text, Set<String> propertyWords) {
+    }
+
+    @FunctionalInterface
+    private interface Parse<T> {
+        T parse(MdxParser parser) throws MdxParserException;
+    }
+
+    private class CachingMdxParser implements MdxParser {
+
+        private final CharSequence mdx;
+        private final Set<String> propertyWords;
+        private final ParseLimits limits;
+        private String normalized;
+        private MdxParser parser;
+
+        CachingMdxParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits) {
+            this.mdx = mdx;
+            this.propertyWords = propertyWords;
+            this.limits = limits;
+        }
+
+        private MdxParser parser() throws MdxParserException {
+            if (parser == null) {
+                parser = delegate.newParser(mdx, propertyWords, limits);
+            }
+            return parser;
+        }
+
+        private <T> T cached(Kind kind, Class<T> type, Parse<T> parse) throws MdxParserException {
+            if (normalized == null) {
+                normalized = normalize(mdx);
+            }
+            Set<String> words = propertyWords == null ? Set.of() : propertyWords;
+            Object value = lookup(new Key(kind, normalized, words));
+            if (value != null) {
+                return type.cast(value);
+            }
+            T result = parse.parse(parser());
+            if (result != null) {
+                store(new Key(kind, normalized, Set.copyOf(words)), result);
+            }
+            return result;
+        }
+
+        @Override
+        public MdxStatement parseMdxStatement() throws MdxParserException {
+            return cached(Kind.MDX_STATEMENT, MdxStatement.class, MdxParser::parseMdxStatement);
+        }
+
+        @Override
+        public SelectStatement parseSelectStatement() throws MdxParserException {
+            return cached(Kind.SELECT_STATEMENT, SelectStatement.class, MdxParser::parseSelectStatement);
+        }
+
+        @Override
+        public MdxExpression parseExpression() throws MdxParserException {
+            return cached(Kind.EXPRESSION, MdxExpression.class, MdxParser::parseExpression);
+        }
+
+        @Override
+        public DMVStatement parseDMVStatement() throws MdxParserException {
+            return cached(Kind.DMV_STATEMENT, DMVStatement.class, MdxParser::parseDMVStatement);
+        }
+
+        @Override
+        public DrillthroughStatement parseDrillthroughStatement() throws MdxParserException {
+            return cached(Kind.DRILLTHROUGH_STATEMENT, DrillthroughStatement.class,
+                    MdxParser::parseDrillthroughStatement);
+        }
+
+        @Override
+        public ExplainStatement parseExplainStatement() throws MdxParserException {
+            return cached(Kind.EXPLAIN_STATEMENT, ExplainStatement.class, MdxParser::parseExplainStatement);
+        }
+
+        @Override
+        public RefreshStatement parseRefreshStatement() throws MdxParserException {
+            return cached(Kind.REFRESH_STATEMENT, RefreshStatement.class, MdxParser::parseRefreshStatement);
+        }
+
+        @Override
+        public UpdateStatement parseUpdateStatement() throws MdxParserException {
+            return cached(Kind.UPDATE_STATEMENT, UpdateStatement.class, MdxParser::parseUpdateStatement);
+        }
+
+        @Override
+        public SelectQueryAsteriskClause parseSelectQueryAsteriskClause() throws MdxParserException {
+            return parser().parseSelectQueryAsteriskClause();
+        }
+
+        @Override
+        public SelectQueryAxesClause parseSelectQueryAxesClause() throws MdxParserException {
+            return parser().parseSelectQueryAxesClause();
+        }
+
+        @Override
+        public SelectCubeClause parseSelectCubeClause() throws MdxParserException {
+            return parser().parseSelectCubeClause();
+        }
+
+        @Override
+        public SelectWithClause parseSelectWithClause() throws MdxParserException {
+            return parser().parseSelectWithClause();
+        }
+
+        @Override
+        public MemberPropertyDefinition parseMemberPropertyDefinition() throws MdxParserException {
+            return parser().parseMemberPropertyDefinition();
+        }
+
+        @Override
+        public List<? extends ReturnItem> parseReturnItems() throws MdxParserException {
+            return parser().parseReturnItems();
+        }
+
+        @Override
+        public SelectCellPropertyListClause parseSelectCellPropertyListClause() throws MdxParserException {
+            return parser().parseSelectCellPropertyListClause();
+        }
+
+        @Override
+        public SelectDimensionPropertyListClause parseSelectDimensionPropertyListClause()
+                throws MdxParserException {
+            return parser().parseSelectDimensionPropertyListClause();
+        }
+
+        @Override
+        public SelectQueryAxisClause parseSelectQueryAxisClause() throws MdxParserException {
+            return parser().parseSelectQueryAxisClause();
+        }
+
+        @Override
+        public Optional<SelectSlicerAxisClause> parseSelectSlicerAxisClause() throws MdxParserException {
+            return parser().parseSelectSlicerAxisClause();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+
+/**
+ * Parse result of a statement text that is updated by edits, e.g. in an
+ * editor.
+ *
+ * {@link #edit} parses the edited text and returns a new result, this one
+ * stays valid. Implementations may parse only the clause that encloses the
+ * edit and share all other subtrees with {@link #statement()}.
+ */
+public interface IncrementalParse {
+
+    String text();
+
+    MdxStatement statement();
+
+    IncrementalParse edit(TextEdit edit) throws MdxParserException;
+}
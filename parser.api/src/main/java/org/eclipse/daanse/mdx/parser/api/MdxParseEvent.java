@@ -0,0 +1,57 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of one statement or expression parse, committed by the
+ * parser implementations. It is disabled by default, enable
+ * {@value #NAME} in a recording settings file to collect it.
+ */
+@Name(MdxParseEvent.NAME)
+@Label("MDX Parse")
+@Category({ "Daanse", "MDX" })
+@Description("Parse of an MDX statement or expression")
+@Enabled(false)
+@StackTrace(false)
+public final class MdxParseEvent extends Event {
+
+    public static final String NAME = "org.eclipse.daanse.mdx.Parse";
+
+    /** See {@link ParseEvent#kind()}. */
+    @Label("Kind")
+    public String kind;
+
+    @Label("Characters")
+    @Description("Length of the parsed text")
+    public int characters;
+
+    @Label("Nodes")
+    @Description("Nodes of the syntax tree built by the parser, -1 if it built none")
+    public int nodes;
+
+    @Label("Provider")
+    @Description("Parser provider that created the parser")
+    public String provider;
+
+    @Label("Failed")
+    public boolean failed;
+}
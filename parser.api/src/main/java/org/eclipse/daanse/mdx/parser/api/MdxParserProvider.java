@@ -13,10 +13,122 @@
 */
 package org.eclipse.daanse.mdx.parser.api;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
 
 public interface MdxParserProvider {
 
+    /**
+     * @param propertyWords the words that make an unquoted {@code .Name} a
+     *                      property call; they match ignoring case, see
+     *                      {@link PropertyWords}
+     */
     MdxParser newParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException;
 
+    /**
+     * Creates a parser with a dictionary of property words built once by the
+     * caller. The default implementation passes {@link PropertyWords#asSet()},
+     * which the parsers map back to the dictionary without rebuilding it.
+     */
+    default MdxParser newParser(CharSequence mdx, PropertyWords propertyWords) throws MdxParserException {
+        return newParser(mdx, propertyWords.asSet());
+    }
+
+    /**
+     * Creates a parser whose parses fail with a
+     * {@link ParseLimitExceededException} as soon as they exceed
+     * {@code limits}, run past its timeout or their thread is interrupted. The
+     * default implementation only checks the text before the parser is created,
+     * see {@link ParseBudget#prescan}: the node limit is ignored, and the
+     * timeout and interrupts are not noticed once parsing has begun. Providers
+     * that can account nodes and watch the clock while parsing override it and
+     * start the clock when a parse begins.
+     */
+    default MdxParser newParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        if (mdx != null && !limits.equals(ParseLimits.UNLIMITED)) {
+            limits.start().prescan(mdx);
+        }
+        return newParser(mdx, propertyWords);
+    }
+
+    /**
+     * Parses {@code mdx} as with {@link MdxParser#parseMdxStatement()} into a
+     * result that can be updated by text edits. The default implementation
+     * parses the whole text again after every edit.
+     */
+    default IncrementalParse parseIncrementally(CharSequence mdx, Set<String> propertyWords)
+            throws MdxParserException {
+        return ReparsingIncrementalParse.parse(this, mdx, propertyWords);
+    }
+
+    /**
+     * Parses the {@code ;} separated statements read from {@code reader} one at
+     * a time. Parse errors are thrown as {@link UncheckedMdxParserException}
+     * when the failing statement is consumed. Closing the stream closes the
+     * reader.
+     */
+    default Stream<MdxStatement> parseStatements(Reader reader, Set<String> propertyWords) {
+        MdxStatementSplitter splitter = new MdxStatementSplitter(reader);
+        Iterator<MdxStatement> statements = new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return splitter.hasNext();
+            }
+
+            @Override
+            public MdxStatement next() {
+                String mdx = splitter.next();
+                try {
+                    return newParser(mdx, propertyWords).parseMdxStatement();
+                } catch (MdxParserException e) {
+                    throw new UncheckedMdxParserException(e);
+                }
+            }
+        };
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(statements, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(() -> {
+                    try {
+                        splitter.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    default Stream<MdxStatement> parseStatements(Path path, Charset charset, Set<String> propertyWords)
+            throws IOException {
+        return parseStatements(Files.newBufferedReader(path, charset), propertyWords);
+    }
+
+    default Stream<MdxStatement> parseStatements(Path path, Set<String> propertyWords) throws IOException {
+        return parseStatements(path, StandardCharsets.UTF_8, propertyWords);
+    }
+
+    /**
+     * Parses the statements contained in {@code buffer}, e.g. a memory mapped
+     * file. The buffer is decoded incrementally and its position is left
+     * untouched.
+     */
+    default Stream<MdxStatement> parseStatements(ByteBuffer buffer, Charset charset, Set<String> propertyWords) {
+        return parseStatements(new ByteBufferReader(buffer, charset), propertyWords);
+    }
+
 }
@@ -0,0 +1,184 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits a character stream into {@code ;} separated MDX statements.
+ *
+ * Semicolons inside string literals, bracketed identifiers and comments do not
+ * separate statements. Only the text of the current statement is buffered, so
+ * scripts of any size can be processed. Segments that contain nothing but
+ * whitespace and comments are skipped.
+ */
+public final class MdxStatementSplitter implements Iterator<String>, Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    private final StringBuilder statement = new StringBuilder();
+    private String next;
+
+    public MdxStatementSplitter(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readStatement();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readStatement() throws IOException {
+        while (true) {
+            statement.setLength(0);
+            boolean content = false;
+            int c;
+            while ((c = read()) != -1 && c != ';') {
+                switch (c) {
+                case '\'', '"' -> {
+                    statement.append((char) c);
+                    quoted((char) c);
+                    content = true;
+                }
+                case '[' -> {
+                    statement.append((char) c);
+                    quoted(']');
+                    content = true;
+                }
+                case '-', '/' -> {
+                    statement.append((char) c);
+                    int la = peek();
+                    if (la == c) {
+                        lineComment();
+                    } else if (c == '/' && la == '*') {
+                        blockComment();
+                    } else {
+                        content = true;
+                    }
+                }
+                default -> {
+                    statement.append((char) c);
+                    content |= !Character.isWhitespace(c);
+                }
+                }
+            }
+            if (content) {
+                return statement.toString();
+            }
+            if (c == -1) {
+                return null;
+            }
+        }
+    }
+
+    private void quoted(char close) throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (c == close) {
+                if (peek() != close) {
+                    return;
+                }
+                statement.append((char) read());
+            }
+        }
+    }
+
+    private void lineComment() throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (c == '\n' || c == '\r') {
+                return;
+            }
+        }
+    }
+
+    private void blockComment() throws IOException {
+        statement.append((char) read());
+        int previous = 0;
+        int c;
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int n;
+        do {
+            n = reader.read(buffer, 0, BUFFER_SIZE);
+        } while (n == 0);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
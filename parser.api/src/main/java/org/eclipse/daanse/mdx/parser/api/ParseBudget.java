@@ -0,0 +1,117 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException.Limit;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenKind;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenizer;
+
+/**
+ * The running account of one parse against its {@link ParseLimits}. Parsers
+ * call {@link #prescan} before they start and {@link #node()} for every node
+ * they create; both also check the deadline and the interrupt status of the
+ * current thread and of the thread that started the budget. Parts of a
+ * statement parsed on other threads may share one budget, and stop when the
+ * thread that waits for them is interrupted.
+ */
+public final class ParseBudget {
+
+    /** Nodes and tokens between two looks at the clock. */
+    private static final int CHECK_INTERVAL = 64;
+
+    private final ParseLimits limits;
+    private final long start;
+    private final long timeout;
+    private final Thread owner;
+    private final AtomicInteger nodes = new AtomicInteger();
+
+    ParseBudget(ParseLimits limits) {
+        this.limits = limits;
+        this.start = System.nanoTime();
+        this.timeout = limits.timeout().toNanos();
+        this.owner = Thread.currentThread();
+    }
+
+    public ParseLimits limits() {
+        return limits;
+    }
+
+    /**
+     * Checks length, tokens and nesting depth of {@code mdx} with a lexical
+     * scan that needs no stack, before a recursive parser gets to see it.
+     */
+    public void prescan(CharSequence mdx) throws ParseLimitExceededException {
+        check();
+        int length = mdx.length();
+        if (limits.maxInputLength() > 0 && length > limits.maxInputLength()) {
+            throw new ParseLimitExceededException(Limit.INPUT_LENGTH,
+                    "statement of " + length + " characters exceeds the limit of " + limits.maxInputLength());
+        }
+        if (limits.maxTokens() == 0 && limits.maxDepth() == 0) {
+            return;
+        }
+        MdxTokenizer tokenizer = new MdxTokenizer(mdx);
+        int tokens = 0;
+        int depth = 0;
+        for (MdxTokenKind kind = tokenizer.next(); kind != MdxTokenKind.EOF; kind = tokenizer.next()) {
+            tokens++;
+            if (limits.maxTokens() > 0 && tokens > limits.maxTokens()) {
+                throw new ParseLimitExceededException(Limit.TOKENS,
+                        "statement exceeds the limit of " + limits.maxTokens() + " tokens at offset "
+                                + tokenizer.start());
+            }
+            if (kind == MdxTokenKind.LPAREN || kind == MdxTokenKind.LBRACE) {
+                depth++;
+                if (limits.maxDepth() > 0 && depth > limits.maxDepth()) {
+                    throw new ParseLimitExceededException(Limit.DEPTH,
+                            "statement exceeds the nesting limit of " + limits.maxDepth() + " at offset "
+                                    + tokenizer.start());
+                }
+            } else if (kind == MdxTokenKind.RPAREN || kind == MdxTokenKind.RBRACE) {
+                depth--;
+            }
+            if (tokens % CHECK_INTERVAL == 0) {
+                check();
+            }
+        }
+    }
+
+    /** Accounts for one created node. */
+    public void node() throws ParseLimitExceededException {
+        int count = nodes.incrementAndGet();
+        if (limits.maxNodes() > 0 && count > limits.maxNodes()) {
+            throw new ParseLimitExceededException(Limit.NODES,
+                    "statement exceeds the limit of " + limits.maxNodes() + " nodes");
+        }
+        if (count % CHECK_INTERVAL == 0) {
+            check();
+        }
+    }
+
+    /**
+     * Fails if the current thread or the thread that started the budget was
+     * interrupted, or the deadline has passed.
+     */
+    public void check() throws ParseLimitExceededException {
+        if (Thread.currentThread().isInterrupted() || owner.isInterrupted()) {
+            throw new ParseLimitExceededException(Limit.INTERRUPTED, "parse interrupted");
+        }
+        if (timeout > 0 && System.nanoTime() - start > timeout) {
+            throw new ParseLimitExceededException(Limit.TIMEOUT,
+                    "parse exceeds the timeout of " + limits.timeout());
+        }
+    }
+}
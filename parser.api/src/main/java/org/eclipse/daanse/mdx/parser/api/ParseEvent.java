@@ -0,0 +1,45 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+
+/**
+ * One parse as reported to a {@link ParseListener}.
+ *
+ * @param kind          what was parsed, the name of the statement interface
+ *                      like {@code SelectStatement}, {@code MdxStatement} for a
+ *                      statement of unknown kind that failed, or
+ *                      {@code Expression}
+ * @param inputLength   length of the text in characters
+ * @param tokenCount    tokens read by the parser, {@code -1} if unknown
+ * @param nodeCount     nodes of the syntax tree the parser built, {@code -1}
+ *                      if the parser built none, like the operator precedence
+ *                      expression parser of the ccc provider
+ * @param nanos         duration of the parse
+ * @param failed        whether the parse threw
+ * @param failureOffset offset of the token the parse failed at, {@code -1}
+ *                      if it did not fail or the position is unknown
+ */
+public record ParseEvent(String kind, int inputLength, int tokenCount, int nodeCount, long nanos, boolean failed,
+        int failureOffset) {
+
+    public static final String MDX_STATEMENT = "MdxStatement";
+    public static final String EXPRESSION = "Expression";
+
+    /** The {@link #kind()} of a parsed statement. */
+    public static String kind(MdxStatement statement) {
+        return MdxStatement.kind(statement);
+    }
+}
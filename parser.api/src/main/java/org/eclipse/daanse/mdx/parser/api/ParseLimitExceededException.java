@@ -0,0 +1,38 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+/**
+ * A parse was stopped because it exceeded one of its {@link ParseLimits}, ran
+ * past its deadline or its thread was interrupted.
+ */
+public class ParseLimitExceededException extends MdxParserException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Limit {
+        INPUT_LENGTH, TOKENS, DEPTH, NODES, TIMEOUT, INTERRUPTED
+    }
+
+    private final Limit limit;
+
+    public ParseLimitExceededException(Limit limit, String message) {
+        super(message);
+        this.limit = limit;
+    }
+
+    public Limit limit() {
+        return limit;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Bounds for the parse of one statement, see
+ * {@link MdxParserProvider#newParser(CharSequence, java.util.Set, ParseLimits)}.
+ * A limit of {@code 0} and a zero {@code timeout} mean no limit.
+ *
+ * @param maxInputLength maximal length of the text in characters
+ * @param maxTokens      maximal number of tokens, comments not counted
+ * @param maxDepth       maximal nesting of parentheses and braces
+ * @param maxNodes       maximal number of expression nodes created
+ * @param timeout        maximal wall clock time from the start of the parse
+ *                       to its end; the time between the creation of the
+ *                       parser and its first parse does not count
+ */
+public record ParseLimits(int maxInputLength, int maxTokens, int maxDepth, int maxNodes, Duration timeout) {
+
+    public static final ParseLimits UNLIMITED = new ParseLimits(0, 0, 0, 0, Duration.ZERO);
+
+    public ParseLimits {
+        if (maxInputLength < 0 || maxTokens < 0 || maxDepth < 0 || maxNodes < 0) {
+            throw new IllegalArgumentException("limits must not be negative");
+        }
+        Objects.requireNonNull(timeout, "timeout");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+    }
+
+    public ParseLimits withMaxInputLength(int maxInputLength) {
+        return new ParseLimits(maxInputLength, maxTokens, maxDepth, maxNodes, timeout);
+    }
+
+    public ParseLimits withMaxTokens(int maxTokens) {
+        return new ParseLimits(maxInputLength, maxTokens, maxDepth, maxNodes, timeout);
+    }
+
+    public ParseLimits withMaxDepth(int maxDepth) {
+        return new ParseLimits(maxInputLength, maxTokens, maxDepth, maxNodes, timeout);
+    }
+
+    public ParseLimits withMaxNodes(int maxNodes) {
+        return new ParseLimits(maxInputLength, maxTokens, maxDepth, maxNodes, timeout);
+    }
+
+    public ParseLimits withTimeout(Duration timeout) {
+        return new ParseLimits(maxInputLength, maxTokens, maxDepth, maxNodes, timeout);
+    }
+
+    /** Starts the clock of a parse under these limits. */
+    public ParseBudget start() {
+        return new ParseBudget(this);
+    }
+}
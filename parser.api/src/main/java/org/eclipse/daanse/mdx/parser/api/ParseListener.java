@@ -0,0 +1,32 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+/**
+ * Receives an event for every statement or expression parsed by the parsers it
+ * was given to. It is called on the parsing thread after each parse, so it
+ * should only record the event.
+ */
+@FunctionalInterface
+public interface ParseListener {
+
+    /**
+     * Ignores all events. Parsers compare against it and skip timing and
+     * counting altogether, so it costs nothing.
+     */
+    ParseListener NOOP = event -> {
+    };
+
+    void parsed(ParseEvent event);
+}
@@ -0,0 +1,231 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The words that turn an unquoted {@code .Name} into a property call, as a
+ * dictionary built once for any number of parsers.
+ *
+ * Lookup is case insensitive character by character and allocation free: the
+ * name is hashed with a seed chosen at construction so that no two words share
+ * a slot, and only the single candidate word is compared. Ids are the indexes
+ * of the upper case words in alphabetical order.
+ *
+ * The words themselves are folded to upper case as well, so {@code "key"}
+ * makes {@code .KEY} and {@code .Key} property calls like {@code "KEY"} does.
+ * The parsers used to look up the upper cased name in the given set, where a
+ * word given in lower or mixed case never matched.
+ *
+ * Parsers take the words as {@link Set}; {@link #asSet()} is a set of the upper
+ * case words that {@link #from(Set)} maps back to this dictionary without a
+ * rebuild. Callers that parse with the same words again build the dictionary
+ * once and pass it along; the providers keep the dictionary of the last set
+ * they were given in a {@link PropertyWordsCache}.
+ */
+public final class PropertyWords {
+
+    public static final int NONE = -1;
+
+    public static final PropertyWords EMPTY = new PropertyWords(new String[0]);
+
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int SEED_STEP = 0x9E3779B9;
+    private static final int SEED_TRIES = 64;
+
+    private final String[] words;
+    private final Set<String> set;
+    private final int minLength;
+    private final int maxLength;
+    private final int seed;
+    private final int[] slots;
+
+    private PropertyWords(String[] words) {
+        this.words = words;
+        this.set = new WordSet();
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (String word : words) {
+            min = Math.min(min, word.length());
+            max = Math.max(max, word.length());
+        }
+        this.minLength = min;
+        this.maxLength = max;
+
+        int length = 2;
+        while (length < 2 * words.length) {
+            length <<= 1;
+        }
+        int found = 0;
+        int[] placed = null;
+        search: for (;; length <<= 1) {
+            for (int i = 1; i <= SEED_TRIES; i++) {
+                placed = place(i * SEED_STEP, length);
+                if (placed != null) {
+                    found = i * SEED_STEP;
+                    break search;
+                }
+            }
+        }
+        this.seed = found;
+        this.slots = placed;
+    }
+
+    public static PropertyWords of(String... words) {
+        return of(Arrays.asList(words));
+    }
+
+    public static PropertyWords of(Collection<String> words) {
+        String[] upperCase = upperCaseWords(words);
+        return upperCase.length == 0 ? EMPTY : new PropertyWords(upperCase);
+    }
+
+    /**
+     * The dictionary of a set of words: the dictionary itself for the
+     * {@link #asSet()} view of one, otherwise a dictionary built from the set.
+     * {@code null} is empty.
+     */
+    public static PropertyWords from(Set<String> words) {
+        if (words == null) {
+            return EMPTY;
+        }
+        if (words instanceof PropertyWords.WordSet view) {
+            return view.owner();
+        }
+        return of(words);
+    }
+
+    /**
+     * @return the id of the word equal to {@code name} ignoring case, or
+     *         {@link #NONE}
+     */
+    public int id(CharSequence name) {
+        int length = name.length();
+        if (length < minLength || length > maxLength) {
+            return NONE;
+        }
+        int id = slots[hash(name, seed) & (slots.length - 1)] - 1;
+        if (id < 0) {
+            return NONE;
+        }
+        String word = words[id];
+        if (word.length() != length) {
+            return NONE;
+        }
+        for (int i = 0; i < length; i++) {
+            if (fold(name.charAt(i)) != word.charAt(i)) {
+                return NONE;
+            }
+        }
+        return id;
+    }
+
+    public boolean contains(CharSequence name) {
+        return id(name) != NONE;
+    }
+
+    /** The upper case word of an id. */
+    public String word(int id) {
+        return words[id];
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * The upper case words as unmodifiable set, to be passed where parsers take
+     * a {@link Set}. Its {@code contains} is exact like that of any other set.
+     */
+    public Set<String> asSet() {
+        return set;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(words);
+    }
+
+    private static String[] upperCaseWords(Collection<String> words) {
+        TreeSet<String> upperCase = new TreeSet<>();
+        for (String word : words) {
+            StringBuilder sb = new StringBuilder(word.length());
+            for (int i = 0; i < word.length(); i++) {
+                sb.append(fold(word.charAt(i)));
+            }
+            upperCase.add(sb.toString());
+        }
+        return upperCase.toArray(String[]::new);
+    }
+
+    private int[] place(int seed, int length) {
+        int[] candidate = new int[length];
+        for (int id = 0; id < words.length; id++) {
+            int slot = hash(words[id], seed) & (length - 1);
+            if (candidate[slot] != 0) {
+                return null;
+            }
+            candidate[slot] = id + 1;
+        }
+        return candidate;
+    }
+
+    private static int hash(CharSequence name, int seed) {
+        int h = seed;
+        for (int i = 0; i < name.length(); i++) {
+            h = (h ^ fold(name.charAt(i))) * FNV_PRIME;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+        return Character.toUpperCase(c);
+    }
+
+    final class WordSet extends AbstractSet<String> {
+
+        PropertyWords owner() {
+            return PropertyWords.this;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof String s)) {
+                return false;
+            }
+            int id = id(s);
+            return id != NONE && words[id].equals(s);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return List.of(words).iterator();
+        }
+
+        @Override
+        public int size() {
+            return words.length;
+        }
+    }
+}
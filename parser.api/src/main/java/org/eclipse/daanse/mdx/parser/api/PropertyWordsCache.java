@@ -0,0 +1,46 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.Set;
+
+/**
+ * The {@link PropertyWords} of the words a provider was last given, so that a
+ * provider that is passed the same words for every parse builds its dictionary
+ * once. The words are recognized by content: the cache keeps its own copy and
+ * compares the given set with it, so a set that is changed after it was passed
+ * gets a new dictionary.
+ */
+public final class PropertyWordsCache {
+
+    private record Entry(Set<String> copy, PropertyWords words) {
+    }
+
+    private volatile Entry last;
+
+    /** The dictionary of {@code words}, see {@link PropertyWords#from(Set)}. */
+    public PropertyWords get(Set<String> words) {
+        if (words == null || words instanceof PropertyWords.WordSet) {
+            return PropertyWords.from(words);
+        }
+        Entry entry = last;
+        if (entry != null && entry.copy().size() == words.size() && entry.copy().equals(words)) {
+            return entry.words();
+        }
+        Set<String> copy = Set.copyOf(words);
+        PropertyWords built = PropertyWords.of(copy);
+        last = new Entry(copy, built);
+        return built;
+    }
+}
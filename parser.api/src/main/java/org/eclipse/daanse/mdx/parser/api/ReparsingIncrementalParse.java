@@ -0,0 +1,37 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+
+/**
+ * {@link IncrementalParse} that parses the whole text again after every edit.
+ */
+record ReparsingIncrementalParse(MdxParserProvider provider, Set<String> propertyWords, String text,
+        MdxStatement statement) implements IncrementalParse {
+
+    static IncrementalParse parse(MdxParserProvider provider, CharSequence mdx, Set<String> propertyWords)
+            throws MdxParserException {
+        String text = mdx == null ? null : mdx.toString();
+        MdxStatement statement = provider.newParser(text, propertyWords).parseMdxStatement();
+        return new ReparsingIncrementalParse(provider, propertyWords, text, statement);
+    }
+
+    @Override
+    public IncrementalParse edit(TextEdit edit) throws MdxParserException {
+        return parse(provider, edit.apply(text), propertyWords);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.Objects;
+
+/**
+ * Replacement of {@code removedLength} characters at {@code offset} of a
+ * statement text by {@code insertedText}.
+ */
+public record TextEdit(int offset, int removedLength, String insertedText) {
+
+    public TextEdit {
+        if (offset < 0 || removedLength < 0) {
+            throw new IllegalArgumentException("offset and removedLength must not be negative");
+        }
+        Objects.requireNonNull(insertedText, "insertedText");
+    }
+
+    /** Change of the text length by this edit. */
+    public int delta() {
+        return insertedText.length() - removedLength;
+    }
+
+    public String apply(CharSequence text) {
+        if (offset + removedLength > text.length()) {
+            throw new IllegalArgumentException("edit [" + offset + ", " + (offset + removedLength)
+                    + ") exceeds text of length " + text.length());
+        }
+        return new StringBuilder(text.length() + delta()).append(text, 0, offset).append(insertedText)
+                .append(text, offset + removedLength, text.length()).toString();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import java.util.Objects;
+
+/**
+ * Wraps an {@link MdxParserException} where a checked exception can not be
+ * thrown, e.g. while consuming a {@link java.util.stream.Stream} of statements.
+ */
+public class UncheckedMdxParserException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UncheckedMdxParserException(MdxParserException cause) {
+        super(Objects.requireNonNull(cause));
+    }
+
+    public UncheckedMdxParserException(String message, MdxParserException cause) {
+        super(message, Objects.requireNonNull(cause));
+    }
+
+    @Override
+    public synchronized MdxParserException getCause() {
+        return (MdxParserException) super.getCause();
+    }
+}
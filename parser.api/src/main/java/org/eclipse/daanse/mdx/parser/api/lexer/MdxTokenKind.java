@@ -0,0 +1,143 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api.lexer;
+
+/**
+ * Token kinds of the MDX grammar. The names are those of the token types of
+ * the CongoCC based parsers, so token streams can be compared by name.
+ */
+public enum MdxTokenKind {
+
+    // keywords
+    AND("AND"),
+    AS("AS"),
+    AXIS("AXIS"),
+    BEGIN("BEGIN"),
+    BY("BY"),
+    CASE("CASE"),
+    CALCULATION("CALCULATION"),
+    CAST("CAST"),
+    CELL("CELL"),
+    CHAPTERS("CHAPTERS"),
+    CREATE("CREATE"),
+    COLUMNS("COLUMNS"),
+    COMMIT("COMMIT"),
+    CUBE("CUBE"),
+    CURRENTCUBE("CURRENTCUBE"),
+    DIMENSION("DIMENSION"),
+    DRILLTHROUGH("DRILLTHROUGH"),
+    ELSE("ELSE"),
+    EMPTY("EMPTY"),
+    END("END"),
+    EXPLAIN("EXPLAIN"),
+    FIRSTROWSET("FIRSTROWSET"),
+    FOR("FOR"),
+    FROM("FROM"),
+    IN("IN"),
+    IS("IS"),
+    MATCHES("MATCHES"),
+    MAXROWS("MAXROWS"),
+    MEMBER("MEMBER"),
+    MEASURE("MEASURE"),
+    NON("NON"),
+    NOT("NOT"),
+    NULL("NULL"),
+    ON("ON"),
+    OR("OR"),
+    PAGES("PAGES"),
+    PLAN("PLAN"),
+    PROPERTIES("PROPERTIES"),
+    REFRESH("REFRESH"),
+    RETURN("RETURN"),
+    ROLLBACK("ROLLBACK"),
+    ROWS("ROWS"),
+    SECTIONS("SECTIONS"),
+    SELECT("SELECT"),
+    SESSION("SESSION"),
+    SET("SET"),
+    THEN("THEN"),
+    TRAN("TRAN"),
+    TRANSACTION("TRANSACTION"),
+    UPDATE("UPDATE"),
+    USE_EQUAL_ALLOCATION("USE_EQUAL_ALLOCATION"),
+    USE_EQUAL_INCREMENT("USE_EQUAL_INCREMENT"),
+    USE_WEIGHTED_ALLOCATION("USE_WEIGHTED_ALLOCATION"),
+    USE_WEIGHTED_INCREMENT("USE_WEIGHTED_INCREMENT"),
+    WHEN("WHEN"),
+    WHERE("WHERE"),
+    XOR("XOR"),
+    WITH("WITH"),
+    EXISTING("EXISTING"),
+    /** Used as a literal in the grammar, so the generated type name differs. */
+    CALCULATED("CALCULATED"),
+    SYSTEM_CUBE("$SYSTEM"),
+
+    // separators
+    LPAREN(null),
+    RPAREN(null),
+    LBRACE(null),
+    RBRACE(null),
+    LBRACKET(null),
+    RBRACKET(null),
+    COMMA(null),
+    SEMICOLON(null),
+    DOT(null),
+
+    // operators
+    ASTERISK(null),
+    BANG(null),
+    COLON(null),
+    CONCAT(null),
+    EQ(null),
+    GE(null),
+    GT(null),
+    LE(null),
+    LT(null),
+    MINUS(null),
+    NE(null),
+    PLUS(null),
+    SOLIDUS(null),
+    ATSIGN(null),
+
+    // identifiers and literals
+    ID(null),
+    QUOTED_ID(null),
+    AMP_QUOTED_ID(null),
+    AMP_UNQUOTED_ID(null),
+    UNSIGNED_INTEGER_LITERAL(null),
+    APPROX_NUMERIC_LITERAL(null),
+    DECIMAL_NUMERIC_LITERAL(null),
+    FLOATING_POINT_LITERAL(null),
+    SINGLE_QUOTED_STRING(null),
+    DOUBLE_QUOTED_STRING(null),
+
+    /** A character that starts no token, or an unterminated string. */
+    INVALID(null),
+    EOF(null);
+
+    private final String keyword;
+
+    MdxTokenKind(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /** The upper case image of a keyword, {@code null} for other kinds. */
+    public String keyword() {
+        return keyword;
+    }
+
+    public boolean isKeyword() {
+        return keyword != null;
+    }
+}
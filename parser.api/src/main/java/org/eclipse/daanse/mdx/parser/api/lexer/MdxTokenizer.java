@@ -0,0 +1,393 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api.lexer;
+
+/**
+ * Hand written MDX tokenizer with the token rules of the CongoCC grammars.
+ *
+ * The tokenizer is a cursor over the input: {@link #next()} advances to the
+ * next token and reports its kind, the token itself is described by
+ * {@link #start()} and {@link #end()}. Apart from {@link #image()} nothing is
+ * allocated per token. ASCII characters are classified by a lookup table and
+ * keywords are recognized case insensitively with a perfect hash table, so
+ * identifiers are never copied or upper cased. Whitespace and comments are
+ * skipped.
+ */
+public final class MdxTokenizer {
+
+    private static final byte OTHER = 0;
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 2;
+    private static final byte SPACE = 3;
+
+    private static final byte[] ASCII = new byte[128];
+
+    private static final int KEYWORD_MAX_LENGTH;
+    private static final int KEYWORD_MASK;
+    private static final int KEYWORD_SEED;
+    private static final MdxTokenKind[] KEYWORDS;
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII[c] = LETTER;
+            ASCII[c - 'a' + 'A'] = LETTER;
+        }
+        ASCII['_'] = LETTER;
+        ASCII['$'] = LETTER;
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII[c] = DIGIT;
+        }
+        for (char c : new char[] { ' ', '\t', '\n', '\r', '\f' }) {
+            ASCII[c] = SPACE;
+        }
+
+        int maxLength = 0;
+        int count = 0;
+        for (MdxTokenKind kind : MdxTokenKind.values()) {
+            if (kind.isKeyword()) {
+                maxLength = Math.max(maxLength, kind.keyword().length());
+                count++;
+            }
+        }
+        KEYWORD_MAX_LENGTH = maxLength;
+        int size = Integer.highestOneBit(count * 8);
+        KEYWORD_MASK = size - 1;
+        // search a seed that maps every keyword to its own slot
+        int seed = 0;
+        MdxTokenKind[] table;
+        do {
+            seed++;
+            table = keywordTable(seed, size);
+        } while (table == null);
+        KEYWORD_SEED = seed;
+        KEYWORDS = table;
+    }
+
+    private static MdxTokenKind[] keywordTable(int seed, int size) {
+        MdxTokenKind[] table = new MdxTokenKind[size];
+        for (MdxTokenKind kind : MdxTokenKind.values()) {
+            if (kind.isKeyword()) {
+                String keyword = kind.keyword();
+                int slot = hash(keyword, 0, keyword.length(), seed) & (size - 1);
+                if (table[slot] != null) {
+                    return null;
+                }
+                table[slot] = kind;
+            }
+        }
+        return table;
+    }
+
+    private static int hash(CharSequence text, int from, int to, int seed) {
+        int h = seed;
+        for (int i = from; i < to; i++) {
+            h = h * 31 + upper(text.charAt(i));
+        }
+        h ^= h >>> 15;
+        h *= 0x2c1b3c6d;
+        return h ^ (h >>> 12);
+    }
+
+    private static char upper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private CharSequence input;
+    private int length;
+    private int position;
+    private int start;
+    private int end;
+    private MdxTokenKind kind;
+
+    public MdxTokenizer(CharSequence input) {
+        reset(input);
+    }
+
+    /** Starts over with {@code input}, so one tokenizer can serve many statements. */
+    public void reset(CharSequence input) {
+        this.input = input;
+        this.length = input.length();
+        this.position = 0;
+        this.start = 0;
+        this.end = 0;
+        this.kind = null;
+    }
+
+    public CharSequence input() {
+        return input;
+    }
+
+    /** The kind of the current token, {@code null} before the first {@link #next()}. */
+    public MdxTokenKind kind() {
+        return kind;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    public String image() {
+        return input.subSequence(start, end).toString();
+    }
+
+    /** Advances to the next token, {@link MdxTokenKind#EOF} at the end of the input. */
+    public MdxTokenKind next() {
+        skipWhitespaceAndComments();
+        start = position;
+        if (position >= length) {
+            end = length;
+            return kind = MdxTokenKind.EOF;
+        }
+        char c = input.charAt(position);
+        char la = position + 1 < length ? input.charAt(position + 1) : 0;
+        MdxTokenKind result = switch (c) {
+        case '(' -> single(MdxTokenKind.LPAREN);
+        case ')' -> single(MdxTokenKind.RPAREN);
+        case '{' -> single(MdxTokenKind.LBRACE);
+        case '}' -> single(MdxTokenKind.RBRACE);
+        case ']' -> single(MdxTokenKind.RBRACKET);
+        case ',' -> single(MdxTokenKind.COMMA);
+        case ';' -> single(MdxTokenKind.SEMICOLON);
+        case '*' -> single(MdxTokenKind.ASTERISK);
+        case '!' -> single(MdxTokenKind.BANG);
+        case ':' -> single(MdxTokenKind.COLON);
+        case '=' -> single(MdxTokenKind.EQ);
+        case '-' -> single(MdxTokenKind.MINUS);
+        case '+' -> single(MdxTokenKind.PLUS);
+        case '/' -> single(MdxTokenKind.SOLIDUS);
+        case '@' -> single(MdxTokenKind.ATSIGN);
+        case '|' -> la == '|' ? pair(MdxTokenKind.CONCAT) : single(MdxTokenKind.INVALID);
+        case '<' -> la == '=' ? pair(MdxTokenKind.LE) : la == '>' ? pair(MdxTokenKind.NE) : single(MdxTokenKind.LT);
+        case '>' -> la == '=' ? pair(MdxTokenKind.GE) : single(MdxTokenKind.GT);
+        case '.' -> isAsciiDigit(la) ? number() : single(MdxTokenKind.DOT);
+        case '[' -> quoted(position + 1, ']', MdxTokenKind.QUOTED_ID, MdxTokenKind.LBRACKET);
+        case '\'' -> quoted(position + 1, '\'', MdxTokenKind.SINGLE_QUOTED_STRING, MdxTokenKind.INVALID);
+        case '"' -> quoted(position + 1, '"', MdxTokenKind.DOUBLE_QUOTED_STRING, MdxTokenKind.INVALID);
+        case '&' -> ampersand(la);
+        default -> {
+            if (isAsciiDigit(c)) {
+                yield number();
+            }
+            if (isLetter(c)) {
+                yield identifier();
+            }
+            yield single(MdxTokenKind.INVALID);
+        }
+        };
+        end = position;
+        return kind = result;
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (position < length) {
+            char c = input.charAt(position);
+            if (c < 128 && ASCII[c] == SPACE) {
+                position++;
+                continue;
+            }
+            char la = position + 1 < length ? input.charAt(position + 1) : 0;
+            if ((c == '/' || c == '-') && la == c) {
+                position += 2;
+                while (position < length) {
+                    char d = input.charAt(position++);
+                    if (d == '\n') {
+                        break;
+                    }
+                    if (d == '\r') {
+                        if (position < length && input.charAt(position) == '\n') {
+                            position++;
+                        }
+                        break;
+                    }
+                }
+            } else if (c == '/' && la == '*') {
+                // a formal comment "/**" consumes one more character before looking for "*/"
+                boolean formal = position + 3 < length && input.charAt(position + 2) == '*'
+                        && input.charAt(position + 3) != '/';
+                position += formal ? 4 : 2;
+                while (position < length
+                        && !(input.charAt(position) == '*' && position + 1 < length && input.charAt(position + 1) == '/')) {
+                    position++;
+                }
+                position = Math.min(position + 2, length);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private MdxTokenKind single(MdxTokenKind single) {
+        position++;
+        return single;
+    }
+
+    private MdxTokenKind pair(MdxTokenKind pair) {
+        position += 2;
+        return pair;
+    }
+
+    private MdxTokenKind identifier() {
+        int i = position + 1;
+        while (i < length && isLetterOrDigit(input.charAt(i))) {
+            i++;
+        }
+        MdxTokenKind keyword = keyword(position, i);
+        position = i;
+        return keyword != null ? keyword : MdxTokenKind.ID;
+    }
+
+    private MdxTokenKind keyword(int from, int to) {
+        int wordLength = to - from;
+        if (wordLength < 2 || wordLength > KEYWORD_MAX_LENGTH) {
+            return null;
+        }
+        MdxTokenKind candidate = KEYWORDS[hash(input, from, to, KEYWORD_SEED) & KEYWORD_MASK];
+        if (candidate == null) {
+            return null;
+        }
+        String keyword = candidate.keyword();
+        if (keyword.length() != wordLength) {
+            return null;
+        }
+        for (int i = 0; i < wordLength; i++) {
+            if (upper(input.charAt(from + i)) != keyword.charAt(i)) {
+                return null;
+            }
+        }
+        return candidate;
+    }
+
+    private MdxTokenKind ampersand(char la) {
+        if (la == '[') {
+            MdxTokenKind quoted = quoted(position + 2, ']', MdxTokenKind.AMP_QUOTED_ID, null);
+            if (quoted != null) {
+                return quoted;
+            }
+        }
+        if ((la >= 'a' && la <= 'z') || (la >= 'A' && la <= 'Z')) {
+            int i = position + 2;
+            while (i < length && isLetterOrDigit(input.charAt(i))) {
+                i++;
+            }
+            position = i;
+            return MdxTokenKind.AMP_UNQUOTED_ID;
+        }
+        return single(MdxTokenKind.INVALID);
+    }
+
+    /**
+     * Scans up to the closing {@code quote}, where a doubled quote stands for
+     * the quote itself. Like the generated lexers this takes the longest
+     * terminated match, so a trailing doubled quote closes the token.
+     */
+    private MdxTokenKind quoted(int from, char quote, MdxTokenKind terminated, MdxTokenKind unterminated) {
+        int accept = -1;
+        int i = from;
+        while (i < length) {
+            if (input.charAt(i) == quote) {
+                accept = i + 1;
+                if (i + 1 < length && input.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                break;
+            }
+            i++;
+        }
+        if (accept >= 0) {
+            position = accept;
+            return terminated;
+        }
+        if (unterminated == MdxTokenKind.INVALID) {
+            position = length;
+        } else if (unterminated != null) {
+            position++;
+        }
+        return unterminated;
+    }
+
+    private MdxTokenKind number() {
+        int i = position;
+        while (i < length && isAsciiDigit(input.charAt(i))) {
+            i++;
+        }
+        MdxTokenKind result = MdxTokenKind.UNSIGNED_INTEGER_LITERAL;
+        if (i < length && input.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(input.charAt(i))) {
+                i++;
+            }
+            result = MdxTokenKind.DECIMAL_NUMERIC_LITERAL;
+        }
+        if (i < length && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            int j = i + 1;
+            if (j < length && (input.charAt(j) == '+' || input.charAt(j) == '-')) {
+                j++;
+            }
+            if (j < length && isAsciiDigit(input.charAt(j))) {
+                while (j < length && isAsciiDigit(input.charAt(j))) {
+                    j++;
+                }
+                i = j;
+                result = MdxTokenKind.APPROX_NUMERIC_LITERAL;
+            }
+        }
+        if (i < length) {
+            char suffix = input.charAt(i);
+            if (suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D') {
+                i++;
+                result = MdxTokenKind.FLOATING_POINT_LITERAL;
+            }
+        }
+        position = i;
+        return result;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** {@code LETTER} of the grammar. */
+    static boolean isLetter(char c) {
+        if (c < 128) {
+            return ASCII[c] == LETTER;
+        }
+        return (c >= 'À' && c <= 'Ö') || (c >= 'Ø' && c <= 'ö') || (c >= 'ø' && c <= '῿')
+                || (c >= '぀' && c <= '㆏') || (c >= '㌀' && c <= '㍿')
+                || (c >= '㐀' && c <= '㴭') || (c >= '一' && c <= '鿿')
+                || (c >= '豈' && c <= '﫿');
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        if (c < 128) {
+            return ASCII[c] == LETTER || ASCII[c] == DIGIT;
+        }
+        return isLetter(c) || isDigit(c);
+    }
+
+    /** Non ASCII {@code DIGIT} of the grammar, all of them lie in letter ranges. */
+    private static boolean isDigit(char c) {
+        return (c >= '٠' && c <= '٩') || (c >= '۰' && c <= '۹') || (c >= '०' && c <= '९')
+                || (c >= '০' && c <= '৯') || (c >= '੦' && c <= '੯')
+                || (c >= '૦' && c <= '૯') || (c >= '୦' && c <= '୯')
+                || (c >= '௧' && c <= '௯') || (c >= '౦' && c <= '౯')
+                || (c >= '೦' && c <= '೯') || (c >= '൦' && c <= '൯')
+                || (c >= '๐' && c <= '๙') || (c >= '໐' && c <= '໙')
+                || (c >= '၀' && c <= '၉');
+    }
+}
@@ -0,0 +1,90 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.junit.jupiter.api.Test;
+
+class CachingMdxParserProviderTest {
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private final MdxParserProvider delegate = (mdx, propertyWords) -> (MdxParser) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] { MdxParser.class }, (proxy, method, args) -> {
+                parses.incrementAndGet();
+                return (RefreshStatement) () -> null;
+            });
+
+    @Test
+    void sameTextIsParsedOnce() throws MdxParserException {
+        CachingMdxParserProvider provider = new CachingMdxParserProvider(delegate, 1000);
+
+        MdxStatement first = provider.newParser("REFRESH CUBE [Sales]", Set.of()).parseMdxStatement();
+        MdxStatement second = provider.newParser("  REFRESH   CUBE\r\n[Sales] ", Set.of()).parseMdxStatement();
+
+        assertThat(second).isSameAs(first);
+        assertThat(parses).hasValue(1);
+        assertThat(provider.statistics().hitCount()).isEqualTo(1);
+        assertThat(provider.statistics().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void propertyWordsArePartOfTheKey() throws MdxParserException {
+        CachingMdxParserProvider provider = new CachingMdxParserProvider(delegate, 1000);
+
+        provider.newParser("REFRESH CUBE [Sales]", Set.of()).parseMdxStatement();
+        provider.newParser("REFRESH CUBE [Sales]", Set.of("CAPTION")).parseMdxStatement();
+
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    void quotedTextIsSignificant() throws MdxParserException {
+        CachingMdxParserProvider provider = new CachingMdxParserProvider(delegate, 1000);
+
+        provider.newParser("REFRESH CUBE [Sales  2]", Set.of()).parseMdxStatement();
+        provider.newParser("REFRESH CUBE [Sales 2]", Set.of()).parseMdxStatement();
+
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    void lineCommentKeepsLineBreak() {
+        assertThat(CachingMdxParserProvider.normalize("SELECT -- x\n  FROM [c]"))
+                .isEqualTo("SELECT -- x\n FROM [c]");
+    }
+
+    @Test
+    void eldestEntriesAreEvicted() throws MdxParserException {
+        CachingMdxParserProvider provider = new CachingMdxParserProvider(delegate, 45);
+
+        provider.newParser("REFRESH CUBE [A]", Set.of()).parseMdxStatement();
+        provider.newParser("REFRESH CUBE [B]", Set.of()).parseMdxStatement();
+        provider.newParser("REFRESH CUBE [A]", Set.of()).parseMdxStatement();
+        provider.newParser("REFRESH CUBE [C]", Set.of()).parseMdxStatement();
+
+        assertThat(provider.statistics().evictionCount()).isEqualTo(1);
+        assertThat(provider.statistics().size()).isEqualTo(2);
+
+        provider.newParser("REFRESH CUBE [A]", Set.of()).parseMdxStatement();
+        assertThat(parses).hasValue(3);
+    }
+}
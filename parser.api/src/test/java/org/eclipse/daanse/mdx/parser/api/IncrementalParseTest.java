@@ -0,0 +1,60 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.junit.jupiter.api.Test;
+
+class IncrementalParseTest {
+
+    private final List<String> parsed = new ArrayList<>();
+
+    private final MdxParserProvider provider = (mdx, propertyWords) -> (MdxParser) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] { MdxParser.class }, (proxy, method, args) -> {
+                parsed.add(mdx.toString());
+                return (RefreshStatement) () -> null;
+            });
+
+    @Test
+    void textEditReplacesRange() {
+        assertThat(new TextEdit(13, 7, "[Budget]").apply("REFRESH CUBE [Sales]")).isEqualTo("REFRESH CUBE [Budget]");
+        assertThat(new TextEdit(0, 0, " ").apply("x")).isEqualTo(" x");
+        assertThat(new TextEdit(1, 0, "y").delta()).isEqualTo(1);
+    }
+
+    @Test
+    void textEditOutsideTextIsRejected() {
+        assertThatThrownBy(() -> new TextEdit(3, 2, "").apply("abcd")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TextEdit(-1, 0, "")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void defaultImplementationParsesEditedText() throws MdxParserException {
+        IncrementalParse first = provider.parseIncrementally("REFRESH CUBE [Sales]", Set.of());
+        IncrementalParse second = first.edit(new TextEdit(13, 7, "[Budget]"));
+
+        assertThat(first.text()).isEqualTo("REFRESH CUBE [Sales]");
+        assertThat(second.text()).isEqualTo("REFRESH CUBE [Budget]");
+        assertThat(second.statement()).isInstanceOf(RefreshStatement.class);
+        assertThat(parsed).containsExactly("REFRESH CUBE [Sales]", "REFRESH CUBE [Budget]");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MdxStatementSplitterTest {
+
+    private static List<String> split(String script) {
+        List<String> statements = new ArrayList<>();
+        new MdxStatementSplitter(new StringReader(script)).forEachRemaining(statements::add);
+        return statements;
+    }
+
+    @Test
+    void quotedSemicolons() {
+        assertThat(split("SELECT 'a;b' FROM [c;]]d]; SELECT \"x\"\";\" FROM e")) //
+                .containsExactly("SELECT 'a;b' FROM [c;]]d]", " SELECT \"x\"\";\" FROM e");
+    }
+
+    @Test
+    void comments() {
+        assertThat(split("SELECT -- one;\nFROM a; /* two; */ ;; // three;\n")) //
+                .containsExactly("SELECT -- one;\nFROM a");
+    }
+
+    @Test
+    void byteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("SELECT [Ä] FROM a;SELECT [Ö] FROM b".getBytes(StandardCharsets.UTF_8));
+        List<String> statements = new ArrayList<>();
+        new MdxStatementSplitter(new ByteBufferReader(buffer, StandardCharsets.UTF_8))
+                .forEachRemaining(statements::add);
+        assertThat(statements).containsExactly("SELECT [Ä] FROM a", "SELECT [Ö] FROM b");
+        assertThat(buffer.position()).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException.Limit;
+import org.junit.jupiter.api.Test;
+
+class ParseBudgetTest {
+
+    private static final String MDX = "SELECT {([a], [b]), [c]} ON 0 FROM [Cube] -- ((((";
+
+    @FunctionalInterface
+    private interface Check {
+        void run() throws ParseLimitExceededException;
+    }
+
+    private static Limit failure(Check check) {
+        try {
+            check.run();
+            return null;
+        } catch (ParseLimitExceededException e) {
+            return e.limit();
+        }
+    }
+
+    private static Limit prescanFailure(ParseLimits limits) {
+        return failure(() -> limits.start().prescan(MDX));
+    }
+
+    @Test
+    void unlimited() {
+        assertThat(prescanFailure(ParseLimits.UNLIMITED)).isNull();
+    }
+
+    @Test
+    void inputLength() {
+        assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxInputLength(MDX.length()))).isNull();
+        assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxInputLength(MDX.length() - 1)))
+                .isEqualTo(Limit.INPUT_LENGTH);
+    }
+
+    @Test
+    void tokensWithoutComments() {
+        assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxTokens(14))).isNull();
+        assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxTokens(13))).isEqualTo(Limit.TOKENS);
+    }
+
+    @Test
+    void depth() {
+        assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxDepth(2))).isNull();
+        assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxDepth(1))).isEqualTo(Limit.DEPTH);
+    }
+
+    @Test
+    void nodes() throws ParseLimitExceededException {
+        ParseBudget budget = ParseLimits.UNLIMITED.withMaxNodes(2).start();
+        budget.node();
+        budget.node();
+
+        assertThat(failure(budget::node)).isEqualTo(Limit.NODES);
+    }
+
+    @Test
+    void timeout() throws InterruptedException {
+        ParseBudget budget = ParseLimits.UNLIMITED.withTimeout(Duration.ofMillis(1)).start();
+        Thread.sleep(5);
+
+        assertThat(failure(budget::check)).isEqualTo(Limit.TIMEOUT);
+    }
+
+    @Test
+    void interruptIsReportedAndKept() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(prescanFailure(ParseLimits.UNLIMITED.withMaxTokens(100))).isEqualTo(Limit.INTERRUPTED);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void interruptOfStartingThreadStopsOtherThreads() throws InterruptedException {
+        ParseBudget budget = ParseLimits.UNLIMITED.withMaxNodes(100).start();
+        Limit[] seen = new Limit[2];
+        Thread part = new Thread(() -> seen[0] = failure(budget::check));
+        part.start();
+        part.join();
+        Thread.currentThread().interrupt();
+        try {
+            part = new Thread(() -> seen[1] = failure(budget::check));
+            part.start();
+            // join() would throw at once and clear the interrupt
+            while (part.isAlive()) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(seen).containsExactly(null, Limit.INTERRUPTED);
+    }
+
+    @Test
+    void negativeLimitsAreRejected() {
+        assertThatThrownBy(() -> ParseLimits.UNLIMITED.withMaxNodes(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParseLimits.UNLIMITED.withTimeout(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
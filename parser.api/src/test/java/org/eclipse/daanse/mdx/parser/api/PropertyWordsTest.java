@@ -0,0 +1,122 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyWordsTest {
+
+    private static final Set<String> WORDS = Set.of("CHILDREN", "CURRENTMEMBER", "MEMBERS", "PARENT", "NAME",
+            "UNIQUE_NAME", "LEVEL_NUMBER", "ORDINAL", "VALUE", "CAPTION");
+
+    @Test
+    void caseInsensitive() {
+        PropertyWords words = PropertyWords.of(WORDS);
+
+        assertThat(words.size()).isEqualTo(WORDS.size());
+        assertThat(words.contains("children")).isTrue();
+        assertThat(words.contains("CurrentMember")).isTrue();
+        assertThat(words.contains("Members")).isTrue();
+        assertThat(words.contains(new StringBuilder("unique_Name"))).isTrue();
+        assertThat(words.contains("Child")).isFalse();
+        assertThat(words.contains("CHILDRENS")).isFalse();
+        assertThat(words.contains("")).isFalse();
+    }
+
+    @Test
+    void wordsInAnyCase() {
+        PropertyWords words = PropertyWords.of("KEY", "key", "Caption", "name");
+
+        assertThat(words.size()).isEqualTo(3);
+        assertThat(words.contains("Key")).isTrue();
+        assertThat(words.contains("CAPTION")).isTrue();
+        assertThat(words.contains("Name")).isTrue();
+        assertThat(words.asSet()).contains("NAME").doesNotContain("name");
+    }
+
+    @Test
+    void ids() {
+        PropertyWords words = PropertyWords.of(WORDS);
+
+        assertThat(words.id("caption")).isZero();
+        assertThat(words.id("Value")).isEqualTo(WORDS.size() - 1);
+        assertThat(words.word(words.id("currentmember"))).isEqualTo("CURRENTMEMBER");
+        assertThat(words.id("unknown")).isEqualTo(PropertyWords.NONE);
+    }
+
+    @Test
+    void noCollisions() {
+        Set<String> many = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            many.add("WORD" + i);
+        }
+        PropertyWords words = PropertyWords.of(many);
+
+        for (String word : many) {
+            assertThat(words.word(words.id(word.toLowerCase()))).isEqualTo(word);
+        }
+        assertThat(words.contains("WORD1000")).isFalse();
+    }
+
+    @Test
+    void empty() {
+        assertThat(PropertyWords.of().contains("NAME")).isFalse();
+        assertThat(PropertyWords.from(null)).isSameAs(PropertyWords.EMPTY);
+    }
+
+    @Test
+    void setView() {
+        PropertyWords words = PropertyWords.of(WORDS);
+
+        assertThat(words.asSet()).contains("MEMBERS").doesNotContain("members").hasSize(WORDS.size());
+        assertThat(PropertyWords.from(words.asSet())).isSameAs(words);
+    }
+
+    @Test
+    void fromBuildsPlainSets() {
+        Set<String> words = new HashSet<>(WORDS);
+        PropertyWords built = PropertyWords.from(words);
+
+        assertThat(built.asSet()).isEqualTo(PropertyWords.of(WORDS).asSet());
+        assertThat(PropertyWords.from(words)).isNotSameAs(built);
+    }
+
+    @Test
+    void cacheKeepsTheLastSetByContent() {
+        PropertyWordsCache cache = new PropertyWordsCache();
+        Set<String> words = new HashSet<>(WORDS);
+        PropertyWords built = cache.get(words);
+
+        assertThat(cache.get(words)).isSameAs(built);
+        assertThat(cache.get(new HashSet<>(WORDS))).isSameAs(built);
+
+        words.add("KEY");
+        PropertyWords changed = cache.get(words);
+        assertThat(changed).isNotSameAs(built);
+        assertThat(changed.contains("Key")).isTrue();
+
+        words.remove("KEY");
+        words.add("DIMENSION");
+        assertThat(cache.get(words).contains("Key")).isFalse();
+        assertThat(cache.get(words).contains("Dimension")).isTrue();
+
+        assertThat(cache.get(built.asSet())).isSameAs(built);
+        assertThat(cache.get(null)).isSameAs(PropertyWords.EMPTY);
+    }
+}
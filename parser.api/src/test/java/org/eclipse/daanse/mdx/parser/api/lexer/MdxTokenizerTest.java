@@ -0,0 +1,96 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.api.lexer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MdxTokenizerTest {
+
+    private static List<String> tokens(String mdx) {
+        List<String> tokens = new ArrayList<>();
+        MdxTokenizer tokenizer = new MdxTokenizer(mdx);
+        while (tokenizer.next() != MdxTokenKind.EOF) {
+            tokens.add(tokenizer.kind() + " " + tokenizer.image());
+        }
+        return tokens;
+    }
+
+    @Test
+    void keywordsAreCaseInsensitive() {
+        assertThat(tokens("select Non empty fRoM $system Selection"))
+                .containsExactly("SELECT select", "NON Non", "EMPTY empty", "FROM fRoM", "SYSTEM_CUBE $system",
+                        "ID Selection");
+    }
+
+    @Test
+    void everyKeywordIsRecognized() {
+        for (MdxTokenKind kind : MdxTokenKind.values()) {
+            if (kind.isKeyword()) {
+                assertThat(tokens(kind.keyword().toLowerCase())).containsExactly(kind + " "
+                        + kind.keyword().toLowerCase());
+                assertThat(tokens(kind.keyword() + "1")).containsExactly("ID " + kind.keyword() + "1");
+            }
+        }
+    }
+
+    @Test
+    void identifiers() {
+        assertThat(tokens("[Store].[a]]b]&[1]&Key.Größe @x"))
+                .containsExactly("QUOTED_ID [Store]", "DOT .", "QUOTED_ID [a]]b]", "AMP_QUOTED_ID &[1]",
+                        "AMP_UNQUOTED_ID &Key", "DOT .", "ID Größe", "ATSIGN @", "ID x");
+        assertThat(tokens("[open")).containsExactly("LBRACKET [", "ID open");
+    }
+
+    @Test
+    void numbers() {
+        assertThat(tokens("1 1.5 .5 1. 2e3 1.5E-3 4f 1.5d 1e"))
+                .containsExactly("UNSIGNED_INTEGER_LITERAL 1", "DECIMAL_NUMERIC_LITERAL 1.5",
+                        "DECIMAL_NUMERIC_LITERAL .5", "DECIMAL_NUMERIC_LITERAL 1.", "APPROX_NUMERIC_LITERAL 2e3",
+                        "APPROX_NUMERIC_LITERAL 1.5E-3", "FLOATING_POINT_LITERAL 4f",
+                        "FLOATING_POINT_LITERAL 1.5d", "UNSIGNED_INTEGER_LITERAL 1", "ID e");
+    }
+
+    @Test
+    void stringsAndOperators() {
+        assertThat(tokens("'it''s' \"a\"\"b\" <> <= >= < > || = : ! , ;"))
+                .containsExactly("SINGLE_QUOTED_STRING 'it''s'", "DOUBLE_QUOTED_STRING \"a\"\"b\"", "NE <>",
+                        "LE <=", "GE >=", "LT <", "GT >", "CONCAT ||", "EQ =", "COLON :", "BANG !", "COMMA ,",
+                        "SEMICOLON ;");
+        assertThat(tokens("'open")).containsExactly("INVALID 'open");
+    }
+
+    @Test
+    void commentsAreSkipped() {
+        assertThat(tokens("a // x\nb -- y\r\nc /* z */ d /** w */ e /***/ f*/ g"))
+                .containsExactly("ID a", "ID b", "ID c", "ID d", "ID e", "ID g");
+    }
+
+    @Test
+    void positionsAndReset() {
+        MdxTokenizer tokenizer = new MdxTokenizer("  ON 0");
+        assertThat(tokenizer.next()).isEqualTo(MdxTokenKind.ON);
+        assertThat(tokenizer.start()).isEqualTo(2);
+        assertThat(tokenizer.end()).isEqualTo(4);
+
+        tokenizer.reset("ROWS");
+        assertThat(tokenizer.next()).isEqualTo(MdxTokenKind.ROWS);
+        assertThat(tokenizer.next()).isEqualTo(MdxTokenKind.EOF);
+        assertThat(tokenizer.next()).isEqualTo(MdxTokenKind.EOF);
+    }
+}
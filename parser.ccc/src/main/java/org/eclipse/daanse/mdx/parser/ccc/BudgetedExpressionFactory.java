@@ -0,0 +1,124 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.CallExpression;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.KeyObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.NullLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.StringLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.SymbolLiteral;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.mdx.model.record.expression.MdxExpressionFactory;
+import org.eclipse.daanse.mdx.parser.api.ParseBudget;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException;
+import org.eclipse.daanse.mdx.parser.api.UncheckedMdxParserException;
+
+/**
+ * Accounts every expression node against a {@link ParseBudget} before the
+ * delegate creates it. The generated parser has no hook per token, so this is
+ * where a running parse notices its node limit, its deadline and an interrupt.
+ * A violation leaves the parser as {@link UncheckedMdxParserException}, which
+ * {@link MdxParserWrapper} unwraps.
+ */
+final class BudgetedExpressionFactory implements MdxExpressionFactory {
+
+    private final MdxExpressionFactory delegate;
+    private final ParseBudget budget;
+
+    BudgetedExpressionFactory(MdxExpressionFactory delegate, ParseBudget budget) {
+        this.delegate = delegate == null ? MdxExpressionFactory.RECORDS : delegate;
+        this.budget = budget;
+    }
+
+    /**
+     * Checks a quoted formula against the budget {@code factory} accounts to, if
+     * any: the prescan of the enclosing statement saw the formula as a single
+     * string, so neither its tokens nor its nesting were checked.
+     */
+    static void prescan(MdxExpressionFactory factory, CharSequence formula) throws ParseLimitExceededException {
+        if (factory instanceof BudgetedExpressionFactory budgeted) {
+            budgeted.budget.prescan(formula);
+        }
+    }
+
+    private void node() {
+        try {
+            budget.node();
+        } catch (ParseLimitExceededException e) {
+            throw new UncheckedMdxParserException(e);
+        }
+    }
+
+    @Override
+    public CallExpression callExpression(OperationAtom operationAtom, List<? extends MdxExpression> expressions) {
+        node();
+        return delegate.callExpression(operationAtom, expressions);
+    }
+
+    @Override
+    public NameObjectIdentifier nameObjectIdentifier(String name, Quoting quoting) {
+        node();
+        return delegate.nameObjectIdentifier(name, quoting);
+    }
+
+    @Override
+    public KeyObjectIdentifier keyObjectIdentifier(List<? extends NameObjectIdentifier> nameObjectIdentifiers) {
+        node();
+        return delegate.keyObjectIdentifier(nameObjectIdentifiers);
+    }
+
+    @Override
+    public CompoundId compoundId(List<? extends ObjectIdentifier> objectIdentifiers) {
+        node();
+        return delegate.compoundId(objectIdentifiers);
+    }
+
+    @Override
+    public CompoundId compoundId(CompoundId prefix, ObjectIdentifier objectIdentifier) {
+        node();
+        return delegate.compoundId(prefix, objectIdentifier);
+    }
+
+    @Override
+    public NumericLiteral numericLiteral(String image) {
+        node();
+        return delegate.numericLiteral(image);
+    }
+
+    @Override
+    public StringLiteral stringLiteral(String value) {
+        node();
+        return delegate.stringLiteral(value);
+    }
+
+    @Override
+    public SymbolLiteral symbolLiteral(String value) {
+        node();
+        return delegate.symbolLiteral(value);
+    }
+
+    @Override
+    public NullLiteral nullLiteral() {
+        node();
+        return delegate.nullLiteral();
+    }
+}
@@ -13,11 +13,15 @@
 */
 package org.eclipse.daanse.mdx.parser.ccc;
 
+import java.util.Objects;
 import java.util.Set;
 
+import org.eclipse.daanse.mdx.parser.api.IncrementalParse;
 import org.eclipse.daanse.mdx.parser.api.MdxParser;
 import org.eclipse.daanse.mdx.parser.api.MdxParserException;
 import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.api.PropertyWordsCache;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ServiceScope;
 
@@ -26,8 +30,47 @@ public class CCCMdxParserProvider implements MdxParserProvider {
 
     public static final String PID = "daanse.mdx.parser.ccc.CCCMdxParserProvider";
 
+    private final ParserOptions options;
+    private final PropertyWordsCache propertyWordsCache = new PropertyWordsCache();
+
+    public CCCMdxParserProvider() {
+        this(ParserOptions.DEFAULT);
+    }
+
+    /**
+     * @param options how the parsers of this provider work, e.g.
+     *                {@code ParserOptions.DEFAULT.withExpressionFactories(FlatMdxTree::new)}
+     */
+    public CCCMdxParserProvider(ParserOptions options) {
+        this.options = Objects.requireNonNull(options, "options");
+    }
+
     @Override
     public MdxParser newParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
-        return new MdxParserWrapper(mdx, propertyWords);
+        return new MdxParserWrapper(mdx, propertyWordsCache.get(propertyWords).asSet(), options,
+                ParseLimits.UNLIMITED);
+    }
+
+    /**
+     * Besides the checks of the text before the parse, every expression node
+     * created is counted against {@code limits}, and the timeout and the
+     * interrupt status are checked along the way.
+     */
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        return new MdxParserWrapper(mdx, propertyWordsCache.get(propertyWords).asSet(), options, limits);
+    }
+
+    /**
+     * After an edit only the enclosing {@code WITH} body, axis or slicer is
+     * parsed again, if the edit is confined to one of them.
+     */
+    @Override
+    public IncrementalParse parseIncrementally(CharSequence mdx, Set<String> propertyWords)
+            throws MdxParserException {
+        ParserOptions parts = options.forParts(options.expressionFactories());
+        return SpanIncrementalParse.parse((text, words) -> new MdxParserWrapper(text, words, parts), mdx,
+                propertyWordsCache.get(propertyWords).asSet());
     }
 }
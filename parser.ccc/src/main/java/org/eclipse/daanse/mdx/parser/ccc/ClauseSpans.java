@@ -0,0 +1,571 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NumericLiteral;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateSetBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.transform.MdxTransformer;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.TextEdit;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenKind;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenizer;
+
+/**
+ * Source spans of the independent parts of the top level select of a
+ * statement: the bodies of {@code WITH MEMBER} and {@code SET} clauses and,
+ * optionally, the axis and slicer expressions.
+ *
+ * The spans are found by a lexical scan. {@link #blanked()} replaces every span
+ * by the literal {@code 0}, padded with blanks so that line and column numbers
+ * of the remaining text are kept. After the blanked text has been parsed,
+ * {@link #splice} puts the parts back in place of the placeholders.
+ */
+final class ClauseSpans {
+
+    enum Kind {
+        MEMBER, SET, AXIS, SLICER
+    }
+
+    /**
+     * @param commas offsets of the commas that separate the member properties,
+     *               relative to {@code start}
+     */
+    record Span(Kind kind, int start, int end, int[] commas) {
+
+        /** Spans too short for a blank padded placeholder are parsed in place. */
+        boolean replaceable() {
+            return end - start >= 3;
+        }
+    }
+
+    /** Supplies the parts that replace the placeholders. */
+    interface Splice {
+
+        SelectWithClause memberBody(CompoundId compoundId, Span span) throws Exception;
+
+        SelectWithClause setBody(CompoundId compoundId, Span span) throws Exception;
+
+        MdxExpression expression(Span span) throws Exception;
+    }
+
+    private final CharSequence mdx;
+    private final List<Span> spans;
+    private final boolean query;
+
+    private ClauseSpans(CharSequence mdx, List<Span> spans, boolean query) {
+        this.mdx = mdx;
+        this.spans = spans;
+        this.query = query;
+    }
+
+    /**
+     * @param query whether axis and slicer expressions are located, too
+     * @return the spans of {@code mdx}, or {@code null} if none can be replaced
+     *         or the text is not shaped like a select statement
+     */
+    static ClauseSpans scan(CharSequence mdx, boolean query) {
+        Tokens tokens = new Tokens(mdx);
+        while (!tokens.keyword(MdxTokenKind.SELECT)) {
+            if (tokens.next() == MdxTokenKind.EOF) {
+                return null;
+            }
+            if (tokens.keyword(MdxTokenKind.WITH)) {
+                break;
+            }
+        }
+        List<Span> spans = new ArrayList<>();
+        if (tokens.keyword(MdxTokenKind.WITH) && !scanWith(tokens, spans)) {
+            return null;
+        }
+        if (query && !scanQuery(tokens, spans)) {
+            return null;
+        }
+        return spans.stream().anyMatch(Span::replaceable) ? new ClauseSpans(mdx, spans, query) : null;
+    }
+
+    private static boolean scanWith(Tokens tokens, List<Span> spans) {
+        MdxTokenKind kind = tokens.next();
+        while (!tokens.keyword(MdxTokenKind.SELECT)) {
+            if (kind == MdxTokenKind.EOF) {
+                return false;
+            }
+            if (tokens.keyword(MdxTokenKind.CALCULATED)) {
+                tokens.next();
+                if (!tokens.keyword(MdxTokenKind.MEMBER)) {
+                    return false;
+                }
+            }
+            boolean member = tokens.keyword(MdxTokenKind.MEMBER);
+            if (!member && !tokens.keyword(MdxTokenKind.SET)) {
+                // CELL CALCULATION and MEASURE clauses stay in place
+                do {
+                    kind = tokens.next();
+                } while (kind != MdxTokenKind.EOF && !tokens.withKeyword());
+                continue;
+            }
+            do {
+                kind = tokens.next();
+            } while (kind != MdxTokenKind.EOF && !tokens.keyword(MdxTokenKind.AS));
+            Span span = tokens.span(member ? Kind.MEMBER : Kind.SET, Tokens::withKeyword);
+            if (span == null || (!member && span.commas().length > 0)) {
+                return false;
+            }
+            spans.add(span);
+            kind = tokens.kind;
+        }
+        return true;
+    }
+
+    private static boolean scanQuery(Tokens tokens, List<Span> spans) {
+        tokens.next();
+        if (tokens.kind == MdxTokenKind.ASTERISK) {
+            tokens.next();
+        }
+        while (!tokens.keyword(MdxTokenKind.FROM)) {
+            if (tokens.keyword(MdxTokenKind.NON)) {
+                tokens.next();
+                if (!tokens.keyword(MdxTokenKind.EMPTY)) {
+                    return false;
+                }
+            } else {
+                tokens.back();
+            }
+            Span span = tokens.span(Kind.AXIS,
+                    t -> t.keyword(MdxTokenKind.ON) || t.keyword(MdxTokenKind.DIMENSION));
+            if (span == null || span.commas().length > 0 || tokens.kind == MdxTokenKind.EOF) {
+                return false;
+            }
+            spans.add(span);
+            if (tokens.keyword(MdxTokenKind.DIMENSION)) {
+                while (tokens.next() != MdxTokenKind.EOF && !tokens.keyword(MdxTokenKind.ON)) {
+                    // skip the dimension properties
+                }
+            }
+            // the axis name
+            while (tokens.next() != MdxTokenKind.EOF && !(tokens.kind == MdxTokenKind.COMMA && tokens.depth == 0)
+                    && !tokens.keyword(MdxTokenKind.FROM)) {
+                // skip
+            }
+            if (tokens.kind == MdxTokenKind.EOF) {
+                return false;
+            }
+            if (tokens.kind == MdxTokenKind.COMMA) {
+                tokens.next();
+            }
+        }
+        // the cube clause, a sub select is enclosed in parentheses
+        while (tokens.next() != MdxTokenKind.EOF && !tokens.keyword(MdxTokenKind.WHERE)) {
+            if (tokens.keyword(MdxTokenKind.CELL) || tokens.keyword(MdxTokenKind.PROPERTIES)
+                    || tokens.keyword(MdxTokenKind.RETURN)) {
+                return true;
+            }
+        }
+        if (tokens.kind == MdxTokenKind.EOF) {
+            return true;
+        }
+        Span span = tokens.span(Kind.SLICER,
+                t -> t.keyword(MdxTokenKind.CELL) || t.keyword(MdxTokenKind.PROPERTIES)
+                        || t.keyword(MdxTokenKind.RETURN));
+        if (span == null || span.commas().length > 0) {
+            return false;
+        }
+        spans.add(span);
+        return true;
+    }
+
+    List<Span> spans() {
+        return spans;
+    }
+
+    /** Whether the axis and slicer expressions were located. */
+    boolean query() {
+        return query;
+    }
+
+    String text(Span span) {
+        return mdx.subSequence(span.start(), span.end()).toString();
+    }
+
+    String blanked() {
+        StringBuilder sb = new StringBuilder(mdx);
+        for (Span span : spans) {
+            if (!span.replaceable()) {
+                continue;
+            }
+            for (int i = span.start(); i < span.end(); i++) {
+                char c = sb.charAt(i);
+                if (c != '\n' && c != '\r') {
+                    sb.setCharAt(i, ' ');
+                }
+            }
+            // blanks on both sides keep the placeholder apart from its neighbours
+            sb.setCharAt(span.start() + 1, '0');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param statement parse result of the {@link #blanked()} text
+     * @return {@code statement} with the placeholders replaced, or {@code null}
+     *         if its clauses do not match the scanned spans
+     */
+    <T extends MdxStatement> T splice(T statement, Splice splice) throws Exception {
+        return splice(statement, splice, -1);
+    }
+
+    /**
+     * Replaces the part of span {@code index} of a statement parsed from text
+     * with the same spans, sharing all other parts.
+     *
+     * @return the new statement, or {@code null} if its clauses do not match
+     *         the scanned spans
+     */
+    <T extends MdxStatement> T replace(T statement, int index, Splice splice) throws Exception {
+        return splice(statement, splice, index);
+    }
+
+    /**
+     * @return the index of the only span that changed with {@code edit} from
+     *         the {@code previous} spans, or {@code -1} if the edit is not
+     *         confined to one span or changes the other ones
+     */
+    int editedSpan(ClauseSpans previous, TextEdit edit) {
+        if (previous.query != query || previous.spans.size() != spans.size()) {
+            return -1;
+        }
+        int editEnd = edit.offset() + edit.removedLength();
+        int delta = edit.delta();
+        int edited = -1;
+        for (int i = 0; i < spans.size(); i++) {
+            Span before = previous.spans.get(i);
+            Span after = spans.get(i);
+            if (before.kind() != after.kind()) {
+                return -1;
+            }
+            if (before.end() < edit.offset()) {
+                if (before.start() != after.start() || before.end() != after.end()) {
+                    return -1;
+                }
+            } else if (before.start() > editEnd) {
+                if (before.start() + delta != after.start() || before.end() + delta != after.end()) {
+                    return -1;
+                }
+            } else if (before.start() <= edit.offset() && editEnd <= before.end()
+                    && before.start() == after.start() && before.end() + delta == after.end()) {
+                edited = i;
+            } else {
+                return -1;
+            }
+        }
+        return edited;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends MdxStatement> T splice(T statement, Splice splice, int target) throws Exception {
+        Splicer splicer = new Splicer(splice, target);
+        MdxStatement result;
+        try {
+            result = splicer.transform(statement);
+        } catch (SpliceException e) {
+            throw e.exception;
+        }
+        return splicer.matches && splicer.next == spans.size() ? (T) result : null;
+    }
+
+    /** A splice that parses the parts on the calling thread. */
+    static Splice sequential(ClauseSpans spans, MdxParserProvider parsers, Set<String> propertyWords) {
+        return new Splice() {
+
+            @Override
+            public SelectWithClause memberBody(CompoundId compoundId, Span span) throws MdxParserException {
+                String text = spans.text(span);
+                int[] commas = span.commas();
+                int end = commas.length == 0 ? text.length() : commas[0];
+                return new CreateMemberBodyClauseR(compoundId,
+                        parseFormula(text.substring(0, end), parsers, propertyWords),
+                        parseMemberProperties(text, commas, parsers, propertyWords));
+            }
+
+            @Override
+            public SelectWithClause setBody(CompoundId compoundId, Span span) throws MdxParserException {
+                return new CreateSetBodyClauseR(compoundId, parseFormula(spans.text(span), parsers, propertyWords));
+            }
+
+            @Override
+            public MdxExpression expression(Span span) throws MdxParserException {
+                return parsers.newParser(spans.text(span), propertyWords).parseExpression();
+            }
+        };
+    }
+
+    /** Parses a member or set body, unquoting a quoted formula first. */
+    static MdxExpression parseFormula(String text, MdxParserProvider parsers, Set<String> propertyWords)
+            throws MdxParserException {
+        String formula = text.strip();
+        if (formula.length() > 1 && formula.charAt(0) == '\'' && closing(formula, 0, '\'') == formula.length()) {
+            // as in parseSetMemberExpression
+            formula = formula.substring(1, formula.length() - 1).replace("''", "'");
+        }
+        return parsers.newParser(formula, propertyWords).parseExpression();
+    }
+
+    /** Parses the member properties that follow the formula of a member body. */
+    static List<MemberPropertyDefinition> parseMemberProperties(String text, int[] commas,
+            MdxParserProvider parsers, Set<String> propertyWords) throws MdxParserException {
+        List<MemberPropertyDefinition> definitions = new ArrayList<>(commas.length);
+        for (int i = 0; i < commas.length; i++) {
+            int to = i + 1 < commas.length ? commas[i + 1] : text.length();
+            definitions.add(parsers.newParser(text.substring(commas[i] + 1, to), propertyWords)
+                    .parseMemberPropertyDefinition());
+        }
+        return definitions;
+    }
+
+    private static int closing(CharSequence text, int position, char quote) {
+        int length = text.length();
+        int i = position + 1;
+        while (i < length) {
+            if (text.charAt(i) == quote) {
+                if (i + 1 < length && text.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    private static final class SpliceException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Exception exception;
+
+        SpliceException(Exception exception) {
+            super(exception);
+            this.exception = exception;
+        }
+    }
+
+    private final class Splicer extends MdxTransformer {
+
+        private final Splice splice;
+        private final int target;
+        private int next;
+        private boolean matches = true;
+
+        /**
+         * @param target index of the only span to replace, or {@code -1} to
+         *               replace all placeholders
+         */
+        Splicer(Splice splice, int target) {
+            this.splice = splice;
+            this.target = target;
+        }
+
+        /**
+         * @return the next span if its part has to be replaced, {@code null} if
+         *         the clause stays as it is
+         */
+        private Span take(Kind kind, MdxExpression placeholder) {
+            if (next == spans.size() || spans.get(next).kind() != kind) {
+                matches = false;
+                return null;
+            }
+            Span span = spans.get(next++);
+            if (target >= 0) {
+                return next - 1 == target ? span : null;
+            }
+            if (!span.replaceable()) {
+                return null;
+            }
+            if (!(placeholder instanceof NumericLiteral literal && literal.isIntegral() && literal.longValue() == 0)) {
+                matches = false;
+                return null;
+            }
+            return span;
+        }
+
+        @Override
+        protected SelectWithClause transformCreateMemberBodyClause(CreateMemberBodyClause clause) {
+            Span span = take(Kind.MEMBER, clause.expression());
+            if (span == null) {
+                return clause;
+            }
+            if (target < 0 && !clause.memberPropertyDefinitions().isEmpty()) {
+                matches = false;
+                return clause;
+            }
+            try {
+                return splice.memberBody(clause.compoundId(), span);
+            } catch (Exception e) {
+                throw new SpliceException(e);
+            }
+        }
+
+        @Override
+        protected SelectWithClause transformCreateSetBodyClause(CreateSetBodyClause clause) {
+            Span span = take(Kind.SET, clause.expression());
+            if (span == null) {
+                return clause;
+            }
+            try {
+                return splice.setBody(clause.compoundId(), span);
+            } catch (Exception e) {
+                throw new SpliceException(e);
+            }
+        }
+
+        @Override
+        protected SelectQueryAxisClause transformSelectQueryAxisClause(SelectQueryAxisClause clause) {
+            Span span = query ? take(Kind.AXIS, clause.expression()) : null;
+            if (span == null) {
+                return clause;
+            }
+            return new SelectQueryAxisClauseR(clause.nonEmpty(), expression(span), clause.axis(),
+                    clause.selectDimensionPropertyListClause());
+        }
+
+        @Override
+        protected SelectSlicerAxisClause transformSelectSlicerAxisClause(SelectSlicerAxisClause clause) {
+            Span span = query ? take(Kind.SLICER, clause.expression()) : null;
+            if (span == null) {
+                return clause;
+            }
+            return new SelectSlicerAxisClauseR(expression(span));
+        }
+
+        @Override
+        protected SelectCubeClause transformSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause) {
+            // only the top level select was scanned
+            return clause;
+        }
+
+        private MdxExpression expression(Span span) {
+            try {
+                return splice.expression(span);
+            } catch (Exception e) {
+                throw new SpliceException(e);
+            }
+        }
+    }
+
+    /**
+     * The tokens of {@link MdxTokenizer} with the nesting depth, so that
+     * {@link #keyword} only matches keywords on the statement level.
+     */
+    private static final class Tokens {
+
+        private final MdxTokenizer tokenizer;
+        private MdxTokenKind kind;
+        private int depth;
+        private boolean bare;
+        private boolean pushedBack;
+
+        Tokens(CharSequence mdx) {
+            this.tokenizer = new MdxTokenizer(mdx);
+        }
+
+        /** Makes the next call of {@link #next()} return the current token again. */
+        void back() {
+            pushedBack = true;
+        }
+
+        MdxTokenKind next() {
+            if (pushedBack) {
+                pushedBack = false;
+                return kind;
+            }
+            bare = kind != MdxTokenKind.DOT;
+            kind = tokenizer.next();
+            switch (kind) {
+            case LPAREN, LBRACE -> depth++;
+            case RPAREN, RBRACE -> depth--;
+            default -> {
+                // no nesting
+            }
+            }
+            return kind;
+        }
+
+        int start() {
+            return tokenizer.start();
+        }
+
+        int end() {
+            return tokenizer.end();
+        }
+
+        /** Whether the current token is the keyword {@code word} on the statement level. */
+        boolean keyword(MdxTokenKind word) {
+            return kind == word && depth == 0 && bare;
+        }
+
+        boolean withKeyword() {
+            return keyword(MdxTokenKind.MEMBER) || keyword(MdxTokenKind.SET) || keyword(MdxTokenKind.CELL)
+                    || keyword(MdxTokenKind.CALCULATED) || keyword(MdxTokenKind.MEASURE)
+                    || keyword(MdxTokenKind.SELECT);
+        }
+
+        /**
+         * Reads the tokens up to the first one accepted by {@code terminator},
+         * which stays the current token.
+         *
+         * @return the span of the tokens read, or {@code null} if there are none
+         */
+        Span span(Kind spanKind, Predicate<Tokens> terminator) {
+            int spanStart = -1;
+            int spanEnd = -1;
+            int[] commas = new int[4];
+            int commaCount = 0;
+            while (next() != MdxTokenKind.EOF && !terminator.test(this)) {
+                if (spanStart < 0) {
+                    spanStart = start();
+                }
+                if (kind == MdxTokenKind.COMMA && depth == 0) {
+                    if (commaCount == commas.length) {
+                        commas = Arrays.copyOf(commas, commaCount * 2);
+                    }
+                    commas[commaCount++] = start() - spanStart;
+                }
+                spanEnd = end();
+            }
+            return spanStart < 0 || depth != 0 ? null
+                    : new Span(spanKind, spanStart, spanEnd, Arrays.copyOf(commas, commaCount));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.UncheckedMdxParserException;
+import org.eclipse.daanse.mdx.parser.ccc.ClauseSpans.Span;
+
+/**
+ * {@code WITH MEMBER} and {@code SET} clauses that parse their body on the first
+ * call of {@code expression()}. Syntax errors in a body are then reported as
+ * {@link UncheckedMdxParserException} at that call.
+ *
+ * Two lazy clauses are equal if their parsed bodies are, so {@code equals} and
+ * {@code hashCode} parse the body if it was not parsed yet. Bodies that do not
+ * parse are compared by their text.
+ */
+final class LazyWithClauses {
+
+    private LazyWithClauses() {
+    }
+
+    /**
+     * @return a splice that replaces member and set bodies by lazy clauses and
+     *         parses other spans right away
+     */
+    static ClauseSpans.Splice splice(ClauseSpans spans, MdxParserProvider parsers, Set<String> propertyWords) {
+        return new ClauseSpans.Splice() {
+
+            @Override
+            public SelectWithClause memberBody(CompoundId compoundId, Span span) {
+                return new LazyMemberBody(compoundId, spans.text(span), span.commas(), parsers, propertyWords);
+            }
+
+            @Override
+            public SelectWithClause setBody(CompoundId compoundId, Span span) {
+                return new LazySetBody(compoundId, spans.text(span), parsers, propertyWords);
+            }
+
+            @Override
+            public MdxExpression expression(Span span) throws MdxParserException {
+                return parsers.newParser(spans.text(span), propertyWords).parseExpression();
+            }
+        };
+    }
+
+    static final class LazyMemberBody implements CreateMemberBodyClause {
+
+        private final CompoundId compoundId;
+        private final String text;
+        private final int[] commas;
+        private MdxParserProvider parsers;
+        private Set<String> propertyWords;
+
+        private volatile MdxExpression expression;
+        private List<MemberPropertyDefinition> memberPropertyDefinitions;
+        private MdxParserException failure;
+
+        LazyMemberBody(CompoundId compoundId, String text, int[] commas, MdxParserProvider parsers,
+                Set<String> propertyWords) {
+            this.compoundId = compoundId;
+            this.text = text;
+            this.commas = commas;
+            this.parsers = parsers;
+            this.propertyWords = propertyWords;
+        }
+
+        @Override
+        public CompoundId compoundId() {
+            return compoundId;
+        }
+
+        @Override
+        public MdxExpression expression() {
+            MdxExpression result = expression;
+            return result != null ? result : parse();
+        }
+
+        @Override
+        public List<MemberPropertyDefinition> memberPropertyDefinitions() {
+            if (expression == null) {
+                parse();
+            }
+            return memberPropertyDefinitions;
+        }
+
+        /** The source text of the body, parsed or not. */
+        String text() {
+            return text;
+        }
+
+        private synchronized MdxExpression parse() {
+            if (expression != null) {
+                return expression;
+            }
+            if (failure != null) {
+                throw new UncheckedMdxParserException("invalid body of member " + compoundId, failure);
+            }
+            try {
+                int end = commas.length == 0 ? text.length() : commas[0];
+                MdxExpression parsed = ClauseSpans.parseFormula(text.substring(0, end), parsers, propertyWords);
+                memberPropertyDefinitions = List.copyOf(
+                        ClauseSpans.parseMemberProperties(text, commas, parsers, propertyWords));
+                expression = parsed;
+                parsers = null;
+                propertyWords = null;
+                return parsed;
+            } catch (MdxParserException e) {
+                failure = e;
+                throw new UncheckedMdxParserException("invalid body of member " + compoundId, e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LazyMemberBody other) || !compoundId.equals(other.compoundId)) {
+                return false;
+            }
+            if (!parses() || !other.parses()) {
+                return !parses() && !other.parses() && text.equals(other.text);
+            }
+            return expression.equals(other.expression)
+                    && memberPropertyDefinitions.equals(other.memberPropertyDefinitions);
+        }
+
+        @Override
+        public int hashCode() {
+            return parses() ? Objects.hash(compoundId, expression, memberPropertyDefinitions)
+                    : Objects.hash(compoundId, text);
+        }
+
+        private boolean parses() {
+            try {
+                expression();
+                return true;
+            } catch (UncheckedMdxParserException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "LazyMemberBody[compoundId=" + compoundId + ", text=" + text + "]";
+        }
+    }
+
+    static final class LazySetBody implements CreateSetBodyClause {
+
+        private final CompoundId compoundId;
+        private final String text;
+        private MdxParserProvider parsers;
+        private Set<String> propertyWords;
+
+        private volatile MdxExpression expression;
+        private MdxParserException failure;
+
+        LazySetBody(CompoundId compoundId, String text, MdxParserProvider parsers, Set<String> propertyWords) {
+            this.compoundId = compoundId;
+            this.text = text;
+            this.parsers = parsers;
+            this.propertyWords = propertyWords;
+        }
+
+        @Override
+        public CompoundId compoundId() {
+            return compoundId;
+        }
+
+        @Override
+        public MdxExpression expression() {
+            MdxExpression result = expression;
+            return result != null ? result : parse();
+        }
+
+        String text() {
+            return text;
+        }
+
+        private synchronized MdxExpression parse() {
+            if (expression != null) {
+                return expression;
+            }
+            if (failure != null) {
+                throw new UncheckedMdxParserException("invalid body of set " + compoundId, failure);
+            }
+            try {
+                MdxExpression parsed = ClauseSpans.parseFormula(text, parsers, propertyWords);
+                expression = parsed;
+                parsers = null;
+                propertyWords = null;
+                return parsed;
+            } catch (MdxParserException e) {
+                failure = e;
+                throw new UncheckedMdxParserException("invalid body of set " + compoundId, e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LazySetBody other) || !compoundId.equals(other.compoundId)) {
+                return false;
+            }
+            if (!parses() || !other.parses()) {
+                return !parses() && !other.parses() && text.equals(other.text);
+            }
+            return expression.equals(other.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return parses() ? Objects.hash(compoundId, expression) : Objects.hash(compoundId, text);
+        }
+
+        private boolean parses() {
+            try {
+                expression();
+                return true;
+            } catch (UncheckedMdxParserException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "LazySetBody[compoundId=" + compoundId + ", text=" + text + "]";
+        }
+    }
+}
@@ -13,7 +13,10 @@
  */
 package org.eclipse.daanse.mdx.parser.ccc;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -38,17 +41,57 @@ import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.record.expression.MdxExpressionFactory;
+import org.eclipse.daanse.mdx.parser.api.MdxParseEvent;
 import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseBudget;
+import org.eclipse.daanse.mdx.parser.api.ParseEvent;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.api.ParseListener;
+import org.eclipse.daanse.mdx.parser.api.PropertyWords;
 
 public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxParser {
 
+    /** Smallest statement, in characters, that is parsed in parallel. */
+    public static final int PARALLEL_THRESHOLD = 8 * 1024;
+
     private static final Logger logger = LoggerFactory.getLogger(MdxParserWrapper.class);
     private MdxParser delegate;
+    private final ParserOptions options;
+    private final ParseListener listener;
+    private final ParseLimits limits;
+    /** Started with the first parse, {@code null} if unlimited or not started yet. */
+    private ParseBudget budget;
+    private CharSequence mdx;
+    private PropertyWords propertyWords;
+    private ClauseSpans spans;
 
     public MdxParserWrapper(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
-        logger.debug("Creating MdxParserWrapper with mdx length: {}, propertyWords size: {}",
-                mdx != null ? mdx.length() : 0, propertyWords != null ? propertyWords.size() : 0);
+        this(mdx, propertyWords, ParserOptions.DEFAULT);
+    }
+
+    public MdxParserWrapper(CharSequence mdx, Set<String> propertyWords, ParserOptions options)
+            throws MdxParserException {
+        this(mdx, propertyWords, options, ParseLimits.UNLIMITED);
+    }
 
+    /**
+     * @param limits bounds the parse; the bodies of {@code WITH} clauses of a
+     *               limited parse are parsed with the statement even if
+     *               {@link ParserOptions#lazyWithClauses()} is set, so that
+     *               they are covered by the limits
+     */
+    public MdxParserWrapper(CharSequence mdx, Set<String> propertyWords, ParserOptions options, ParseLimits limits)
+            throws MdxParserException {
+        this.options = Objects.requireNonNull(options, "options");
+        this.listener = options.listener();
+        this.limits = limits == null ? ParseLimits.UNLIMITED : limits;
+        init(mdx, propertyWords);
+    }
+
+    private void init(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
         if (mdx == null) {
             logger.error("MDX statement is null");
             throw new MdxParserException("statement must not be null");
@@ -56,27 +99,125 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
             logger.error("MDX statement is empty");
             throw new MdxParserException("statement must not be empty");
         }
+        if (limited()) {
+            limits.start().prescan(mdx);
+        }
+        this.mdx = mdx;
+        this.propertyWords = PropertyWords.from(propertyWords);
+        boolean parallel = options.parallelExecutor() != null && mdx.length() >= PARALLEL_THRESHOLD;
+        spans = lazy() || parallel ? ClauseSpans.scan(mdx, parallel) : null;
+    }
+
+    private boolean limited() {
+        return !limits.equals(ParseLimits.UNLIMITED);
+    }
+
+    /**
+     * Starts the budget of a limited parse, so that its timeout counts from the
+     * first parse rather than from the creation of this parser.
+     */
+    private void begin() {
+        if (budget == null && limited()) {
+            budget = limits.start();
+        }
+    }
+
+    /** The parser of the text, created when the first parse begins. */
+    private MdxParser delegate() throws MdxParserException {
+        if (delegate == null) {
+            begin();
+            try {
+                delegate = newDelegate(spans == null ? mdx : spans.blanked());
+            } catch (Exception e) {
+                logger.error("Failed to create MdxParser delegate", e);
+                throw new MdxParserException("statement must not be empty");
+            }
+        }
+        return delegate;
+    }
+
+    private MdxParser newDelegate(CharSequence text) {
+        MdxParser parser = new MdxParser(text);
+        parser.setPropertyWords(propertyWords);
+        parser.setExpressionFactory(expressionFactory());
+        return parser;
+    }
+
+    private MdxExpressionFactory expressionFactory() {
+        MdxExpressionFactory factory = options.expressionFactories() == null ? null
+                : options.expressionFactories().get();
+        return budget == null ? factory : new BudgetedExpressionFactory(factory, budget);
+    }
+
+    private boolean lazy() {
+        return options.lazyWithClauses() && !limited();
+    }
+
+    @FunctionalInterface
+    private interface StatementParse<T extends MdxStatement> {
+        T parse(MdxParser parser) throws Exception;
+    }
+
+    /**
+     * Parses a statement, with lazy member and set bodies and the parallel parse
+     * of the scanned spans as configured. If the text with blanked spans does
+     * not parse to matching clauses, the original text is parsed sequentially,
+     * so errors are reported exactly as in a plain parse.
+     */
+    private <T extends MdxStatement> T parseStatement(StatementParse<T> parse) throws Exception {
+        MdxParser parser = delegate();
+        ClauseSpans scanned = spans;
+        if (scanned == null) {
+            return parse.parse(parser);
+        }
+        spans = null;
+        ParserOptions parts = options.forParts(this::expressionFactory);
+        MdxParserProvider parsers = (text, words) -> {
+            // the parts include quoted formulas the prescan of the statement saw as strings
+            if (budget != null) {
+                budget.prescan(text);
+            }
+            return new MdxParserWrapper(text, words, parts);
+        };
+        ParallelParse parallel = scanned.query()
+                ? ParallelParse.start(scanned, parsers, propertyWords.asSet(), options.parallelExecutor(), lazy())
+                : null;
         try {
-            delegate = new MdxParser(mdx);
-            delegate.setPropertyWords(propertyWords);
-            logger.debug("MdxParserWrapper created successfully");
+            T statement = scanned.splice(parse.parse(parser),
+                    parallel != null ? parallel : LazyWithClauses.splice(scanned, parsers, propertyWords.asSet()));
+            if (statement != null) {
+                return statement;
+            }
         } catch (Exception e) {
-            logger.error("Failed to create MdxParser delegate", e);
-            throw new MdxParserException("statement must not be empty");
+            if (limitExceeded(e) != null) {
+                if (parallel != null) {
+                    parallel.cancel();
+                }
+                throw e;
+            }
+            // parse the original text below, which reports the error
         }
+        if (parallel != null) {
+            parallel.cancel();
+        }
+        delegate = newDelegate(mdx);
+        return parse.parse(delegate);
     }
 
     @Override
     public MdxStatement parseMdxStatement() throws MdxParserException {
-        logger.debug("Parsing MDX statement");
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            MdxStatement result = delegate.parseMdxStatement();
-            logger.debug("Successfully parsed MDX statement: {}", result.getClass().getSimpleName());
+            MdxStatement result = parseStatement(MdxParser::parseMdxStatement);
+            report(ParseEvent.kind(result), start, event, null);
             return result;
 
         } catch (Exception e) {
+            report(ParseEvent.MDX_STATEMENT, start, event, e);
             logger.error("Failed to parse MDX statement", e);
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -87,7 +228,7 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
         // Node.dump() writes the whole tree to System.out, so it has to be gated on the
         // level like the message above it. Ungated, every parse printed its AST: ~177k
         // lines per TCK test group, unreachable by any logging configuration.
-        if (!logger.isTraceEnabled()) {
+        if (!logger.isTraceEnabled() || delegate == null) {
             return;
         }
         Node root = delegate.rootNode();
@@ -97,13 +238,83 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
         }
     }
 
+    private long started() {
+        return listener == ParseListener.NOOP ? 0L : System.nanoTime();
+    }
+
+    private void report(String kind, long start, MdxParseEvent event, Exception failure) {
+        if (!event.shouldCommit() && listener == ParseListener.NOOP) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        int tokens = 0;
+        int nodes = 0;
+        Node root = delegate == null ? null : delegate.rootNode();
+        if (root != null) {
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                if (node instanceof Token) {
+                    tokens++;
+                } else {
+                    nodes++;
+                }
+                for (int i = 0; i < node.getChildCount(); i++) {
+                    pending.push(node.getChild(i));
+                }
+            }
+        }
+        report(kind, nanos, event, tokens, nodes, failure);
+    }
+
+    private void report(String kind, long nanos, MdxParseEvent event, int tokens, int nodes, Exception failure) {
+        boolean commit = event.shouldCommit();
+        if (commit) {
+            event.kind = kind;
+            event.characters = mdx.length();
+            event.nodes = nodes;
+            event.provider = CCCMdxParserProvider.PID;
+            event.failed = failure != null;
+            event.commit();
+        }
+        if (listener != ParseListener.NOOP) {
+            listener.parsed(new ParseEvent(kind, mdx.length(), tokens, nodes, nanos, failure != null,
+                    failureOffset(failure)));
+        }
+    }
+
+    /** The limit violation behind {@code e}, if any, otherwise {@code e} wrapped. */
+    private static MdxParserException failure(Exception e) {
+        ParseLimitExceededException limit = limitExceeded(e);
+        return limit != null ? limit : new MdxParserException(e);
+    }
+
+    private static ParseLimitExceededException limitExceeded(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ParseLimitExceededException limit) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    private static int failureOffset(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ParseException parseException && parseException.getToken() != null) {
+                return parseException.getToken().getBeginOffset();
+            }
+        }
+        return -1;
+    }
+
     @Override
     public SelectQueryAsteriskClause parseSelectQueryAsteriskClause() throws MdxParserException {
         try {
-            return delegate.parseSelectQueryAsteriskClause();
+            return delegate().parseSelectQueryAsteriskClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -112,15 +323,18 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     @Override
     public SelectStatement parseSelectStatement() throws MdxParserException {
-        logger.debug("Parsing SELECT statement");
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            SelectStatement result = delegate.parseSelectStatement();
-            logger.debug("Successfully parsed SELECT statement");
+            SelectStatement result = parseStatement(MdxParser::parseSelectStatement);
+            report("SelectStatement", start, event, null);
             return result;
 
         } catch (Exception e) {
+            report("SelectStatement", start, event, e);
             logger.error("Failed to parse SELECT statement", e);
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -129,10 +343,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     @Override
     public SelectQueryAxesClause parseSelectQueryAxesClause() throws MdxParserException {
         try {
-            return delegate.parseSelectQueryAxesClause();
+            return delegate().parseSelectQueryAxesClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -140,15 +354,28 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     @Override
     public MdxExpression parseExpression() throws MdxParserException {
-        logger.debug("Parsing MDX expression");
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            MdxExpression result = delegate.parseExpression();
-            logger.debug("Successfully parsed MDX expression: {}", result.getClass().getSimpleName());
+            begin();
+            PrattExpressionParser pratt = options.prattExpressions()
+                    ? new PrattExpressionParser(mdx, propertyWords, expressionFactory())
+                    : null;
+            MdxExpression result = pratt != null ? pratt.parse() : null;
+            if (result != null) {
+                // no syntax tree to count
+                report(ParseEvent.EXPRESSION, System.nanoTime() - start, event, pratt.tokenCount(), -1, null);
+                return result;
+            }
+            result = delegate().parseExpression();
+            report(ParseEvent.EXPRESSION, start, event, null);
             return result;
 
         } catch (Exception e) {
+            report(ParseEvent.EXPRESSION, start, event, e);
             logger.error("Failed to parse MDX expression", e);
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -157,10 +384,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     @Override
     public SelectCubeClause parseSelectCubeClause() throws MdxParserException {
         try {
-            return delegate.parseSelectCubeClause();
+            return delegate().parseSelectCubeClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -168,10 +395,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public SelectWithClause parseSelectWithClause() throws MdxParserException {
         try {
-            return delegate.parseSelectWithClause();
+            return delegate().parseSelectWithClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -179,10 +406,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public SelectQueryAxisClause parseSelectQueryAxisClause() throws MdxParserException {
         try {
-            return delegate.parseSelectQueryAxisClause();
+            return delegate().parseSelectQueryAxisClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -190,10 +417,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public Optional<SelectSlicerAxisClause> parseSelectSlicerAxisClause() throws MdxParserException {
         try {
-            return delegate.parseSelectSlicerAxisClause();
+            return delegate().parseSelectSlicerAxisClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -201,32 +428,44 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public SelectCellPropertyListClause parseSelectCellPropertyListClause() throws MdxParserException {
         try {
-            return delegate.parseSelectCellPropertyListClause();
+            return delegate().parseSelectCellPropertyListClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
     }
 
     public DrillthroughStatement parseDrillthroughStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            return delegate.parseDrillthroughStatement();
+            DrillthroughStatement result = parseStatement(MdxParser::parseDrillthroughStatement);
+            report("DrillthroughStatement", start, event, null);
+            return result;
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            report("DrillthroughStatement", start, event, e);
+            throw failure(e);
         } finally {
             dump();
         }
     }
 
     public ExplainStatement parseExplainStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            return delegate.parseExplainStatement();
+            ExplainStatement result = parseStatement(MdxParser::parseExplainStatement);
+            report("ExplainStatement", start, event, null);
+            return result;
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            report("ExplainStatement", start, event, e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -234,10 +473,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public List<ReturnItem> parseReturnItems() throws MdxParserException {
         try {
-            return delegate.parseReturnItems();
+            return delegate().parseReturnItems();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -245,10 +484,10 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public MemberPropertyDefinition parseMemberPropertyDefinition() throws MdxParserException {
         try {
-            return delegate.parseMemberPropertyDefinition();
+            return delegate().parseMemberPropertyDefinition();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -256,32 +495,44 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     public SelectDimensionPropertyListClause parseSelectDimensionPropertyListClause() throws MdxParserException {
         try {
-            return delegate.parseSelectDimensionPropertyListClause();
+            return delegate().parseSelectDimensionPropertyListClause();
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            throw failure(e);
         } finally {
             dump();
         }
     }
 
     public RefreshStatement parseRefreshStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            return delegate.parseRefreshStatement();
+            RefreshStatement result = delegate().parseRefreshStatement();
+            report("RefreshStatement", start, event, null);
+            return result;
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            report("RefreshStatement", start, event, e);
+            throw failure(e);
         } finally {
             dump();
         }
     }
 
     public UpdateStatement parseUpdateStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            return delegate.parseUpdateStatement();
+            UpdateStatement result = delegate().parseUpdateStatement();
+            report("UpdateStatement", start, event, null);
+            return result;
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            report("UpdateStatement", start, event, e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -289,11 +540,17 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     @Override
     public DMVStatement parseDMVStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
-            return delegate.parseDMVStatement();
+            DMVStatement result = delegate().parseDMVStatement();
+            report("DMVStatement", start, event, null);
+            return result;
 
         } catch (Exception e) {
-            throw new MdxParserException(e);
+            report("DMVStatement", start, event, e);
+            throw failure(e);
         } finally {
             dump();
         }
@@ -0,0 +1,133 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateSetBodyClauseR;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException.Limit;
+import org.eclipse.daanse.mdx.parser.ccc.ClauseSpans.Kind;
+import org.eclipse.daanse.mdx.parser.ccc.ClauseSpans.Span;
+
+/**
+ * Parses the spans of a statement concurrently while the calling thread parses
+ * the blanked statement, then splices the results in. The parts are built with
+ * the same productions as in a sequential parse, so the assembled statement is
+ * equal to the sequential result. The parts of a limited parse account against
+ * the budget of the calling thread, so its deadline and interrupt stop them.
+ */
+final class ParallelParse implements ClauseSpans.Splice {
+
+    private record MemberBody(MdxExpression expression, List<MemberPropertyDefinition> memberPropertyDefinitions) {
+    }
+
+    private final Map<Span, FutureTask<Object>> parts = new IdentityHashMap<>();
+    private final ClauseSpans.Splice lazyBodies;
+
+    private ParallelParse(ClauseSpans.Splice lazyBodies) {
+        this.lazyBodies = lazyBodies;
+    }
+
+    /**
+     * @param lazyBodies whether member and set bodies are left to
+     *                   {@link LazyWithClauses} instead of being parsed
+     */
+    static ParallelParse start(ClauseSpans spans, MdxParserProvider parsers, Set<String> propertyWords,
+            Executor executor, boolean lazyBodies) {
+        ParallelParse parse = new ParallelParse(
+                lazyBodies ? LazyWithClauses.splice(spans, parsers, propertyWords) : null);
+        for (Span span : spans.spans()) {
+            boolean body = span.kind() == Kind.MEMBER || span.kind() == Kind.SET;
+            if (!span.replaceable() || (lazyBodies && body)) {
+                continue;
+            }
+            String text = spans.text(span);
+            FutureTask<Object> part = new FutureTask<>(() -> parse(span, text, parsers, propertyWords));
+            parse.parts.put(span, part);
+            executor.execute(part);
+        }
+        return parse;
+    }
+
+    private static Object parse(Span span, String text, MdxParserProvider parsers, Set<String> propertyWords)
+            throws MdxParserException {
+        return switch (span.kind()) {
+        case MEMBER -> {
+            int[] commas = span.commas();
+            int end = commas.length == 0 ? text.length() : commas[0];
+            yield new MemberBody(ClauseSpans.parseFormula(text.substring(0, end), parsers, propertyWords),
+                    ClauseSpans.parseMemberProperties(text, commas, parsers, propertyWords));
+        }
+        case SET -> ClauseSpans.parseFormula(text, parsers, propertyWords);
+        case AXIS, SLICER -> parsers.newParser(text, propertyWords).parseExpression();
+        };
+    }
+
+    /**
+     * Drops the parts that have not started yet and interrupts the running ones,
+     * after the statement failed.
+     */
+    void cancel() {
+        parts.values().forEach(part -> part.cancel(true));
+    }
+
+    private Object part(Span span) throws Exception {
+        try {
+            return parts.get(span).get();
+        } catch (ExecutionException e) {
+            cancel();
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new ParseLimitExceededException(Limit.INTERRUPTED, "parse interrupted");
+        }
+    }
+
+    @Override
+    public SelectWithClause memberBody(CompoundId compoundId, Span span) throws Exception {
+        if (lazyBodies != null) {
+            return lazyBodies.memberBody(compoundId, span);
+        }
+        MemberBody body = (MemberBody) part(span);
+        return new CreateMemberBodyClauseR(compoundId, body.expression(), body.memberPropertyDefinitions());
+    }
+
+    @Override
+    public SelectWithClause setBody(CompoundId compoundId, Span span) throws Exception {
+        if (lazyBodies != null) {
+            return lazyBodies.setBody(compoundId, span);
+        }
+        return new CreateSetBodyClauseR(compoundId, (MdxExpression) part(span));
+    }
+
+    @Override
+    public MdxExpression expression(Span span) throws Exception {
+        return (MdxExpression) part(span);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.eclipse.daanse.mdx.model.record.expression.IdentifierPool;
+import org.eclipse.daanse.mdx.model.record.expression.MdxExpressionFactory;
+import org.eclipse.daanse.mdx.parser.api.ParseListener;
+
+/**
+ * How the parsers of a {@link CCCMdxParserProvider} or a single
+ * {@link MdxParserWrapper} work. Immutable; start from {@link #DEFAULT} and
+ * change what is needed, e.g.
+ * {@code ParserOptions.DEFAULT.withLazyWithClauses(true).withPrattExpressions(true)}.
+ */
+public final class ParserOptions {
+
+    /** Records, eager and sequential grammar parse, no listener. */
+    public static final ParserOptions DEFAULT = new ParserOptions(null, false, null, ParseListener.NOOP, false);
+
+    private final Supplier<? extends MdxExpressionFactory> expressionFactories;
+    private final boolean lazyWithClauses;
+    private final Executor parallelExecutor;
+    private final ParseListener listener;
+    private final boolean prattExpressions;
+
+    private ParserOptions(Supplier<? extends MdxExpressionFactory> expressionFactories, boolean lazyWithClauses,
+            Executor parallelExecutor, ParseListener listener, boolean prattExpressions) {
+        this.expressionFactories = expressionFactories;
+        this.lazyWithClauses = lazyWithClauses;
+        this.parallelExecutor = parallelExecutor;
+        this.listener = listener == null ? ParseListener.NOOP : listener;
+        this.prattExpressions = prattExpressions;
+    }
+
+    /**
+     * Expression nodes are created with a factory from
+     * {@code expressionFactories}, one per parse. {@code FlatMdxTree::new}
+     * selects the flat representation for very large statements.
+     *
+     * @param expressionFactories supplier of the factories, or {@code null}
+     *                            for records
+     */
+    public ParserOptions withExpressionFactories(Supplier<? extends MdxExpressionFactory> expressionFactories) {
+        return new ParserOptions(expressionFactories, lazyWithClauses, parallelExecutor, listener, prattExpressions);
+    }
+
+    /**
+     * Shares identifier records between parses. The pool is the expression
+     * factory of the parses, so it replaces the factories of
+     * {@link #withExpressionFactories(Supplier)} and the other way round,
+     * whichever is set last. It does not combine with {@code FlatMdxTree}: a
+     * flat tree keeps its identifiers in its own arrays and creates no records
+     * to share.
+     *
+     * @param identifierPool pool shared by all parses, or {@code null} to
+     *                       allocate identifiers per parse
+     */
+    public ParserOptions withIdentifierPool(IdentifierPool identifierPool) {
+        return withExpressionFactories(identifierPool == null ? null : () -> identifierPool);
+    }
+
+    /**
+     * With {@code lazyWithClauses} the bodies of {@code WITH MEMBER} and
+     * {@code SET} clauses are only located during the statement parse. Each
+     * body is parsed on the first call of its {@code expression()}, which pays
+     * off for statements that define many members the axes never use. The
+     * bodies of a parse with {@link org.eclipse.daanse.mdx.parser.api.ParseLimits}
+     * are parsed with the statement, so that they are covered by the limits.
+     *
+     * The statement parse then does not report syntax errors inside a body;
+     * {@code expression()} and {@code memberPropertyDefinitions()} of the clause
+     * throw an {@link org.eclipse.daanse.mdx.parser.api.UncheckedMdxParserException}
+     * with the parse error as cause instead. Lazy clauses are equal if their
+     * parsed bodies are, so comparing them parses the bodies.
+     */
+    public ParserOptions withLazyWithClauses(boolean lazyWithClauses) {
+        return new ParserOptions(expressionFactories, lazyWithClauses, parallelExecutor, listener, prattExpressions);
+    }
+
+    /**
+     * With a {@code parallelExecutor}, statements of at least
+     * {@link MdxParserWrapper#PARALLEL_THRESHOLD} characters are split at the
+     * top level {@code WITH} bodies, axes and slicer, and the parts are parsed
+     * on the executor, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * or a virtual thread per task executor. The result is equal to the one of
+     * a sequential parse.
+     *
+     * @param parallelExecutor executor for the parts, or {@code null} to parse
+     *                         sequentially
+     */
+    public ParserOptions withParallelExecutor(Executor parallelExecutor) {
+        return new ParserOptions(expressionFactories, lazyWithClauses, parallelExecutor, listener, prattExpressions);
+    }
+
+    /**
+     * @param listener receives an event for each statement and expression
+     *                 parsed, e.g. to feed metrics; {@code null} for none
+     */
+    public ParserOptions withListener(ParseListener listener) {
+        return new ParserOptions(expressionFactories, lazyWithClauses, parallelExecutor, listener, prattExpressions);
+    }
+
+    /**
+     * With {@code prattExpressions} expressions, including the parts of a
+     * parallel or lazy statement parse, are parsed by an operator precedence
+     * parser instead of the grammar productions. It builds the same trees with
+     * fewer calls per operand and without recursion for operator chains, and
+     * leaves input it does not accept to the grammar.
+     */
+    public ParserOptions withPrattExpressions(boolean prattExpressions) {
+        return new ParserOptions(expressionFactories, lazyWithClauses, parallelExecutor, listener, prattExpressions);
+    }
+
+    public Supplier<? extends MdxExpressionFactory> expressionFactories() {
+        return expressionFactories;
+    }
+
+    public boolean lazyWithClauses() {
+        return lazyWithClauses;
+    }
+
+    public Executor parallelExecutor() {
+        return parallelExecutor;
+    }
+
+    public ParseListener listener() {
+        return listener;
+    }
+
+    public boolean prattExpressions() {
+        return prattExpressions;
+    }
+
+    /**
+     * The options for the parsers of the parts of a statement: same nodes and
+     * expression parser, but each part is parsed eagerly, sequentially and
+     * without events of its own.
+     */
+    ParserOptions forParts(Supplier<? extends MdxExpressionFactory> expressionFactories) {
+        return new ParserOptions(expressionFactories, false, null, ParseListener.NOOP, prattExpressions);
+    }
+}
@@ -0,0 +1,484 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CaseOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CastOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.EmptyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PostfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PrefixOperationAtom;
+import org.eclipse.daanse.mdx.model.record.expression.MdxExpressionFactory;
+import org.eclipse.daanse.mdx.parser.api.PropertyWords;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenKind;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenizer;
+
+/**
+ * Operator precedence parser for the {@code parseExpression} production of the
+ * grammar. Where the generated parser descends through one method per
+ * precedence level for every operand, this one reads an operand and then folds
+ * operators on an explicit stack, so chains of any length cost no stack depth;
+ * only parentheses, braces, argument lists and {@code CASE} recurse.
+ *
+ * The nodes are created with the same factory calls in the same order as by
+ * the grammar, so the trees are equal. Input the grammar would reject, or only
+ * accept in part, yields {@code null}; the caller then parses with the grammar,
+ * which reports the error.
+ */
+final class PrattExpressionParser {
+
+    private enum Operator {
+
+        OR(1, "OR"), XOR(1, "XOR"), RANGE(1, ":"), AND(2, "AND"), NOT(3, "NOT"), EQ(4, "="), NE(4, "<>"),
+        LT(4, "<"), GT(4, ">"), LE(4, "<="), GE(4, ">="), IS(4, "IS"), MATCHES(4, "MATCHES"),
+        NOT_MATCHES(4, "MATCHES"), IN(4, "IN"), NOT_IN(4, "IN"), PLUS(5, "+"), MINUS(5, "-"), CONCAT(5, "||"),
+        TIMES(6, "*"), DIVIDE(6, "/");
+
+        /** Level of the grammar production, higher binds tighter. */
+        final int precedence;
+        final String name;
+
+        Operator(int precedence, String name) {
+            this.precedence = precedence;
+            this.name = name;
+        }
+    }
+
+    /** Precedence of the postfix {@code IS NULL} and {@code IS EMPTY}. */
+    private static final int POSTFIX = 4;
+    private static final int TIGHTEST = 6;
+
+    private static final class Fallback extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Fallback() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Fallback FALLBACK = new Fallback();
+
+    private final CharSequence input;
+    private final MdxTokenizer tokenizer;
+    private final PropertyWords propertyWords;
+    private final MdxExpressionFactory factory;
+
+    private int tokens;
+    private MdxTokenKind kind;
+    private int start;
+    private int end;
+    private boolean peeked;
+    private MdxTokenKind peekKind;
+    private int peekStart;
+    private int peekEnd;
+
+    PrattExpressionParser(CharSequence input, PropertyWords propertyWords, MdxExpressionFactory factory) {
+        this.input = input;
+        this.tokenizer = new MdxTokenizer(input);
+        this.propertyWords = propertyWords;
+        this.factory = factory == null ? MdxExpressionFactory.RECORDS : factory;
+        next();
+    }
+
+    /**
+     * @return the expression that makes up all of {@code mdx}, or {@code null}
+     *         if it has to be parsed by the grammar
+     */
+    static MdxExpression parse(CharSequence mdx, PropertyWords propertyWords, MdxExpressionFactory factory) {
+        return new PrattExpressionParser(mdx, propertyWords, factory).parse();
+    }
+
+    /**
+     * @return the expression that makes up all of the input, or {@code null}
+     *         if it has to be parsed by the grammar
+     */
+    MdxExpression parse() {
+        try {
+            MdxExpression expression = expression();
+            return kind == MdxTokenKind.EOF ? expression : null;
+        } catch (Fallback e) {
+            return null;
+        }
+    }
+
+    /** Tokens read so far, the end of the input not counted. */
+    int tokenCount() {
+        return tokens;
+    }
+
+    private void next() {
+        if (peeked) {
+            peeked = false;
+            kind = peekKind;
+            start = peekStart;
+            end = peekEnd;
+        } else {
+            kind = read();
+            start = tokenizer.start();
+            end = tokenizer.end();
+        }
+    }
+
+    private MdxTokenKind read() {
+        MdxTokenKind read = tokenizer.next();
+        if (read != MdxTokenKind.EOF) {
+            tokens++;
+        }
+        return read;
+    }
+
+    private MdxTokenKind peek() {
+        if (!peeked) {
+            peeked = true;
+            peekKind = read();
+            peekStart = tokenizer.start();
+            peekEnd = tokenizer.end();
+        }
+        return peekKind;
+    }
+
+    private String image() {
+        return input.subSequence(start, end).toString();
+    }
+
+    private void expect(MdxTokenKind expected) {
+        if (kind != expected) {
+            throw FALLBACK;
+        }
+        next();
+    }
+
+    private static boolean startsAtom(MdxTokenKind kind) {
+        return switch (kind) {
+        case SINGLE_QUOTED_STRING, DOUBLE_QUOTED_STRING, DECIMAL_NUMERIC_LITERAL, UNSIGNED_INTEGER_LITERAL,
+                APPROX_NUMERIC_LITERAL, NULL, CAST, LPAREN, LBRACE, CASE, DIMENSION, PROPERTIES, ID, ATSIGN,
+                QUOTED_ID ->
+            true;
+        default -> false;
+        };
+    }
+
+    private static boolean startsTerm(MdxTokenKind kind) {
+        return kind == MdxTokenKind.PLUS || kind == MdxTokenKind.MINUS || kind == MdxTokenKind.EXISTING
+                || startsAtom(kind);
+    }
+
+    private static boolean startsExpression(MdxTokenKind kind) {
+        return kind == MdxTokenKind.NOT || startsTerm(kind);
+    }
+
+    // parseExpression
+    private MdxExpression expression() {
+        MdxExpression expression = unaliasedExpression();
+        while (kind == MdxTokenKind.AS) {
+            next();
+            ObjectIdentifier alias = identifier();
+            expression = factory.callExpression(new InfixOperationAtom("AS"),
+                    List.of(expression, factory.compoundId(List.of(alias))));
+        }
+        return expression;
+    }
+
+    // parseUnaliasedExpression down to parseTerm
+    private MdxExpression unaliasedExpression() {
+        Deque<Operator> operators = new ArrayDeque<>();
+        Deque<MdxExpression> operands = new ArrayDeque<>();
+        while (true) {
+            // NOT may only start the operand of AND, OR, XOR, ':' and NOT
+            while (kind == MdxTokenKind.NOT) {
+                if (!operators.isEmpty() && operators.peek().precedence > Operator.NOT.precedence) {
+                    throw FALLBACK;
+                }
+                operators.push(Operator.NOT);
+                next();
+            }
+            operands.push(factor());
+
+            int ceiling = TIGHTEST;
+            Operator operator;
+            while (true) {
+                if (kind == MdxTokenKind.IS && (peek() == MdxTokenKind.NULL || peek() == MdxTokenKind.EMPTY)) {
+                    reduce(operators, operands, POSTFIX);
+                    next();
+                    next();
+                    operands.push(factory.callExpression(new PostfixOperationAtom("IS NULL"),
+                            List.of(operands.pop())));
+                    ceiling = POSTFIX;
+                    continue;
+                }
+                operator = infix();
+                break;
+            }
+            if (operator == null || operator.precedence > ceiling) {
+                reduce(operators, operands, 0);
+                return operands.pop();
+            }
+            reduce(operators, operands, operator.precedence);
+            if (operator == Operator.NOT_IN || operator == Operator.NOT_MATCHES) {
+                next();
+            }
+            next();
+            operators.push(operator);
+        }
+    }
+
+    /** The binary operator at the current token, without consuming it. */
+    private Operator infix() {
+        return switch (kind) {
+        case OR -> Operator.OR;
+        case XOR -> Operator.XOR;
+        case COLON -> Operator.RANGE;
+        case AND -> Operator.AND;
+        case EQ -> Operator.EQ;
+        case NE -> Operator.NE;
+        case LT -> Operator.LT;
+        case GT -> Operator.GT;
+        case LE -> Operator.LE;
+        case GE -> Operator.GE;
+        case IS -> startsTerm(peek()) ? Operator.IS : null;
+        case MATCHES -> Operator.MATCHES;
+        case IN -> Operator.IN;
+        case NOT -> switch (peek()) {
+            case MATCHES -> Operator.NOT_MATCHES;
+            case IN -> Operator.NOT_IN;
+            default -> null;
+            };
+        case PLUS -> Operator.PLUS;
+        case MINUS -> Operator.MINUS;
+        case CONCAT -> Operator.CONCAT;
+        case ASTERISK -> Operator.TIMES;
+        case SOLIDUS -> Operator.DIVIDE;
+        default -> null;
+        };
+    }
+
+    /** Applies the stacked operators that bind at least as tight as {@code precedence}. */
+    private void reduce(Deque<Operator> operators, Deque<MdxExpression> operands, int precedence) {
+        while (!operators.isEmpty() && operators.peek().precedence >= precedence) {
+            Operator operator = operators.pop();
+            MdxExpression right = operands.pop();
+            MdxExpression result = switch (operator) {
+            case NOT -> factory.callExpression(new PrefixOperationAtom("NOT"), List.of(right));
+            case NOT_IN, NOT_MATCHES -> factory.callExpression(new PrefixOperationAtom("NOT"),
+                    List.of(factory.callExpression(new InfixOperationAtom(operator.name),
+                            List.of(operands.pop(), right))));
+            default -> factory.callExpression(new InfixOperationAtom(operator.name),
+                    List.of(operands.pop(), right));
+            };
+            operands.push(result);
+        }
+    }
+
+    // parseFactor
+    private MdxExpression factor() {
+        switch (kind) {
+        case PLUS:
+            next();
+            return primary();
+        case MINUS:
+            next();
+            return factory.callExpression(new PrefixOperationAtom("-"), List.of(primary()));
+        case EXISTING:
+            next();
+            return factory.callExpression(new PrefixOperationAtom("Existing"), List.of(primary()));
+        default:
+            return primary();
+        }
+    }
+
+    // parsePrimary and objectIdentifierOrFuncall
+    private MdxExpression primary() {
+        MdxExpression expression = atom();
+        while (kind == MdxTokenKind.DOT) {
+            next();
+            ObjectIdentifier objectIdentifier = identifier();
+            List<MdxExpression> arguments = null;
+            if (kind == MdxTokenKind.LPAREN) {
+                next();
+                arguments = expressionOrEmptyList();
+                expect(MdxTokenKind.RPAREN);
+            }
+            expression = MdxParserUtil.createCall(expression, objectIdentifier, arguments, propertyWords, factory);
+        }
+        return expression;
+    }
+
+    // parseAtom
+    private MdxExpression atom() {
+        switch (kind) {
+        case SINGLE_QUOTED_STRING: {
+            String value = MdxParserUtil.stripQuotes(image(), "'", "'", "''");
+            next();
+            return factory.stringLiteral(value);
+        }
+        case DOUBLE_QUOTED_STRING: {
+            String value = MdxParserUtil.stripQuotes(image(), "\"", "\"", "\"\"");
+            next();
+            return factory.stringLiteral(value);
+        }
+        case DECIMAL_NUMERIC_LITERAL, UNSIGNED_INTEGER_LITERAL, APPROX_NUMERIC_LITERAL: {
+            String image = image();
+            next();
+            return factory.numericLiteral(image);
+        }
+        case NULL:
+            next();
+            return factory.nullLiteral();
+        case CAST: {
+            next();
+            expect(MdxTokenKind.LPAREN);
+            MdxExpression expression = unaliasedExpression();
+            expect(MdxTokenKind.AS);
+            NameObjectIdentifier type = nameObjectIdentifier();
+            expect(MdxTokenKind.RPAREN);
+            return factory.callExpression(new CastOperationAtom(),
+                    List.of(expression, factory.symbolLiteral(type.name())));
+        }
+        case LPAREN: {
+            next();
+            List<MdxExpression> expressions = expressionList();
+            expect(MdxTokenKind.RPAREN);
+            return factory.callExpression(new ParenthesesOperationAtom(), expressions);
+        }
+        case LBRACE: {
+            next();
+            List<MdxExpression> expressions = kind == MdxTokenKind.RBRACE ? Collections.emptyList()
+                    : expressionList();
+            expect(MdxTokenKind.RBRACE);
+            return factory.callExpression(new BracesOperationAtom(), expressions);
+        }
+        case CASE:
+            return caseExpression();
+        default: {
+            NameObjectIdentifier name = nameObjectIdentifier();
+            while (kind == MdxTokenKind.BANG) {
+                // qualifiers of the function name are ignored, as by the grammar
+                next();
+                name = nameObjectIdentifier();
+            }
+            List<MdxExpression> expressions = null;
+            if (kind == MdxTokenKind.LPAREN) {
+                next();
+                expressions = kind == MdxTokenKind.RPAREN ? Collections.emptyList() : expressionOrEmptyList();
+                expect(MdxTokenKind.RPAREN);
+            }
+            return MdxParserUtil.createCall(null, name, expressions, propertyWords, factory);
+        }
+        }
+    }
+
+    // parseCaseExpression
+    private MdxExpression caseExpression() {
+        next();
+        List<MdxExpression> expressions = new ArrayList<>();
+        boolean match = false;
+        if (startsExpression(kind)) {
+            match = true;
+            expressions.add(expression());
+        }
+        while (kind == MdxTokenKind.WHEN) {
+            next();
+            MdxExpression when = expression();
+            expect(MdxTokenKind.THEN);
+            MdxExpression then = expression();
+            expressions.add(when);
+            expressions.add(then);
+        }
+        if (kind == MdxTokenKind.ELSE) {
+            next();
+            expressions.add(expression());
+        }
+        expect(MdxTokenKind.END);
+        return factory.callExpression(new CaseOperationAtom(match ? "_CaseMatch" : "_CaseTest"), expressions);
+    }
+
+    // expList
+    private List<MdxExpression> expressionList() {
+        List<MdxExpression> expressions = new ArrayList<>();
+        expressions.add(expression());
+        while (kind == MdxTokenKind.COMMA) {
+            next();
+            expressions.add(expression());
+        }
+        return expressions;
+    }
+
+    // expOrEmptyList
+    private List<MdxExpression> expressionOrEmptyList() {
+        List<MdxExpression> expressions = new ArrayList<>();
+        expressions.add(expressionOrEmpty());
+        while (kind == MdxTokenKind.COMMA) {
+            next();
+            expressions.add(expressionOrEmpty());
+        }
+        return expressions;
+    }
+
+    // parseExpressionOrEmpty
+    private MdxExpression expressionOrEmpty() {
+        return startsExpression(kind) ? expression()
+                : factory.callExpression(new EmptyOperationAtom(), List.of());
+    }
+
+    // parseIdentifier
+    private ObjectIdentifier identifier() {
+        if (kind != MdxTokenKind.AMP_QUOTED_ID && kind != MdxTokenKind.AMP_UNQUOTED_ID) {
+            return nameObjectIdentifier();
+        }
+        List<NameObjectIdentifier> keys = new ArrayList<>();
+        while (true) {
+            if (kind == MdxTokenKind.AMP_QUOTED_ID) {
+                keys.add(factory.nameObjectIdentifier(MdxParserUtil.stripQuotes(image(), "&[", "]", "]]"),
+                        Quoting.QUOTED));
+            } else if (kind == MdxTokenKind.AMP_UNQUOTED_ID) {
+                keys.add(factory.nameObjectIdentifier(image().substring(1), Quoting.UNQUOTED));
+            } else {
+                return factory.keyObjectIdentifier(keys);
+            }
+            next();
+        }
+    }
+
+    // parseNameObjectIdentifier
+    private NameObjectIdentifier nameObjectIdentifier() {
+        NameObjectIdentifier name = switch (kind) {
+        case DIMENSION, PROPERTIES, ID -> factory.nameObjectIdentifier(image(), Quoting.UNQUOTED);
+        case ATSIGN -> {
+            next();
+            if (kind != MdxTokenKind.ID) {
+                throw FALLBACK;
+            }
+            yield factory.nameObjectIdentifier("@" + image(), Quoting.UNQUOTED);
+        }
+        case QUOTED_ID -> factory.nameObjectIdentifier(MdxParserUtil.stripQuotes(image(), "[", "]", "]]"),
+                Quoting.QUOTED);
+        default -> throw FALLBACK;
+        };
+        next();
+        return name;
+    }
+}
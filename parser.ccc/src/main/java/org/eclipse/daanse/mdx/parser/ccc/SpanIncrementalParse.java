@@ -0,0 +1,83 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.parser.api.IncrementalParse;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.TextEdit;
+
+/**
+ * {@link IncrementalParse} that parses only the {@code WITH} body, axis or
+ * slicer an edit is confined to, as located by {@link ClauseSpans}. All other
+ * clauses are shared with the previous statement. Edits elsewhere, or edits
+ * that change the clause structure, lead to a parse of the whole text.
+ */
+final class SpanIncrementalParse implements IncrementalParse {
+
+    private final MdxParserProvider parsers;
+    private final Set<String> propertyWords;
+    private final String text;
+    private final MdxStatement statement;
+    private final ClauseSpans spans;
+
+    private SpanIncrementalParse(MdxParserProvider parsers, Set<String> propertyWords, String text,
+            MdxStatement statement, ClauseSpans spans) {
+        this.parsers = parsers;
+        this.propertyWords = propertyWords;
+        this.text = text;
+        this.statement = statement;
+        this.spans = spans;
+    }
+
+    static IncrementalParse parse(MdxParserProvider parsers, CharSequence mdx, Set<String> propertyWords)
+            throws MdxParserException {
+        String text = mdx == null ? null : mdx.toString();
+        MdxStatement statement = parsers.newParser(text, propertyWords).parseMdxStatement();
+        return new SpanIncrementalParse(parsers, propertyWords, text, statement, ClauseSpans.scan(text, true));
+    }
+
+    @Override
+    public String text() {
+        return text;
+    }
+
+    @Override
+    public MdxStatement statement() {
+        return statement;
+    }
+
+    @Override
+    public IncrementalParse edit(TextEdit edit) throws MdxParserException {
+        String edited = edit.apply(text);
+        ClauseSpans editedSpans = ClauseSpans.scan(edited, true);
+        int index = spans == null || editedSpans == null ? -1 : editedSpans.editedSpan(spans, edit);
+        if (index >= 0) {
+            try {
+                MdxStatement replaced = editedSpans.replace(statement, index,
+                        ClauseSpans.sequential(editedSpans, parsers, propertyWords));
+                if (replaced != null) {
+                    return new SpanIncrementalParse(parsers, propertyWords, edited, replaced, editedSpans);
+                }
+            } catch (Exception e) {
+                // the parse of the whole text reports the error with its position in the statement
+            }
+        }
+        MdxStatement parsed = parsers.newParser(edited, propertyWords).parseMdxStatement();
+        return new SpanIncrementalParse(parsers, propertyWords, edited, parsed, editedSpans);
+    }
+}
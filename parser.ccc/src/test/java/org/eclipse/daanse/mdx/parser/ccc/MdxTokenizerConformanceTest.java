@@ -0,0 +1,82 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.ccc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenKind;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenizer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link MdxTokenizer} reports the same tokens as the lexer
+ * generated from the grammar: kind, start and end of every token. The corpus
+ * is {@code TokenizerCorpus.mdx}, the statements and fragments the TCK parses,
+ * one entry per block between lines holding only {@code ----}.
+ */
+class MdxTokenizerConformanceTest {
+
+    @Test
+    void sameTokensAsGeneratedLexerOnTckCorpus() throws IOException {
+        String text;
+        try (InputStream in = MdxTokenizerConformanceTest.class.getResourceAsStream("TokenizerCorpus.mdx")) {
+            assertThat(in).isNotNull();
+            text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] corpus = text.split("\n----\n");
+        assertThat(corpus).hasSizeGreaterThan(100);
+
+        for (String mdx : corpus) {
+            assertThat(tokens(new MdxTokenizer(mdx))).as(mdx).isEqualTo(tokens(new MdxLexer(mdx)));
+        }
+    }
+
+    @Test
+    void sameTokensAsGeneratedLexerOnEdgeCases() {
+        for (String mdx : new String[] { "", "  ", "a//x", "a -- x\r\nb", "/* c */ a /** d */", "1. .5 1e 1.5E-3 4f",
+                "'it''s' \"a\"\"b\"", "[a]]b].&[1]&Key.Größe", "@x!y:z <> <= >= || ;", "select NoN eMpty $system" }) {
+            assertThat(tokens(new MdxTokenizer(mdx))).as(mdx).isEqualTo(tokens(new MdxLexer(mdx)));
+        }
+    }
+
+    // one "KIND start end" per token; after an invalid token the error recovery of the lexers differs
+    private static List<String> tokens(MdxTokenizer tokenizer) {
+        List<String> tokens = new ArrayList<>();
+        MdxTokenKind kind;
+        do {
+            kind = tokenizer.next();
+            tokens.add(kind == MdxTokenKind.EOF ? "EOF" : kind + " " + tokenizer.start() + " " + tokenizer.end());
+        } while (kind != MdxTokenKind.EOF && kind != MdxTokenKind.INVALID);
+        return tokens;
+    }
+
+    private static List<String> tokens(MdxLexer lexer) {
+        List<String> tokens = new ArrayList<>();
+        Token token = lexer.getNextToken(null);
+        while (true) {
+            String kind = token.getType().name();
+            tokens.add(kind.equals("EOF") ? kind : kind + " " + token.getBeginOffset() + " " + token.getEndOffset());
+            if (kind.equals("EOF") || kind.equals("INVALID")) {
+                return tokens;
+            }
+            token = lexer.getNextToken(token);
+        }
+    }
+}
@@ -18,6 +18,10 @@ import java.util.Set;
 import org.eclipse.daanse.mdx.parser.api.MdxParser;
 import org.eclipse.daanse.mdx.parser.api.MdxParserException;
 import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseBudget;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.api.ParseListener;
+import org.eclipse.daanse.mdx.parser.api.PropertyWordsCache;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ServiceScope;
 
@@ -26,8 +30,34 @@ public class CCCXMdxParserProvider implements MdxParserProvider {
 
     public static final String PID = "daanse.mdx.parser.cccx.CCCXMdxParserProvider";
 
+    private final ParseListener listener;
+    private final PropertyWordsCache propertyWordsCache = new PropertyWordsCache();
+
+    public CCCXMdxParserProvider() {
+        this(ParseListener.NOOP);
+    }
+
+    /**
+     * @param listener receives an event for each statement and expression
+     *                 parsed by the parsers of this provider
+     */
+    public CCCXMdxParserProvider(ParseListener listener) {
+        this.listener = listener;
+    }
+
     @Override
     public MdxParser newParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
-        return new MdxParserWrapper(mdx, propertyWords);
+        return new MdxParserWrapper(mdx, propertyWordsCache.get(propertyWords).asSet(), listener);
+    }
+
+    /**
+     * Only checks the text, see {@link ParseBudget#prescan}. The generated
+     * parser of this provider has no hook per node or token, so nodes are not
+     * accounted and the clock and interrupts are not watched while it parses.
+     */
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        return MdxParserProvider.super.newParser(mdx, propertyWords, limits);
     }
 }
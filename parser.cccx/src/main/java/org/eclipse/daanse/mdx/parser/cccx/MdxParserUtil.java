@@ -15,7 +15,6 @@ package org.eclipse.daanse.mdx.parser.cccx;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +24,7 @@ import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
 import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
 import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
 import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.parser.api.PropertyWords;
 import org.eclipse.daanse.mdx.parser.cccx.tree.Expression;
 
 public class MdxParserUtil {
@@ -35,21 +35,15 @@ public class MdxParserUtil {
     }
 
     public static String stripQuotes(String s, String prefix, String suffix, String quoted) {
-        logger.debug("Stripping quotes from string: '{}' with prefix: '{}', suffix: '{}'", s, prefix, suffix);
         if (s.startsWith(prefix) && s.endsWith(suffix)) {
             s = s.substring(prefix.length(), s.length() - suffix.length());
             s = s.replace(quoted, suffix);
-            logger.debug("Stripped quotes result: '{}'", s);
-        } else {
-            logger.debug("String '{}' does not match expected prefix/suffix pattern", s);
         }
         return s;
     }
 
     public static Node createCall(org.eclipse.daanse.mdx.parser.cccx.tree.CompoundId compoundId,
-            Set<String> propertyWords) {
-        logger.debug("Creating call for compound ID with size: {}, propertyWords size: {}", compoundId.size(),
-                propertyWords != null ? propertyWords.size() : 0);
+            PropertyWords propertyWords) {
 
         // Member syntax: "foo.bar"
         // or property syntax: "foo.RESERVED_WORD.RESERVED_WORD"
@@ -58,11 +52,8 @@ public class MdxParserUtil {
             final String name = objectIdentifier instanceof NameObjectIdentifier nameObjectIdentifier
                     ? nameObjectIdentifier.name()
                     : null;
-            logger.debug("Processing compound ID with last element: '{}', quoting: {}", name,
-                    objectIdentifier.quoting());
             if (objectIdentifier.quoting().equals(ObjectIdentifier.Quoting.UNQUOTED) && name != null
-                    && propertyWords.contains(name.toUpperCase())) {
-                logger.debug("Property '{}' is a reserved word, creating function call", name);
+                    && propertyWords.contains(name)) {
                 List<ObjectIdentifier> list = new ArrayList<>();
                 for (int i = 0; i < compoundId.size() - 1; i++) {
                     if (compoundId.get(i) instanceof ObjectIdentifier mdxExpression) {
@@ -73,16 +64,16 @@ public class MdxParserUtil {
                 return new RightFunctionCall(new PlainPropertyOperationAtom(name), l);
             }
         }
-        logger.debug("Returning compound ID as-is");
         return compoundId;
     }
 
-    private static List<MdxExpression> getObjectIdentifierList(List<ObjectIdentifier> list, Set<String> propertyWords) {
+    private static List<MdxExpression> getObjectIdentifierList(List<ObjectIdentifier> list,
+            PropertyWords propertyWords) {
         ObjectIdentifier last = list.getLast();
         final String name = last instanceof NameObjectIdentifier nameObjectIdentifier ? nameObjectIdentifier.name()
                 : null;
         if (last.quoting().equals(ObjectIdentifier.Quoting.UNQUOTED) && name != null
-                && propertyWords.contains(name.toUpperCase())) {
+                && propertyWords.contains(name)) {
             List<ObjectIdentifier> ll = new ArrayList<>();
             for (int i = 0; i < list.size() - 1; i++) {
                 ll.add(list.get(i));
@@ -98,17 +89,14 @@ public class MdxParserUtil {
         });
     }
 
-    public static Expression getExpression(Expression expression, Set<String> propertyWords) {
-        logger.debug("Processing expression: {}", expression.getClass().getSimpleName());
+    public static Expression getExpression(Expression expression, PropertyWords propertyWords) {
         if (expression instanceof org.eclipse.daanse.mdx.model.api.expression.StringLiteral stringLiteral) {
-            logger.debug("Processing string literal: '{}'", stringLiteral.value());
             try {
                 String strippedValue = stripQuotes(stringLiteral.value(), "'", "'", "''");
                 MdxParser parser = new MdxParser(strippedValue);
                 parser.setPropertyWords(propertyWords);
                 parser.Expression();
                 Expression result = (Expression) parser.peekNode();
-                logger.debug("Successfully parsed string literal expression");
                 return result;
             } catch (Exception e) {
                 logger.error("Failed to parse string literal expression: '{}'", stringLiteral.value(), e);
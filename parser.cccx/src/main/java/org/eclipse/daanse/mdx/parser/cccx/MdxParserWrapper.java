@@ -13,6 +13,8 @@
  */
 package org.eclipse.daanse.mdx.parser.cccx;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -38,17 +40,34 @@ import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.parser.api.MdxParseEvent;
 import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.ParseEvent;
+import org.eclipse.daanse.mdx.parser.api.ParseListener;
+import org.eclipse.daanse.mdx.parser.api.PropertyWords;
 
 public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxParser {
 
     private static final Logger logger = LoggerFactory.getLogger(MdxParserWrapper.class);
+    private final ParseListener listener;
     private MdxParser delegate;
+    private int length;
 
     public MdxParserWrapper(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
-        logger.debug("Creating MdxParserWrapper with mdx length: {}, propertyWords size: {}",
-                mdx != null ? mdx.length() : 0, propertyWords != null ? propertyWords.size() : 0);
+        this(mdx, propertyWords, ParseListener.NOOP);
+    }
+
+    /**
+     * @param listener receives an event for each statement and expression
+     *                 parsed, {@link ParseListener#NOOP} for none
+     */
+    public MdxParserWrapper(CharSequence mdx, Set<String> propertyWords, ParseListener listener)
+            throws MdxParserException {
+        this.listener = listener == null ? ParseListener.NOOP : listener;
+        init(mdx, propertyWords);
+    }
 
+    private void init(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
         if (mdx == null) {
             logger.error("MDX statement is null");
             throw new MdxParserException("statement must not be null");
@@ -58,23 +77,26 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
         }
         try {
             delegate = new MdxParser(mdx);
-            delegate.setPropertyWords(propertyWords);
-            logger.debug("MdxParserWrapper created successfully");
+            delegate.setPropertyWords(PropertyWords.from(propertyWords));
         } catch (Exception e) {
             logger.error("Failed to create MdxParser delegate", e);
             throw new MdxParserException("statement must not be empty");
         }
+        length = mdx.length();
     }
 
     @Override
     public MdxStatement parseMdxStatement() throws MdxParserException {
-        logger.debug("Parsing MDX statement");
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             MdxStatement result = (MdxStatement) delegate.MdxStatement();
-            logger.debug("Successfully parsed MDX statement: {}", result.getClass().getSimpleName());
+            report(ParseEvent.kind(result), start, event, null);
             return result;
 
         } catch (Exception e) {
+            report(ParseEvent.MDX_STATEMENT, start, event, e);
             logger.error("Failed to parse MDX statement", e);
             throw new MdxParserException(e);
         } finally {
@@ -96,6 +118,57 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
         }
     }
 
+    private long started() {
+        return listener == ParseListener.NOOP ? 0L : System.nanoTime();
+    }
+
+    private void report(String kind, long start, MdxParseEvent event, Exception failure) {
+        boolean commit = event.shouldCommit();
+        if (!commit && listener == ParseListener.NOOP) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        int tokens = 0;
+        int nodes = 0;
+        Node root = delegate.rootNode();
+        if (root != null) {
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                if (node instanceof Token) {
+                    tokens++;
+                } else {
+                    nodes++;
+                }
+                for (int i = 0; i < node.getChildCount(); i++) {
+                    pending.push(node.getChild(i));
+                }
+            }
+        }
+        if (commit) {
+            event.kind = kind;
+            event.characters = length;
+            event.nodes = nodes;
+            event.provider = CCCXMdxParserProvider.PID;
+            event.failed = failure != null;
+            event.commit();
+        }
+        if (listener != ParseListener.NOOP) {
+            listener.parsed(new ParseEvent(kind, length, tokens, nodes, nanos, failure != null,
+                    failureOffset(failure)));
+        }
+    }
+
+    private static int failureOffset(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ParseException parseException && parseException.getToken() != null) {
+                return parseException.getToken().getBeginOffset();
+            }
+        }
+        return -1;
+    }
+
     @Override
     public SelectQueryAsteriskClause parseSelectQueryAsteriskClause() throws MdxParserException {
         try {
@@ -111,13 +184,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     @Override
     public SelectStatement parseSelectStatement() throws MdxParserException {
-        logger.debug("Parsing SELECT statement");
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.SelectStatement();
             SelectStatement result = (SelectStatement) delegate.peekNode();
-            logger.debug("Successfully parsed SELECT statement");
+            report("SelectStatement", start, event, null);
             return result;
         } catch (Exception e) {
+            report("SelectStatement", start, event, e);
             logger.error("Failed to parse SELECT statement", e);
             throw new MdxParserException(e);
         } finally {
@@ -139,13 +215,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
 
     @Override
     public MdxExpression parseExpression() throws MdxParserException {
-        logger.debug("Parsing MDX expression");
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.Expression();
             MdxExpression result = (MdxExpression) delegate.peekNode();
-            logger.debug("Successfully parsed MDX expression: {}", result.getClass().getSimpleName());
+            report(ParseEvent.EXPRESSION, start, event, null);
             return result;
         } catch (Exception e) {
+            report(ParseEvent.EXPRESSION, start, event, e);
             logger.error("Failed to parse MDX expression", e);
             throw new MdxParserException(e);
         } finally {
@@ -210,10 +289,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     }
 
     public DrillthroughStatement parseDrillthroughStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.DrillthroughStatement();
-            return (DrillthroughStatement) delegate.peekNode();
+            DrillthroughStatement result = (DrillthroughStatement) delegate.peekNode();
+            report("DrillthroughStatement", start, event, null);
+            return result;
         } catch (Exception e) {
+            report("DrillthroughStatement", start, event, e);
             throw new MdxParserException(e);
         } finally {
             dump();
@@ -221,10 +306,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     }
 
     public ExplainStatement parseExplainStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.ExplainStatement();
-            return (ExplainStatement) delegate.peekNode();
+            ExplainStatement result = (ExplainStatement) delegate.peekNode();
+            report("ExplainStatement", start, event, null);
+            return result;
         } catch (Exception e) {
+            report("ExplainStatement", start, event, e);
             throw new MdxParserException(e);
         } finally {
             dump();
@@ -265,11 +356,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     }
 
     public RefreshStatement parseRefreshStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.RefreshStatement();
-            return (RefreshStatement) delegate.peekNode();
-
+            RefreshStatement result = (RefreshStatement) delegate.peekNode();
+            report("RefreshStatement", start, event, null);
+            return result;
         } catch (Exception e) {
+            report("RefreshStatement", start, event, e);
             throw new MdxParserException(e);
         } finally {
             dump();
@@ -277,11 +373,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     }
 
     public UpdateStatement parseUpdateStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.UpdateStatement();
-            return (UpdateStatement) delegate.peekNode();
-
+            UpdateStatement result = (UpdateStatement) delegate.peekNode();
+            report("UpdateStatement", start, event, null);
+            return result;
         } catch (Exception e) {
+            report("UpdateStatement", start, event, e);
             throw new MdxParserException(e);
         } finally {
             dump();
@@ -289,10 +390,16 @@ public class MdxParserWrapper implements org.eclipse.daanse.mdx.parser.api.MdxPa
     }
 
     public DMVStatement parseDMVStatement() throws MdxParserException {
+        long start = started();
+        MdxParseEvent event = new MdxParseEvent();
+        event.begin();
         try {
             delegate.DMVStatement();
-            return (DMVStatement) delegate.peekNode();
+            DMVStatement result = (DMVStatement) delegate.peekNode();
+            report("DMVStatement", start, event, null);
+            return result;
         } catch (Exception e) {
+            report("DMVStatement", start, event, e);
             throw new MdxParserException(e);
         } finally {
             dump();
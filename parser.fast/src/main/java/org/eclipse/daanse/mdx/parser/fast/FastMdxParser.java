@@ -0,0 +1,1248 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.fast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.CompoundId;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.expression.NameObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier.Quoting;
+import org.eclipse.daanse.mdx.model.api.expression.operation.AmpersandQuotedPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CaseOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CastOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.EmptyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.MethodOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.ParenthesesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PostfixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.PrefixOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.QuotedPropertyOperationAtom;
+import org.eclipse.daanse.mdx.model.api.select.Allocation;
+import org.eclipse.daanse.mdx.model.api.select.Axis;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.api.select.UpdateClause;
+import org.eclipse.daanse.mdx.model.record.DMVStatementR;
+import org.eclipse.daanse.mdx.model.record.DrillthroughStatementR;
+import org.eclipse.daanse.mdx.model.record.ExplainStatementR;
+import org.eclipse.daanse.mdx.model.record.RefreshStatementR;
+import org.eclipse.daanse.mdx.model.record.ReturnItemR;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.UpdateStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.KeyObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NullLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.StringLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.SymbolLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.CreateMemberBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.CreateSetBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MeasureBodyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.MemberPropertyDefinitionR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCellPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseSubStatementR;
+import org.eclipse.daanse.mdx.model.record.select.SelectDimensionPropertyListClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAsteriskClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryEmptyClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.UpdateClauseR;
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.ParseBudget;
+import org.eclipse.daanse.mdx.parser.api.ParseLimitExceededException;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.api.PropertyWords;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenKind;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenizer;
+
+/**
+ * Hand written recursive descent parser for the language of the CongoCC
+ * grammar of {@code parser.ccc}. The input is lexed once by the
+ * {@link MdxTokenizer} into parallel arrays of token kinds and offsets, which
+ * are kept across {@link #reset}, so there are no token objects and any
+ * lookahead is an index into the arrays. The records of the model are created
+ * directly while descending.
+ *
+ * There is one method per production, named after it, with the same choices
+ * and the same results as the grammar: a statement parsed by this parser is
+ * equal to the one parsed by {@code parser.ccc}.
+ *
+ * With {@link ParseLimits} the text is prescanned by {@link #reset}, and each
+ * parse starts a {@link ParseBudget} that accounts the created expression
+ * nodes and looks at the clock and the interrupt status as tokens are
+ * consumed.
+ */
+public final class FastMdxParser implements MdxParser {
+
+    private static final int INITIAL_TOKENS = 64;
+
+    /** Tokens between two looks at the clock of a limited parse. */
+    private static final int CHECK_INTERVAL = 64;
+
+    private final MdxTokenizer tokenizer = new MdxTokenizer("");
+    private final ParseLimits limits;
+    /** The budget of the parse a quoted formula belongs to, or {@code null}. */
+    private final ParseBudget enclosing;
+    /** The budget of the running parse, {@code null} if unlimited. */
+    private ParseBudget budget;
+
+    private CharSequence mdx;
+    private PropertyWords propertyWords;
+
+    private MdxTokenKind[] kinds = new MdxTokenKind[INITIAL_TOKENS];
+    private int[] starts = new int[INITIAL_TOKENS];
+    private int[] ends = new int[INITIAL_TOKENS];
+    /** Index of the {@link MdxTokenKind#EOF} token. */
+    private int last;
+    /** Index of the current token. */
+    private int position;
+
+    public FastMdxParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
+        this(mdx, propertyWords, ParseLimits.UNLIMITED);
+    }
+
+    public FastMdxParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        this.limits = limits == null ? ParseLimits.UNLIMITED : limits;
+        this.enclosing = null;
+        reset(mdx, propertyWords);
+    }
+
+    /**
+     * A parser for a quoted formula, which the prescan of the enclosing
+     * statement saw as a single string, so its text is checked and its nodes
+     * are accounted against the budget of the enclosing parse.
+     */
+    private FastMdxParser(String formula, PropertyWords propertyWords, ParseBudget enclosing)
+            throws MdxParserException {
+        this.limits = ParseLimits.UNLIMITED;
+        this.enclosing = enclosing;
+        reset(formula, propertyWords.asSet());
+    }
+
+    /**
+     * Prepares this parser for {@code mdx}, keeping the token arrays of the
+     * previous statement.
+     */
+    public void reset(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
+        if (mdx == null) {
+            throw new MdxParserException("statement must not be null");
+        } else if (mdx.length() == 0) {
+            throw new MdxParserException("statement must not be empty");
+        }
+        if (enclosing != null) {
+            enclosing.prescan(mdx);
+        } else if (!limits.equals(ParseLimits.UNLIMITED)) {
+            limits.start().prescan(mdx);
+        }
+        this.mdx = mdx;
+        this.propertyWords = PropertyWords.from(propertyWords);
+        tokenizer.reset(mdx);
+        int count = 0;
+        MdxTokenKind kind;
+        do {
+            if (count == kinds.length) {
+                int length = count * 2;
+                kinds = Arrays.copyOf(kinds, length);
+                starts = Arrays.copyOf(starts, length);
+                ends = Arrays.copyOf(ends, length);
+            }
+            kind = tokenizer.next();
+            kinds[count] = kind;
+            starts[count] = tokenizer.start();
+            ends[count] = tokenizer.end();
+            count++;
+        } while (kind != MdxTokenKind.EOF);
+        last = count - 1;
+        position = 0;
+    }
+
+    @FunctionalInterface
+    private interface Production<T> {
+        T parse() throws MdxParserException;
+    }
+
+    /**
+     * Runs {@code production} from the current token. Invalid input the records
+     * reject, like an empty quoted name, fails with an
+     * {@link MdxParserException} as well.
+     */
+    private <T> T parse(Production<T> production) throws MdxParserException {
+        if (enclosing != null) {
+            budget = enclosing;
+        } else {
+            budget = limits.equals(ParseLimits.UNLIMITED) ? null : limits.start();
+        }
+        try {
+            return production.parse();
+        } catch (RuntimeException e) {
+            throw new MdxParserException(e);
+        }
+    }
+
+    @Override
+    public MdxStatement parseMdxStatement() throws MdxParserException {
+        return parse(this::mdxStatement);
+    }
+
+    @Override
+    public SelectStatement parseSelectStatement() throws MdxParserException {
+        return parse(this::selectStatement);
+    }
+
+    @Override
+    public SelectQueryAsteriskClause parseSelectQueryAsteriskClause() throws MdxParserException {
+        return parse(() -> {
+            expect(MdxTokenKind.ASTERISK);
+            return new SelectQueryAsteriskClauseR();
+        });
+    }
+
+    @Override
+    public SelectQueryAxesClause parseSelectQueryAxesClause() throws MdxParserException {
+        return parse(this::selectQueryAxesClause);
+    }
+
+    @Override
+    public MdxExpression parseExpression() throws MdxParserException {
+        return parse(this::expression);
+    }
+
+    @Override
+    public SelectCubeClause parseSelectCubeClause() throws MdxParserException {
+        return parse(this::selectCubeClause);
+    }
+
+    @Override
+    public DMVStatement parseDMVStatement() throws MdxParserException {
+        return parse(this::dmvStatement);
+    }
+
+    @Override
+    public DrillthroughStatement parseDrillthroughStatement() throws MdxParserException {
+        return parse(this::drillthroughStatement);
+    }
+
+    @Override
+    public ExplainStatement parseExplainStatement() throws MdxParserException {
+        return parse(this::explainStatement);
+    }
+
+    @Override
+    public RefreshStatement parseRefreshStatement() throws MdxParserException {
+        return parse(this::refreshStatement);
+    }
+
+    @Override
+    public SelectWithClause parseSelectWithClause() throws MdxParserException {
+        return parse(this::selectWithClause);
+    }
+
+    @Override
+    public MemberPropertyDefinition parseMemberPropertyDefinition() throws MdxParserException {
+        return parse(this::memberPropertyDefinition);
+    }
+
+    @Override
+    public List<ReturnItem> parseReturnItems() throws MdxParserException {
+        return parse(this::returnItems);
+    }
+
+    @Override
+    public SelectCellPropertyListClause parseSelectCellPropertyListClause() throws MdxParserException {
+        return parse(this::selectCellPropertyListClause);
+    }
+
+    @Override
+    public SelectDimensionPropertyListClause parseSelectDimensionPropertyListClause() throws MdxParserException {
+        return parse(this::selectDimensionPropertyListClause);
+    }
+
+    @Override
+    public SelectQueryAxisClause parseSelectQueryAxisClause() throws MdxParserException {
+        return parse(this::selectQueryAxisClause);
+    }
+
+    @Override
+    public Optional<SelectSlicerAxisClause> parseSelectSlicerAxisClause() throws MdxParserException {
+        return parse(this::selectSlicerAxisClause);
+    }
+
+    @Override
+    public UpdateStatement parseUpdateStatement() throws MdxParserException {
+        return parse(this::updateStatement);
+    }
+
+    // tokens
+
+    private MdxTokenKind kind() {
+        return kinds[position];
+    }
+
+    private MdxTokenKind kind(int ahead) {
+        return kindAt(position + ahead);
+    }
+
+    private MdxTokenKind kindAt(int index) {
+        return kinds[Math.min(index, last)];
+    }
+
+    private boolean at(MdxTokenKind kind) {
+        return kinds[position] == kind;
+    }
+
+    private void next() throws ParseLimitExceededException {
+        if (position < last) {
+            position++;
+            if (budget != null && position % CHECK_INTERVAL == 0) {
+                budget.check();
+            }
+        }
+    }
+
+    /** Accounts {@code node} against the budget of a limited parse. */
+    private <T> T node(T node) throws ParseLimitExceededException {
+        if (budget != null) {
+            budget.node();
+        }
+        return node;
+    }
+
+    private void expect(MdxTokenKind kind) throws MdxParserException {
+        if (kinds[position] != kind) {
+            throw error(kind.name());
+        }
+        next();
+    }
+
+    private String image() {
+        return mdx.subSequence(starts[position], ends[position]).toString();
+    }
+
+    /**
+     * The text of the current token without its {@code prefix} and closing
+     * quote, with doubled closing quotes collapsed.
+     */
+    private String unquote(int prefix, char quote) {
+        String text = mdx.subSequence(starts[position] + prefix, ends[position] - 1).toString();
+        if (text.indexOf(quote) < 0) {
+            return text;
+        }
+        String doubled = String.valueOf(new char[] { quote, quote });
+        return text.replace(doubled, String.valueOf(quote));
+    }
+
+    private int integer() throws MdxParserException {
+        try {
+            return Integer.parseInt(image());
+        } catch (NumberFormatException e) {
+            throw new MdxParserException("Integer out of range " + location(), e);
+        }
+    }
+
+    private MdxParserException error(String expected) {
+        String found = at(MdxTokenKind.EOF) ? "end of input" : "\"" + image() + "\"";
+        return new MdxParserException("Encountered " + found + " " + location() + ". Was expecting " + expected);
+    }
+
+    private String location() {
+        int offset = starts[position];
+        int line = 1;
+        int column = 1;
+        for (int i = 0; i < offset; i++) {
+            if (mdx.charAt(i) == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        return "at line " + line + ", column " + column;
+    }
+
+    // statements
+
+    // parseMdxStatement
+    private MdxStatement mdxStatement() throws MdxParserException {
+        MdxStatement statement = switch (kind()) {
+        case SELECT -> dmvAhead() ? dmvStatement() : selectStatement();
+        case WITH -> selectStatement();
+        case DRILLTHROUGH -> drillthroughStatement();
+        case EXPLAIN -> explainStatement();
+        case REFRESH -> refreshStatement();
+        case UPDATE -> updateStatement();
+        default -> throw error("SELECT, WITH, DRILLTHROUGH, EXPLAIN, REFRESH or UPDATE");
+        };
+        expect(MdxTokenKind.EOF);
+        return statement;
+    }
+
+    /**
+     * Whether the tokens up to {@code FROM $SYSTEM} make up the start of a DMV
+     * statement, the syntactic lookahead of the grammar.
+     */
+    private boolean dmvAhead() {
+        int i = position + 1;
+        if (startsIdentifier(kindAt(i))) {
+            while (true) {
+                i = skipIdentifier(i);
+                if (i < 0) {
+                    return false;
+                }
+                if (kindAt(i) == MdxTokenKind.DOT || kindAt(i) == MdxTokenKind.COMMA) {
+                    i++;
+                } else {
+                    break;
+                }
+            }
+        }
+        return kindAt(i) == MdxTokenKind.FROM && kindAt(i + 1) == MdxTokenKind.SYSTEM_CUBE;
+    }
+
+    /** @return the index after the identifier starting at {@code i}, or -1 */
+    private int skipIdentifier(int i) {
+        switch (kindAt(i)) {
+        case DIMENSION, PROPERTIES, ID, QUOTED_ID:
+            return i + 1;
+        case ATSIGN:
+            return kindAt(i + 1) == MdxTokenKind.ID ? i + 2 : -1;
+        case AMP_QUOTED_ID, AMP_UNQUOTED_ID:
+            while (kindAt(i) == MdxTokenKind.AMP_QUOTED_ID || kindAt(i) == MdxTokenKind.AMP_UNQUOTED_ID) {
+                i++;
+            }
+            return i;
+        default:
+            return -1;
+        }
+    }
+
+    // parseDMVStatement
+    private DMVStatement dmvStatement() throws MdxParserException {
+        expect(MdxTokenKind.SELECT);
+        List<CompoundId> columns = new ArrayList<>();
+        if (startsIdentifier(kind())) {
+            columns.add(compoundId());
+            while (at(MdxTokenKind.COMMA)) {
+                next();
+                columns.add(compoundId());
+            }
+        }
+        expect(MdxTokenKind.FROM);
+        expect(MdxTokenKind.SYSTEM_CUBE);
+        expect(MdxTokenKind.DOT);
+        NameObjectIdentifier table = nameObjectIdentifier();
+        MdxExpression where = null;
+        if (at(MdxTokenKind.WHERE)) {
+            next();
+            where = expression();
+        }
+        return new DMVStatementR(columns, table, where);
+    }
+
+    // parseDrillthroughStatement
+    private DrillthroughStatement drillthroughStatement() throws MdxParserException {
+        expect(MdxTokenKind.DRILLTHROUGH);
+        Optional<Integer> maxRows = Optional.empty();
+        Optional<Integer> firstRowSet = Optional.empty();
+        if (at(MdxTokenKind.MAXROWS)) {
+            next();
+            maxRows = Optional.of(unsignedInteger());
+        }
+        if (at(MdxTokenKind.FIRSTROWSET)) {
+            next();
+            firstRowSet = Optional.of(unsignedInteger());
+        }
+        SelectStatement selectStatement = selectStatement();
+        List<ReturnItem> returnItems = null;
+        if (at(MdxTokenKind.RETURN)) {
+            next();
+            returnItems = returnItems();
+        }
+        return new DrillthroughStatementR(maxRows, firstRowSet, selectStatement, returnItems);
+    }
+
+    private int unsignedInteger() throws MdxParserException {
+        if (!at(MdxTokenKind.UNSIGNED_INTEGER_LITERAL)) {
+            throw error(MdxTokenKind.UNSIGNED_INTEGER_LITERAL.name());
+        }
+        int value = integer();
+        next();
+        return value;
+    }
+
+    // parseExplainStatement
+    private ExplainStatement explainStatement() throws MdxParserException {
+        expect(MdxTokenKind.EXPLAIN);
+        expect(MdxTokenKind.PLAN);
+        expect(MdxTokenKind.FOR);
+        MdxStatement statement = switch (kind()) {
+        case WITH, SELECT -> selectStatement();
+        case DRILLTHROUGH -> drillthroughStatement();
+        default -> throw error("SELECT, WITH or DRILLTHROUGH");
+        };
+        return new ExplainStatementR(statement);
+    }
+
+    // parseReturnItems
+    private List<ReturnItem> returnItems() throws MdxParserException {
+        List<ReturnItem> returnItems = new ArrayList<>();
+        returnItems.add(new ReturnItemR(compoundId()));
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            returnItems.add(new ReturnItemR(compoundId()));
+        }
+        return returnItems;
+    }
+
+    // parseRefreshStatement
+    private RefreshStatement refreshStatement() throws MdxParserException {
+        expect(MdxTokenKind.REFRESH);
+        expect(MdxTokenKind.CUBE);
+        return new RefreshStatementR(nameObjectIdentifier());
+    }
+
+    // parseUpdateStatement
+    private UpdateStatement updateStatement() throws MdxParserException {
+        expect(MdxTokenKind.UPDATE);
+        expect(MdxTokenKind.CUBE);
+        NameObjectIdentifier cubeName = nameObjectIdentifier();
+        expect(MdxTokenKind.SET);
+        List<UpdateClause> updateClauses = new ArrayList<>();
+        updateClauses.add(updateClause());
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            updateClauses.add(updateClause());
+        }
+        return new UpdateStatementR(cubeName, updateClauses);
+    }
+
+    // updateClause
+    private UpdateClause updateClause() throws MdxParserException {
+        MdxExpression tuple = atom();
+        expect(MdxTokenKind.EQ);
+        MdxExpression value = expression();
+        Allocation allocation = Allocation.NO_ALLOCATION;
+        MdxExpression weight = null;
+        switch (kind()) {
+        case USE_EQUAL_ALLOCATION:
+            next();
+            allocation = Allocation.USE_EQUAL_ALLOCATION;
+            break;
+        case USE_EQUAL_INCREMENT:
+            next();
+            allocation = Allocation.USE_EQUAL_INCREMENT;
+            break;
+        case USE_WEIGHTED_ALLOCATION, USE_WEIGHTED_INCREMENT:
+            allocation = at(MdxTokenKind.USE_WEIGHTED_ALLOCATION) ? Allocation.USE_WEIGHTED_ALLOCATION
+                    : Allocation.USE_WEIGHTED_INCREMENT;
+            next();
+            if (at(MdxTokenKind.BY)) {
+                next();
+                weight = expression();
+            }
+            break;
+        default:
+            break;
+        }
+        return new UpdateClauseR(tuple, value, allocation, weight);
+    }
+
+    // parseSelectStatement
+    private SelectStatement selectStatement() throws MdxParserException {
+        List<SelectWithClause> selectWithClauses = new ArrayList<>();
+        if (at(MdxTokenKind.WITH)) {
+            next();
+            selectWithClauses.add(selectWithClause());
+            while (startsSelectWithClause(kind())) {
+                selectWithClauses.add(selectWithClause());
+            }
+        }
+        expect(MdxTokenKind.SELECT);
+        SelectQueryClause selectQueryClause = selectQueryClause();
+        expect(MdxTokenKind.FROM);
+        SelectCubeClause selectCubeClause = selectCubeClause();
+        Optional<SelectSlicerAxisClause> selectSlicerAxisClause = Optional.empty();
+        if (at(MdxTokenKind.WHERE)) {
+            selectSlicerAxisClause = selectSlicerAxisClause();
+        }
+        SelectCellPropertyListClause selectCellPropertyListClause = null;
+        if (at(MdxTokenKind.CELL) || at(MdxTokenKind.PROPERTIES)) {
+            selectCellPropertyListClause = selectCellPropertyListClause();
+        }
+        return new SelectStatementR(selectWithClauses, selectQueryClause, selectCubeClause, selectSlicerAxisClause,
+                Optional.ofNullable(selectCellPropertyListClause));
+    }
+
+    private SelectQueryClause selectQueryClause() throws MdxParserException {
+        if (at(MdxTokenKind.ASTERISK)) {
+            next();
+            return new SelectQueryAsteriskClauseR();
+        } else if (at(MdxTokenKind.NON) || startsExpression(kind())) {
+            return selectQueryAxesClause();
+        }
+        return new SelectQueryEmptyClauseR();
+    }
+
+    private static boolean startsSelectWithClause(MdxTokenKind kind) {
+        return switch (kind) {
+        case CELL, CALCULATED, MEMBER, SET, MEASURE -> true;
+        default -> false;
+        };
+    }
+
+    // parseSelectWithClause
+    private SelectWithClause selectWithClause() throws MdxParserException {
+        switch (kind()) {
+        case CELL:
+            next();
+            expect(MdxTokenKind.CALCULATION);
+            // not supported by the grammar either, which yields no clause
+            placeholderBody();
+            return null;
+        case CALCULATED, MEMBER:
+            if (at(MdxTokenKind.CALCULATED)) {
+                next();
+            }
+            expect(MdxTokenKind.MEMBER);
+            return createMemberBodyClause();
+        case SET:
+            next();
+            return createSetBodyClause();
+        case MEASURE:
+            next();
+            placeholderBody();
+            return new MeasureBodyClauseR();
+        default:
+            throw error("CELL, CALCULATED, MEMBER, SET or MEASURE");
+        }
+    }
+
+    /** The body the grammar has for clauses it does not support yet. */
+    private void placeholderBody() throws MdxParserException {
+        for (int i = 0; i < 7; i++) {
+            expect(MdxTokenKind.NOT);
+        }
+    }
+
+    // parseCreateMemberBodyClause
+    private SelectWithClause createMemberBodyClause() throws MdxParserException {
+        CompoundId compoundId = compoundId();
+        expect(MdxTokenKind.AS);
+        MdxExpression expression = setMemberExpression();
+        List<MemberPropertyDefinition> memberPropertyDefinitions = new ArrayList<>();
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            memberPropertyDefinitions.add(memberPropertyDefinition());
+        }
+        return new CreateMemberBodyClauseR(compoundId, expression, memberPropertyDefinitions);
+    }
+
+    // parseCreateSetBodyClause
+    private SelectWithClause createSetBodyClause() throws MdxParserException {
+        CompoundId compoundId = compoundId();
+        expect(MdxTokenKind.AS);
+        return new CreateSetBodyClauseR(compoundId, setMemberExpression());
+    }
+
+    // parseSetMemberExpression
+    private MdxExpression setMemberExpression() throws MdxParserException {
+        if (!at(MdxTokenKind.SINGLE_QUOTED_STRING)) {
+            return expression();
+        }
+        String formula = unquote(1, '\'');
+        next();
+        try {
+            return new FastMdxParser(formula, propertyWords, budget).parseExpression();
+        } catch (ParseLimitExceededException e) {
+            throw e;
+        } catch (MdxParserException e) {
+            throw new MdxParserException("parseSetMemberExpression error " + e.getMessage(), e);
+        }
+    }
+
+    // parseMemberPropertyDefinition
+    private MemberPropertyDefinition memberPropertyDefinition() throws MdxParserException {
+        ObjectIdentifier objectIdentifier = identifier();
+        expect(MdxTokenKind.EQ);
+        return new MemberPropertyDefinitionR(objectIdentifier, expression());
+    }
+
+    // parseSelectQueryAxesClause
+    private SelectQueryAxesClause selectQueryAxesClause() throws MdxParserException {
+        List<SelectQueryAxisClause> selectQueryAxisClauses = new ArrayList<>();
+        selectQueryAxisClauses.add(selectQueryAxisClause());
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            selectQueryAxisClauses.add(selectQueryAxisClause());
+        }
+        return new SelectQueryAxesClauseR(selectQueryAxisClauses);
+    }
+
+    // parseSelectQueryAxisClause
+    private SelectQueryAxisClause selectQueryAxisClause() throws MdxParserException {
+        boolean nonEmpty = false;
+        if (at(MdxTokenKind.NON)) {
+            next();
+            expect(MdxTokenKind.EMPTY);
+            nonEmpty = true;
+        }
+        MdxExpression expression = expression();
+        SelectDimensionPropertyListClause selectDimensionPropertyListClause = null;
+        if (at(MdxTokenKind.DIMENSION) || at(MdxTokenKind.PROPERTIES)) {
+            selectDimensionPropertyListClause = selectDimensionPropertyListClause();
+        }
+        expect(MdxTokenKind.ON);
+        Axis axis = switch (kind()) {
+        case UNSIGNED_INTEGER_LITERAL -> AxisR.createUnnamed(unsignedInteger());
+        case AXIS -> {
+            next();
+            expect(MdxTokenKind.LPAREN);
+            int ordinal = unsignedInteger();
+            expect(MdxTokenKind.RPAREN);
+            yield AxisR.createUnnamed(ordinal);
+        }
+        case COLUMNS -> named(AxisR.COLUMNS_NAMED);
+        case ROWS -> named(AxisR.ROWS_NAMED);
+        case PAGES -> named(AxisR.PAGES_NAMED);
+        case SECTIONS -> named(AxisR.SECTIONS_NAMED);
+        case CHAPTERS -> named(AxisR.CHAPTERS_NAMED);
+        default -> throw error("an axis number or name");
+        };
+        return new SelectQueryAxisClauseR(nonEmpty, expression, axis, selectDimensionPropertyListClause);
+    }
+
+    private Axis named(Axis axis) throws MdxParserException {
+        next();
+        return axis;
+    }
+
+    // parseSelectDimensionPropertyListClause
+    private SelectDimensionPropertyListClause selectDimensionPropertyListClause() throws MdxParserException {
+        if (at(MdxTokenKind.DIMENSION)) {
+            next();
+        }
+        expect(MdxTokenKind.PROPERTIES);
+        List<CompoundId> properties = new ArrayList<>();
+        properties.add(compoundId());
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            properties.add(compoundId());
+        }
+        return new SelectDimensionPropertyListClauseR(properties);
+    }
+
+    // parseSelectCubeClause
+    private SelectCubeClause selectCubeClause() throws MdxParserException {
+        if (!at(MdxTokenKind.LPAREN)) {
+            return new SelectCubeClauseNameR(nameObjectIdentifier());
+        }
+        next();
+        expect(MdxTokenKind.SELECT);
+        SelectQueryClause selectQueryClause = selectQueryClause();
+        expect(MdxTokenKind.FROM);
+        SelectCubeClause selectCubeClause = selectCubeClause();
+        Optional<SelectSlicerAxisClause> selectSlicerAxisClause = Optional.empty();
+        if (at(MdxTokenKind.WHERE)) {
+            selectSlicerAxisClause = selectSlicerAxisClause();
+        }
+        expect(MdxTokenKind.RPAREN);
+        return new SelectCubeClauseSubStatementR(selectQueryClause, selectCubeClause, selectSlicerAxisClause);
+    }
+
+    // parseSelectSlicerAxisClause
+    private Optional<SelectSlicerAxisClause> selectSlicerAxisClause() throws MdxParserException {
+        expect(MdxTokenKind.WHERE);
+        return Optional.of(new SelectSlicerAxisClauseR(expression()));
+    }
+
+    // parseSelectCellPropertyListClause
+    private SelectCellPropertyListClause selectCellPropertyListClause() throws MdxParserException {
+        boolean cell = at(MdxTokenKind.CELL);
+        if (cell) {
+            next();
+        }
+        expect(MdxTokenKind.PROPERTIES);
+        List<String> properties = new ArrayList<>();
+        properties.add(property());
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            properties.add(property());
+        }
+        return new SelectCellPropertyListClauseR(properties, cell);
+    }
+
+    private String property() throws MdxParserException {
+        if (!at(MdxTokenKind.ID)) {
+            throw error(MdxTokenKind.ID.name());
+        }
+        String property = image();
+        next();
+        return property;
+    }
+
+    // expressions
+
+    private static boolean startsAtom(MdxTokenKind kind) {
+        return switch (kind) {
+        case SINGLE_QUOTED_STRING, DOUBLE_QUOTED_STRING, DECIMAL_NUMERIC_LITERAL, UNSIGNED_INTEGER_LITERAL,
+                APPROX_NUMERIC_LITERAL, NULL, CAST, LPAREN, LBRACE, CASE, DIMENSION, PROPERTIES, ID, ATSIGN,
+                QUOTED_ID ->
+            true;
+        default -> false;
+        };
+    }
+
+    private static boolean startsFactor(MdxTokenKind kind) {
+        return kind == MdxTokenKind.PLUS || kind == MdxTokenKind.MINUS || kind == MdxTokenKind.EXISTING
+                || startsAtom(kind);
+    }
+
+    private static boolean startsExpression(MdxTokenKind kind) {
+        return kind == MdxTokenKind.NOT || startsFactor(kind);
+    }
+
+    private static boolean startsIdentifier(MdxTokenKind kind) {
+        return switch (kind) {
+        case DIMENSION, PROPERTIES, ID, ATSIGN, QUOTED_ID, AMP_QUOTED_ID, AMP_UNQUOTED_ID -> true;
+        default -> false;
+        };
+    }
+
+    private MdxExpression call(OperationAtom operationAtom, MdxExpression operand) throws MdxParserException {
+        return node(new CallExpressionR(operationAtom, List.of(operand)));
+    }
+
+    private MdxExpression call(OperationAtom operationAtom, MdxExpression left, MdxExpression right)
+            throws MdxParserException {
+        return node(new CallExpressionR(operationAtom, List.of(left, right)));
+    }
+
+    // parseExpression
+    private MdxExpression expression() throws MdxParserException {
+        MdxExpression expression = unaliasedExpression();
+        while (at(MdxTokenKind.AS)) {
+            next();
+            ObjectIdentifier alias = identifier();
+            expression = call(new InfixOperationAtom("AS"), expression, node(new CompoundIdR(List.of(alias))));
+        }
+        return expression;
+    }
+
+    // parseUnaliasedExpression
+    private MdxExpression unaliasedExpression() throws MdxParserException {
+        MdxExpression x = term5();
+        while (true) {
+            String operator = switch (kind()) {
+            case OR -> "OR";
+            case XOR -> "XOR";
+            case COLON -> ":";
+            default -> null;
+            };
+            if (operator == null) {
+                return x;
+            }
+            next();
+            x = call(new InfixOperationAtom(operator), x, term5());
+        }
+    }
+
+    // parseTerm5
+    private MdxExpression term5() throws MdxParserException {
+        MdxExpression x = term4();
+        while (at(MdxTokenKind.AND)) {
+            next();
+            x = call(new InfixOperationAtom("AND"), x, term4());
+        }
+        return x;
+    }
+
+    // parseTerm4
+    private MdxExpression term4() throws MdxParserException {
+        if (!at(MdxTokenKind.NOT)) {
+            return term3();
+        }
+        int nots = 0;
+        while (at(MdxTokenKind.NOT)) {
+            next();
+            nots++;
+        }
+        MdxExpression x = term3();
+        for (int i = 0; i < nots; i++) {
+            x = call(new PrefixOperationAtom("NOT"), x);
+        }
+        return x;
+    }
+
+    // parseTerm3
+    private MdxExpression term3() throws MdxParserException {
+        MdxExpression x = term2();
+        while (true) {
+            switch (kind()) {
+            case EQ, NE, LT, GT, LE, GE: {
+                String operator = image();
+                next();
+                x = call(new InfixOperationAtom(operator), x, term2());
+                break;
+            }
+            case IS:
+                if (kind(1) == MdxTokenKind.NULL) {
+                    next();
+                    next();
+                    x = call(new PostfixOperationAtom("IS NULL"), x);
+                } else if (startsFactor(kind(1))) {
+                    next();
+                    x = call(new InfixOperationAtom("IS"), x, term2());
+                } else {
+                    next();
+                    expect(MdxTokenKind.EMPTY);
+                    x = call(new PostfixOperationAtom("IS NULL"), x);
+                }
+                break;
+            case MATCHES:
+                next();
+                x = call(new InfixOperationAtom("MATCHES"), x, term2());
+                break;
+            case IN:
+                next();
+                x = call(new InfixOperationAtom("IN"), x, term2());
+                break;
+            case NOT: {
+                next();
+                String operator;
+                if (at(MdxTokenKind.MATCHES)) {
+                    operator = "MATCHES";
+                } else if (at(MdxTokenKind.IN)) {
+                    operator = "IN";
+                } else {
+                    throw error("MATCHES or IN");
+                }
+                next();
+                x = call(new PrefixOperationAtom("NOT"), call(new InfixOperationAtom(operator), x, term2()));
+                break;
+            }
+            default:
+                return x;
+            }
+        }
+    }
+
+    // parseTerm2
+    private MdxExpression term2() throws MdxParserException {
+        MdxExpression x = term();
+        while (true) {
+            String operator = switch (kind()) {
+            case PLUS -> "+";
+            case MINUS -> "-";
+            case CONCAT -> "||";
+            default -> null;
+            };
+            if (operator == null) {
+                return x;
+            }
+            next();
+            x = call(new InfixOperationAtom(operator), x, term());
+        }
+    }
+
+    // parseTerm
+    private MdxExpression term() throws MdxParserException {
+        MdxExpression x = factor();
+        while (true) {
+            String operator = switch (kind()) {
+            case ASTERISK -> "*";
+            case SOLIDUS -> "/";
+            default -> null;
+            };
+            if (operator == null) {
+                return x;
+            }
+            next();
+            x = call(new InfixOperationAtom(operator), x, factor());
+        }
+    }
+
+    // parseFactor
+    private MdxExpression factor() throws MdxParserException {
+        switch (kind()) {
+        case PLUS:
+            next();
+            return primary();
+        case MINUS:
+            next();
+            return call(new PrefixOperationAtom("-"), primary());
+        case EXISTING:
+            next();
+            return call(new PrefixOperationAtom("Existing"), primary());
+        default:
+            return primary();
+        }
+    }
+
+    // parsePrimary and objectIdentifierOrFuncall
+    private MdxExpression primary() throws MdxParserException {
+        MdxExpression expression = atom();
+        while (at(MdxTokenKind.DOT)) {
+            next();
+            ObjectIdentifier objectIdentifier = identifier();
+            List<MdxExpression> arguments = null;
+            if (at(MdxTokenKind.LPAREN)) {
+                next();
+                arguments = expressionOrEmptyList();
+                expect(MdxTokenKind.RPAREN);
+            }
+            expression = createCall(expression, objectIdentifier, arguments);
+        }
+        return expression;
+    }
+
+    // parseAtom
+    private MdxExpression atom() throws MdxParserException {
+        switch (kind()) {
+        case SINGLE_QUOTED_STRING: {
+            String value = unquote(1, '\'');
+            next();
+            return node(new StringLiteralR(value));
+        }
+        case DOUBLE_QUOTED_STRING: {
+            String value = unquote(1, '"');
+            next();
+            return node(new StringLiteralR(value));
+        }
+        case DECIMAL_NUMERIC_LITERAL, UNSIGNED_INTEGER_LITERAL, APPROX_NUMERIC_LITERAL: {
+            String image = image();
+            next();
+            return node(NumericLiteralR.of(image));
+        }
+        case NULL:
+            next();
+            return node(NullLiteralR.SINGLETON);
+        case CAST: {
+            next();
+            expect(MdxTokenKind.LPAREN);
+            MdxExpression expression = unaliasedExpression();
+            expect(MdxTokenKind.AS);
+            NameObjectIdentifier type = nameObjectIdentifier();
+            expect(MdxTokenKind.RPAREN);
+            return call(new CastOperationAtom(), expression, node(new SymbolLiteralR(type.name())));
+        }
+        case LPAREN: {
+            next();
+            List<MdxExpression> expressions = expressionList();
+            expect(MdxTokenKind.RPAREN);
+            return node(new CallExpressionR(new ParenthesesOperationAtom(), expressions));
+        }
+        case LBRACE: {
+            next();
+            List<MdxExpression> expressions = at(MdxTokenKind.RBRACE) ? Collections.emptyList() : expressionList();
+            expect(MdxTokenKind.RBRACE);
+            return node(new CallExpressionR(new BracesOperationAtom(), expressions));
+        }
+        case CASE:
+            return caseExpression();
+        default: {
+            NameObjectIdentifier name = nameObjectIdentifier();
+            while (at(MdxTokenKind.BANG)) {
+                // qualifiers of the function name are ignored, as by the grammar
+                next();
+                name = nameObjectIdentifier();
+            }
+            List<MdxExpression> expressions = null;
+            if (at(MdxTokenKind.LPAREN)) {
+                next();
+                expressions = at(MdxTokenKind.RPAREN) ? Collections.emptyList() : expressionOrEmptyList();
+                expect(MdxTokenKind.RPAREN);
+            }
+            return createCall(null, name, expressions);
+        }
+        }
+    }
+
+    // parseCaseExpression
+    private MdxExpression caseExpression() throws MdxParserException {
+        next();
+        List<MdxExpression> expressions = new ArrayList<>();
+        boolean match = false;
+        if (startsExpression(kind())) {
+            match = true;
+            expressions.add(expression());
+        }
+        while (at(MdxTokenKind.WHEN)) {
+            next();
+            MdxExpression when = expression();
+            expect(MdxTokenKind.THEN);
+            MdxExpression then = expression();
+            expressions.add(when);
+            expressions.add(then);
+        }
+        if (at(MdxTokenKind.ELSE)) {
+            next();
+            expressions.add(expression());
+        }
+        expect(MdxTokenKind.END);
+        return node(new CallExpressionR(new CaseOperationAtom(match ? "_CaseMatch" : "_CaseTest"), expressions));
+    }
+
+    // expList
+    private List<MdxExpression> expressionList() throws MdxParserException {
+        List<MdxExpression> expressions = new ArrayList<>();
+        expressions.add(expression());
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            expressions.add(expression());
+        }
+        return expressions;
+    }
+
+    // expOrEmptyList
+    private List<MdxExpression> expressionOrEmptyList() throws MdxParserException {
+        List<MdxExpression> expressions = new ArrayList<>();
+        expressions.add(expressionOrEmpty());
+        while (at(MdxTokenKind.COMMA)) {
+            next();
+            expressions.add(expressionOrEmpty());
+        }
+        return expressions;
+    }
+
+    // parseExpressionOrEmpty
+    private MdxExpression expressionOrEmpty() throws MdxParserException {
+        return startsExpression(kind()) ? expression()
+                : node(new CallExpressionR(new EmptyOperationAtom(), List.of()));
+    }
+
+    // parseCompoundId
+    private CompoundId compoundId() throws MdxParserException {
+        List<ObjectIdentifier> objectIdentifiers = new ArrayList<>();
+        objectIdentifiers.add(identifier());
+        while (at(MdxTokenKind.DOT)) {
+            next();
+            objectIdentifiers.add(identifier());
+        }
+        return node(new CompoundIdR(objectIdentifiers));
+    }
+
+    // parseIdentifier
+    private ObjectIdentifier identifier() throws MdxParserException {
+        if (!at(MdxTokenKind.AMP_QUOTED_ID) && !at(MdxTokenKind.AMP_UNQUOTED_ID)) {
+            return nameObjectIdentifier();
+        }
+        List<NameObjectIdentifier> keys = new ArrayList<>();
+        while (true) {
+            if (at(MdxTokenKind.AMP_QUOTED_ID)) {
+                keys.add(node(new NameObjectIdentifierR(unquote(2, ']'), Quoting.QUOTED)));
+            } else if (at(MdxTokenKind.AMP_UNQUOTED_ID)) {
+                keys.add(node(new NameObjectIdentifierR(
+                        mdx.subSequence(starts[position] + 1, ends[position]).toString(), Quoting.UNQUOTED)));
+            } else {
+                return node(new KeyObjectIdentifierR(keys));
+            }
+            next();
+        }
+    }
+
+    // parseNameObjectIdentifier
+    private NameObjectIdentifier nameObjectIdentifier() throws MdxParserException {
+        NameObjectIdentifier name = switch (kind()) {
+        case DIMENSION, PROPERTIES, ID -> node(new NameObjectIdentifierR(image(), Quoting.UNQUOTED));
+        case ATSIGN -> {
+            next();
+            if (!at(MdxTokenKind.ID)) {
+                throw error(MdxTokenKind.ID.name());
+            }
+            yield node(new NameObjectIdentifierR("@" + image(), Quoting.UNQUOTED));
+        }
+        case QUOTED_ID -> node(new NameObjectIdentifierR(unquote(1, ']'), Quoting.QUOTED));
+        default -> throw error("an identifier");
+        };
+        next();
+        return name;
+    }
+
+    /**
+     * Same as {@code MdxParserUtil.createCall} of the CongoCC parsers: a
+     * function or method call if there are arguments, otherwise a longer
+     * compound id, or a property call if the name is a property word.
+     */
+    private MdxExpression createCall(MdxExpression left, ObjectIdentifier objectIdentifier,
+            List<MdxExpression> expressions) throws MdxParserException {
+        final String name = objectIdentifier instanceof NameObjectIdentifier nameObjectIdentifier
+                ? nameObjectIdentifier.name()
+                : null;
+        if (expressions != null) {
+            if (left != null) {
+                expressions.add(0, left);
+                return node(new CallExpressionR(new MethodOperationAtom(name), expressions));
+            }
+            return node(new CallExpressionR(new FunctionOperationAtom(name), expressions));
+        }
+        OperationAtom operationAtom;
+        boolean call = false;
+        switch (objectIdentifier.quoting()) {
+        case UNQUOTED:
+            operationAtom = new PlainPropertyOperationAtom(name);
+            if (name != null && propertyWords.contains(name)) {
+                call = true;
+            }
+            break;
+        case QUOTED:
+            operationAtom = new QuotedPropertyOperationAtom(name);
+            break;
+        default:
+            operationAtom = new AmpersandQuotedPropertyOperationAtom(name);
+            break;
+        }
+        if (left instanceof CompoundId compoundId && !call) {
+            List<ObjectIdentifier> objectIdentifiers = new ArrayList<>(compoundId.objectIdentifiers().size() + 1);
+            objectIdentifiers.addAll(compoundId.objectIdentifiers());
+            objectIdentifiers.add(objectIdentifier);
+            return node(new CompoundIdR(objectIdentifiers));
+        } else if (left == null) {
+            return node(new CompoundIdR(List.of(objectIdentifier)));
+        }
+        return node(new CallExpressionR(operationAtom, List.of(left)));
+    }
+}
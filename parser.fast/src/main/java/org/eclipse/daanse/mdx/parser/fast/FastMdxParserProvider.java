@@ -0,0 +1,43 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.fast;
+
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.api.PropertyWordsCache;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+
+@Component(scope = ServiceScope.SINGLETON, configurationPid = FastMdxParserProvider.PID, service = MdxParserProvider.class)
+public class FastMdxParserProvider implements MdxParserProvider {
+
+    public static final String PID = "daanse.mdx.parser.fast.FastMdxParserProvider";
+
+    private final PropertyWordsCache propertyWordsCache = new PropertyWordsCache();
+
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
+        return new FastMdxParser(mdx, propertyWordsCache.get(propertyWords).asSet());
+    }
+
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        return new FastMdxParser(mdx, propertyWordsCache.get(propertyWords).asSet(), limits);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.parser.fast;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.ExplainStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.RefreshStatement;
+import org.eclipse.daanse.mdx.model.api.ReturnItem;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.model.api.UpdateStatement;
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
+import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
+import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.ParseLimits;
+import org.eclipse.daanse.mdx.parser.api.PropertyWordsCache;
+
+/**
+ * A provider that keeps up to {@code capacity} {@link FastMdxParser}s and
+ * {@link FastMdxParser#reset resets} them, so their token arrays are allocated
+ * once instead of once per statement.
+ * <p>
+ * The parsers it hands out only hold the statement. Each parse method borrows
+ * a pooled parser for the length of the call and gives it back before it
+ * returns, so a handed out parser may be kept, shared or dropped like any
+ * other, and the pool never resets a parser that is still parsing. Every parse
+ * method parses the statement from its start. Parsers with {@link ParseLimits}
+ * are not pooled.
+ */
+public final class PooledFastMdxParserProvider implements MdxParserProvider {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final PropertyWordsCache propertyWordsCache = new PropertyWordsCache();
+
+    private final BlockingQueue<FastMdxParser> pool;
+
+    public PooledFastMdxParserProvider() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PooledFastMdxParserProvider(int capacity) {
+        pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords) throws MdxParserException {
+        if (mdx == null) {
+            throw new MdxParserException("statement must not be null");
+        } else if (mdx.length() == 0) {
+            throw new MdxParserException("statement must not be empty");
+        }
+        return new PooledParser(mdx, propertyWordsCache.get(propertyWords).asSet());
+    }
+
+    @Override
+    public MdxParser newParser(CharSequence mdx, Set<String> propertyWords, ParseLimits limits)
+            throws MdxParserException {
+        if (limits == null || limits.equals(ParseLimits.UNLIMITED)) {
+            return newParser(mdx, propertyWords);
+        }
+        return new FastMdxParser(mdx, propertyWordsCache.get(propertyWords).asSet(), limits);
+    }
+
+    @FunctionalInterface
+    private interface Production<T> {
+        T parse(FastMdxParser parser) throws MdxParserException;
+    }
+
+    private final class PooledParser implements MdxParser {
+
+        private final CharSequence mdx;
+        private final Set<String> propertyWords;
+
+        PooledParser(CharSequence mdx, Set<String> propertyWords) {
+            this.mdx = mdx;
+            this.propertyWords = propertyWords;
+        }
+
+        private <T> T parse(Production<T> production) throws MdxParserException {
+            FastMdxParser parser = pool.poll();
+            if (parser == null) {
+                parser = new FastMdxParser(mdx, propertyWords);
+            } else {
+                parser.reset(mdx, propertyWords);
+            }
+            try {
+                return production.parse(parser);
+            } finally {
+                pool.offer(parser);
+            }
+        }
+
+        @Override
+        public MdxStatement parseMdxStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseMdxStatement);
+        }
+
+        @Override
+        public SelectStatement parseSelectStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectStatement);
+        }
+
+        @Override
+        public SelectQueryAsteriskClause parseSelectQueryAsteriskClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectQueryAsteriskClause);
+        }
+
+        @Override
+        public SelectQueryAxesClause parseSelectQueryAxesClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectQueryAxesClause);
+        }
+
+        @Override
+        public MdxExpression parseExpression() throws MdxParserException {
+            return parse(FastMdxParser::parseExpression);
+        }
+
+        @Override
+        public SelectCubeClause parseSelectCubeClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectCubeClause);
+        }
+
+        @Override
+        public DMVStatement parseDMVStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseDMVStatement);
+        }
+
+        @Override
+        public DrillthroughStatement parseDrillthroughStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseDrillthroughStatement);
+        }
+
+        @Override
+        public ExplainStatement parseExplainStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseExplainStatement);
+        }
+
+        @Override
+        public RefreshStatement parseRefreshStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseRefreshStatement);
+        }
+
+        @Override
+        public SelectWithClause parseSelectWithClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectWithClause);
+        }
+
+        @Override
+        public MemberPropertyDefinition parseMemberPropertyDefinition() throws MdxParserException {
+            return parse(FastMdxParser::parseMemberPropertyDefinition);
+        }
+
+        @Override
+        public List<? extends ReturnItem> parseReturnItems() throws MdxParserException {
+            return parse(FastMdxParser::parseReturnItems);
+        }
+
+        @Override
+        public SelectCellPropertyListClause parseSelectCellPropertyListClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectCellPropertyListClause);
+        }
+
+        @Override
+        public SelectDimensionPropertyListClause parseSelectDimensionPropertyListClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectDimensionPropertyListClause);
+        }
+
+        @Override
+        public SelectQueryAxisClause parseSelectQueryAxisClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectQueryAxisClause);
+        }
+
+        @Override
+        public Optional<SelectSlicerAxisClause> parseSelectSlicerAxisClause() throws MdxParserException {
+            return parse(FastMdxParser::parseSelectSlicerAxisClause);
+        }
+
+        @Override
+        public UpdateStatement parseUpdateStatement() throws MdxParserException {
+            return parse(FastMdxParser::parseUpdateStatement);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.parser.tck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.daanse.mdx.parser.tck.CubeTest.propertyWords;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.SelectStatement;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.UncheckedMdxParserException;
+import org.junit.jupiter.api.Test;
+import org.osgi.service.component.annotations.RequireServiceComponentRuntime;
+import org.osgi.test.common.annotation.InjectService;
+
+@RequireServiceComponentRuntime
+class StatementStreamTest {
+
+    private static final String SCRIPT = """
+            SELECT [Measures].[A;B] ON 0 FROM [Cube];
+            -- a comment; not a statement
+            ;
+            DRILLTHROUGH SELECT [Foo] ON 0 FROM [Cube];
+            SELECT 'x;y' ON 0 FROM [Cube]
+            """;
+
+    @Test
+    void reader(@InjectService MdxParserProvider mdxParserProvider) {
+        try (Stream<MdxStatement> statements = mdxParserProvider.parseStatements(new StringReader(SCRIPT),
+                propertyWords)) {
+            List<MdxStatement> list = statements.toList();
+            assertThat(list).hasSize(3);
+            assertThat(list.get(0)).isInstanceOf(SelectStatement.class);
+            assertThat(list.get(1)).isInstanceOf(DrillthroughStatement.class);
+            assertThat(list.get(2)).isInstanceOf(SelectStatement.class);
+        }
+    }
+
+    @Test
+    void byteBuffer(@InjectService MdxParserProvider mdxParserProvider) {
+        ByteBuffer buffer = ByteBuffer.wrap(SCRIPT.getBytes(StandardCharsets.UTF_8));
+        try (Stream<MdxStatement> statements = mdxParserProvider.parseStatements(buffer, StandardCharsets.UTF_8,
+                propertyWords)) {
+            assertThat(statements.count()).isEqualTo(3);
+        }
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void failingStatement(@InjectService MdxParserProvider mdxParserProvider) {
+        try (Stream<MdxStatement> statements = mdxParserProvider
+                .parseStatements(new StringReader("SELECT FROM [Cube] WHERE; SELECT ON ON"), propertyWords)) {
+            assertThatThrownBy(statements::toList).isInstanceOf(UncheckedMdxParserException.class);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.performance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+
+/**
+ * Fixed benchmark inputs. Nothing in here may depend on randomness or the
+ * environment, so numbers of different releases stay comparable.
+ */
+public final class BenchmarkStatements {
+
+    private BenchmarkStatements() {
+        // constants and factories only
+    }
+
+    public static final String TINY_SELECT = "SELECT [Measures].[Sales] ON 0 FROM [Sales]";
+
+    public static final String MEDIUM_SELECT = PerformanceTest.MDX;
+
+    public static final String DRILLTHROUGH = """
+            DRILLTHROUGH MAXROWS 10
+            FIRSTROWSET 1
+            SELECT {[Customer].[Gender].&[F], [Customer].[Gender].&[M]} ON COLUMNS,
+                   {[Date].[Calendar].[Calendar Year].&[2003]} ON ROWS
+            FROM [Adventure Works]
+            WHERE ([Measures].[Internet Sales Amount], [Product].[Category].&[1])
+            RETURN [Customer].[Gender], [Date].[Calendar Year], [Product].[Category]
+            """;
+
+    public static final String DMV = "select [DIMENSION_UNIQUE_NAME], [HIERARCHY_UNIQUE_NAME], [LEVEL_UNIQUE_NAME], "
+            + "[LEVEL_NUMBER], [LEVEL_CAPTION] from $system.mdschema_levels where [CUBE_NAME] = @CubeName "
+            + "and [LEVEL_NAME] <> '(All)' and [DIMENSION_UNIQUE_NAME] <> '[Measures]'";
+
+    public static final String EXPLAIN = "EXPLAIN PLAN FOR\n" + MEDIUM_SELECT;
+
+    public static final String UPDATE = "UPDATE CUBE [Adventure Works] "
+            + "SET ([Measures].[Sales Count], [Time].[Time].[1997].[Q1]) = 55, "
+            + "([Measures].[Sales Count], [Time].[Time].[1997].[Q2]) = 33 USE_WEIGHTED_ALLOCATION BY 0.5, "
+            + "([Measures].[Sales Count], [Time].[Time].[1997].[Q3]) = 21 USE_EQUAL_INCREMENT, "
+            + "([Measures].[Sales Count], [Time].[Time].[1997].[Q4]) = 13";
+
+    public static final String REFRESH = "REFRESH CUBE [Adventure Works]";
+
+    public enum Kind {
+        SELECT(MEDIUM_SELECT) {
+            @Override
+            public Object parse(MdxParser parser) throws MdxParserException {
+                return parser.parseSelectStatement();
+            }
+        },
+        DRILLTHROUGH(BenchmarkStatements.DRILLTHROUGH) {
+            @Override
+            public Object parse(MdxParser parser) throws MdxParserException {
+                return parser.parseDrillthroughStatement();
+            }
+        },
+        DMV(BenchmarkStatements.DMV) {
+            @Override
+            public Object parse(MdxParser parser) throws MdxParserException {
+                return parser.parseDMVStatement();
+            }
+        },
+        EXPLAIN(BenchmarkStatements.EXPLAIN) {
+            @Override
+            public Object parse(MdxParser parser) throws MdxParserException {
+                return parser.parseExplainStatement();
+            }
+        },
+        UPDATE(BenchmarkStatements.UPDATE) {
+            @Override
+            public Object parse(MdxParser parser) throws MdxParserException {
+                return parser.parseUpdateStatement();
+            }
+        },
+        REFRESH(BenchmarkStatements.REFRESH) {
+            @Override
+            public Object parse(MdxParser parser) throws MdxParserException {
+                return parser.parseRefreshStatement();
+            }
+        };
+
+        private final String mdx;
+
+        Kind(String mdx) {
+            this.mdx = mdx;
+        }
+
+        public String mdx() {
+            return mdx;
+        }
+
+        /**
+         * Not every parser accepts every statement kind in parseMdxStatement, so
+         * each kind uses its dedicated entry point.
+         */
+        public abstract Object parse(MdxParser parser) throws MdxParserException;
+    }
+
+    public enum Size {
+        TINY, MEDIUM, LARGE, SYNTHETIC_1MB, SYNTHETIC_4MB, SYNTHETIC_10MB;
+
+        public String mdx() {
+            return switch (this) {
+            case TINY -> TINY_SELECT;
+            case MEDIUM -> MEDIUM_SELECT;
+            case LARGE -> resource("LargeQuery.mdx");
+            case SYNTHETIC_1MB -> synthetic(1 << 20);
+            case SYNTHETIC_4MB -> synthetic(4 << 20);
+            case SYNTHETIC_10MB -> synthetic(10 << 20);
+            };
+        }
+    }
+
+    private static final String[] MEMBER_BODIES = {
+            "Iif([Customer].[Gender].CurrentMember IS [Customer].[Gender].&[F], RGB(144,238,144), RGB(0,0,0))",
+            "Round(([Measures].[Internet Sales Amount], [Customer].[Customer Geography].CurrentMember) / 100, 4)",
+            "Sum(Filter([Date].[Calendar].[Month].Members, [Measures].[Internet Sales Amount] > %d), [Measures].[Internet Tax Amount])",
+            "CASE WHEN [Measures].CurrentMember IS [Measures].[Internet Sales Amount] THEN %d ELSE NULL END",
+            "Aggregate(Intersect([City: Class A], Order([Customer].[City].Members, [Measures].[Internet Sales Amount], BDESC)))",
+            "([Measures].[Internet Sales Amount], ParallelPeriod([Date].[Calendar].[Calendar Year], %d))" };
+
+    /**
+     * Builds a SELECT of at least {@code minLength} characters: calculated
+     * members cycling through a fixed set of bodies, followed by axes whose sets
+     * reference all of them.
+     */
+    public static String synthetic(int minLength) {
+        StringBuilder sb = new StringBuilder(minLength + 1024);
+        sb.append("WITH\n");
+        int members = 0;
+        while (sb.length() < minLength * 3 / 4) {
+            sb.append("MEMBER [Measures].[Synthetic ").append(members).append("] AS ")
+                    .append(MEMBER_BODIES[members % MEMBER_BODIES.length].replace("%d", Integer.toString(members)))
+                    .append(", FORMAT_STRING = 'Standard', SOLVE_ORDER = ").append(members % 10).append('\n');
+            members++;
+        }
+        sb.append("SELECT\n{");
+        int member = 0;
+        while (sb.length() < minLength) {
+            if (member > 0) {
+                sb.append(", ");
+            }
+            sb.append("[Measures].[Synthetic ").append(member % members).append(']');
+            member++;
+        }
+        sb.append("} ON COLUMNS,\n");
+        sb.append("NON EMPTY [Customer].[Customer Geography].[City].Members ON ROWS\n");
+        sb.append("FROM [Adventure Works]\n");
+        sb.append("WHERE ([Date].[Calendar].[Calendar Year].&[2003])");
+        return sb.toString();
+    }
+
+    static String resource(String name) {
+        try (InputStream in = BenchmarkStatements.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("missing benchmark resource " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
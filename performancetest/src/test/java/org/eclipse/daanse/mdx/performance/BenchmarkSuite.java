@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.performance;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all statement kind, size, codec, lexer and expression engine
+ * benchmarks with the GC profiler (the equivalent of {@code -prof gc}) and
+ * writes the results as JSON, so runs of different releases can be compared.
+ * An optional first argument overrides the result file name.
+ */
+public class BenchmarkSuite {
+
+    public static void main(String... args) throws Exception {
+        String result = args.length > 0 ? args[0] : "mdx-parser-benchmarks.json";
+        Options opts = new OptionsBuilder() //
+                .include(StatementKindBenchmark.class.getSimpleName()) //
+                .include(StatementSizeBenchmark.class.getSimpleName()) //
+                .include(CodecBenchmark.class.getSimpleName()) //
+                .include(LexerBenchmark.class.getSimpleName()) //
+                .include(ExpressionEngineBenchmark.class.getSimpleName()) //
+                .addProfiler(GCProfiler.class) //
+                .resultFormat(ResultFormatType.JSON) //
+                .result(result) //
+                .build();
+
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.performance;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.record.codec.MdxCodec;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing the text of a statement with decoding its binary form, the
+ * two ways an engine node can obtain a tree. Encoding is measured as well, as
+ * it is paid once by the node that parsed the statement. The generated parser
+ * and the hand written one bound the cost of reparsing from both sides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({ "CCC", "FAST" })
+    public ParserImplementation parser;
+
+    @Param
+    public BenchmarkStatements.Kind kind;
+
+    private MdxParserProvider provider;
+    private String mdx;
+    private MdxStatement statement;
+    private byte[] encoded;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setup() throws MdxParserException {
+        provider = parser.newProvider();
+        mdx = kind.mdx();
+        statement = (MdxStatement) kind.parse(provider.newParser(mdx, PerformanceTest.reservedWords));
+        encoded = MdxCodec.encode(statement);
+        direct = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+        // fail fast instead of measuring a broken round trip
+        if (!statement.equals(MdxCodec.decodeStatement(encoded))) {
+            throw new IllegalStateException("round trip changed the statement of " + kind);
+        }
+    }
+
+    @Benchmark
+    public Object parse() throws MdxParserException {
+        return kind.parse(provider.newParser(mdx, PerformanceTest.reservedWords));
+    }
+
+    @Benchmark
+    public Object decode() {
+        return MdxCodec.decodeStatement(encoded);
+    }
+
+    @Benchmark
+    public Object decodeDirect() {
+        return MdxCodec.decodeStatement(direct.duplicate());
+    }
+
+    @Benchmark
+    public Object encode() {
+        return MdxCodec.encode(statement);
+    }
+}
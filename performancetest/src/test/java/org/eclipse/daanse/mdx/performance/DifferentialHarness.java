@@ -0,0 +1,216 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.performance;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.mdx.parser.api.MdxParser;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.api.MdxStatementSplitter;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Runs a corpus of statements through every {@link ParserImplementation},
+ * compares the trees with {@link StructuralComparison} against the first
+ * implementation and reports, per statement, the time and allocated bytes of a
+ * parse and the time ratio to the first implementation.
+ *
+ * The providers are registered as OSGi components, which need a framework this
+ * plain {@code main} does not start, so the enum the JMH benchmarks take as
+ * {@code @Param} lists them here as well. Further providers are added with
+ * {@code --provider=<class name>} arguments; the class needs a public no
+ * argument constructor.
+ *
+ * The corpus consists of the statement kinds and the fixed sizes of
+ * {@link BenchmarkStatements}, followed by the statements of all {@code .mdx}
+ * files given as the other arguments (files or directories). Two
+ * implementations that both reject a statement agree. The process exits with
+ * status 1 if any implementation disagrees with the first one.
+ *
+ * The numbers are a quick per statement indication to find outliers, the JMH
+ * benchmarks of {@link BenchmarkSuite} remain the reference.
+ */
+public class DifferentialHarness {
+
+    private static final long WARMUP_NANOS = 500_000_000L;
+    private static final long MEASUREMENT_NANOS = 500_000_000L;
+
+    private static final String PROVIDER_OPTION = "--provider=";
+
+    @FunctionalInterface
+    interface Parse {
+        Object parse(MdxParser parser) throws MdxParserException;
+    }
+
+    record Entry(String name, String mdx, Parse parse) {
+    }
+
+    record Outcome(Object result, MdxParserException error, double nanos, double bytes) {
+    }
+
+    record Implementation(String name, MdxParserProvider provider) {
+    }
+
+    public static void main(String... args) throws IOException {
+        List<Entry> corpus = new ArrayList<>();
+        for (BenchmarkStatements.Kind kind : BenchmarkStatements.Kind.values()) {
+            corpus.add(new Entry("kind " + kind, kind.mdx(), kind::parse));
+        }
+        for (BenchmarkStatements.Size size : List.of(BenchmarkStatements.Size.TINY, BenchmarkStatements.Size.MEDIUM,
+                BenchmarkStatements.Size.LARGE)) {
+            corpus.add(new Entry("size " + size, size.mdx(), MdxParser::parseMdxStatement));
+        }
+        List<Implementation> implementations = new ArrayList<>();
+        for (ParserImplementation implementation : ParserImplementation.values()) {
+            implementations.add(new Implementation(implementation.name(), implementation.newProvider()));
+        }
+        for (String arg : args) {
+            if (arg.startsWith(PROVIDER_OPTION)) {
+                implementations.add(provider(arg.substring(PROVIDER_OPTION.length())));
+            } else {
+                corpus.addAll(files(Path.of(arg)));
+            }
+        }
+
+        StringBuilder header = new StringBuilder(String.format("%-40s", "statement"));
+        for (Implementation implementation : implementations) {
+            header.append(String.format(" | %-8s %10s %7s %12s", implementation.name(), "us/op", "ratio", "B/op"));
+        }
+        System.out.println(header);
+
+        int mismatches = 0;
+        for (Entry entry : corpus) {
+            Outcome baseline = null;
+            StringBuilder line = new StringBuilder(String.format("%-40.40s", entry.name()));
+            List<String> differences = new ArrayList<>();
+            for (int i = 0; i < implementations.size(); i++) {
+                Implementation implementation = implementations.get(i);
+                Outcome outcome = measure(implementation.provider(), entry);
+                if (i == 0) {
+                    baseline = outcome;
+                } else {
+                    difference(baseline, outcome).ifPresent(d -> differences.add(implementation.name() + " " + d));
+                }
+                line.append(format(implementation, outcome, baseline));
+            }
+            System.out.println(line);
+            for (String difference : differences) {
+                System.out.println("    MISMATCH " + difference);
+            }
+            mismatches += differences.size();
+        }
+
+        System.out.println(corpus.size() + " statements, " + mismatches + " mismatches");
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Implementation provider(String className) {
+        try {
+            Class<? extends MdxParserProvider> type = Class.forName(className).asSubclass(MdxParserProvider.class);
+            return new Implementation(type.getSimpleName(), type.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("not a parser provider: " + className, e);
+        }
+    }
+
+    private static List<Entry> files(Path path) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> walk = Files.walk(path)) {
+                files = walk.filter(p -> p.toString().endsWith(".mdx")).sorted().toList();
+            }
+        } else {
+            files = List.of(path);
+        }
+        for (Path file : files) {
+            try (MdxStatementSplitter splitter = new MdxStatementSplitter(Files.newBufferedReader(file))) {
+                for (int n = 1; splitter.hasNext(); n++) {
+                    entries.add(new Entry(file.getFileName() + "#" + n, splitter.next(), MdxParser::parseMdxStatement));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Parses the entry once for the tree, then repeatedly for the time and the
+     * allocated bytes of the current thread. Rejected statements are not timed.
+     */
+    private static Outcome measure(MdxParserProvider provider, Entry entry) {
+        Object result;
+        try {
+            result = parse(provider, entry);
+        } catch (MdxParserException | RuntimeException e) {
+            MdxParserException error = e instanceof MdxParserException m ? m : new MdxParserException(e);
+            return new Outcome(null, error, Double.NaN, Double.NaN);
+        }
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        try {
+            long end = System.nanoTime() + WARMUP_NANOS;
+            while (System.nanoTime() < end) {
+                parse(provider, entry);
+            }
+            long iterations = 0;
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            end = start + MEASUREMENT_NANOS;
+            long now;
+            do {
+                parse(provider, entry);
+                iterations++;
+            } while ((now = System.nanoTime()) < end);
+            bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+            return new Outcome(result, null, (double) (now - start) / iterations, (double) bytes / iterations);
+        } catch (MdxParserException e) {
+            throw new IllegalStateException("parse of " + entry.name() + " failed on repetition", e);
+        }
+    }
+
+    private static Object parse(MdxParserProvider provider, Entry entry) throws MdxParserException {
+        return entry.parse().parse(provider.newParser(entry.mdx(), PerformanceTest.reservedWords));
+    }
+
+    private static Optional<String> difference(Outcome expected, Outcome actual) {
+        if (expected.error() != null || actual.error() != null) {
+            if (expected.error() != null && actual.error() != null) {
+                return Optional.empty();
+            }
+            return Optional.of(expected.error() != null ? "accepted what the first implementation rejects"
+                    : "rejects: " + actual.error().getMessage());
+        }
+        return StructuralComparison.firstDifference(expected.result(), actual.result());
+    }
+
+    private static String format(Implementation implementation, Outcome outcome, Outcome baseline) {
+        if (outcome.error() != null) {
+            return String.format(" | %-8s %31s", implementation.name(), "rejected");
+        }
+        return String.format(" | %-8s %10.2f %7.2f %12.0f", implementation.name(), outcome.nanos() / 1000,
+                outcome.nanos() / baseline.nanos(), outcome.bytes());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.mdx.model.api.expression.MdxExpression;
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.ParserOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the expression productions of the grammar with the operator
+ * precedence parser of {@link CCCMdxParserProvider}. The setup checks that
+ * both build equal trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExpressionEngineBenchmark {
+
+    public enum Shape {
+
+        /** A calculated measure as found in WITH clauses. */
+        FORMULA("IIf([Measures].[Store Cost] = 0, NULL, ([Measures].[Store Sales] - [Measures].[Store Cost]) "
+                + "/ [Measures].[Store Cost] * 100) + Sum(YTD(), [Measures].[Unit Sales]) * -1"),
+
+        /** Set expressions with method calls and properties. */
+        SET("Filter(Crossjoin([Product].[Drink].Children, [Time].[1997].Children), "
+                + "NOT IsEmpty([Measures].[Unit Sales]) AND [Product].CurrentMember.Name MATCHES 'B.*')"),
+
+        /** One long chain of operators. */
+        CHAIN(chain());
+
+        private final String mdx;
+
+        Shape(String mdx) {
+            this.mdx = mdx;
+        }
+
+        private static String chain() {
+            StringBuilder sb = new StringBuilder("[Measures].[m0]");
+            for (int i = 1; i < 500; i++) {
+                sb.append(i % 3 == 0 ? " - " : i % 3 == 1 ? " + " : " * ").append("[Measures].[m").append(i)
+                        .append(']');
+            }
+            return sb.toString();
+        }
+    }
+
+    public enum Engine {
+        GRAMMAR, PRATT
+    }
+
+    @Param
+    public Shape shape;
+
+    @Param
+    public Engine engine;
+
+    private MdxParserProvider provider;
+
+    @Setup
+    public void setup() throws MdxParserException {
+        provider = new CCCMdxParserProvider(ParserOptions.DEFAULT.withPrattExpressions(engine == Engine.PRATT));
+        MdxExpression expected = new CCCMdxParserProvider().newParser(shape.mdx, PerformanceTest.reservedWords)
+                .parseExpression();
+        if (!expected.equals(parse())) {
+            throw new IllegalStateException("expression engines disagree on " + shape);
+        }
+    }
+
+    @Benchmark
+    public MdxExpression parse() throws MdxParserException {
+        return provider.newParser(shape.mdx, PerformanceTest.reservedWords).parseExpression();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenKind;
+import org.eclipse.daanse.mdx.parser.api.lexer.MdxTokenizer;
+import org.eclipse.daanse.mdx.parser.ccc.MdxLexer;
+import org.eclipse.daanse.mdx.parser.ccc.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the lexer generated from the grammar with the hand written
+ * {@link MdxTokenizer} on the benchmark statements. Both return the number of
+ * tokens; the setup checks that they agree on kind, start and end of every
+ * token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+
+    @Param
+    public BenchmarkStatements.Kind kind;
+
+    private String mdx;
+
+    @Setup
+    public void setup() {
+        mdx = kind.mdx();
+        MdxLexer lexer = new MdxLexer(mdx);
+        MdxTokenizer tokenizer = new MdxTokenizer(mdx);
+        for (Token token = lexer.getNextToken(null);; token = lexer.getNextToken(token)) {
+            MdxTokenKind next = tokenizer.next();
+            if (!next.name().equals(token.getType().name())
+                    || next != MdxTokenKind.EOF && (tokenizer.start() != token.getBeginOffset()
+                            || tokenizer.end() != token.getEndOffset())) {
+                throw new IllegalStateException("lexers disagree on the tokens of " + kind + " at " + next + " "
+                        + tokenizer.start() + ", generated " + token.getType() + " " + token.getBeginOffset());
+            }
+            if (next == MdxTokenKind.EOF) {
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public int generated() {
+        MdxLexer lexer = new MdxLexer(mdx);
+        int count = 0;
+        for (Token token = lexer.getNextToken(null); token.getType() != Token.TokenType.EOF; token = lexer
+                .getNextToken(token)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int tokenizer() {
+        MdxTokenizer tokenizer = new MdxTokenizer(mdx);
+        int count = 0;
+        while (tokenizer.next() != MdxTokenKind.EOF) {
+            count++;
+        }
+        return count;
+    }
+}
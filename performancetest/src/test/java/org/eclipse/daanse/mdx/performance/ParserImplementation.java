@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.performance;
+
+import java.util.function.Supplier;
+
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.ccc.CCCMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.cccx.CCCXMdxParserProvider;
+import org.eclipse.daanse.mdx.parser.fast.FastMdxParserProvider;
+
+/**
+ * The parser implementations the benchmarks run against. Used as JMH
+ * {@code @Param} value.
+ */
+public enum ParserImplementation {
+
+    CCC(CCCMdxParserProvider::new), CCCX(CCCXMdxParserProvider::new), FAST(FastMdxParserProvider::new);
+
+    private final Supplier<MdxParserProvider> factory;
+
+    ParserImplementation(Supplier<MdxParserProvider> factory) {
+        this.factory = factory;
+    }
+
+    public MdxParserProvider newProvider() {
+        return factory.get();
+    }
+}
@@ -22,7 +22,14 @@ import java.util.Set;
 
 import org.eclipse.daanse.mdx.model.api.MdxStatement;
 import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.PropertyWords;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.mdx.parser.fast.FastMdxParser;
+import org.eclipse.daanse.mdx.parser.fast.PooledFastMdxParserProvider;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -34,6 +41,8 @@ public class PerformanceTest {
             "UNIQUE_NAME", "UNIQUENAME", "MEMBERS", "SIBLINGS", "ORDERKEY", "DEFAULTMEMBER", "LEVEL", "FIRSTCHILD",
             "LASTCHILD", "CURRENT", "NAME", "CHILDREN", "PREVMEMBER", "LEVEL_NUMBER", "ALLMEMBERS", "COUNT", "CAPTION",
             "HIERARCHY");
+    /** The dictionary of {@link #reservedWords}, built once for the parsers created directly. */
+    private static final Set<String> propertyWords = PropertyWords.of(reservedWords).asSet();
     public static final String MDX = """
             //<SELECT WITH clause>
             WITH
@@ -89,16 +98,45 @@ public class PerformanceTest {
 
     @Benchmark
     public void cccTestMethod() throws MdxParserException {
-        MdxStatement mdxStatement = new org.eclipse.daanse.mdx.parser.ccc.MdxParserWrapper(MDX, reservedWords)
+        MdxStatement mdxStatement = new org.eclipse.daanse.mdx.parser.ccc.MdxParserWrapper(MDX, propertyWords)
                 .parseMdxStatement();
     }
 
     @Benchmark
     public void cccxTestMethod() throws MdxParserException {
-        MdxStatement mdxStatement = new org.eclipse.daanse.mdx.parser.cccx.MdxParserWrapper(MDX, reservedWords)
+        MdxStatement mdxStatement = new org.eclipse.daanse.mdx.parser.cccx.MdxParserWrapper(MDX, propertyWords)
                 .parseMdxStatement();
     }
 
+    @Benchmark
+    public void fastTestMethod() throws MdxParserException {
+        MdxStatement mdxStatement = new FastMdxParser(MDX, propertyWords).parseMdxStatement();
+    }
+
+    @State(Scope.Thread)
+    public static class ReusedParser {
+
+        FastMdxParser fast;
+
+        @Setup
+        public void setup() throws MdxParserException {
+            fast = new FastMdxParser(MDX, propertyWords);
+        }
+    }
+
+    @Benchmark
+    public MdxStatement fastResetTestMethod(ReusedParser parser) throws MdxParserException {
+        parser.fast.reset(MDX, propertyWords);
+        return parser.fast.parseMdxStatement();
+    }
+
+    private static final MdxParserProvider pooled = new PooledFastMdxParserProvider();
+
+    @Benchmark
+    public MdxStatement fastPooledTestMethod() throws MdxParserException {
+        return pooled.newParser(MDX, propertyWords).parseMdxStatement();
+    }
+
     public static void main(String... args) throws Exception {
         Options opts = new OptionsBuilder().include(".*").warmupIterations(10).measurementIterations(10).forks(1)
                 .build();
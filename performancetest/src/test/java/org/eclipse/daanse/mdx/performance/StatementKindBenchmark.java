@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.mdx.parser.api.MdxParserException;
+import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses one representative statement of every statement kind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class StatementKindBenchmark {
+
+    @Param
+    public BenchmarkStatements.Kind kind;
+
+    @Param
+    public ParserImplementation parser;
+
+    private MdxParserProvider provider;
+    private String mdx;
+
+    @Setup
+    public void setup() throws MdxParserException {
+        provider = parser.newProvider();
+        mdx = kind.mdx();
+        // fail fast instead of measuring exceptions
+        kind.parse(provider.newParser(mdx, PerformanceTest.reservedWords));
+    }
+
+    @Benchmark
+    public Object parse() throws MdxParserException {
+        return kind.parse(provider.newParser(mdx, PerformanceTest.reservedWords));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.performance;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compares two MDX trees through the interfaces of the model API only, so
+ * trees of different parsers (records of the model or nodes of a generated
+ * parser) can be compared. Nodes must implement the same model interfaces and
+ * all of their accessors must return structurally equal values. Types that are
+ * part of the model API themselves (the operation atoms, enums) are compared
+ * with {@code equals}.
+ */
+public final class StructuralComparison {
+
+    private static final String MODEL_API = "org.eclipse.daanse.mdx.model.api";
+
+    private StructuralComparison() {
+        // static helpers only
+    }
+
+    /**
+     * @return the path and description of the first difference, or empty if the
+     *         trees are equal
+     */
+    public static Optional<String> firstDifference(Object expected, Object actual) {
+        return compare("", expected, actual);
+    }
+
+    private static Optional<String> compare(String path, Object expected, Object actual) {
+        if (expected == null || actual == null) {
+            return expected == actual ? Optional.empty() : difference(path, expected, actual);
+        }
+        if (expected instanceof List<?> e) {
+            if (!(actual instanceof List<?> a)) {
+                return difference(path, expected, actual);
+            }
+            if (e.size() != a.size()) {
+                return Optional.of(path + ": size " + e.size() + " <> " + a.size());
+            }
+            for (int i = 0; i < e.size(); i++) {
+                Optional<String> d = compare(path + "[" + i + "]", e.get(i), a.get(i));
+                if (d.isPresent()) {
+                    return d;
+                }
+            }
+            return Optional.empty();
+        }
+        if (expected instanceof Optional<?> e) {
+            if (!(actual instanceof Optional<?> a)) {
+                return difference(path, expected, actual);
+            }
+            return compare(path, e.orElse(null), a.orElse(null));
+        }
+        if (isValue(expected.getClass())) {
+            return expected.equals(actual) ? Optional.empty() : difference(path, expected, actual);
+        }
+
+        Set<Class<?>> expectedTypes = modelTypes(expected.getClass());
+        Set<Class<?>> actualTypes = modelTypes(actual.getClass());
+        if (expectedTypes.isEmpty() || !expectedTypes.equals(actualTypes)) {
+            return Optional.of(path + ": type " + names(expectedTypes) + " <> " + names(actualTypes));
+        }
+        for (Method accessor : accessors(expectedTypes).values()) {
+            String child = path.isEmpty() ? accessor.getName() : path + "." + accessor.getName();
+            Optional<String> d = compare(child, invoke(accessor, expected), invoke(accessor, actual));
+            if (d.isPresent()) {
+                return d;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isValue(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || Number.class.isAssignableFrom(type)
+                || type == String.class || type == Boolean.class || type == Character.class
+                || (!type.isInterface() && type.getPackageName().startsWith(MODEL_API));
+    }
+
+    /**
+     * The most specific model API interfaces a class implements.
+     */
+    private static Set<Class<?>> modelTypes(Class<?> type) {
+        Set<Class<?>> all = new LinkedHashSet<>();
+        Deque<Class<?>> todo = new ArrayDeque<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            todo.addAll(List.of(c.getInterfaces()));
+        }
+        while (!todo.isEmpty()) {
+            Class<?> i = todo.pop();
+            if (i.getPackageName().startsWith(MODEL_API) && all.add(i)) {
+                todo.addAll(List.of(i.getInterfaces()));
+            }
+        }
+        Set<Class<?>> leaves = new LinkedHashSet<>(all);
+        for (Class<?> i : all) {
+            for (Class<?> other : all) {
+                if (other != i && i.isAssignableFrom(other)) {
+                    leaves.remove(i);
+                }
+            }
+        }
+        return leaves;
+    }
+
+    /**
+     * The abstract zero argument methods of the given interfaces and their super
+     * interfaces, by name. Default methods are derived from these and skipped.
+     */
+    private static Map<String, Method> accessors(Set<Class<?>> types) {
+        Map<String, Method> accessors = new TreeMap<>();
+        for (Class<?> type : types) {
+            for (Method m : type.getMethods()) {
+                if (m.getParameterCount() == 0 && m.getReturnType() != void.class
+                        && Modifier.isAbstract(m.getModifiers())
+                        && m.getDeclaringClass().getPackageName().startsWith(MODEL_API)) {
+                    accessors.putIfAbsent(m.getName(), m);
+                }
+            }
+        }
+        return accessors;
+    }
+
+    private static Object invoke(Method accessor, Object target) {
+        try {
+            return accessor.invoke(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            return "threw " + e.getCause();
+        }
+    }
+
+    private static Optional<String> difference(String path, Object expected, Object actual) {
+        return Optional.of((path.isEmpty() ? "<root>" : path) + ": " + expected + " <> " + actual);
+    }
+
+    private static String names(Set<Class<?>> types) {
+        return types.stream().map(Class::getSimpleName).toList().toString();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.unparser.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of one statement unparse, committed by the unparser
+ * implementations. It is disabled by default, enable {@value #NAME} in a
+ * recording settings file to collect it.
+ */
+@Name(MdxUnparseEvent.NAME)
+@Label("MDX Unparse")
+@Category({ "Daanse", "MDX" })
+@Description("Unparse of an MDX statement")
+@Enabled(false)
+@StackTrace(false)
+public final class MdxUnparseEvent extends Event {
+
+    public static final String NAME = "org.eclipse.daanse.mdx.Unparse";
+
+    @Label("Kind")
+    @Description("Name of the statement interface, like SelectStatement")
+    public String kind;
+
+    @Label("Characters")
+    @Description("Length of the written text")
+    public int characters;
+
+    @Label("Nodes")
+    @Description("Nodes of the unparsed statement")
+    public int nodes;
+
+    @Label("Unparser")
+    @Description("Class of the unparser")
+    public String unparser;
+}
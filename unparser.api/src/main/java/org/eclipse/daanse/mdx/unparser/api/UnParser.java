@@ -13,9 +13,71 @@
 */
 package org.eclipse.daanse.mdx.unparser.api;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
 import org.eclipse.daanse.mdx.model.api.MdxStatement;
 
 public interface UnParser {
 
+    /**
+     * Number of chars buffered by the streaming methods before they are handed
+     * to the target.
+     */
+    int STREAM_BUFFER_SIZE = 8192;
+
     public StringBuilder unparseMdxStatement(MdxStatement mdxStatement);
+
+    /**
+     * Writes the statement text into {@code out} in a single pass. The text is
+     * the same as returned by {@link #unparseMdxStatement(MdxStatement)}.
+     */
+    default void unparseMdxStatement(MdxStatement mdxStatement, Appendable out) throws IOException {
+        out.append(unparseMdxStatement(mdxStatement));
+    }
+
+    default StringBuilder unparseMdxStatement(MdxStatement mdxStatement, StringBuilder out) {
+        try {
+            unparseMdxStatement(mdxStatement, (Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Streams the statement text to {@code writer} through a buffer of
+     * {@link #STREAM_BUFFER_SIZE} chars. The writer is flushed but not closed.
+     */
+    default void unparseMdxStatement(MdxStatement mdxStatement, Writer writer) throws IOException {
+        BufferedWriter buffered = new BufferedWriter(writer, STREAM_BUFFER_SIZE);
+        unparseMdxStatement(mdxStatement, (Appendable) buffered);
+        buffered.flush();
+    }
+
+    /**
+     * Streams the statement text UTF-8 encoded to {@code out}. The stream is
+     * flushed but not closed. The byte targets have their own name because a
+     * {@link java.io.PrintStream} is both an {@link OutputStream} and an
+     * {@link Appendable}; passed to {@code unparseMdxStatement} it gets the
+     * chars.
+     */
+    default void writeMdxStatement(MdxStatement mdxStatement, OutputStream out) throws IOException {
+        unparseMdxStatement(mdxStatement, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Streams the statement text UTF-8 encoded to {@code channel}. The channel
+     * is not closed.
+     */
+    default void writeMdxStatement(MdxStatement mdxStatement, WritableByteChannel channel) throws IOException {
+        unparseMdxStatement(mdxStatement, Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1));
+    }
 }
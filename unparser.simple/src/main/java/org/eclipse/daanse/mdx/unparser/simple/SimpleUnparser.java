@@ -13,10 +13,11 @@
  */
 package org.eclipse.daanse.mdx.unparser.simple;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.eclipse.daanse.mdx.model.api.DMVStatement;
 import org.eclipse.daanse.mdx.model.api.DrillthroughStatement;
@@ -55,7 +56,6 @@ import org.eclipse.daanse.mdx.model.api.select.Axis;
 import org.eclipse.daanse.mdx.model.api.select.CreateCellCalculationBodyClause;
 import org.eclipse.daanse.mdx.model.api.select.CreateMemberBodyClause;
 import org.eclipse.daanse.mdx.model.api.select.CreateSetBodyClause;
-import org.eclipse.daanse.mdx.model.api.select.MeasureBodyClause;
 import org.eclipse.daanse.mdx.model.api.select.MemberPropertyDefinition;
 import org.eclipse.daanse.mdx.model.api.select.SelectCellPropertyListClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectDimensionPropertyListClause;
@@ -63,12 +63,13 @@ import org.eclipse.daanse.mdx.model.api.select.SelectQueryAsteriskClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxesClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectQueryAxisClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectQueryClause;
-import org.eclipse.daanse.mdx.model.api.select.SelectQueryEmptyClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectSlicerAxisClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectCubeClause;
 import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseName;
 import org.eclipse.daanse.mdx.model.api.select.SelectCubeClauseSubStatement;
 import org.eclipse.daanse.mdx.model.api.select.SelectWithClause;
+import org.eclipse.daanse.mdx.model.api.visitor.AbstractMdxVisitor;
+import org.eclipse.daanse.mdx.unparser.api.MdxUnparseEvent;
 import org.eclipse.daanse.mdx.unparser.api.UnParser;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -85,6 +86,20 @@ public class SimpleUnparser implements UnParser {
 
     private static final String DELIMITER = "\r\n ";
 
+    /** Counts the nodes of a tree for {@link MdxUnparseEvent#nodes}. */
+    private static final AbstractMdxVisitor<Integer> NODE_COUNTER = new AbstractMdxVisitor<>() {
+
+        @Override
+        protected Integer defaultResult() {
+            return 1;
+        }
+
+        @Override
+        protected Integer aggregateResult(Integer aggregate, Integer nextResult) {
+            return aggregate + nextResult;
+        }
+    };
+
     @ObjectClassDefinition()
     public interface Config {
 
@@ -117,335 +132,385 @@ public class SimpleUnparser implements UnParser {
 
     }
 
-    public StringBuilder unparseSelectStatement(SelectStatement selectStatement) {
+    @FunctionalInterface
+    private interface Writing {
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    private static StringBuilder render(Writing writing) {
         StringBuilder sb = new StringBuilder();
+        try {
+            writing.writeTo(sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return sb;
+    }
+
+    public StringBuilder unparseSelectStatement(SelectStatement selectStatement) {
+        return render(out -> appendSelectStatement(selectStatement, out));
+    }
+
+    private void appendSelectStatement(SelectStatement selectStatement, Appendable out) throws IOException {
         if (!selectStatement.selectWithClauses().isEmpty()) {
-            sb = sb.append("WITH ");
-            sb = sb.append(unparseSelectWithClauses(selectStatement.selectWithClauses()));
-            sb = sb.append(" ");
+            out.append("WITH ");
+            appendSelectWithClauses(selectStatement.selectWithClauses(), out);
+            out.append(" ");
         }
 
-        sb = sb.append("SELECT ");
-        sb = sb.append(unparseSelectQueryClause(selectStatement.selectQueryClause()));
-        sb = sb.append(" FROM ");
-        sb = sb.append(unparseSelectCubeClause(selectStatement.selectCubeClause()));
+        out.append("SELECT ");
+        appendSelectQueryClause(selectStatement.selectQueryClause(), out);
+        out.append(" FROM ");
+        appendSelectCubeClause(selectStatement.selectCubeClause(), out);
 
         Optional<SelectSlicerAxisClause> ssac = selectStatement.selectSlicerAxisClause();
         if (ssac.isPresent()) {
-            sb = sb.append(" ");// whitespace before WHERE
-            sb.append(unparseSelectSlicerAxisClause(ssac.get()));
+            out.append(" ");// whitespace before WHERE
+            appendSelectSlicerAxisClause(ssac.get(), out);
         }
 
         Optional<SelectCellPropertyListClause> ssplc = selectStatement.selectCellPropertyListClause();
         if (ssplc.isPresent()) {
-            sb.append(" ");
-            sb = sb.append(unparseSelectCellPropertyListClause(ssplc.get()));
+            out.append(" ");
+            appendSelectCellPropertyListClause(ssplc.get(), out);
         }
-
-        return sb;
-
     }
 
     public StringBuilder unparseSelectCellPropertyListClause(SelectCellPropertyListClause clause) {
-        StringBuilder sb = new StringBuilder();
+        return render(out -> appendSelectCellPropertyListClause(clause, out));
+    }
 
+    private void appendSelectCellPropertyListClause(SelectCellPropertyListClause clause, Appendable out)
+            throws IOException {
         if (clause.cell()) {
 
-            sb.append("CELL ");
+            out.append("CELL ");
         }
-        sb.append(unparseProperties(clause.properties()));
-        return sb;
+        appendProperties(clause.properties(), out);
     }
 
     public StringBuilder unparseProperties(List<String> propertyList) {
-        StringBuilder sb = new StringBuilder();
-        if (propertyList != null && !propertyList.isEmpty()) {
-            sb.append("PROPERTIES ");
+        return render(out -> appendProperties(propertyList, out));
+    }
 
-            String properties = propertyList.stream().collect(Collectors.joining("\r\n, "));
-            sb.append(properties);
+    private void appendProperties(List<String> propertyList, Appendable out) throws IOException {
+        if (propertyList != null && !propertyList.isEmpty()) {
+            out.append("PROPERTIES ");
+            for (int i = 0; i < propertyList.size(); i++) {
+                if (i > 0) {
+                    out.append("\r\n, ");
+                }
+                out.append(propertyList.get(i));
+            }
         }
-        return sb;
     }
 
     public StringBuilder unparseSelectSlicerAxisClause(SelectSlicerAxisClause clause) {
-        StringBuilder sb = new StringBuilder("WHERE ");
+        return render(out -> appendSelectSlicerAxisClause(clause, out));
+    }
 
-        return sb.append(unparseExpression(clause.expression()));
+    private void appendSelectSlicerAxisClause(SelectSlicerAxisClause clause, Appendable out) throws IOException {
+        out.append("WHERE ");
+        appendExpression(clause.expression(), out);
     }
 
     public StringBuilder unparseSelectCubeClause(SelectCubeClause clause) {
+        return render(out -> appendSelectCubeClause(clause, out));
+    }
 
+    private void appendSelectCubeClause(SelectCubeClause clause, Appendable out) throws IOException {
         if (clause instanceof SelectCubeClauseName sscn) {
-            return unparseSelectCubeClauseName(sscn);
-        }
-        if (clause instanceof SelectCubeClauseSubStatement sscs) {
-            return unparseSelectCubeClauseSubStatement(sscs);
+            appendSelectCubeClauseName(sscn, out);
+        } else if (clause instanceof SelectCubeClauseSubStatement sscs) {
+            appendSelectCubeClauseSubStatement(sscs, out);
         }
-
-        return null;
     }
 
     public StringBuilder unparseSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause) {
-        StringBuilder sb = new StringBuilder();
+        return render(out -> appendSelectCubeClauseSubStatement(clause, out));
+    }
 
+    private void appendSelectCubeClauseSubStatement(SelectCubeClauseSubStatement clause, Appendable out)
+            throws IOException {
         Optional<SelectSlicerAxisClause> sOptional = clause.selectSlicerAxisClause();
 
-        sb.append(" ( \r\n");
-        sb.append("  SELECT \r\n");
-        sb.append(unparseSelectQueryClause(clause.selectQueryClause()));
-        sb.append(" FROM \r\n");
-        sb.append(unparseSelectCubeClause(clause.selectCubeClause()));
+        out.append(" ( \r\n");
+        out.append("  SELECT \r\n");
+        appendSelectQueryClause(clause.selectQueryClause(), out);
+        out.append(" FROM \r\n");
+        appendSelectCubeClause(clause.selectCubeClause(), out);
 
         if (sOptional.isPresent()) {
 
-            sb.append(unparseSelectSlicerAxisClause(sOptional.get()));
+            appendSelectSlicerAxisClause(sOptional.get(), out);
         }
-        sb.append("\r\n");
-        sb.append(" ) \r\n");
-
-        return sb;
+        out.append("\r\n");
+        out.append(" ) \r\n");
     }
 
     public StringBuilder unparseSelectCubeClauseName(SelectCubeClauseName clause) {
-
-        return unparseNameObjectIdentifier(clause.cubeName());
+        return render(out -> appendSelectCubeClauseName(clause, out));
     }
 
-    private StringBuilder unparseNameObjectIdentifier(NameObjectIdentifier nameObjectIdentifier) {
+    private void appendSelectCubeClauseName(SelectCubeClauseName clause, Appendable out) throws IOException {
+        appendNameObjectIdentifier(clause.cubeName(), out);
+    }
 
-        StringBuilder sb = new StringBuilder();
+    private void appendNameObjectIdentifier(NameObjectIdentifier nameObjectIdentifier, Appendable out)
+            throws IOException {
         switch (nameObjectIdentifier.quoting()) {
-        case KEY -> sb.append("&").append(nameObjectIdentifier.name());
+        case KEY -> out.append("&").append(nameObjectIdentifier.name());
 
-        case QUOTED -> sb.append("[").append(nameObjectIdentifier.name().replace("]", "]]")).append("]");
+        case QUOTED -> {
+            out.append("[");
+            appendEscaped(nameObjectIdentifier.name(), out);
+            out.append("]");
+        }
 
-        case UNQUOTED -> sb.append(nameObjectIdentifier.name());
+        case UNQUOTED -> out.append(nameObjectIdentifier.name());
 
         }
+    }
 
-        return sb;
+    private static void appendEscaped(String name, Appendable out) throws IOException {
+        int from = 0;
+        int bracket;
+        while ((bracket = name.indexOf(']', from)) >= 0) {
+            out.append(name, from, bracket + 1).append(']');
+            from = bracket + 1;
+        }
+        out.append(name, from, name.length());
     }
 
     public StringBuilder unparseSelectQueryClause(SelectQueryClause clause) {
+        return render(out -> appendSelectQueryClause(clause, out));
+    }
 
+    private void appendSelectQueryClause(SelectQueryClause clause, Appendable out) throws IOException {
         if (clause instanceof SelectQueryAsteriskClause) {
-            return unparseSelectQueryAsteriskClause();
-        }
-        if (clause instanceof SelectQueryAxesClause sqaxc) {
-            return unparseSelectQueryAxesClause(sqaxc);
-
+            out.append("*");
+        } else if (clause instanceof SelectQueryAxesClause sqaxc) {
+            appendSelectQueryAxesClause(sqaxc, out);
         }
-        if (clause instanceof SelectQueryEmptyClause) {
-            return unparseSelectQueryEmptyClause();
-
-        }
-
-        return null;
+        // SelectQueryEmptyClause renders as nothing
     }
 
-    private StringBuilder unparseSelectQueryEmptyClause() {
-        return new StringBuilder();/* empty */
-    }
-
-    private StringBuilder unparseSelectQueryAxesClause(SelectQueryAxesClause clause) {
-
-        String ret = clause.selectQueryAxisClauses().stream().map(this::unparseSelectQueryAxisClause)
-                .map(Object::toString).collect(Collectors.joining("\r\n,"));
-        return new StringBuilder(ret);
+    private void appendSelectQueryAxesClause(SelectQueryAxesClause clause, Appendable out) throws IOException {
+        List<? extends SelectQueryAxisClause> axisClauses = clause.selectQueryAxisClauses();
+        for (int i = 0; i < axisClauses.size(); i++) {
+            if (i > 0) {
+                out.append("\r\n,");
+            }
+            appendSelectQueryAxisClause(axisClauses.get(i), out);
+        }
     }
 
     public StringBuilder unparseSelectQueryAxisClause(SelectQueryAxisClause clause) {
-        StringBuilder sb = new StringBuilder();
+        return render(out -> appendSelectQueryAxisClause(clause, out));
+    }
 
+    private void appendSelectQueryAxisClause(SelectQueryAxisClause clause, Appendable out) throws IOException {
         if (clause.nonEmpty()) {
 
-            sb.append("NON EMPTY ");
+            out.append("NON EMPTY ");
         }
-        sb.append(unparseExpression(clause.expression()));
-        sb.append(" ON ");
-        sb.append(unparseAxis(clause.axis()));
-
-        return sb;
+        appendExpression(clause.expression(), out);
+        out.append(" ON ");
+        appendAxis(clause.axis(), out);
     }
 
     public StringBuilder unparseExpression(MdxExpression expression) {
+        return render(out -> appendExpression(expression, out));
+    }
 
+    private void appendExpression(MdxExpression expression, Appendable out) throws IOException {
         if (expression instanceof CallExpression ce) {
-            return unparseCallExpression(ce);
-        }
-        if (expression instanceof Literal l) {
-            return unparseLiteral(l);
-        }
-        if (expression instanceof CompoundId cId) {
-            return unparseCompoundId(cId);
+            appendCallExpression(ce, out);
+        } else if (expression instanceof Literal l) {
+            appendLiteral(l, out);
+        } else if (expression instanceof CompoundId cId) {
+            appendCompoundId(cId, out);
+        } else if (expression instanceof ObjectIdentifier oi) {
+            appendObjectIdentifier(oi, out);
         }
-        if (expression instanceof ObjectIdentifier oi) {
-            return unparseObjectIdentifier(oi);
-        }
-
-        return null;
     }
 
-    private StringBuilder unparseObjectIdentifier(ObjectIdentifier objectIdentifier) {
-
+    private void appendObjectIdentifier(ObjectIdentifier objectIdentifier, Appendable out) throws IOException {
         if (objectIdentifier instanceof KeyObjectIdentifier koi) {
-
-            return unparseKeyObjectIdentifier(koi);
-        }
-        if (objectIdentifier instanceof NameObjectIdentifier noi) {
-
-            return unparseNameObjectIdentifier(noi);
-
+            appendKeyObjectIdentifier(koi, out);
+        } else if (objectIdentifier instanceof NameObjectIdentifier noi) {
+            appendNameObjectIdentifier(noi, out);
         }
-        return null;
     }
 
-    private StringBuilder unparseKeyObjectIdentifier(KeyObjectIdentifier koi) {
-        StringBuilder sb = new StringBuilder();
-
-        String s = koi.nameObjectIdentifiers().stream().map(this::unparseNameObjectIdentifier).map(Object::toString)
-                .collect(Collectors.joining("&"));
-
-        sb.append("&").append(s);
-        return sb;
+    private void appendKeyObjectIdentifier(KeyObjectIdentifier koi, Appendable out) throws IOException {
+        out.append("&");
+        List<? extends NameObjectIdentifier> nameObjectIdentifiers = koi.nameObjectIdentifiers();
+        for (int i = 0; i < nameObjectIdentifiers.size(); i++) {
+            if (i > 0) {
+                out.append("&");
+            }
+            appendNameObjectIdentifier(nameObjectIdentifiers.get(i), out);
+        }
     }
 
-    private StringBuilder unparseCompoundId(CompoundId compoundId) {
-        String s = compoundId.objectIdentifiers().stream().map(this::unparseObjectIdentifier)
-                .collect(Collectors.joining("."));
-        return new StringBuilder(s);
+    private void appendCompoundId(CompoundId compoundId, Appendable out) throws IOException {
+        List<? extends ObjectIdentifier> objectIdentifiers = compoundId.objectIdentifiers();
+        for (int i = 0; i < objectIdentifiers.size(); i++) {
+            if (i > 0) {
+                out.append(".");
+            }
+            appendObjectIdentifier(objectIdentifiers.get(i), out);
+        }
     }
 
-    private String unparseCompoundIds(List<? extends CompoundId> compoundIdList) {
-        return compoundIdList.stream().map(this::unparseCompoundId).map(Object::toString)
-                .collect(Collectors.joining(","));
+    private void appendCompoundIds(List<? extends CompoundId> compoundIdList, Appendable out) throws IOException {
+        for (int i = 0; i < compoundIdList.size(); i++) {
+            if (i > 0) {
+                out.append(",");
+            }
+            appendCompoundId(compoundIdList.get(i), out);
+        }
     }
 
-    private StringBuilder unparseLiteral(Literal literal) {
-
+    private void appendLiteral(Literal literal, Appendable out) throws IOException {
         if (literal instanceof NullLiteral) {
-            return unparseNullLiteral();
-        }
-        if (literal instanceof NumericLiteral numericLiteral) {
-            return unparseNumericLiteral(numericLiteral);
-
-        }
-        if (literal instanceof StringLiteral stringLiteral) {
-            return unparseStringLiteral(stringLiteral);
-
-        }
-        if (literal instanceof SymbolLiteral symbolLiteral) {
-            return unparseSymbolLiteral(symbolLiteral);
-
+            out.append("NULL");
+        } else if (literal instanceof NumericLiteral numericLiteral) {
+            out.append(numericLiteral.value().toString());
+        } else if (literal instanceof StringLiteral stringLiteral) {
+            out.append(stringLiteral.value());
+        } else if (literal instanceof SymbolLiteral symbolLiteral) {
+            out.append(symbolLiteral.value());
         }
-
-        return null;
-    }
-
-    private StringBuilder unparseSymbolLiteral(SymbolLiteral symbolLiteral) {
-        return new StringBuilder(symbolLiteral.value());
-    }
-
-    private StringBuilder unparseStringLiteral(StringLiteral stringLiteral) {
-        return new StringBuilder(stringLiteral.value());
-
-    }
-
-    private StringBuilder unparseNumericLiteral(NumericLiteral numericLiteral) {
-        return new StringBuilder(numericLiteral.value().toString());
-
-    }
-
-    private StringBuilder unparseNullLiteral() {
-        return new StringBuilder("NULL");
-
     }
 
-    private StringBuilder unparseCallExpression(CallExpression callExpression) {
-        StringBuilder sb = new StringBuilder();
+    private void appendCallExpression(CallExpression callExpression, Appendable out) throws IOException {
         String name = callExpression.operationAtom().name();
         List<? extends MdxExpression> expressions = callExpression.expressions();
-        String expressionText;
-        String object = "";
-        if (callExpression.operationAtom() instanceof MethodOperationAtom && !expressions.isEmpty()) {
-            expressionText = unparseExpressions(expressions.subList(1, expressions.size()));
-            object = unparseExpression(expressions.get(0)).toString();
-        } else {
-            expressionText = unparseExpressions(expressions);
-        }
         switch (callExpression.operationAtom()) {
-        case AmpersandQuotedPropertyOperationAtom _UNNAMED ->
-            sb.append(expressionText).append(".[&").append(name).append("]");
-        case BracesOperationAtom _UNNAMED -> sb.append("{").append(expressionText).append("}");
-        case CastOperationAtom _UNNAMED -> sb.append("CAST(").append(expressionText.replace(",", " AS ")).append(")");
+        case AmpersandQuotedPropertyOperationAtom _UNNAMED -> {
+            appendExpressions(expressions, out);
+            out.append(".[&").append(name).append("]");
+        }
+        case BracesOperationAtom _UNNAMED -> {
+            out.append("{");
+            appendExpressions(expressions, out);
+            out.append("}");
+        }
+        case CastOperationAtom _UNNAMED -> {
+            // every comma of the arguments becomes AS, so the text is needed as a whole
+            StringBuilder expressionText = new StringBuilder();
+            appendExpressions(expressions, expressionText);
+            out.append("CAST(").append(expressionText.toString().replace(",", " AS ")).append(")");
+        }
         case CaseOperationAtom _UNNAMED -> {
             int size = expressions.size();
-            sb.append("CASE ");
-            sb.append(unparseExpression(expressions.get(0)));
+            out.append("CASE ");
+            appendExpression(expressions.get(0), out);
 
             for (int i = 1; i < size - 1; i++) {
-                sb.append(" WHEN ");
-                sb.append(unparseExpression(expressions.get(i)));
+                out.append(" WHEN ");
+                appendExpression(expressions.get(i), out);
 
             }
 
-            sb.append(" THEN ");
-            sb.append(unparseExpression(expressions.get(size - 1)));
-            sb.append(" END ");
+            out.append(" THEN ");
+            appendExpression(expressions.get(size - 1), out);
+            out.append(" END ");
 
         }
-        case EmptyOperationAtom _UNNAMED -> sb.append("");
-        case FunctionOperationAtom _UNNAMED -> sb.append(name).append("(").append(expressionText).append(")");
+        case EmptyOperationAtom _UNNAMED -> {
+            // renders as nothing
+        }
+        case FunctionOperationAtom _UNNAMED -> {
+            out.append(name).append("(");
+            appendExpressions(expressions, out);
+            out.append(")");
+        }
         case InfixOperationAtom _UNNAMED -> {
-            sb.append(unparseExpression(expressions.get(0)));
-            sb.append(" ");
-            sb.append(name);
-            sb.append(" ");
-            sb.append(unparseExpression(expressions.get(1)));
+            appendExpression(expressions.get(0), out);
+            out.append(" ");
+            out.append(name);
+            out.append(" ");
+            appendExpression(expressions.get(1), out);
+        }
+        case InternalOperationAtom _UNNAMED -> {
+            out.append("$");
+            appendExpressions(expressions, out);
+        }
+        case MethodOperationAtom _UNNAMED -> {
+            if (expressions.isEmpty()) {
+                out.append(".").append(name).append("()");
+            } else {
+                appendExpression(expressions.get(0), out);
+                out.append(".").append(name).append("(");
+                appendExpressions(expressions.subList(1, expressions.size()), out);
+                out.append(")");
+            }
         }
-        case InternalOperationAtom _UNNAMED -> sb.append("$").append(expressionText);
-        case MethodOperationAtom _UNNAMED ->
-            sb.append(object).append(".").append(name).append("(").append(expressionText).append(")");
-        case ParenthesesOperationAtom _UNNAMED -> sb.append("(").append(expressionText).append(")");
-        case PlainPropertyOperationAtom _UNNAMED -> sb.append(expressionText).append(".").append(name);
-        case PostfixOperationAtom _UNNAMED -> sb.append(expressionText).append(" ").append(name);
-        case PrefixOperationAtom _UNNAMED -> sb.append(name).append(" ").append(expressionText);
-        case QuotedPropertyOperationAtom _UNNAMED -> sb.append(expressionText).append(".&").append(name).append("");
-
+        case ParenthesesOperationAtom _UNNAMED -> {
+            out.append("(");
+            appendExpressions(expressions, out);
+            out.append(")");
+        }
+        case PlainPropertyOperationAtom _UNNAMED -> {
+            appendExpressions(expressions, out);
+            out.append(".").append(name);
+        }
+        case PostfixOperationAtom _UNNAMED -> {
+            appendExpressions(expressions, out);
+            out.append(" ").append(name);
+        }
+        case PrefixOperationAtom _UNNAMED -> {
+            out.append(name).append(" ");
+            appendExpressions(expressions, out);
+        }
+        case QuotedPropertyOperationAtom _UNNAMED -> {
+            appendExpressions(expressions, out);
+            out.append(".&").append(name);
         }
 
-        return sb;
-    }
-
-    private String unparseExpressions(List<? extends MdxExpression> expressions) {
-        return expressions.stream().map(this::unparseExpression).map(Object::toString).collect(Collectors.joining(","));
+        }
     }
 
-    private StringBuilder unparseSelectQueryAsteriskClause() {
-        return new StringBuilder("*");
+    private void appendExpressions(List<? extends MdxExpression> expressions, Appendable out) throws IOException {
+        for (int i = 0; i < expressions.size(); i++) {
+            if (i > 0) {
+                out.append(",");
+            }
+            appendExpression(expressions.get(i), out);
+        }
     }
 
     public StringBuilder unparseSelectWithClauses(List<? extends SelectWithClause> clauses) {
+        return render(out -> appendSelectWithClauses(clauses, out));
+    }
 
-        String s = clauses.stream().map(this::unparseSelectWithClause).map(Object::toString)
-                .collect(Collectors.joining(DELIMITER));
-        return new StringBuilder(s);
-
+    private void appendSelectWithClauses(List<? extends SelectWithClause> clauses, Appendable out)
+            throws IOException {
+        for (int i = 0; i < clauses.size(); i++) {
+            if (i > 0) {
+                out.append(DELIMITER);
+            }
+            appendSelectWithClause(clauses.get(i), out);
+        }
     }
 
     public StringBuilder unparseSelectWithClause(SelectWithClause clause) {
+        return render(out -> appendSelectWithClause(clause, out));
+    }
+
+    private void appendSelectWithClause(SelectWithClause clause, Appendable out) throws IOException {
         if (clause instanceof CreateCellCalculationBodyClause) {
-            return unparseCreateCellCalculationBodyClause();
+            // not rendered yet
         } else if (clause instanceof CreateMemberBodyClause c) {
-            return unparseCreateMemberBodyClause(c);
+            appendCreateMemberBodyClause(c, out);
         } else if (clause instanceof CreateSetBodyClause c) {
-            return unparseCreateSetBodyClause(c);
-        } else if (clause instanceof MeasureBodyClause) {
-            return unparseMeasureBodyClause();
+            appendCreateSetBodyClause(c, out);
         }
-        return new StringBuilder();
-
+        // MeasureBodyClause is not rendered yet
     }
 
     public StringBuilder unparseCreateCellCalculationBodyClause() {
@@ -455,41 +520,48 @@ public class SimpleUnparser implements UnParser {
     }
 
     public StringBuilder unparseCreateMemberBodyClause(CreateMemberBodyClause clause) {
+        return render(out -> appendCreateMemberBodyClause(clause, out));
+    }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("MEMBER ");
-
-        sb.append(unparseCompoundId(clause.compoundId())).append(" AS ").append(unparseExpression(clause.expression()));
+    private void appendCreateMemberBodyClause(CreateMemberBodyClause clause, Appendable out) throws IOException {
+        out.append("MEMBER ");
 
-        if (!clause.memberPropertyDefinitions().isEmpty()) {
-            sb.append(" ");
+        appendCompoundId(clause.compoundId(), out);
+        out.append(" AS ");
+        appendExpression(clause.expression(), out);
 
-            String ret = clause.memberPropertyDefinitions().stream().map(this::unparseMemberPropertyDefinition)
-                    .collect(Collectors.joining("\r\n,", ",\r\n ", ""));
-            sb.append(ret);
+        List<? extends MemberPropertyDefinition> memberPropertyDefinitions = clause.memberPropertyDefinitions();
+        if (!memberPropertyDefinitions.isEmpty()) {
+            out.append(" ");
+            out.append(",\r\n ");
+            for (int i = 0; i < memberPropertyDefinitions.size(); i++) {
+                if (i > 0) {
+                    out.append("\r\n,");
+                }
+                appendMemberPropertyDefinition(memberPropertyDefinitions.get(i), out);
+            }
         }
-
-        return sb;
-
     }
 
     public StringBuilder unparseMemberPropertyDefinition(MemberPropertyDefinition mpd) {
+        return render(out -> appendMemberPropertyDefinition(mpd, out));
+    }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append(unparseObjectIdentifier(mpd.objectIdentifier()));
-        sb.append(" = ");
-        sb.append(unparseExpression(mpd.expression()));
-        return sb;
+    private void appendMemberPropertyDefinition(MemberPropertyDefinition mpd, Appendable out) throws IOException {
+        appendObjectIdentifier(mpd.objectIdentifier(), out);
+        out.append(" = ");
+        appendExpression(mpd.expression(), out);
     }
 
     public StringBuilder unparseCreateSetBodyClause(CreateSetBodyClause clause) {
+        return render(out -> appendCreateSetBodyClause(clause, out));
+    }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("SET ");
-        sb.append(unparseCompoundId(clause.compoundId())).append(" AS ").append(unparseExpression(clause.expression()));
-
-        return sb;
-
+    private void appendCreateSetBodyClause(CreateSetBodyClause clause, Appendable out) throws IOException {
+        out.append("SET ");
+        appendCompoundId(clause.compoundId(), out);
+        out.append(" AS ");
+        appendExpression(clause.expression(), out);
     }
 
     public StringBuilder unparseMeasureBodyClause() {
@@ -498,98 +570,183 @@ public class SimpleUnparser implements UnParser {
     }
 
     public StringBuilder unparseDrillthroughStatement(DrillthroughStatement statement) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("DRILLTHROUGH");
+        return render(out -> appendDrillthroughStatement(statement, out));
+    }
 
-        statement.maxRows().ifPresent(sb.append(DELIMITER).append("MAXROWS").append(" ")::append);
+    private void appendDrillthroughStatement(DrillthroughStatement statement, Appendable out) throws IOException {
+        out.append("DRILLTHROUGH");
 
-        statement.firstRowSet().ifPresent(sb.append(DELIMITER).append("FIRSTROWSET").append(" ")::append);
+        // the keywords are written even without a value, as they always were
+        out.append(DELIMITER).append("MAXROWS").append(" ");
+        if (statement.maxRows().isPresent()) {
+            out.append(String.valueOf(statement.maxRows().get()));
+        }
+
+        out.append(DELIMITER).append("FIRSTROWSET").append(" ");
+        if (statement.firstRowSet().isPresent()) {
+            out.append(String.valueOf(statement.firstRowSet().get()));
+        }
 
-        sb.append(DELIMITER).append(unparseSelectStatement(statement.selectStatement()));
+        out.append(DELIMITER);
+        appendSelectStatement(statement.selectStatement(), out);
 
         if (statement.returnItems() != null && !statement.returnItems().isEmpty()) {
-            sb.append(DELIMITER).append(unparseReturnItems(statement.returnItems()));
+            out.append(DELIMITER);
+            appendReturnItems(statement.returnItems(), out);
         }
-
-        return sb;
     }
 
     public StringBuilder unparseReturnItems(List<? extends ReturnItem> returnItems) {
-        StringBuilder sb = new StringBuilder();
+        return render(out -> appendReturnItems(returnItems, out));
+    }
+
+    private void appendReturnItems(List<? extends ReturnItem> returnItems, Appendable out) throws IOException {
         if (!returnItems.isEmpty()) {
-            sb.append("RETURN ");
-            sb.append(returnItems.stream().map(r -> unparseCompoundId(r.compoundId())).map(Object::toString)
-                    .collect(Collectors.joining(",")));
+            out.append("RETURN ");
+            for (int i = 0; i < returnItems.size(); i++) {
+                if (i > 0) {
+                    out.append(",");
+                }
+                appendCompoundId(returnItems.get(i).compoundId(), out);
+            }
         }
-        return sb;
     }
 
     public StringBuilder unparseExplainStatement(ExplainStatement selectStatement) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("EXPLAIN PLAN FOR");
+        return render(out -> appendExplainStatement(selectStatement, out));
+    }
+
+    private void appendExplainStatement(ExplainStatement selectStatement, Appendable out) throws IOException {
+        out.append("EXPLAIN PLAN FOR");
         if (selectStatement.mdxStatement() != null) {
-            sb.append(DELIMITER).append(unparseMdxStatement(selectStatement.mdxStatement()));
+            out.append(DELIMITER);
+            // part of the event of the explain statement, not one of its own
+            appendMdxStatement(selectStatement.mdxStatement(), out);
         }
-        return sb;
     }
 
     public StringBuilder unparseDMVStatement(DMVStatement selectStatement) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("SELECT ").append(DELIMITER);
-        sb.append(unparseCompoundIds(selectStatement.columns())).append(DELIMITER);
-        sb.append("FROM $SYSTEM.").append(unparseNameObjectIdentifier(selectStatement.table()));
+        return render(out -> appendDMVStatement(selectStatement, out));
+    }
+
+    private void appendDMVStatement(DMVStatement selectStatement, Appendable out) throws IOException {
+        out.append("SELECT ").append(DELIMITER);
+        appendCompoundIds(selectStatement.columns(), out);
+        out.append(DELIMITER);
+        out.append("FROM $SYSTEM.");
+        appendNameObjectIdentifier(selectStatement.table(), out);
         if (selectStatement.where() != null) {
-            sb.append(DELIMITER).append("WHERE ").append(unparseExpression(selectStatement.where()));
+            out.append(DELIMITER).append("WHERE ");
+            appendExpression(selectStatement.where(), out);
         }
-        return sb;
     }
 
     public StringBuilder unparseRefreshStatement(RefreshStatement selectStatement) {
-        StringBuilder sb = new StringBuilder();
-        if (selectStatement.cubeName() != null) {
-            sb.append("REFRESH CUBE ").append(unparseNameObjectIdentifier(selectStatement.cubeName()));
-        }
-        return sb;
+        return render(out -> {
+            if (selectStatement.cubeName() != null) {
+                out.append("REFRESH CUBE ");
+                appendNameObjectIdentifier(selectStatement.cubeName(), out);
+            }
+        });
     }
 
     public StringBuilder unparseUpdateStatement(UpdateStatement updateStatement) {
-        StringBuilder sb = new StringBuilder();
-        if (updateStatement.cubeName() != null) {
-            sb.append("UPDATE CUBE ").append(unparseNameObjectIdentifier(updateStatement.cubeName()));
-        }
-        return sb;
+        return render(out -> {
+            if (updateStatement.cubeName() != null) {
+                out.append("UPDATE CUBE ");
+                appendNameObjectIdentifier(updateStatement.cubeName(), out);
+            }
+        });
     }
 
     public StringBuilder unparseSelectDimensionPropertyListClause(SelectDimensionPropertyListClause clause) {
-        StringBuilder sb = new StringBuilder();
-        if (clause.properties() != null) {
-            sb.append("DIMENSION");
-            sb.append(DELIMITER);
-            sb.append("PROPERTIES ");
-            sb.append(unparseCompoundIds(clause.properties()));
-        }
-        return sb;
+        return render(out -> {
+            if (clause.properties() != null) {
+                out.append("DIMENSION");
+                out.append(DELIMITER);
+                out.append("PROPERTIES ");
+                appendCompoundIds(clause.properties(), out);
+            }
+        });
     }
 
     @Override
     public StringBuilder unparseMdxStatement(MdxStatement mdxStatement) {
+        return render(out -> unparseMdxStatement(mdxStatement, out));
+    }
+
+    @Override
+    public void unparseMdxStatement(MdxStatement mdxStatement, Appendable out) throws IOException {
+        MdxUnparseEvent event = new MdxUnparseEvent();
+        if (!event.isEnabled()) {
+            appendMdxStatement(mdxStatement, out);
+            return;
+        }
+        event.begin();
+        // Writer, stream and channel targets arrive as a BufferedWriter
+        CountingAppendable counted = out instanceof CharSequence ? null : new CountingAppendable(out);
+        int before = counted == null ? ((CharSequence) out).length() : 0;
+        appendMdxStatement(mdxStatement, counted == null ? out : counted);
+        if (event.shouldCommit()) {
+            event.kind = MdxStatement.kind(mdxStatement);
+            event.characters = counted == null ? ((CharSequence) out).length() - before : counted.count;
+            event.nodes = NODE_COUNTER.visit(mdxStatement);
+            event.unparser = SimpleUnparser.class.getName();
+            event.commit();
+        }
+    }
 
+    private static final class CountingAppendable implements Appendable {
+
+        private final Appendable out;
+        private int count;
+
+        CountingAppendable(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            CharSequence text = csq == null ? "null" : csq;
+            out.append(text);
+            count += text.length();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            CharSequence text = csq == null ? "null" : csq;
+            out.append(text, start, end);
+            count += end - start;
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            out.append(c);
+            count++;
+            return this;
+        }
+    }
+
+    private void appendMdxStatement(MdxStatement mdxStatement, Appendable out) throws IOException {
         if (mdxStatement instanceof SelectStatement selectStatement) {
-            return unparseSelectStatement(selectStatement);
+            appendSelectStatement(selectStatement, out);
         } else if (mdxStatement instanceof DrillthroughStatement drillthroughStatement) {
-            return unparseDrillthroughStatement(drillthroughStatement);
+            appendDrillthroughStatement(drillthroughStatement, out);
         } else if (mdxStatement instanceof ExplainStatement explainStatement) {
-            return unparseExplainStatement(explainStatement);
+            appendExplainStatement(explainStatement, out);
         } else if (mdxStatement instanceof DMVStatement dMVStatement) {
-            return unparseDMVStatement(dMVStatement);
+            appendDMVStatement(dMVStatement, out);
         }
-
-        return new StringBuilder();
     }
 
     public StringBuilder unparseAxis(Axis axis) {
-        return new StringBuilder().append(axis.named() ? axis.name().toUpperCase() : axis.ordinal());
+        return render(out -> appendAxis(axis, out));
+    }
 
+    private void appendAxis(Axis axis, Appendable out) throws IOException {
+        out.append(axis.named() ? axis.name().toUpperCase() : String.valueOf(axis.ordinal()));
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.mdx.unparser.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.MdxStatement;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.CastOperationAtom;
+import org.eclipse.daanse.mdx.model.record.DrillthroughStatementR;
+import org.eclipse.daanse.mdx.model.record.ReturnItemR;
+import org.eclipse.daanse.mdx.model.record.SelectStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CallExpressionR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.model.record.expression.NumericLiteralR;
+import org.eclipse.daanse.mdx.model.record.expression.SymbolLiteralR;
+import org.eclipse.daanse.mdx.model.record.select.AxisR;
+import org.eclipse.daanse.mdx.model.record.select.SelectCubeClauseNameR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxesClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectQueryAxisClauseR;
+import org.eclipse.daanse.mdx.model.record.select.SelectSlicerAxisClauseR;
+import org.junit.jupiter.api.Test;
+
+class SimpleUnparserAppendableTest {
+
+    private SimpleUnparser unparser = new SimpleUnparser();
+
+    private static MdxStatement statement() {
+        SelectStatementR select = new SelectStatementR(List.of(),
+                new SelectQueryAxesClauseR(List.of(new SelectQueryAxisClauseR(true,
+                        new CallExpressionR(new BracesOperationAtom(),
+                                List.of(new NameObjectIdentifierR("a]b", ObjectIdentifier.Quoting.QUOTED),
+                                        new CallExpressionR(new CastOperationAtom(),
+                                                List.of(new NumericLiteralR(BigDecimal.ONE),
+                                                        new SymbolLiteralR("Integer"))))),
+                        new AxisR(0, true), null))),
+                new SelectCubeClauseNameR(new NameObjectIdentifierR("Würfel", ObjectIdentifier.Quoting.QUOTED)),
+                Optional.of(new SelectSlicerAxisClauseR(new NumericLiteralR(BigDecimal.TEN))), Optional.empty());
+        return new DrillthroughStatementR(Optional.of(10), Optional.empty(), select,
+                List.of(new ReturnItemR(new CompoundIdR(
+                        List.of(new NameObjectIdentifierR("x", ObjectIdentifier.Quoting.QUOTED))))));
+    }
+
+    @Test
+    void testWriterMatchesStringBuilder() throws Exception {
+        MdxStatement statement = statement();
+        StringWriter writer = new StringWriter();
+        unparser.unparseMdxStatement(statement, writer);
+        assertThat(writer.toString()).isEqualTo(unparser.unparseMdxStatement(statement).toString());
+    }
+
+    @Test
+    void testAppendsToCallerBuilder() {
+        MdxStatement statement = statement();
+        StringBuilder sb = new StringBuilder("-- ");
+        assertThat(unparser.unparseMdxStatement(statement, sb)).isSameAs(sb);
+        assertThat(sb).asString().isEqualTo("-- " + unparser.unparseMdxStatement(statement));
+        assertThat(sb).asString().contains("{[a]]b],CAST(1 AS Integer)}");
+    }
+
+    @Test
+    void testOutputStreamIsUtf8() throws Exception {
+        MdxStatement statement = statement();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        unparser.writeMdxStatement(statement, out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(unparser.unparseMdxStatement(statement).toString())
+                .contains("[Würfel]");
+    }
+
+    @Test
+    void testChannel() throws Exception {
+        MdxStatement statement = statement();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        unparser.writeMdxStatement(statement, Channels.newChannel(out));
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(unparser.unparseMdxStatement(statement).toString());
+    }
+
+    @Test
+    void testPrintStream() throws Exception {
+        MdxStatement statement = statement();
+        String expected = unparser.unparseMdxStatement(statement).toString();
+
+        ByteArrayOutputStream chars = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(chars, true, StandardCharsets.UTF_8)) {
+            unparser.unparseMdxStatement(statement, out);
+        }
+        assertThat(chars.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(bytes, true, StandardCharsets.ISO_8859_1)) {
+            unparser.writeMdxStatement(statement, out);
+        }
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.mdx.unparser.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.DMVStatement;
+import org.eclipse.daanse.mdx.model.api.expression.ObjectIdentifier;
+import org.eclipse.daanse.mdx.model.record.DMVStatementR;
+import org.eclipse.daanse.mdx.model.record.ExplainStatementR;
+import org.eclipse.daanse.mdx.model.record.expression.CompoundIdR;
+import org.eclipse.daanse.mdx.model.record.expression.NameObjectIdentifierR;
+import org.eclipse.daanse.mdx.unparser.api.MdxUnparseEvent;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class SimpleUnparserFlightRecorderTest {
+
+    private SimpleUnparser unparser = new SimpleUnparser();
+
+    private final DMVStatement dmvStatement = new DMVStatementR(
+            List.of(new CompoundIdR(List.of(new NameObjectIdentifierR("column", ObjectIdentifier.Quoting.UNQUOTED)))),
+            new NameObjectIdentifierR("tableName", ObjectIdentifier.Quoting.UNQUOTED), null);
+
+    @FunctionalInterface
+    private interface Unparse {
+        void run() throws Exception;
+    }
+
+    private List<RecordedEvent> record(boolean enabled) throws Exception {
+        return record(enabled, () -> unparser.unparseMdxStatement(dmvStatement));
+    }
+
+    private List<RecordedEvent> record(boolean enabled, Unparse unparse) throws Exception {
+        Path file = Files.createTempFile("unparse", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enabled) {
+                recording.enable(MdxUnparseEvent.NAME);
+            }
+            recording.start();
+            unparse.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(MdxUnparseEvent.NAME)).toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void disabledByDefault() throws Exception {
+        assertThat(record(false)).isEmpty();
+    }
+
+    @Test
+    void eventOfUnparse() throws Exception {
+        List<RecordedEvent> events = record(true);
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("kind")).isEqualTo("DMVStatement");
+        assertThat(event.getInt("characters"))
+                .isEqualTo(unparser.unparseMdxStatement(dmvStatement).length());
+        assertThat(event.getInt("nodes")).isEqualTo(4);
+        assertThat(event.getString("unparser")).isEqualTo(SimpleUnparser.class.getName());
+    }
+
+    @Test
+    void charactersWrittenToWriter() throws Exception {
+        StringWriter writer = new StringWriter();
+        List<RecordedEvent> events = record(true, () -> unparser.unparseMdxStatement(dmvStatement, writer));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("characters")).isEqualTo(writer.toString().length()).isPositive();
+    }
+
+    @Test
+    void oneEventForExplainStatement() throws Exception {
+        List<RecordedEvent> events = record(true,
+                () -> unparser.unparseMdxStatement(new ExplainStatementR(dmvStatement)));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("kind")).isEqualTo("ExplainStatement");
+    }
+}